@@ -0,0 +1,104 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.snmp.IndexDescriptor;
+import org.soulwing.snmp.IndexExtractor;
+
+/**
+ * Benchmarks for {@link MibbleIndexExtractor}, which is invoked for each
+ * row of each table that is retrieved.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MibbleIndexExtractorBenchmark {
+
+  private static final int COUNT = 1024;
+
+  private final String[] ifTableOids = new String[COUNT];
+  private final String[] ipNetToMediaTableOids = new String[COUNT];
+  private final String[] tcpConnTableOids = new String[COUNT];
+
+  private IndexExtractor ifTable;
+  private IndexExtractor ipNetToMediaTable;
+  private IndexExtractor tcpConnTable;
+  private int next;
+
+  @Setup
+  public void setUp() throws Exception {
+    final MibbleMib mib = new MibbleMib();
+    mib.load("IF-MIB");
+    mib.load("IP-MIB");
+    mib.load("TCP-MIB");
+    final String ifDescr = mib.nameToOid("ifDescr");
+    final String ipNetToMediaPhysAddress =
+        mib.nameToOid("ipNetToMediaPhysAddress");
+    final String tcpConnState = mib.nameToOid("tcpConnState");
+    ifTable = mib.newIndexExtractor(ifDescr);
+    ipNetToMediaTable = mib.newIndexExtractor(ipNetToMediaPhysAddress);
+    tcpConnTable = mib.newIndexExtractor(tcpConnState);
+    for (int i = 0; i < COUNT; i++) {
+      final String address = "10.0." + (i >> 8) + "." + (i & 0xff);
+      ifTableOids[i] = ifDescr + "." + (i + 1);
+      ipNetToMediaTableOids[i] = ipNetToMediaPhysAddress + "." + (i + 1)
+          + "." + address;
+      tcpConnTableOids[i] = tcpConnState + ".192.168.1.1.161."
+          + address + "." + (49152 + i);
+    }
+  }
+
+  private int nextIndex() {
+    return next++ & (COUNT - 1);
+  }
+
+  @Benchmark
+  public IndexDescriptor[] ifTable() {
+    return ifTable.extractIndexes(ifTableOids[nextIndex()]);
+  }
+
+  @Benchmark
+  public IndexDescriptor[] ipNetToMediaTable() {
+    return ipNetToMediaTable.extractIndexes(
+        ipNetToMediaTableOids[nextIndex()]);
+  }
+
+  @Benchmark
+  public IndexDescriptor[] tcpConnTable() {
+    return tcpConnTable.extractIndexes(tcpConnTableOids[nextIndex()]);
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import net.percederberg.mibble.MibValueSymbol;
+
+/**
+ * Benchmarks for the name and OID lookups performed by {@link MibbleMib}
+ * for each varbind of each request and response.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MibbleMibBenchmark {
+
+  private static final int COUNT = 1024;
+
+  private static final String[] COLUMNS = {
+      "ifIndex", "ifDescr", "ifType", "ifMtu", "ifSpeed", "ifPhysAddress",
+      "ifAdminStatus", "ifOperStatus", "ifInOctets", "ifOutOctets",
+      "ifName", "ifHCInOctets", "ifHCOutOctets", "ifAlias",
+      "ipAdEntIfIndex", "sysUpTime"
+  };
+
+  private final String[] names = new String[COUNT];
+  private final String[] oids = new String[COUNT];
+
+  private MibbleMib mib;
+  private int next;
+
+  @Setup
+  public void setUp() throws Exception {
+    mib = new MibbleMib();
+    mib.load("SNMPv2-MIB");
+    mib.load("IF-MIB");
+    mib.load("IP-MIB");
+    for (int i = 0; i < COUNT; i++) {
+      final String column = COLUMNS[i % COLUMNS.length];
+      final String index = column.equals("sysUpTime") ? "0"
+          : column.startsWith("ip") ? "10.0." + (i >> 8) + "." + (i & 0xff)
+          : Integer.toString(i + 1);
+      names[i] = column + "." + index;
+      oids[i] = mib.nameToOid(names[i]);
+    }
+  }
+
+  private int nextIndex() {
+    return next++ & (COUNT - 1);
+  }
+
+  @Benchmark
+  public MibValueSymbol getSymbolByOid() {
+    return mib.getSymbolByOid(oids[nextIndex()]);
+  }
+
+  @Benchmark
+  public String oidToInstanceName() {
+    return mib.oidToInstanceName(oids[nextIndex()]);
+  }
+
+  @Benchmark
+  public String oidToObjectName() {
+    return mib.oidToObjectName(oids[nextIndex()]);
+  }
+
+  @Benchmark
+  public String nameToOid() {
+    return mib.nameToOid(names[nextIndex()]);
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link OctetStringFormatter} using the display hints of
+ * frequently retrieved textual conventions.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OctetStringFormatterBenchmark {
+
+  private final OctetStringFormatter displayString =
+      new OctetStringFormatter("255a");
+
+  private final OctetStringFormatter physAddress =
+      new OctetStringFormatter("1x:");
+
+  private final OctetStringFormatter dateAndTime =
+      new OctetStringFormatter("2d-1d-1d,1d:1d:1d.1d,1a1d:1d");
+
+  private final OctetStringFormatter inetAddressIPv6 =
+      new OctetStringFormatter("2x:2x:2x:2x:2x:2x:2x:2x");
+
+  private final byte[] description =
+      "GigabitEthernet0/1".getBytes(StandardCharsets.US_ASCII);
+
+  private final byte[] macAddress = {
+      0x00, 0x1b, 0x54, (byte) 0xc2, 0x01, 0x2f };
+
+  private final byte[] timestamp = {
+      0x07, (byte) 0xea, 0x0a, 0x13, 0x0e, 0x1e, 0x0f, 0x00, '-', 0x04, 0x00 };
+
+  private final byte[] ipv6Address = {
+      0x20, 0x01, 0x0d, (byte) 0xb8, 0x00, 0x00, 0x00, 0x00,
+      0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01 };
+
+  @Benchmark
+  public String displayString() {
+    return displayString.format(description);
+  }
+
+  @Benchmark
+  public String physAddress() {
+    return physAddress.format(macAddress);
+  }
+
+  @Benchmark
+  public String dateAndTime() {
+    return dateAndTime.format(timestamp);
+  }
+
+  @Benchmark
+  public String inetAddressIPv6() {
+    return inetAddressIPv6.format(ipv6Address);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.snmp4j.PDU;
+import org.snmp4j.event.ResponseEvent;
+import org.soulwing.snmp.Mib;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpResponse;
+import org.soulwing.snmp.VarbindCollection;
+
+/**
+ * Benchmarks for the assembly of rows from a GETBULK response by
+ * {@link GetBulkAsyncWalker}.
+ * <p>
+ * Each operation walks an entire {@code ifTable} retrieved in a single
+ * (synthesized) response, so the results measure only the work done on
+ * the response: validation, varbind creation, index extraction, and row
+ * assembly.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetBulkWalkBenchmark {
+
+  @Param({ "100", "1000" })
+  private int rows;
+
+  private Snmp4jProvider provider;
+  private Snmp4jContext context;
+  private PDU response;
+
+  @Setup
+  public void setUp() throws Exception {
+    final Mib mib = MibFactory.getInstance().newMib();
+    mib.load("IF-MIB");
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setCommunity("public");
+    provider = new Snmp4jProvider();
+    context = (Snmp4jContext) provider.newContext(target,
+        new SimpleSnmpTargetConfig(), mib);
+    response = IfTable.bulk(rows);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    context.close();
+    provider.close();
+  }
+
+  @Benchmark
+  public int walk() {
+    final CannedWalker walker = new CannedWalker(context, response, rows + 1);
+    walker.invoke().get();
+    int count = 0;
+    SnmpResponse<VarbindCollection> row = walker.next();
+    while (row.get() != null) {
+      count++;
+      row = walker.next();
+    }
+    if (count != rows) {
+      throw new AssertionError("expected " + rows + " rows but got " + count);
+    }
+    return count;
+  }
+
+  /**
+   * A walker that answers its first request with a canned response.
+   */
+  private static class CannedWalker extends GetBulkAsyncWalker {
+
+    private final PDU response;
+
+    CannedWalker(Snmp4jContext context, PDU response, int maxRepetitions) {
+      super(context, IfTable.request(), 0, maxRepetitions);
+      this.response = response;
+    }
+
+    @Override
+    protected ResponseEvent doInvoke(PDU request, Deadline deadline) {
+      return new ResponseEvent(this, null, request, response, null);
+    }
+
+  }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import org.snmp4j.PDU;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * Synthesized response PDUs for the columns of the {@code ifTable} most
+ * commonly retrieved by management applications.
+ *
+ * @author Carl Harris
+ */
+class IfTable {
+
+  static final String[] COLUMNS = {
+      "1.3.6.1.2.1.2.2.1.1",      // ifIndex
+      "1.3.6.1.2.1.2.2.1.2",      // ifDescr
+      "1.3.6.1.2.1.2.2.1.3",      // ifType
+      "1.3.6.1.2.1.2.2.1.4",      // ifMtu
+      "1.3.6.1.2.1.2.2.1.5",      // ifSpeed
+      "1.3.6.1.2.1.2.2.1.6",      // ifPhysAddress
+      "1.3.6.1.2.1.2.2.1.7",      // ifAdminStatus
+      "1.3.6.1.2.1.2.2.1.8",      // ifOperStatus
+      "1.3.6.1.2.1.2.2.1.10",     // ifInOctets
+      "1.3.6.1.2.1.2.2.1.16",     // ifOutOctets
+  };
+
+  /**
+   * An object that lexicographically follows all of the columns of the
+   * table ({@code ifXTable.ifName.1}).
+   */
+  static final String END_OF_TABLE = "1.3.6.1.2.1.31.1.1.1.1.1";
+
+  /**
+   * Creates the varbinds for a GET or GETNEXT request for the given columns.
+   * @return request varbinds
+   */
+  static VariableBinding[] request() {
+    final VariableBinding[] varbinds = new VariableBinding[COLUMNS.length];
+    for (int i = 0; i < COLUMNS.length; i++) {
+      varbinds[i] = new VariableBinding(new OID(COLUMNS[i]));
+    }
+    return varbinds;
+  }
+
+  /**
+   * Creates a response containing a single row of the table.
+   * @param index the {@code ifIndex} of the row
+   * @return response PDU
+   */
+  static PDU row(int index) {
+    final PDU response = new PDU();
+    response.setType(PDU.RESPONSE);
+    addRow(response, index);
+    return response;
+  }
+
+  /**
+   * Creates a response to a GETBULK request with no non-repeaters and a
+   * repeater for each column, containing the given number of rows followed
+   * by a repetition that lies beyond the end of the table.
+   * @param rows number of rows
+   * @return response PDU
+   */
+  static PDU bulk(int rows) {
+    final PDU response = new PDU();
+    response.setType(PDU.RESPONSE);
+    for (int index = 1; index <= rows; index++) {
+      addRow(response, index);
+    }
+    for (int i = 0; i < COLUMNS.length; i++) {
+      response.add(new VariableBinding(new OID(END_OF_TABLE),
+          new OctetString("Gi0/0")));
+    }
+    return response;
+  }
+
+  private static void addRow(PDU response, int index) {
+    for (int i = 0; i < COLUMNS.length; i++) {
+      final OID oid = new OID(COLUMNS[i]);
+      oid.append(index);
+      response.add(new VariableBinding(oid, value(i, index)));
+    }
+  }
+
+  private static Variable value(int column, int index) {
+    switch (column) {
+      case 0:
+        return new Integer32(index);
+      case 1:
+        return new OctetString("GigabitEthernet0/" + index);
+      case 2:
+        return new Integer32(6);
+      case 3:
+        return new Integer32(1500);
+      case 4:
+        return new Gauge32(1000000000L);
+      case 5:
+        return new OctetString(new byte[] {
+            0x00, 0x1b, 0x54, (byte) 0xc2, (byte) (index >> 8), (byte) index });
+      case 6:
+      case 7:
+        return new Integer32(1);
+      default:
+        return new Counter32(0x7fffffffL + 7919L * index);
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.snmp4j.PDU;
+import org.soulwing.snmp.Mib;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.Varbind;
+import org.soulwing.snmp.VarbindCollection;
+
+/**
+ * Benchmarks for {@link SimpleVarbindFactory}, which converts each varbind
+ * of each response received into a {@link Varbind}.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VarbindFactoryBenchmark {
+
+  private static final int ROWS = 1024;
+
+  private final PDU[] responses = new PDU[ROWS];
+
+  private VarbindFactory varbindFactory;
+  private int next;
+
+  @Setup
+  public void setUp() throws Exception {
+    final Mib mib = MibFactory.getInstance().newMib();
+    mib.load("IF-MIB");
+    varbindFactory = new SimpleVarbindFactory(mib);
+    for (int i = 0; i < ROWS; i++) {
+      responses[i] = IfTable.row(i + 1);
+    }
+  }
+
+  private PDU nextResponse() {
+    return responses[next++ & (ROWS - 1)];
+  }
+
+  @Benchmark
+  public VarbindCollection newVarbindCollection() {
+    return varbindFactory.newVarbindCollection(nextResponse());
+  }
+
+  @Benchmark
+  public void newVarbindCollectionAndFormat(Blackhole blackhole) {
+    final VarbindCollection varbinds =
+        varbindFactory.newVarbindCollection(nextResponse());
+    for (Varbind varbind : varbinds) {
+      blackhole.consume(varbind.asString());
+    }
+  }
+
+}
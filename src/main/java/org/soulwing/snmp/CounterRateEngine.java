@@ -0,0 +1,538 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An engine that computes the rates of change of polled counters.
+ * <p>
+ * The engine retains the previous value and timestamp of each counter
+ * instance of each agent, in open-addressed arrays of primitives placed by a
+ * 64-bit hash of the agent and instance; the identity of the instance (the
+ * agent, the column, and the index of the row) is retained alongside each
+ * sample and verified on each lookup, so counters whose hashes collide are
+ * never confused.  Each time a counter is sampled, the rate of change since
+ * the previous sample is computed in units per second.  Counters that wrap (at 2<sup>32</sup> for {@code Counter32}, or
+ * 2<sup>64</sup> for {@code Counter64}) are handled using modular
+ * arithmetic.  When the {@code sysUpTime} of an agent regresses, the agent
+ * has restarted (or otherwise reset its counters), so the previous samples
+ * of all counters of the agent are discarded.
+ * <p>
+ * The {@code sysUpTime} of an agent is a 32-bit count of hundredths of a
+ * second, so it wraps after about 497 days.  A regression of
+ * {@code sysUpTime} whose size is consistent with a wrap in the time that
+ * elapsed between polls (within 10%) is not treated as a restart; an agent
+ * that happens to restart as its {@code sysUpTime} is about to wrap may
+ * therefore go undetected, and its first rates after the restart may be
+ * incorrect.
+ * <p>
+ * Rates are returned as primitive {@code double} values (or stored into an
+ * array supplied by the caller, for a table column); a rate is
+ * {@link Double#NaN NaN} when it cannot be computed, as for the first
+ * sample of a counter or the first sample after a discontinuity.  Apart from
+ * growth of the arrays as new counters are seen, sampling allocates no
+ * memory.
+ * <p>
+ * An engine is not thread safe; it is typically used by the single task
+ * that polls a set of agents.
+ * <pre>
+ * CounterRateEngine engine = new CounterRateEngine();
+ * ...
+ * CounterRateEngine.Agent agent = engine.agent(context.getTarget());
+ * VarbindCollection result = context.get("sysUpTime.0").get();
+ * SnmpTable table = context.getTable("ifHCInOctets", "ifHCOutOctets").get();
+ * agent.poll(System.currentTimeMillis(), result.get(0).asLong());
+ * agent.rates(table, 0, true, inRates);
+ * agent.rates(table, 1, true, outRates);
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public class CounterRateEngine {
+
+  /** ASN.1 tag of the SMI {@code Counter64} type */
+  private static final int COUNTER64_SYNTAX = 0x46;
+
+  private static final double TWO_TO_THE_64 = 18446744073709551616.0;
+  private static final double MILLIS_PER_SECOND = 1000.0;
+
+  private static final long EMPTY = 0;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private static final int MIN_CAPACITY = 16;
+
+  /** column of a counter identified by a key chosen by the caller */
+  private static final int KEY_COLUMN = 0;
+
+  /** column of a counter identified by the OID of a varbind */
+  private static final int VARBIND_COLUMN = -1;
+
+  /** modulus of the {@code TimeTicks} type of {@code sysUpTime} */
+  private static final long SYS_UP_TIME_MODULUS = 1L << 32;
+
+  private static final long MILLIS_PER_TICK = 10;
+
+  private final Map<Object, Agent> agents = new HashMap<>();
+  private final Map<String, Integer> columns = new HashMap<>();
+  private final long hashMask;
+
+  private int nextAgentId;
+  private long[] keys;
+  private int[] agentIds;
+  private int[] columnIds;
+  private long[] instances;
+  private Object[] indexes;
+  private long[] values;
+  private long[] times;
+  private int[] epochs;
+  private int size;
+
+  /**
+   * Constructs a new instance.
+   */
+  public CounterRateEngine() {
+    this(1024);
+  }
+
+  /**
+   * Constructs a new instance sized for a given number of counters.
+   * @param expectedCounters number of counter instances (over all agents)
+   *    expected to be sampled
+   */
+  public CounterRateEngine(int expectedCounters) {
+    this(expectedCounters, -1L);
+  }
+
+  /**
+   * Constructs a new instance whose hashes are masked; a mask with few bits
+   * set forces hash collisions, which is useful only for testing.
+   * @param expectedCounters number of counter instances expected to be
+   *    sampled
+   * @param hashMask mask applied to each hash
+   */
+  CounterRateEngine(int expectedCounters, long hashMask) {
+    this.hashMask = hashMask;
+    allocate(capacityFor(expectedCounters));
+  }
+
+  /**
+   * Gets the object that samples the counters of an agent.
+   * @param key an object that identifies the agent (e.g. its
+   *    {@link SnmpTarget}); it must have suitable {@code equals} and
+   *    {@code hashCode} methods
+   * @return agent for {@code key}, created if necessary
+   */
+  public Agent agent(Object key) {
+    Agent agent = agents.get(key);
+    if (agent == null) {
+      agent = new Agent(nextAgentId++);
+      agents.put(key, agent);
+    }
+    return agent;
+  }
+
+  /**
+   * Removes the agent associated with a key.
+   * <p>
+   * The previous samples of the agent's counters are retained until they
+   * are {@linkplain #expire(long) expired}.
+   * @param key an object that identifies the agent
+   */
+  public void removeAgent(Object key) {
+    agents.remove(key);
+  }
+
+  /**
+   * Gets the number of counter instances whose previous sample is retained.
+   * @return counter count
+   */
+  public int getCounterCount() {
+    return size;
+  }
+
+  /**
+   * Discards the previous samples of counters that have not been sampled
+   * recently, such as those of removed agents or table rows.
+   * @param timestamp samples older than this timestamp are discarded
+   * @return number of counters whose samples were discarded
+   */
+  public int expire(long timestamp) {
+    int retained = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != EMPTY && times[i] >= timestamp) {
+        retained++;
+      }
+    }
+    final int expired = size - retained;
+    if (expired == 0) return 0;
+    rehash(capacityFor(retained), timestamp);
+    size = retained;
+    return expired;
+  }
+
+  /**
+   * Records a sample of a counter and computes its rate of change.
+   * @param key hash of the counter instance
+   * @param agent identifier of the agent
+   * @param column ordinal of the column ({@link #KEY_COLUMN} or
+   *    {@link #VARBIND_COLUMN} for counters that are not in a table)
+   * @param instance key chosen by the caller (zero unless the column is
+   *    {@link #KEY_COLUMN})
+   * @param index index of the table row ({@code int[]}), the OID of the
+   *    varbind ({@code String}), or {@code null}
+   * @return rate per second or {@code NaN}
+   */
+  private double sample(long key, int agent, int column, long instance,
+      Object index, int epoch, long timestamp, long value,
+      boolean counter64) {
+    if (size + 1 > keys.length / 2) {
+      rehash(keys.length * 2, Long.MIN_VALUE);
+    }
+    final int slot = find(key, agent, column, instance, index);
+    if (slot < 0) {
+      final int empty = ~slot;
+      keys[empty] = key;
+      agentIds[empty] = agent;
+      columnIds[empty] = column;
+      instances[empty] = instance;
+      indexes[empty] = index instanceof int[] ?
+          ((int[]) index).clone() : index;
+      values[empty] = value;
+      times[empty] = timestamp;
+      epochs[empty] = epoch;
+      size++;
+      return Double.NaN;
+    }
+
+    final long elapsed = timestamp - times[slot];
+    if (epochs[slot] == epoch && elapsed <= 0) {
+      // resampled within the same poll
+      return Double.NaN;
+    }
+    final long previous = values[slot];
+    final boolean continuous = epochs[slot] == epoch;
+    values[slot] = value;
+    times[slot] = timestamp;
+    epochs[slot] = epoch;
+    if (!continuous) return Double.NaN;
+
+    final double delta;
+    if (counter64) {
+      final long difference = value - previous;
+      delta = difference >= 0 ? difference : difference + TWO_TO_THE_64;
+    }
+    else {
+      delta = (value - previous) & 0xffffffffL;
+    }
+    return delta * MILLIS_PER_SECOND / elapsed;
+  }
+
+  /**
+   * Finds the slot for a counter instance.
+   * @return slot of the instance or the one's complement of the empty slot
+   *    at which it should be inserted
+   */
+  private int find(long key, int agent, int column, long instance,
+      Object index) {
+    final int mask = keys.length - 1;
+    int i = (int) key & mask;
+    while (keys[i] != EMPTY) {
+      if (keys[i] == key && agentIds[i] == agent && columnIds[i] == column
+          && instances[i] == instance && sameIndex(indexes[i], index)) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+    return ~i;
+  }
+
+  private static boolean sameIndex(Object a, Object b) {
+    if (a instanceof int[]) {
+      return b instanceof int[] && Arrays.equals((int[]) a, (int[]) b);
+    }
+    return a == null ? b == null : a.equals(b);
+  }
+
+  /**
+   * Moves the retained samples into arrays of a new capacity.
+   * @param capacity the new capacity
+   * @param timestamp samples older than this timestamp are discarded
+   */
+  private void rehash(int capacity, long timestamp) {
+    final long[] oldKeys = keys;
+    final int[] oldAgentIds = agentIds;
+    final int[] oldColumnIds = columnIds;
+    final long[] oldInstances = instances;
+    final Object[] oldIndexes = indexes;
+    final long[] oldValues = values;
+    final long[] oldTimes = times;
+    final int[] oldEpochs = epochs;
+    allocate(capacity);
+    final int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] == EMPTY || oldTimes[i] < timestamp) continue;
+      int slot = (int) oldKeys[i] & mask;
+      while (keys[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = oldKeys[i];
+      agentIds[slot] = oldAgentIds[i];
+      columnIds[slot] = oldColumnIds[i];
+      instances[slot] = oldInstances[i];
+      indexes[slot] = oldIndexes[i];
+      values[slot] = oldValues[i];
+      times[slot] = oldTimes[i];
+      epochs[slot] = oldEpochs[i];
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    agentIds = new int[capacity];
+    columnIds = new int[capacity];
+    instances = new long[capacity];
+    indexes = new Object[capacity];
+    values = new long[capacity];
+    times = new long[capacity];
+    epochs = new int[capacity];
+  }
+
+  private static int capacityFor(int counters) {
+    final int capacity = Integer.highestOneBit(Math.max(counters, 1) * 2 - 1)
+        << 1;
+    return Math.max(capacity, MIN_CAPACITY);
+  }
+
+  private static long hash(long hash, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  private static long hash(long hash, int[] value) {
+    for (int n : value) {
+      hash = (hash ^ (n & 0xffffffffL)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /**
+   * Scrambles the bits of a value (the finalizer of SplitMix64).
+   */
+  private long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    z = (z ^ (z >>> 31)) & hashMask;
+    return z != EMPTY ? z : 1;
+  }
+
+  /**
+   * Gets the ordinal of a table column.
+   * @param oid dotted-decimal OID of the column
+   * @return ordinal (greater than zero)
+   */
+  private int columnOrdinal(String oid) {
+    Integer ordinal = columns.get(oid);
+    if (ordinal == null) {
+      ordinal = columns.size() + 1;
+      columns.put(oid, ordinal);
+    }
+    return ordinal;
+  }
+
+  /**
+   * An object that samples the counters of an agent.
+   * <p>
+   * For each poll of the agent, {@link #poll(long, long) poll} must be
+   * invoked before any counters are sampled.
+   */
+  public final class Agent {
+
+    private final int id;
+    private final long salt;
+
+    private long timestamp;
+    private long sysUpTime = -1;
+    private long sysUpTimeAt;
+    private int epoch;
+    private int discontinuities;
+    private boolean polled;
+
+    private Agent(int id) {
+      this.id = id;
+      this.salt = (id + 1) * GOLDEN_GAMMA;
+    }
+
+    /**
+     * Begins a poll of the agent without discontinuity detection.
+     * @param timestamp time of the poll in milliseconds (e.g. from
+     *    {@link System#currentTimeMillis()})
+     */
+    public void poll(long timestamp) {
+      poll(timestamp, -1);
+    }
+
+    /**
+     * Begins a poll of the agent.
+     * <p>
+     * If {@code sysUpTime} is less than in the previous poll, the previous
+     * samples of all of the agent's counters are discarded, unless the
+     * regression is explained by the wrap of {@code sysUpTime} at
+     * 2<sup>32</sup> in the time that elapsed since the previous poll.
+     * @param timestamp time of the poll in milliseconds (e.g. from
+     *    {@link System#currentTimeMillis()})
+     * @param sysUpTime value of the agent's {@code sysUpTime} object in
+     *    this poll or -1 if not known
+     */
+    public void poll(long timestamp, long sysUpTime) {
+      if (sysUpTime >= 0) {
+        if (this.sysUpTime >= 0 && sysUpTime < this.sysUpTime
+            && !wrapped(timestamp, sysUpTime)) {
+          epoch++;
+          discontinuities++;
+        }
+        this.sysUpTime = sysUpTime;
+        this.sysUpTimeAt = timestamp;
+      }
+      this.timestamp = timestamp;
+      this.polled = true;
+    }
+
+    /**
+     * Determines whether a regression of {@code sysUpTime} is consistent
+     * with its wrap since the previous poll.
+     */
+    private boolean wrapped(long timestamp, long sysUpTime) {
+      final long elapsed = (timestamp - sysUpTimeAt) / MILLIS_PER_TICK;
+      if (elapsed <= 0) return false;
+      final long ticks = sysUpTime + SYS_UP_TIME_MODULUS - this.sysUpTime;
+      return Math.abs(ticks - elapsed) <= elapsed / 10;
+    }
+
+    /**
+     * Gets the number of discontinuities detected for this agent.
+     * @return discontinuity count
+     */
+    public int getDiscontinuityCount() {
+      return discontinuities;
+    }
+
+    /**
+     * Samples a counter represented by a varbind.
+     * <p>
+     * The counter instance is identified by the varbind's OID, and its
+     * width is determined by its syntax.
+     * @param varbind varbind for a {@code Counter32} or {@code Counter64}
+     *    object
+     * @return rate per second or {@link Double#NaN NaN} if a rate cannot
+     *    be computed
+     * @throws IllegalStateException if {@link #poll(long, long) poll} has
+     *    not been invoked
+     */
+    public double rate(Varbind varbind) {
+      if (!polled) {
+        throw new IllegalStateException("agent has not been polled");
+      }
+      final String oid = varbind.getOid();
+      return sample(mix(hash(FNV_OFFSET_BASIS, oid) ^ salt), id,
+          VARBIND_COLUMN, 0, oid, epoch, timestamp, varbind.asLong(),
+          varbind.getSyntax() == COUNTER64_SYNTAX);
+    }
+
+    /**
+     * Samples a counter identified by a key chosen by the caller.
+     * @param instance key that uniquely identifies the counter instance
+     *    among those of this agent
+     * @param value counter value (for {@code Counter64}, values greater
+     *    than {@link Long#MAX_VALUE} are represented as negative numbers)
+     * @param counter64 {@code true} for a 64-bit counter, {@code false}
+     *    for a 32-bit counter
+     * @return rate per second or {@link Double#NaN NaN} if a rate cannot
+     *    be computed
+     * @throws IllegalStateException if {@link #poll(long, long) poll} has
+     *    not been invoked
+     */
+    public double rate(long instance, long value, boolean counter64) {
+      if (!polled) {
+        throw new IllegalStateException("agent has not been polled");
+      }
+      return sample(mix(instance ^ salt), id, KEY_COLUMN, instance, null,
+          epoch, timestamp, value, counter64);
+    }
+
+    /**
+     * Samples the counters in a column of a table.
+     * <p>
+     * The counter instance in each row is identified by the OID of the
+     * column and the index of the row.
+     * @param table the subject table
+     * @param column column number
+     * @param counter64 {@code true} if the column is a 64-bit counter,
+     *    {@code false} if it is a 32-bit counter
+     * @param rates array that receives the rate for each row of the table;
+     *    an element is set to {@link Double#NaN NaN} if a rate cannot be
+     *    computed for the row (as when the cell is absent)
+     * @return number of rows for which a rate was computed
+     * @throws IllegalArgumentException if {@code rates} is shorter than the
+     *    number of rows in the table
+     * @throws IllegalStateException if {@link #poll(long, long) poll} has
+     *    not been invoked, or if the column is not of type
+     *    {@link SnmpTable.ColumnType#LONG LONG}
+     */
+    public int rates(SnmpTable table, int column, boolean counter64,
+        double[] rates) {
+      if (!polled) {
+        throw new IllegalStateException("agent has not been polled");
+      }
+      final int rows = table.getRowCount();
+      if (rates.length < rows) {
+        throw new IllegalArgumentException("rates array has length "
+            + rates.length + "; table has " + rows + " rows");
+      }
+      if (rows == 0) return 0;
+      final long[] values = table.getLongColumn(column);
+      final String columnOid = table.getColumnOid(column);
+      final int ordinal = columnOrdinal(columnOid);
+      final long columnHash =
+          hash(FNV_OFFSET_BASIS, columnOid) * FNV_PRIME;
+      int count = 0;
+      for (int row = 0; row < rows; row++) {
+        if (!table.isPresent(row, column)) {
+          rates[row] = Double.NaN;
+          continue;
+        }
+        final int[] index = table.getIndex(row);
+        rates[row] = sample(mix(hash(columnHash, index) ^ salt), id, ordinal,
+            0, index, epoch, timestamp, values[row], counter64);
+        if (!Double.isNaN(rates[row])) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+  }
+
+}
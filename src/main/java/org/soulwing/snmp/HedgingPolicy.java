@@ -0,0 +1,153 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * A policy for hedging GET and GETNEXT requests.
+ * <p>
+ * When a context is configured with a hedging policy, the latency of
+ * responses from the target agent is observed.  If no response to a request
+ * has been received by the time the configured {@linkplain #getPercentile()
+ * percentile} of observed latency has elapsed, a duplicate request (with a
+ * new request ID) is sent, and whichever response arrives first is used.
+ * <p>
+ * The rate at which hedged requests are sent is limited by a
+ * {@linkplain #getBudget() budget}, expressed as a fraction of the requests
+ * sent to the target; hedging stops when the budget is exhausted, so that
+ * hedging cannot significantly amplify load on an agent that is slow or
+ * unavailable.
+ * <p>
+ * Latency observations and the budget are kept for each target agent, so
+ * they carry over to every context subsequently created for the same agent
+ * with an equivalent policy.
+ *
+ * @author Carl Harris
+ */
+public class HedgingPolicy implements Cloneable {
+
+  /**
+   * Default latency percentile at which a hedged request is sent.
+   */
+  public static final double DEFAULT_PERCENTILE = 0.95;
+
+  /**
+   * Default fraction of requests that may be hedged.
+   */
+  public static final double DEFAULT_BUDGET = 0.05;
+
+  /**
+   * Default minimum delay before sending a hedged request (milliseconds).
+   */
+  public static final long DEFAULT_MINIMUM_DELAY = 5L;
+
+  /**
+   * Default number of latency observations needed before hedging begins.
+   */
+  public static final int DEFAULT_MINIMUM_SAMPLES = 20;
+
+  private double percentile = DEFAULT_PERCENTILE;
+  private double budget = DEFAULT_BUDGET;
+  private long minimumDelay = DEFAULT_MINIMUM_DELAY;
+  private int minimumSamples = DEFAULT_MINIMUM_SAMPLES;
+
+  /**
+   * Gets the latency percentile at which a hedged request is sent.
+   * @return percentile in the range (0, 1)
+   */
+  public double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Sets the {@code percentile} property.
+   * @param percentile the value to set
+   */
+  public void setPercentile(double percentile) {
+    if (percentile <= 0 || percentile >= 1) {
+      throw new IllegalArgumentException("percentile must be in (0, 1)");
+    }
+    this.percentile = percentile;
+  }
+
+  /**
+   * Gets the fraction of requests that may be hedged.
+   * @return budget as a fraction of the requests sent to the target
+   */
+  public double getBudget() {
+    return budget;
+  }
+
+  /**
+   * Sets the {@code budget} property.
+   * @param budget the value to set
+   */
+  public void setBudget(double budget) {
+    if (budget < 0 || budget > 1) {
+      throw new IllegalArgumentException("budget must be in [0, 1]");
+    }
+    this.budget = budget;
+  }
+
+  /**
+   * Gets the minimum delay before a hedged request is sent.
+   * @return delay in milliseconds
+   */
+  public long getMinimumDelay() {
+    return minimumDelay;
+  }
+
+  /**
+   * Sets the {@code minimumDelay} property.
+   * @param minimumDelay the value to set
+   */
+  public void setMinimumDelay(long minimumDelay) {
+    this.minimumDelay = minimumDelay;
+  }
+
+  /**
+   * Gets the number of latency observations needed before hedging begins.
+   * @return sample count
+   */
+  public int getMinimumSamples() {
+    return minimumSamples;
+  }
+
+  /**
+   * Sets the {@code minimumSamples} property.
+   * @param minimumSamples the value to set
+   */
+  public void setMinimumSamples(int minimumSamples) {
+    this.minimumSamples = minimumSamples;
+  }
+
+  /**
+   * Creates a clone of this policy.
+   * @return policy clone
+   */
+  @Override
+  public HedgingPolicy clone() {
+    try {
+      return (HedgingPolicy) super.clone();
+    }
+    catch (CloneNotSupportedException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+}
@@ -20,6 +20,7 @@ package org.soulwing.snmp;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Collection;
 
 /**
  * A façade for a MIB implementation.
@@ -52,6 +53,26 @@ public interface Mib {
    */
   String nameToOid(String name);
 
+  /**
+   * Converts an object name to the corresponding object identifier.
+   * <p>
+   * This method is like {@link #nameToOid(String)}, but returns the object
+   * identifier in binary form.  The default implementation parses the
+   * result of {@link #nameToOid(String)}.
+   * @param name name to convert
+   * @return object identifier or {@code null} if {@code name} cannot be
+   *    resolved
+   */
+  default Oid resolveName(String name) {
+    try {
+      final String oid = nameToOid(name);
+      return oid != null ? Oid.parse(oid) : null;
+    }
+    catch (NameNotFoundException ex) {
+      return null;
+    }
+  }
+
   /**
    * Converts an object identifier string to the corresponding 
    * instance-qualified object name.
@@ -67,6 +88,19 @@ public interface Mib {
    *    does not correspond to a known name, the return value is {@code oid}.
    */
   String oidToInstanceName(String oid);
+
+  /**
+   * Converts an object identifier to the corresponding instance-qualified
+   * object name.
+   * <p>
+   * The default implementation delegates to
+   * {@link #oidToInstanceName(String)}.
+   * @param oid the object identifier to convert
+   * @return object name, as for {@link #oidToInstanceName(String)}
+   */
+  default String oidToInstanceName(Oid oid) {
+    return oidToInstanceName(oid.toString());
+  }
   
   /**
    * Converts an object identifier string to the corresponding MIB object name.
@@ -81,6 +115,17 @@ public interface Mib {
    *    not correspond to a known name, the return value is {@code oid}. 
    */
   String oidToObjectName(String oid);
+
+  /**
+   * Converts an object identifier to the corresponding MIB object name.
+   * <p>
+   * The default implementation delegates to {@link #oidToObjectName(String)}.
+   * @param oid the object identifier to convert
+   * @return object name, as for {@link #oidToObjectName(String)}
+   */
+  default String oidToObjectName(Oid oid) {
+    return oidToObjectName(oid.toString());
+  }
   
   /**
    * Gets the SMI syntax indicator for the given object identifier.
@@ -90,6 +135,19 @@ public interface Mib {
    *    an an OBJECT-TYPE or subordinate
    */
   int syntaxForObject(String oid);
+
+  /**
+   * Gets the SMI syntax indicator for the given object identifier.
+   * <p>
+   * The default implementation delegates to {@link #syntaxForObject(String)}.
+   * @param oid OID of an OBJECT-TYPE (or a subordinate)
+   * @return syntax indicator
+   * @throws IllegalArgumentException if {@code oid} does not refer to 
+   *    an an OBJECT-TYPE or subordinate
+   */
+  default int syntaxForObject(Oid oid) {
+    return syntaxForObject(oid.toString());
+  }
   
   /**
    * Gets a new {@link Formatter} appropriate for the object type represented
@@ -98,6 +156,18 @@ public interface Mib {
    * @return formatter object (never {@code null})
    */
   Formatter newFormatter(String oid);
+
+  /**
+   * Gets a new {@link Formatter} appropriate for the object type represented
+   * by the given object identifier
+   * <p>
+   * The default implementation delegates to {@link #newFormatter(String)}.
+   * @param oid object identifier
+   * @return formatter object (never {@code null})
+   */
+  default Formatter newFormatter(Oid oid) {
+    return newFormatter(oid.toString());
+  }
   
   /**
    * Gets a new {@link IndexExtractor} appropriate for the table column
@@ -109,6 +179,20 @@ public interface Mib {
    */
   IndexExtractor newIndexExtractor(String oid);
 
+  /**
+   * Gets a new {@link IndexExtractor} appropriate for the table column
+   * object represented by the given object identifier.
+   * <p>
+   * The default implementation delegates to {@link #newIndexExtractor(String)}.
+   * @param oid identifier of a table column object
+   * @return index extractor (never {@code null})
+   * @throws IllegalArgumentException if the {@code oid} does not represent
+   *    a (known) table column
+   */
+  default IndexExtractor newIndexExtractor(Oid oid) {
+    return newIndexExtractor(oid.toString());
+  }
+
   /**
    * Gets the SNMPv1 TRAP support provider.
    * @return trap support provider
@@ -123,6 +207,28 @@ public interface Mib {
    */
   Mib addDirectory(File directory);
 
+  /**
+   * Adds a directory to the MIB file search path and indexes the MIB
+   * modules it contains, so that each module is loaded only when it is
+   * first needed.
+   * <p>
+   * The files in the directory are scanned (but not parsed) to find the
+   * names and top-level object identifier subtrees of the modules they
+   * define.  A module is loaded the first time an object identifier that
+   * falls into one of its subtrees is looked up, or when one of its names
+   * cannot otherwise be resolved.
+   * <p>
+   * The default implementation simply
+   * {@linkplain #addDirectory(File) adds} the directory to the search path
+   * without indexing it.
+   * @param directory the directory to add
+   * @return this MIB
+   * @throws IOException if the directory cannot be listed
+   */
+  default Mib indexDirectory(File directory) throws IOException {
+    return addDirectory(directory);
+  }
+
   /**
    * Removes a directory from the MIB file search path.
    * @param directory the directory to remove
@@ -159,5 +265,30 @@ public interface Mib {
    * @throws IOException
    */
   Mib load(File file) throws ModuleParseException, IOException;
+
+  /**
+   * Loads several named MIB modules at once.
+   * <p>
+   * Implementations may parse independent modules in parallel.  If any of
+   * the modules cannot be parsed, none of them is loaded;
+   * otherwise the modules are added to this MIB in an order in which each
+   * module follows the modules it imports.
+   * <p>
+   * The default implementation simply invokes {@link #load(String)} for
+   * each of the named modules in turn, so a module that cannot be parsed
+   * leaves the modules named before it loaded.
+   * @param moduleNames names of the MIB modules to load
+   * @return this MIB
+   * @throws ModuleParseException if any of the specified MIB modules cannot
+   *    be parsed
+   * @throws IOException
+   */
+  default Mib loadAll(Collection<String> moduleNames)
+      throws ModuleParseException, IOException {
+    for (final String moduleName : moduleNames) {
+      load(moduleName);
+    }
+    return this;
+  }
   
 }
@@ -43,6 +43,106 @@ public interface ObjectValue {
    */
   long asLong();
 
+  /**
+   * Gets the value of the bound object as an unsigned 32-bit integer.
+   * <p>
+   * This method is appropriate for Counter32, Gauge32, Unsigned32, and
+   * TimeTicks objects, whose values may exceed {@link Integer#MAX_VALUE};
+   * for other integral types it returns the low-order 32 bits of the value.
+   * <p>
+   * The default implementation returns the low-order 32 bits of
+   * {@link #asLong()}.
+   * @return unsigned value of the bound object (0 to 2^32-1)
+   */
+  default long asUnsignedInt() {
+    return asLong() & 0xffffffffL;
+  }
+
+  /**
+   * Gets the value of the bound object as an unsigned 64-bit integer.
+   * <p>
+   * For a Counter64 object, the returned value holds all 64 bits of the
+   * counter; values of 2^63 and greater are negative when interpreted as a
+   * signed {@code long}, so they should be compared, divided, or formatted
+   * using the unsigned methods of {@link Long} (e.g.
+   * {@link Long#compareUnsigned(long, long) compareUnsigned}).  For other
+   * integral types the result is the same as {@link #asUnsignedInt()}.
+   * <p>
+   * The default implementation returns {@link #asLong()} for a Counter64
+   * object (ASN.1 tag {@code 0x46}) and {@link #asUnsignedInt()} otherwise.
+   * @return unsigned value of the bound object
+   */
+  default long asUnsignedLong() {
+    return getSyntax() == 0x46 ? asLong() : asUnsignedInt();
+  }
+
+  /**
+   * Gets the length of the value of the bound object.
+   * @return number of octets in an OCTET STRING, IpAddress, or Opaque value,
+   *    number of sub-identifiers in an OBJECT IDENTIFIER value, or zero for
+   *    any other type
+   */
+  default int getLength() {
+    final Object value = toObject();
+    if (value instanceof byte[]) {
+      return ((byte[]) value).length;
+    }
+    if (value instanceof int[]) {
+      return ((int[]) value).length;
+    }
+    return 0;
+  }
+
+  /**
+   * Copies the octets of the value of the bound object into an array.
+   * <p>
+   * Unlike {@link #toObject()}, this method does not allocate a new array
+   * for each value, so it is well suited to consumers that process values
+   * at a high rate using a buffer of their own.  The default implementation
+   * copies the array returned by {@link #toObject()}, so implementations
+   * should override it to avoid the allocation.
+   * @param dst destination array
+   * @param offset offset in {@code dst} at which to store the first octet
+   * @return number of octets copied (the same as {@link #getLength()})
+   * @throws UnsupportedOperationException if the value is not an OCTET
+   *    STRING, IpAddress, or Opaque
+   * @throws IndexOutOfBoundsException if {@code dst} is too small
+   */
+  default int copyBytes(byte[] dst, int offset) {
+    final Object value = toObject();
+    if (!(value instanceof byte[])) {
+      throw new UnsupportedOperationException("not an octet string");
+    }
+    final byte[] octets = (byte[]) value;
+    System.arraycopy(octets, 0, dst, offset, octets.length);
+    return octets.length;
+  }
+
+  /**
+   * Copies the sub-identifiers of an OBJECT IDENTIFIER value of the bound
+   * object into an array.
+   * <p>
+   * The default implementation copies the array returned by
+   * {@link #toObject()}.
+   * @param dst destination array
+   * @param offset offset in {@code dst} at which to store the first
+   *    sub-identifier
+   * @return number of sub-identifiers copied (the same as
+   *    {@link #getLength()})
+   * @throws UnsupportedOperationException if the value is not an OBJECT
+   *    IDENTIFIER
+   * @throws IndexOutOfBoundsException if {@code dst} is too small
+   */
+  default int copyOid(int[] dst, int offset) {
+    final Object value = toObject();
+    if (!(value instanceof int[])) {
+      throw new UnsupportedOperationException("not an object identifier");
+    }
+    final int[] oid = (int[]) value;
+    System.arraycopy(oid, 0, dst, offset, oid.length);
+    return oid.length;
+  }
+
   /**
    * Coerces the value of the bound object to a display string.
    * <p>
@@ -68,6 +168,10 @@ public interface ObjectValue {
    * <li>TimeTicks &mdash; {@code Long} value of the object</li>
    * <li>Opaque &mdash; {@code byte} array containing the object's octets</li>
    * </ul>
+   * <p>
+   * Since integral values are boxed and other values are copied into a new
+   * array, consumers that process values at a high rate should prefer
+   * methods such as {@link #asLong()} and {@link #copyBytes(byte[], int)}.
    * @return value representation
    */
   Object toObject();
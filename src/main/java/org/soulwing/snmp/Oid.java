@@ -0,0 +1,313 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * An immutable object identifier, held as an array of sub-identifiers.
+ * <p>
+ * This type is used to pass object identifiers between the components of
+ * the library without repeatedly converting them to and from strings.
+ * Each sub-identifier is an unsigned 32-bit value; values of 2^31 and
+ * greater are stored as negative {@code int} values, and are formatted and
+ * compared as unsigned.  The dotted-decimal form of an instance is computed
+ * only when first requested by {@link #toString()}, and is retained for
+ * subsequent use.
+ *
+ * @author Carl Harris
+ */
+public final class Oid implements Comparable<Oid>, Serializable {
+
+  private static final long serialVersionUID = 7165314049221813097L;
+
+  private static final long MAX_SUB_IDENTIFIER = 0xffffffffL;
+
+  private final int[] value;
+
+  private transient int hash;
+  private transient String string;
+
+  private Oid(int[] value) {
+    this.value = value;
+  }
+
+  /**
+   * Creates an object identifier from an array of sub-identifiers.
+   * @param value sub-identifiers (which are copied)
+   * @return object identifier
+   */
+  public static Oid valueOf(int... value) {
+    return new Oid(value.clone());
+  }
+
+  /**
+   * Creates an object identifier from a range of an array of
+   * sub-identifiers.
+   * @param value array of sub-identifiers
+   * @param offset offset of the first sub-identifier in {@code value}
+   * @param length number of sub-identifiers
+   * @return object identifier
+   * @throws IndexOutOfBoundsException if the range is not within
+   *    {@code value}
+   */
+  public static Oid valueOf(int[] value, int offset, int length) {
+    return new Oid(Arrays.copyOfRange(value, offset, offset + length));
+  }
+
+  /**
+   * Parses an object identifier in dotted-decimal form.
+   * <p>
+   * A leading dot (as in {@code .1.3.6.1}) is allowed and ignored.
+   * @param oid the string to parse
+   * @return object identifier
+   * @throws IllegalArgumentException if {@code oid} is not a dotted-decimal
+   *    object identifier
+   */
+  public static Oid parse(String oid) {
+    final int length = oid.length();
+    int start = length > 0 && oid.charAt(0) == '.' ? 1 : 0;
+    int count = 1;
+    for (int i = start; i < length; i++) {
+      if (oid.charAt(i) == '.') count++;
+    }
+    final int[] value = new int[count];
+    int n = 0;
+    long subId = 0;
+    boolean digits = false;
+    for (int i = start; i <= length; i++) {
+      final char c = i < length ? oid.charAt(i) : '.';
+      if (c == '.') {
+        if (!digits) {
+          throw new IllegalArgumentException(
+              "not an object identifier: '" + oid + "'");
+        }
+        value[n++] = (int) subId;
+        subId = 0;
+        digits = false;
+      }
+      else if (c >= '0' && c <= '9') {
+        subId = subId * 10 + (c - '0');
+        if (subId > MAX_SUB_IDENTIFIER) {
+          throw new IllegalArgumentException(
+              "sub-identifier too large: '" + oid + "'");
+        }
+        digits = true;
+      }
+      else {
+        throw new IllegalArgumentException(
+            "not an object identifier: '" + oid + "'");
+      }
+    }
+    return new Oid(value);
+  }
+
+  /**
+   * Tests whether a string looks like a dotted-decimal object identifier
+   * rather than an object name.
+   * <p>
+   * This is a character scan intended to choose between {@link #parse}
+   * and a MIB lookup; a string that passes may still fail to parse
+   * (e.g. {@code 1..3}).
+   * @param s the string to test
+   * @return {@code true} if {@code s} is non-empty and consists only of
+   *    decimal digits and dots
+   */
+  public static boolean isDotted(String s) {
+    final int length = s.length();
+    if (length == 0) return false;
+    for (int i = 0; i < length; i++) {
+      final char c = s.charAt(i);
+      if (c != '.' && (c < '0' || c > '9')) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of sub-identifiers in this object identifier.
+   * @return sub-identifier count
+   */
+  public int size() {
+    return value.length;
+  }
+
+  /**
+   * Gets a sub-identifier.
+   * @param index index of the sub-identifier
+   * @return sub-identifier (which must be interpreted as unsigned)
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   */
+  public int get(int index) {
+    return value[index];
+  }
+
+  /**
+   * Gets the sub-identifiers of this object identifier.
+   * @return a new array containing the sub-identifiers
+   */
+  public int[] toArray() {
+    return value.clone();
+  }
+
+  /**
+   * Copies the sub-identifiers of this object identifier into an array.
+   * @param dst destination array
+   * @param offset offset in {@code dst} at which to store the first
+   *    sub-identifier
+   * @return number of sub-identifiers copied
+   * @throws IndexOutOfBoundsException if {@code dst} is too small
+   */
+  public int copyTo(int[] dst, int offset) {
+    System.arraycopy(value, 0, dst, offset, value.length);
+    return value.length;
+  }
+
+  /**
+   * Tests whether this object identifier starts with the given prefix.
+   * @param prefix the subject prefix
+   * @return {@code true} if the sub-identifiers of {@code prefix} are the
+   *    leading sub-identifiers of this object identifier
+   */
+  public boolean startsWith(Oid prefix) {
+    return startsWith(prefix.value, prefix.value.length);
+  }
+
+  /**
+   * Tests whether this object identifier starts with the given prefix.
+   * @param prefix array containing the sub-identifiers of the prefix
+   * @param length number of sub-identifiers in {@code prefix}
+   * @return {@code true} if the sub-identifiers of {@code prefix} are the
+   *    leading sub-identifiers of this object identifier
+   */
+  public boolean startsWith(int[] prefix, int length) {
+    if (length > value.length) return false;
+    for (int i = 0; i < length; i++) {
+      if (value[i] != prefix[i]) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the leading sub-identifiers of this object identifier.
+   * @param length number of sub-identifiers
+   * @return object identifier
+   */
+  public Oid prefix(int length) {
+    if (length == value.length) return this;
+    return new Oid(Arrays.copyOf(value, length));
+  }
+
+  /**
+   * Gets the trailing sub-identifiers of this object identifier (for
+   * example, the instance identifier of an object instance).
+   * @param offset index of the first sub-identifier of the suffix
+   * @return object identifier, which is empty if {@code offset} is
+   *    equal to {@link #size()}
+   */
+  public Oid suffix(int offset) {
+    if (offset == 0) return this;
+    return new Oid(Arrays.copyOfRange(value, offset, value.length));
+  }
+
+  /**
+   * Creates an object identifier by appending sub-identifiers to this
+   * object identifier.
+   * @param suffix the sub-identifiers to append
+   * @return object identifier
+   */
+  public Oid append(Oid suffix) {
+    if (suffix.value.length == 0) return this;
+    final int[] value = Arrays.copyOf(this.value,
+        this.value.length + suffix.value.length);
+    System.arraycopy(suffix.value, 0, value, this.value.length,
+        suffix.value.length);
+    return new Oid(value);
+  }
+
+  /**
+   * Appends the dotted-decimal form of a range of this object identifier's
+   * sub-identifiers to a string builder.
+   * @param sb the target string builder
+   * @param offset index of the first sub-identifier to append; each
+   *    sub-identifier is preceded by a dot unless it is the first
+   *    appended to an empty builder
+   * @return {@code sb}
+   */
+  public StringBuilder appendTo(StringBuilder sb, int offset) {
+    for (int i = offset; i < value.length; i++) {
+      if (sb.length() > 0) {
+        sb.append('.');
+      }
+      sb.append(value[i] & MAX_SUB_IDENTIFIER);
+    }
+    return sb;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Object identifiers are compared lexicographically, treating each
+   * sub-identifier as unsigned; this is the order of instances in a MIB
+   * view.
+   */
+  @Override
+  public int compareTo(Oid other) {
+    final int length = Math.min(value.length, other.value.length);
+    for (int i = 0; i < length; i++) {
+      if (value[i] != other.value[i]) {
+        return (value[i] & MAX_SUB_IDENTIFIER)
+            < (other.value[i] & MAX_SUB_IDENTIFIER) ? -1 : 1;
+      }
+    }
+    return value.length - other.value.length;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (!(obj instanceof Oid)) return false;
+    return Arrays.equals(value, ((Oid) obj).value);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = this.hash;
+    if (hash == 0) {
+      hash = Arrays.hashCode(value);
+      this.hash = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Gets the dotted-decimal form of this object identifier.
+   * @return dotted-decimal string
+   */
+  @Override
+  public String toString() {
+    String string = this.string;
+    if (string == null) {
+      string = appendTo(new StringBuilder(value.length * 4), 0).toString();
+      this.string = string;
+    }
+    return string;
+  }
+
+}
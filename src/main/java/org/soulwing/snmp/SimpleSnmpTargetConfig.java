@@ -28,7 +28,10 @@ public class SimpleSnmpTargetConfig implements SnmpTargetConfig {
 
   private int retries = SnmpDefaults.RETRIES;
   private long timeout = SnmpDefaults.TIMEOUT;
+  private long operationTimeout = SnmpDefaults.OPERATION_TIMEOUT;
   private int walkMaxRepetitions = SnmpDefaults.WALK_MAX_REPETITIONS;
+  private int walkMaxResumes = SnmpDefaults.WALK_MAX_RESUMES;
+  private HedgingPolicy hedgingPolicy = SnmpDefaults.HEDGING_POLICY;
   
   private boolean walkAllowsTruncatedRepetition;
   
@@ -64,6 +67,38 @@ public class SimpleSnmpTargetConfig implements SnmpTargetConfig {
     this.timeout = timeout;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getOperationTimeout() {
+    return operationTimeout;
+  }
+
+  /**
+   * Sets the {@code operationTimeout} property.
+   * @param operationTimeout the value to set
+   */
+  public void setOperationTimeout(long operationTimeout) {
+    this.operationTimeout = operationTimeout;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public HedgingPolicy getHedgingPolicy() {
+    return hedgingPolicy;
+  }
+
+  /**
+   * Sets the {@code hedgingPolicy} property.
+   * @param hedgingPolicy the value to set; {@code null} disables hedging
+   */
+  public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+    this.hedgingPolicy = hedgingPolicy;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -97,13 +132,34 @@ public class SimpleSnmpTargetConfig implements SnmpTargetConfig {
     this.walkAllowsTruncatedRepetition = walkAllowsTruncatedRepetition;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getWalkMaxResumes() {
+    return walkMaxResumes;
+  }
+
+  /**
+   * Sets the {@code walkMaxResumes} property.
+   * @param walkMaxResumes the value to set
+   */
+  public void setWalkMaxResumes(int walkMaxResumes) {
+    this.walkMaxResumes = walkMaxResumes;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public SnmpTargetConfig clone() {
     try {
-      return (SnmpTargetConfig) super.clone();
+      final SimpleSnmpTargetConfig clone =
+          (SimpleSnmpTargetConfig) super.clone();
+      if (hedgingPolicy != null) {
+        clone.hedgingPolicy = hedgingPolicy.clone();
+      }
+      return clone;
     }
     catch (CloneNotSupportedException ex) {
       throw new RuntimeException(ex);
@@ -193,4 +193,82 @@ public interface SnmpAsyncOperations {
   void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
       String... repeaters);
 
+  /**
+   * Invokes an asynchronous walk on a conceptual table, continuing from
+   * a checkpoint.
+   * @param callback to invoke when a walker becomes available
+   * @param checkpoint checkpoint obtained from a previous walker
+   */
+  void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
+      WalkCheckpoint checkpoint);
+
+  /**
+   * Invokes an asynchronous bounded walk on a conceptual table.
+   * @param callback to invoke when a walker becomes available
+   * @param options options that bound the rows to visit
+   * @param nonRepeaters number of non-repeating objects at the beginning
+   *   of the {@code oids} list
+   * @param oids MIB names or dotted-decimal object identifiers for the
+   *   non-repeating objects followed by the table column elements to
+   *   retrieve
+   */
+  void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
+      WalkOptions options, int nonRepeaters, List<String> oids);
+
+  /**
+   * Invokes an asynchronous bounded walk on a conceptual table.
+   * @param callback to invoke when a walker becomes available
+   * @param options options that bound the rows to visit
+   * @param repeaters MIB names or dotted-decimal object identifiers
+   *   for the table column elements to retrieve
+   */
+  void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
+      WalkOptions options, String... repeaters);
+
+  /**
+   * Invokes an asynchronous retrieval of a conceptual table in columnar
+   * form.
+   * @param callback callback to invoke when the entire table has been
+   *    retrieved
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   */
+  void asyncGetTable(SnmpCallback<SnmpTable> callback, List<String> columns);
+
+  /**
+   * Invokes an asynchronous retrieval of a conceptual table in columnar
+   * form.
+   * @param callback callback to invoke when the entire table has been
+   *    retrieved
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   */
+  void asyncGetTable(SnmpCallback<SnmpTable> callback, String... columns);
+
+  /**
+   * Invokes an asynchronous walk of a conceptual table that presents each
+   * cell to a visitor.
+   * <p>
+   * The visitor is invoked on the same threads as the callback.
+   * @param callback callback to invoke when the walk is complete, with
+   *    the number of rows visited
+   * @param visitor the visitor to receive the cells of the table
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   */
+  void asyncVisitTable(SnmpCallback<Long> callback, WalkVisitor visitor,
+      List<String> columns);
+
+  /**
+   * Invokes an asynchronous walk of a conceptual table that presents each
+   * cell to a visitor.
+   * @param callback callback to invoke when the walk is complete, with
+   *    the number of rows visited
+   * @param visitor the visitor to receive the cells of the table
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   */
+  void asyncVisitTable(SnmpCallback<Long> callback, WalkVisitor visitor,
+      String... columns);
+
 }
@@ -33,6 +33,12 @@ public interface SnmpDefaults {
 
   long TIMEOUT = 10000L;
 
+  long OPERATION_TIMEOUT = 0L;
+
+  HedgingPolicy HEDGING_POLICY = null;
+
   int WALK_MAX_REPETITIONS = 10;
 
+  int WALK_MAX_RESUMES = 0;
+
 }
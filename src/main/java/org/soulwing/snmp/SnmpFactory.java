@@ -17,6 +17,10 @@
  */
 package org.soulwing.snmp;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -31,6 +35,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.soulwing.snmp.metrics.SnmpMetrics;
 import org.soulwing.snmp.provider.SnmpProvider;
 
 /**
@@ -56,6 +61,8 @@ public class SnmpFactory {
   private final ScheduledExecutorService scheduledExecutorService;
   private final ThreadFactory threadFactory;
   private final SnmpFactoryConfig factoryConfig;
+  private final SnmpMetrics metrics = new SnmpMetrics();
+  private final List<SnmpInterceptor> interceptors;
 
   private SimpleSnmpTargetConfig defaultTargetConfig = 
       new SimpleSnmpTargetConfig();
@@ -67,6 +74,11 @@ public class SnmpFactory {
     this.scheduledExecutorService = scheduledExecutorService;
     this.threadFactory = threadFactory;
     this.factoryConfig = factoryConfig;
+    this.interceptors = loadInterceptors(factoryConfig);
+    if (factoryConfig.isMetricsMBeansEnabled()) {
+      metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer(),
+          SnmpMetrics.DEFAULT_DOMAIN);
+    }
   }
   
   /**
@@ -147,6 +159,17 @@ public class SnmpFactory {
         threadFactory, config);
   }
 
+  private static List<SnmpInterceptor> loadInterceptors(
+      SnmpFactoryConfig config) {
+    final List<SnmpInterceptor> interceptors =
+        new ArrayList<SnmpInterceptor>(config.getInterceptors());
+    for (SnmpInterceptor interceptor :
+        ServiceLoader.load(SnmpInterceptor.class)) {
+      interceptors.add(interceptor);
+    }
+    return Collections.unmodifiableList(interceptors);
+  }
+
   private static class TrivialThreadFactory implements ThreadFactory {
     public Thread newThread(Runnable r) {
       return new Thread(r);
@@ -207,6 +230,28 @@ public class SnmpFactory {
     return factoryConfig;
   }
 
+  /**
+   * Gets the metrics recorded for operations performed by contexts
+   * produced by this factory.
+   * @return metrics registry
+   */
+  public SnmpMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Gets the interceptors that will be notified of the lifecycle of
+   * requests sent by contexts produced by this factory.
+   * <p>
+   * The returned list contains the interceptors registered on the factory
+   * configuration, followed by any interceptors discovered using the
+   * {@link ServiceLoader} mechanism.
+   * @return list of interceptors (possibly empty)
+   */
+  public List<SnmpInterceptor> getInterceptors() {
+    return interceptors;
+  }
+
   /**
    * Closes this factory, releasing any resources it might be holding.
    * @throws InterruptedException if interrupted while closing
@@ -214,6 +259,7 @@ public class SnmpFactory {
   public void close() throws InterruptedException {
     if (!closed.compareAndSet(false, true)) return;
     shutDownProviders();
+    metrics.unregisterMBeans();
     shutDownExecutor(executorService);
     shutDownExecutor(scheduledExecutorService);
     if (Thread.interrupted()) {
@@ -407,7 +453,7 @@ public class SnmpFactory {
       lock.lock();
       try {
         provider = findProvider(providerName);
-        provider.init(factoryConfig);
+        provider.init(this);
         providerMap.put(provider.getName(), provider);
       }
       finally {
@@ -18,7 +18,10 @@
 
 package org.soulwing.snmp;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,10 +43,15 @@ public class SnmpFactoryConfig {
 
   private final Map<String, Object> properties = new HashMap<String, Object>();
 
+  private final List<SnmpInterceptor> interceptors =
+      new ArrayList<SnmpInterceptor>();
+
   private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
 
   private int scheduledWorkerPoolSize = DEFAULT_SCHEDULED_WORKER_POOL_SIZE;
 
+  private boolean metricsMBeansEnabled;
+
   /**
    * Gets the minimum number of threads to keep in the pool for short-lived 
    * tasks.
@@ -94,6 +102,45 @@ public class SnmpFactoryConfig {
     this.scheduledWorkerPoolSize = scheduledWorkerPoolSize;
   }
 
+  /**
+   * Gets a flag indicating whether the factory's metrics should be
+   * published as MBeans on the platform MBean server.
+   * @return flag state
+   * @see SnmpFactory#getMetrics()
+   */
+  public boolean isMetricsMBeansEnabled() {
+    return metricsMBeansEnabled;
+  }
+
+  /**
+   * Sets a flag indicating whether the factory's metrics should be
+   * published as MBeans on the platform MBean server.
+   * @param metricsMBeansEnabled the flag state to set
+   */
+  public void setMetricsMBeansEnabled(boolean metricsMBeansEnabled) {
+    this.metricsMBeansEnabled = metricsMBeansEnabled;
+  }
+
+  /**
+   * Gets the interceptors that have been registered on this configuration.
+   * @return list of interceptors (in order of registration)
+   */
+  public List<SnmpInterceptor> getInterceptors() {
+    return Collections.unmodifiableList(interceptors);
+  }
+
+  /**
+   * Registers an interceptor that will be notified of the lifecycle of
+   * requests sent by contexts created by the factory.
+   * <p>
+   * Interceptors registered here are notified before any interceptors
+   * discovered using the {@link java.util.ServiceLoader} mechanism.
+   * @param interceptor the interceptor to register
+   */
+  public void addInterceptor(SnmpInterceptor interceptor) {
+    interceptors.add(interceptor);
+  }
+
   /**
    * Gets the value of a provider-specific property.
    * @param name name of the value to retrieve
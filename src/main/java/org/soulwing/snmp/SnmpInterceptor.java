@@ -0,0 +1,89 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * An interceptor that is notified at each stage in the lifecycle of the
+ * requests sent to SNMP agents.
+ * <p>
+ * Interceptors can be used to add tracing, accounting, or other custom
+ * instrumentation to SNMP operations.  An interceptor can be registered on
+ * the {@link SnmpFactoryConfig} used to create an {@link SnmpFactory}, or
+ * it can be discovered using the {@link java.util.ServiceLoader} mechanism
+ * by listing the name of the implementing class in a resource named
+ * {@code META-INF/services/org.soulwing.snmp.SnmpInterceptor}.
+ * <p>
+ * A single logical request may result in several protocol data units being
+ * sent to the agent: the request may be retried after a timeout, and it may
+ * be duplicated when a {@link HedgingPolicy} is in effect.
+ * {@link #beforeSend(SnmpRequestInfo)} is invoked before each of these is
+ * sent, and exactly one of {@link #onResponse(SnmpRequestInfo,
+ * SnmpResponseInfo) onResponse}, {@link #onTimeout(SnmpRequestInfo)
+ * onTimeout}, or {@link #onError(SnmpRequestInfo, Exception) onError} is
+ * invoked when the logical request completes.  The same
+ * {@link SnmpRequestInfo} object is passed to each method for a given
+ * logical request, so an interceptor can use its attributes to carry state
+ * (e.g. a tracing span) from one stage to the next.
+ * <p>
+ * Interceptor methods are invoked on the threads that send requests and
+ * receive responses; they must be thread safe and should return quickly.
+ * Any runtime exception thrown by an interceptor is logged and ignored.
+ *
+ * @author Carl Harris
+ */
+public interface SnmpInterceptor {
+
+  /**
+   * Notifies the receiver that a request is about to be sent.
+   * @param request request metadata
+   */
+  void beforeSend(SnmpRequestInfo request);
+
+  /**
+   * Notifies the receiver that a request is about to be sent again after
+   * no response was received.
+   * <p>
+   * This method is invoked before {@link #beforeSend(SnmpRequestInfo)}
+   * for each retry.
+   * @param request request metadata
+   */
+  void onRetry(SnmpRequestInfo request);
+
+  /**
+   * Notifies the receiver that a response to a request was received.
+   * @param request request metadata
+   * @param response response metadata
+   */
+  void onResponse(SnmpRequestInfo request, SnmpResponseInfo response);
+
+  /**
+   * Notifies the receiver that no response to a request was received after
+   * all retries were exhausted (or the operation deadline was reached).
+   * @param request request metadata
+   */
+  void onTimeout(SnmpRequestInfo request);
+
+  /**
+   * Notifies the receiver that a request could not be sent.
+   * @param request request metadata
+   * @param error the error that prevented the request from being sent
+   */
+  void onError(SnmpRequestInfo request, Exception error);
+
+}
@@ -178,4 +178,68 @@ public interface SnmpOperationFactory {
    */
   SnmpAsyncWalker<VarbindCollection> newWalk(String... repeaters);
 
+  /**
+   * Creates a walk operation that continues from a checkpoint.
+   * @param checkpoint checkpoint obtained from a previous walker
+   */
+  SnmpAsyncWalker<VarbindCollection> newWalk(WalkCheckpoint checkpoint);
+
+  /**
+   * Creates a bounded walk operation.
+   * @param options options that bound the rows to visit
+   * @param nonRepeaters number of non-repeating objects at the beginning
+   *   of the {@code oids} list
+   * @param oids MIB names or dotted-decimal object identifiers for the
+   *   non-repeating objects followed by the table column elements to
+   *   retrieve
+   */
+  SnmpAsyncWalker<VarbindCollection> newWalk(WalkOptions options,
+      int nonRepeaters, List<String> oids);
+
+  /**
+   * Creates a bounded walk operation.
+   * @param options options that bound the rows to visit
+   * @param repeaters MIB names or dotted-decimal object identifiers
+   *   for the table column elements to retrieve
+   */
+  SnmpAsyncWalker<VarbindCollection> newWalk(WalkOptions options,
+      String... repeaters);
+
+  /**
+   * Creates an operation that retrieves a conceptual table in columnar
+   * form.
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   * @return an operation that can be invoked to obtain the table
+   */
+  SnmpOperation<SnmpTable> newGetTable(List<String> columns);
+
+  /**
+   * Creates an operation that retrieves a conceptual table in columnar
+   * form.
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   * @return an operation that can be invoked to obtain the table
+   */
+  SnmpOperation<SnmpTable> newGetTable(String... columns);
+
+  /**
+   * Creates an operation that walks a conceptual table, presenting each
+   * cell to a visitor.
+   * @param visitor the visitor to receive the cells of the table
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   */
+  SnmpOperation<Long> newVisitTable(WalkVisitor visitor,
+      List<String> columns);
+
+  /**
+   * Creates an operation that walks a conceptual table, presenting each
+   * cell to a visitor.
+   * @param visitor the visitor to receive the cells of the table
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   */
+  SnmpOperation<Long> newVisitTable(WalkVisitor visitor, String... columns);
+
 }
@@ -209,4 +209,83 @@ public interface SnmpOperations {
    */
   SnmpWalker<VarbindCollection> walk(String... repeaters);
 
+  /**
+   * Continues a walk of a MIB conceptual table from a checkpoint.
+   * <p>
+   * The returned walker produces the rows that follow the last row that
+   * was returned by the walker from which the checkpoint was obtained.
+   * @param checkpoint checkpoint obtained from a previous walker
+   * @return table row walker
+   * @see SnmpWalker#getCheckpoint()
+   */
+  SnmpWalker<VarbindCollection> walk(WalkCheckpoint checkpoint);
+
+  /**
+   * Performs a bounded walk of a MIB conceptual table.
+   * @param options options that bound the rows to visit
+   * @param nonRepeaters number of non-repeating objects at the beginning
+   *   of the {@code oids} list
+   * @param oids MIB names or dotted-decimal object identifiers for the
+   *   non-repeating objects followed by the table column elements to
+   *   retrieve
+   * @return table row walker
+   */
+  SnmpWalker<VarbindCollection> walk(WalkOptions options, int nonRepeaters,
+      List<String> oids);
+
+  /**
+   * Performs a bounded walk of a MIB conceptual table.
+   * @param options options that bound the rows to visit
+   * @param repeaters MIB names or dotted-decimal object identifiers
+   *   for the table column elements to retrieve
+   * @return table row walker
+   */
+  SnmpWalker<VarbindCollection> walk(WalkOptions options,
+      String... repeaters);
+
+  /**
+   * Retrieves a conceptual table in columnar form.
+   * <p>
+   * The table is retrieved using a walk, but the values in each response
+   * are stored directly in primitive arrays, one per column, rather than
+   * as a varbind collection for each row.  This is preferable when many
+   * rows of mostly numeric columns (e.g. interface counters) are needed.
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   * @return a response containing the retrieved table
+   */
+  SnmpResponse<SnmpTable> getTable(List<String> columns);
+
+  /**
+   * Retrieves a conceptual table in columnar form.
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   * @return a response containing the retrieved table
+   * @see #getTable(List)
+   */
+  SnmpResponse<SnmpTable> getTable(String... columns);
+
+  /**
+   * Walks a conceptual table, presenting each cell to a visitor.
+   * <p>
+   * No varbind collection is created for the rows of the table; each cell
+   * is presented to the visitor as it is decoded from a response, so the
+   * cost of visiting a cell is little more than that of decoding it.
+   * @param visitor the visitor to receive the cells of the table
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   * @return a response containing the number of rows visited
+   */
+  SnmpResponse<Long> visitTable(WalkVisitor visitor, List<String> columns);
+
+  /**
+   * Walks a conceptual table, presenting each cell to a visitor.
+   * @param visitor the visitor to receive the cells of the table
+   * @param columns MIB names or dotted-decimal object identifiers
+   *   for the table columns to retrieve
+   * @return a response containing the number of rows visited
+   * @see #visitTable(WalkVisitor, List)
+   */
+  SnmpResponse<Long> visitTable(WalkVisitor visitor, String... columns);
+
 }
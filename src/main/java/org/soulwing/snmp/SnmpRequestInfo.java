@@ -0,0 +1,83 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import java.util.List;
+
+/**
+ * Metadata describing a request that is passed to an
+ * {@link SnmpInterceptor}.
+ *
+ * @author Carl Harris
+ */
+public interface SnmpRequestInfo {
+
+  /**
+   * Gets the name of the target agent.
+   * @return target name of the form {@code address:port}
+   */
+  String getTarget();
+
+  /**
+   * Gets the request PDU type.
+   * @return PDU type name (e.g. {@code GET}, {@code GETBULK})
+   */
+  String getPduType();
+
+  /**
+   * Gets the request ID of the protocol data unit most recently sent (or
+   * about to be sent) for this request.
+   * @return request ID
+   */
+  int getRequestId();
+
+  /**
+   * Gets the object identifiers of the varbinds in the request.
+   * @return list of object identifiers in dotted decimal form
+   */
+  List<String> getVarbinds();
+
+  /**
+   * Gets the number of the attempt most recently made for this request.
+   * @return attempt number; zero for the first attempt
+   */
+  int getAttempt();
+
+  /**
+   * Gets a flag indicating whether the protocol data unit most recently
+   * sent (or about to be sent) for this request is a hedged duplicate.
+   * @return flag state
+   */
+  boolean isHedge();
+
+  /**
+   * Gets an attribute associated with this request.
+   * @param name attribute name
+   * @return attribute value or {@code null} if there is no such attribute
+   */
+  Object getAttribute(String name);
+
+  /**
+   * Associates an attribute with this request.
+   * @param name attribute name
+   * @param value the value to set ({@code null} removes the attribute)
+   */
+  void setAttribute(String name, Object value);
+
+}
@@ -0,0 +1,60 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * Metadata describing a response that is passed to an
+ * {@link SnmpInterceptor}.
+ *
+ * @author Carl Harris
+ */
+public interface SnmpResponseInfo {
+
+  /**
+   * Gets the request ID of the response.
+   * @return request ID
+   */
+  int getRequestId();
+
+  /**
+   * Gets the error status reported in the response.
+   * @return error status; zero indicates no error
+   */
+  int getErrorStatus();
+
+  /**
+   * Gets the error index reported in the response.
+   * @return error index
+   */
+  int getErrorIndex();
+
+  /**
+   * Gets the number of varbinds in the response.
+   * @return varbind count
+   */
+  int getVarbindCount();
+
+  /**
+   * Gets the time that elapsed between sending the answered protocol data
+   * unit and receiving the response.
+   * @return round trip time in nanoseconds
+   */
+  long getRoundTripTime();
+
+}
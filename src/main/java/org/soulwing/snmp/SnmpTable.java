@@ -0,0 +1,175 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * A conceptual table retrieved in columnar form.
+ * <p>
+ * Each requested column is stored as a single primitive array, rather than
+ * as a {@link Varbind} for each cell: integer, counter, gauge, and time
+ * tick values as a {@code long[]}, octet string, IP address, and opaque
+ * values as a {@code byte[][]}, and object identifier values as an
+ * {@code int[][]}.  Each row is identified by its index, given as the
+ * sub-identifiers that follow the column identifier in the instance OID.
+ * <p>
+ * A cell is absent if the agent returned no value (or an exception value)
+ * for the row in the column, or a value whose type differs from that of
+ * the first value in the column.  The arrays returned by the accessors of
+ * a table are shared and must not be modified.
+ *
+ * @author Carl Harris
+ */
+public interface SnmpTable {
+
+  /**
+   * An enumeration of the representations of column values.
+   */
+  enum ColumnType {
+    /** integer, counter, gauge, and time ticks values */
+    LONG,
+    /** octet string, IP address, and opaque values */
+    BYTES,
+    /** object identifier values */
+    OID
+  }
+
+  /**
+   * Gets the number of rows in this table.
+   * @return row count
+   */
+  int getRowCount();
+
+  /**
+   * Gets the number of columns in this table.
+   * @return column count
+   */
+  int getColumnCount();
+
+  /**
+   * Gets the MIB name of a column.
+   * @param column column number (starting from zero, in the order requested)
+   * @return object name, or the dotted-decimal object identifier if the
+   *    column object is not defined by the MIB
+   */
+  String getColumnName(int column);
+
+  /**
+   * Gets the object identifier of a column.
+   * @param column column number
+   * @return dotted-decimal object identifier
+   */
+  String getColumnOid(int column);
+
+  /**
+   * Finds the number of a column.
+   * @param name MIB name or dotted-decimal object identifier of the column,
+   *    as requested or as returned by {@link #getColumnName(int)}
+   * @return column number or -1 if there is no such column
+   */
+  int getColumnIndex(String name);
+
+  /**
+   * Gets the type of the values in a column.
+   * @param column column number
+   * @return column type or {@code null} if the column contains no values
+   */
+  ColumnType getColumnType(int column);
+
+  /**
+   * Gets the index of a row.
+   * @param row row number (starting from zero)
+   * @return sub-identifiers of the row index
+   */
+  int[] getIndex(int row);
+
+  /**
+   * Gets the index of a row in dotted-decimal form.
+   * @param row row number
+   * @return index string (e.g. {@code 1} or {@code 10.0.0.1})
+   */
+  String getIndexString(int row);
+
+  /**
+   * Gets the index objects of a row, as described by the MIB.
+   * @param row row number
+   * @return index varbinds (empty if the MIB does not describe the index
+   *    of the table)
+   */
+  Varbind[] getIndexes(int row);
+
+  /**
+   * Tests whether a cell contains a value.
+   * @param row row number
+   * @param column column number
+   * @return {@code true} if the cell contains a value
+   */
+  boolean isPresent(int row, int column);
+
+  /**
+   * Gets the values of a column of type {@link ColumnType#LONG LONG}.
+   * <p>
+   * Unsigned 64-bit counter values greater than {@link Long#MAX_VALUE} are
+   * represented as negative numbers; use the unsigned methods of
+   * {@link Long} to interpret them.
+   * @param column column number
+   * @return array of values, with one element per row (zero for an absent
+   *    cell)
+   * @throws IllegalStateException if the column is of some other type
+   */
+  long[] getLongColumn(int column);
+
+  /**
+   * Gets the values of a column of type {@link ColumnType#BYTES BYTES}.
+   * @param column column number
+   * @return array of values, with one element per row ({@code null} for an
+   *    absent cell)
+   * @throws IllegalStateException if the column is of some other type
+   */
+  byte[][] getBytesColumn(int column);
+
+  /**
+   * Gets the values of a column of type {@link ColumnType#OID OID}.
+   * @param column column number
+   * @return array of values, with one element per row ({@code null} for an
+   *    absent cell)
+   * @throws IllegalStateException if the column is of some other type
+   */
+  int[][] getOidColumn(int column);
+
+  /**
+   * Gets the value of a cell in a column of type
+   * {@link ColumnType#LONG LONG}.
+   * @param row row number
+   * @param column column number
+   * @return cell value (zero if the cell is absent)
+   * @throws IllegalStateException if the column is of some other type
+   */
+  long getLong(int row, int column);
+
+  /**
+   * Gets the value of a cell in a column of type
+   * {@link ColumnType#BYTES BYTES}.
+   * @param row row number
+   * @param column column number
+   * @return cell value or {@code null} if the cell is absent
+   * @throws IllegalStateException if the column is of some other type
+   */
+  byte[] getBytes(int row, int column);
+
+}
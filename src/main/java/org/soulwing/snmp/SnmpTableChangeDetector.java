@@ -0,0 +1,283 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A detector of the changes in a conceptual table between successive polls.
+ * <p>
+ * The detector retains the index and a 64-bit hash of each cell of the
+ * previously polled table, rather than the table itself.  Each time a newly
+ * retrieved table is given to {@link #update(SnmpTable)}, its rows are
+ * matched to those of the previous poll by index, and the rows that were
+ * added, removed, or changed (along with the columns that changed) are
+ * reported.  The rows of the first table given to a detector are all
+ * reported as added.
+ * <p>
+ * A change to a cell is detected unless the old and new values have the same
+ * hash; for practical purposes, this never happens.  The state retained by
+ * a detector amounts to 8 bytes per cell plus the index of each row, so a
+ * 100,000 row table of 10 columns requires about 10 megabytes.
+ * <p>
+ * A detector is not thread safe; a detector is typically used by the single
+ * task that polls a given table of a given agent.
+ * <pre>
+ * SnmpTableChangeDetector detector = new SnmpTableChangeDetector();
+ * ...
+ * SnmpTable table = context.getTable("ifDescr", "ifOperStatus").get();
+ * SnmpTableChanges changes = detector.update(table);
+ * for (int row : changes.getAddedRows()) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public class SnmpTableChangeDetector {
+
+  private static final int[][] NO_INDEXES = new int[0][];
+  private static final int[] NO_ROWS = new int[0];
+
+  private static final long ABSENT = 0;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private int columnCount = -1;
+  private int[][] indexes = NO_INDEXES;
+  private long[] hashes = new long[0];
+
+  /**
+   * Updates the state of this detector using a newly retrieved table.
+   * @param table the table retrieved by the current poll
+   * @return the changes since the previous poll
+   * @throws IllegalArgumentException if the table has a different number
+   *    of columns than the table of the previous poll
+   */
+  public SnmpTableChanges update(SnmpTable table) {
+    final int columns = table.getColumnCount();
+    if (columnCount != -1 && columns != columnCount) {
+      throw new IllegalArgumentException("table has " + columns
+          + " columns; expected " + columnCount);
+    }
+    final int rows = table.getRowCount();
+    final int[] order = sortOrder(table);
+    final int[][] newIndexes = new int[rows][];
+    for (int i = 0; i < rows; i++) {
+      newIndexes[i] = table.getIndex(order != null ? order[i] : i);
+    }
+    final long[] newHashes = new long[rows * columns];
+    for (int column = 0; column < columns; column++) {
+      hashColumn(table, column, columns, order, newHashes);
+    }
+
+    final RowList added = new RowList();
+    final RowList changed = new RowList();
+    final int[][] changedColumns = new int[rows][];
+    int removedCount = 0;
+    final int[][] removed = new int[indexes.length][];
+    final int[] changedInRow = new int[columns];
+
+    int i = 0;
+    int j = 0;
+    while (i < indexes.length || j < rows) {
+      final int cmp = i == indexes.length ? 1
+          : j == rows ? -1 : compare(indexes[i], newIndexes[j]);
+      if (cmp < 0) {
+        removed[removedCount++] = indexes[i++];
+      }
+      else if (cmp > 0) {
+        added.add(order != null ? order[j] : j);
+        j++;
+      }
+      else {
+        int count = 0;
+        for (int column = 0; column < columns; column++) {
+          if (hashes[i * columns + column]
+              != newHashes[j * columns + column]) {
+            changedInRow[count++] = column;
+          }
+        }
+        if (count > 0) {
+          changedColumns[changed.size()] =
+              Arrays.copyOf(changedInRow, count);
+          changed.add(order != null ? order[j] : j);
+        }
+        i++;
+        j++;
+      }
+    }
+
+    this.columnCount = columns;
+    this.indexes = newIndexes;
+    this.hashes = newHashes;
+    return new SnmpTableChanges(table, added.toArray(), changed.toArray(),
+        Arrays.copyOf(changedColumns, changed.size()),
+        Arrays.copyOf(removed, removedCount));
+  }
+
+  /**
+   * Discards the state of this detector, so that all rows of the next
+   * table will be reported as added.
+   */
+  public void reset() {
+    columnCount = -1;
+    indexes = NO_INDEXES;
+    hashes = new long[0];
+  }
+
+  /**
+   * Gets the number of rows in the table of the previous poll.
+   * @return row count
+   */
+  public int getRowCount() {
+    return indexes.length;
+  }
+
+  /**
+   * Determines the order of the rows of a table by index.
+   * @return row numbers in index order, or {@code null} if the rows are
+   *    already in index order (as they are in a table retrieved by a walk)
+   */
+  private static int[] sortOrder(final SnmpTable table) {
+    final int rows = table.getRowCount();
+    boolean sorted = true;
+    for (int i = 1; i < rows && sorted; i++) {
+      sorted = compare(table.getIndex(i - 1), table.getIndex(i)) <= 0;
+    }
+    if (sorted) return null;
+    final Integer[] order = new Integer[rows];
+    for (int i = 0; i < rows; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        return SnmpTableChangeDetector.compare(table.getIndex(a),
+            table.getIndex(b));
+      }
+    });
+    final int[] result = new int[rows];
+    for (int i = 0; i < rows; i++) {
+      result[i] = order[i];
+    }
+    return result;
+  }
+
+  /**
+   * Compares two indexes in the lexicographic order of object identifiers.
+   */
+  private static int compare(int[] a, int[] b) {
+    final int length = Math.min(a.length, b.length);
+    for (int i = 0; i < length; i++) {
+      if (a[i] != b[i]) {
+        return Integer.compareUnsigned(a[i], b[i]);
+      }
+    }
+    return a.length - b.length;
+  }
+
+  private static void hashColumn(SnmpTable table, int column, int columns,
+      int[] order, long[] hashes) {
+    final SnmpTable.ColumnType type = table.getColumnType(column);
+    final int rows = table.getRowCount();
+    if (type == null) {
+      for (int i = 0; i < rows; i++) {
+        hashes[i * columns + column] = ABSENT;
+      }
+      return;
+    }
+    final long[] longs = type == SnmpTable.ColumnType.LONG ?
+        table.getLongColumn(column) : null;
+    final byte[][] bytes = type == SnmpTable.ColumnType.BYTES ?
+        table.getBytesColumn(column) : null;
+    final int[][] oids = type == SnmpTable.ColumnType.OID ?
+        table.getOidColumn(column) : null;
+    for (int i = 0; i < rows; i++) {
+      final int row = order != null ? order[i] : i;
+      if (!table.isPresent(row, column)) {
+        hashes[i * columns + column] = ABSENT;
+        continue;
+      }
+      long hash;
+      if (longs != null) {
+        hash = mix(longs[row] ^ 0x4c4f4e47L);
+      }
+      else if (bytes != null) {
+        hash = hash(bytes[row]);
+      }
+      else {
+        hash = hash(oids[row]);
+      }
+      hashes[i * columns + column] = hash == ABSENT ? 1 : hash;
+    }
+  }
+
+  private static long hash(byte[] value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : value) {
+      hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+    }
+    return mix(hash ^ value.length);
+  }
+
+  private static long hash(int[] value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int n : value) {
+      hash = (hash ^ (n & 0xffffffffL)) * FNV_PRIME;
+    }
+    return mix(~hash ^ value.length);
+  }
+
+  /**
+   * Scrambles the bits of a value (the finalizer of SplitMix64).
+   */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * A growable list of row numbers.
+   */
+  private static class RowList {
+
+    private int[] rows = NO_ROWS;
+    private int size;
+
+    void add(int row) {
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, Math.max(16, size * 2));
+      }
+      rows[size++] = row;
+    }
+
+    int size() {
+      return size;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(rows, size);
+    }
+
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * The differences between a table and the table retrieved by the previous
+ * poll, as reported by a {@link SnmpTableChangeDetector}.
+ * <p>
+ * Added and changed rows are identified by their row numbers in the
+ * current {@linkplain #getTable() table}; removed rows, which no longer
+ * exist in the table, are identified by their indexes.
+ *
+ * @author Carl Harris
+ */
+public final class SnmpTableChanges {
+
+  private final SnmpTable table;
+  private final int[] addedRows;
+  private final int[] changedRows;
+  private final int[][] changedColumns;
+  private final int[][] removedIndexes;
+
+  SnmpTableChanges(SnmpTable table, int[] addedRows, int[] changedRows,
+      int[][] changedColumns, int[][] removedIndexes) {
+    this.table = table;
+    this.addedRows = addedRows;
+    this.changedRows = changedRows;
+    this.changedColumns = changedColumns;
+    this.removedIndexes = removedIndexes;
+  }
+
+  /**
+   * Gets the table to which the added and changed row numbers refer.
+   * @return table
+   */
+  public SnmpTable getTable() {
+    return table;
+  }
+
+  /**
+   * Gets the rows that were not present in the previous poll.
+   * @return row numbers in ascending index order
+   */
+  public int[] getAddedRows() {
+    return addedRows;
+  }
+
+  /**
+   * Gets the rows in which the value of at least one column has changed
+   * since the previous poll.
+   * @return row numbers in ascending index order
+   */
+  public int[] getChangedRows() {
+    return changedRows;
+  }
+
+  /**
+   * Gets the columns that changed in each of the
+   * {@linkplain #getChangedRows() changed rows}.
+   * @return array parallel to the changed row numbers, whose elements are
+   *    the numbers of the columns that changed in the corresponding row
+   */
+  public int[][] getChangedColumns() {
+    return changedColumns;
+  }
+
+  /**
+   * Gets the indexes of the rows that were present in the previous poll,
+   * but are no longer present.
+   * @return row indexes in ascending order
+   */
+  public int[][] getRemovedIndexes() {
+    return removedIndexes;
+  }
+
+  /**
+   * Tests whether the table is unchanged since the previous poll.
+   * @return {@code true} if no rows were added, changed, or removed
+   */
+  public boolean isEmpty() {
+    return addedRows.length == 0 && changedRows.length == 0
+        && removedIndexes.length == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "added=" + addedRows.length + ", changed=" + changedRows.length
+        + ", removed=" + removedIndexes.length;
+  }
+
+}
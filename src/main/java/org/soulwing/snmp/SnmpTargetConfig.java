@@ -38,6 +38,35 @@ public interface SnmpTargetConfig extends Cloneable {
    * @return timeout in milliseconds
    */
   long getTimeout();
+
+  /**
+   * Gets the maximum interval of time that may elapse over the course of
+   * an entire SNMP operation.
+   * <p>
+   * Whereas the {@linkplain #getTimeout() timeout} applies to each request
+   * that is sent to the target agent, the operation timeout bounds the total
+   * time spent on an operation, including all retries and (for a walk) all
+   * of the follow-on requests needed to retrieve the table.  When the
+   * deadline is reached, any outstanding request is cancelled and the
+   * operation fails with a {@link TimeoutException}.
+   * @return operation timeout in milliseconds; a value of zero indicates
+   *    that operations are not bounded by a deadline; the default
+   *    implementation returns {@link SnmpDefaults#OPERATION_TIMEOUT}
+   */
+  default long getOperationTimeout() {
+    return SnmpDefaults.OPERATION_TIMEOUT;
+  }
+
+  /**
+   * Gets the policy used to hedge GET and GETNEXT requests sent to the
+   * target agent.
+   * @return hedging policy or {@code null} if requests should not be hedged;
+   *    the default implementation returns
+   *    {@link SnmpDefaults#HEDGING_POLICY}
+   */
+  default HedgingPolicy getHedgingPolicy() {
+    return SnmpDefaults.HEDGING_POLICY;
+  }
   
   /**
    * Gets the maximum repetitions for repeating OIDs in a call to a walk
@@ -74,6 +103,28 @@ public interface SnmpTargetConfig extends Cloneable {
    */
   boolean isWalkAllowsTruncatedRepetition();
   
+  /**
+   * Gets the number of times a walk operation may resume after a request
+   * fails.
+   * <p>
+   * When a request sent during a walk times out (after all configured
+   * {@linkplain #getRetries() retries}) or fails in the transport, the
+   * walk normally terminates with an exception, discarding the progress
+   * made in a long walk.  A walk that is allowed to resume instead sends
+   * the failed request again, continuing from the last object received for
+   * each repeating column.  A response in which the agent indicates an
+   * error is never retried.  This value bounds the number of consecutive
+   * resumes; it is reset each time a response is successfully received.
+   * A walk never resumes once its
+   * {@linkplain #getOperationTimeout() operation timeout} has expired.
+   * @return maximum number of consecutive resumes; zero indicates that a
+   *    walk fails on the first failed request; the default implementation
+   *    returns {@link SnmpDefaults#WALK_MAX_RESUMES}
+   */
+  default int getWalkMaxResumes() {
+    return SnmpDefaults.WALK_MAX_RESUMES;
+  }
+  
   /**
    * Creates a clone of this configuration.
    * @return configuration clone
@@ -36,4 +36,19 @@ public interface SnmpWalker<V> {
    */
   SnmpResponse<V> next();
 
+  /**
+   * Gets a checkpoint from which a new walker can continue this walk.
+   * <p>
+   * The checkpoint follows the last row returned by {@link #next()}; rows
+   * that were retrieved from the agent but not yet returned are retrieved
+   * again by a walker that continues from the checkpoint.
+   * <p>
+   * When a walk ends because of the bounds specified by {@link WalkOptions},
+   * the checkpoint can be used to continue with the rows that follow
+   * (without the bounds).
+   * @return checkpoint or {@code null} if this walker has reached the
+   *    end of the table
+   */
+  WalkCheckpoint getCheckpoint();
+
 }
@@ -0,0 +1,129 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * A cell of a table presented to a {@link WalkVisitor}.
+ * <p>
+ * A cell is a flyweight that is reused for each cell of a walk.  Its
+ * numeric and byte accessors simply expose the decoded value; the MIB is
+ * consulted only by {@link #getName()} and {@link #asString()}, and only
+ * {@link #toVarbind()} creates an object that outlives the visit.
+ *
+ * @author Carl Harris
+ */
+public interface WalkCell {
+
+  /**
+   * Gets the row number of this cell.
+   * @return row number (starting at zero) in the order the rows were
+   *    retrieved
+   */
+  int getRow();
+
+  /**
+   * Gets the column number of this cell.
+   * @return column number, corresponding to the order of the columns
+   *    requested for the walk
+   */
+  int getColumn();
+
+  /**
+   * Gets the number of sub-identifiers in the index of this cell.
+   * @return index length
+   */
+  int getIndexLength();
+
+  /**
+   * Gets a sub-identifier of the index of this cell.
+   * @param i position of the sub-identifier ({@code 0} to
+   *    {@link #getIndexLength()} - 1)
+   * @return sub-identifier (an unsigned 32-bit value stored in an
+   *    {@code int})
+   */
+  int getIndex(int i);
+
+  /**
+   * Gets a copy of the index of this cell.
+   * @return array of sub-identifiers
+   */
+  int[] getIndex();
+
+  /**
+   * Gets the index of this cell in dotted-decimal form.
+   * @return index string
+   */
+  String getIndexString();
+
+  /**
+   * Gets the SMI syntax identifier of the value of this cell.
+   * @return syntax identifier
+   */
+  int getSyntax();
+
+  /**
+   * Gets the value of this cell as an integer.
+   * @return integer value
+   * @throws IllegalStateException if the value is not numeric
+   */
+  int asInt();
+
+  /**
+   * Gets the value of this cell as a long integer.
+   * <p>
+   * Unsigned 64-bit counter values greater than {@link Long#MAX_VALUE} are
+   * represented as negative numbers.
+   * @return long integer value
+   * @throws IllegalStateException if the value is not numeric
+   */
+  long asLong();
+
+  /**
+   * Gets the value of this cell as an array of bytes.
+   * <p>
+   * For an octet string, the returned array may be the decoded value
+   * itself; it must not be modified, and is valid only for the duration of
+   * the visit.
+   * @return bytes of an octet string, IP address, or opaque value
+   * @throws IllegalStateException if the value is not of one of these types
+   */
+  byte[] getBytes();
+
+  /**
+   * Gets the value of this cell formatted according to the MIB definition
+   * of its column.
+   * @return formatted value
+   */
+  String asString();
+
+  /**
+   * Gets the MIB name of this cell, suffixed by its index.
+   * @return instance name
+   */
+  String getName();
+
+  /**
+   * Creates a varbind that represents this cell.
+   * <p>
+   * Unlike the cell itself, the varbind remains valid after the visit.
+   * @return varbind
+   */
+  Varbind toVarbind();
+
+}
@@ -0,0 +1,136 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The position reached by a walk, from which a new walk can continue.
+ * <p>
+ * A checkpoint records the OIDs of the non-repeating objects and repeating
+ * columns originally requested, along with the OID of the last instance
+ * of each column that was returned by the walker.  All OIDs are recorded in
+ * dotted-decimal form, so that a checkpoint can be persisted (it is also
+ * {@link Serializable}) and used later to continue the walk using
+ * {@link SnmpOperations#walk(WalkCheckpoint)}, perhaps after a restart or
+ * an extended loss of connectivity to the agent.
+ * <pre>
+ * SnmpWalker&lt;VarbindCollection&gt; walker = context.walk(columns);
+ * ...
+ * WalkCheckpoint checkpoint = walker.getCheckpoint();
+ * ...
+ * walker = context.walk(checkpoint);
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public final class WalkCheckpoint implements Serializable {
+
+  private static final long serialVersionUID = -4102869113925630748L;
+
+  private final List<String> nonRepeaters;
+  private final List<String> repeaters;
+  private final List<String> nextOids;
+
+  /**
+   * Constructs a new instance.
+   * @param nonRepeaters OIDs of the requested non-repeating objects
+   * @param repeaters OIDs of the requested repeating columns
+   * @param nextOids OIDs from which each of the repeating columns is to be
+   *    continued; there must be exactly one for each repeating column
+   * @throws IllegalArgumentException if {@code repeaters} is empty or
+   *    {@code nextOids} is not of the same size as {@code repeaters}
+   */
+  public WalkCheckpoint(List<String> nonRepeaters, List<String> repeaters,
+      List<String> nextOids) {
+    if (repeaters.isEmpty()) {
+      throw new IllegalArgumentException("must have at least one repeater");
+    }
+    if (nextOids.size() != repeaters.size()) {
+      throw new IllegalArgumentException("must have one next OID for each "
+          + "of " + repeaters.size() + " repeaters");
+    }
+    this.nonRepeaters = Collections.unmodifiableList(
+        new ArrayList<String>(nonRepeaters));
+    this.repeaters = Collections.unmodifiableList(
+        new ArrayList<String>(repeaters));
+    this.nextOids = Collections.unmodifiableList(
+        new ArrayList<String>(nextOids));
+  }
+
+  /**
+   * Gets the OIDs of the requested non-repeating objects.
+   * @return list of OIDs (possibly empty)
+   */
+  public List<String> getNonRepeaters() {
+    return nonRepeaters;
+  }
+
+  /**
+   * Gets the OIDs of the requested repeating columns.
+   * @return list of OIDs
+   */
+  public List<String> getRepeaters() {
+    return repeaters;
+  }
+
+  /**
+   * Gets the OIDs from which the repeating columns are to be continued.
+   * @return list of OIDs corresponding to the elements of
+   *    {@link #getRepeaters()}
+   */
+  public List<String> getNextOids() {
+    return nextOids;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (!(obj instanceof WalkCheckpoint)) return false;
+    final WalkCheckpoint that = (WalkCheckpoint) obj;
+    return nonRepeaters.equals(that.nonRepeaters)
+        && repeaters.equals(that.repeaters)
+        && nextOids.equals(that.nextOids);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    return 31 * (31 * nonRepeaters.hashCode() + repeaters.hashCode())
+        + nextOids.hashCode();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "WalkCheckpoint [nonRepeaters=" + nonRepeaters
+        + ", repeaters=" + repeaters + ", nextOids=" + nextOids + "]";
+  }
+
+}
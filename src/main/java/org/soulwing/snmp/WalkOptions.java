@@ -0,0 +1,131 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import java.util.regex.Pattern;
+
+/**
+ * Options that bound the rows visited by a walk.
+ * <p>
+ * By default, a walk visits every row of a table.  The options allow a walk
+ * to visit only a range of rows, identified by the values of the index
+ * objects of the table, and to stop after a given number of rows.  For
+ * example, to retrieve at most 500 rows, starting after the row whose index
+ * is 1000:
+ * <pre>
+ * WalkOptions options = new WalkOptions();
+ * options.setStartIndex("1000");
+ * options.setMaxRows(500);
+ * SnmpWalker&lt;VarbindCollection&gt; walker =
+ *     context.walk(options, "ifName", "ifDescr");
+ * </pre>
+ * Indexes are specified as dotted-decimal instance identifiers (the part of
+ * an object instance OID that follows the OID of its column) and are
+ * compared with the instances of each column in lexicographic order.  A walk stops as soon as it can
+ * determine that no more rows are wanted, and when the number of rows is
+ * bounded, the walker limits the number of repetitions it requests so that
+ * no unwanted rows are retrieved.
+ *
+ * @author Carl Harris
+ */
+public class WalkOptions {
+
+  private static final Pattern INDEX_PATTERN =
+      Pattern.compile("^[0-9]+(\\.[0-9]+)*$");
+
+  private String startIndex;
+  private String endIndex;
+  private long maxRows;
+
+  /**
+   * Gets the index of the row that precedes the first row to be visited.
+   * @return dotted-decimal index or {@code null} to start with the first
+   *    row of the table
+   */
+  public String getStartIndex() {
+    return startIndex;
+  }
+
+  /**
+   * Sets the index of the row that precedes the first row to be visited.
+   * <p>
+   * Since a walk retrieves the successor of each requested OID, the row
+   * with the given index (if any) is not visited.
+   * @param startIndex the dotted-decimal index to set or {@code null} to
+   *    start with the first row of the table
+   * @throws IllegalArgumentException if the index is not in dotted-decimal
+   *    form
+   */
+  public void setStartIndex(String startIndex) {
+    this.startIndex = validateIndex(startIndex);
+  }
+
+  /**
+   * Gets the index of the last row to be visited.
+   * @return dotted-decimal index or {@code null} to continue to the end of
+   *    the table
+   */
+  public String getEndIndex() {
+    return endIndex;
+  }
+
+  /**
+   * Sets the index of the last row to be visited.
+   * <p>
+   * The walk ends with the last row whose index does not follow the given
+   * index; the row with the given index need not exist.
+   * @param endIndex the dotted-decimal index to set or {@code null} to
+   *    continue to the end of the table
+   * @throws IllegalArgumentException if the index is not in dotted-decimal
+   *    form
+   */
+  public void setEndIndex(String endIndex) {
+    this.endIndex = validateIndex(endIndex);
+  }
+
+  /**
+   * Gets the maximum number of rows to be visited.
+   * @return row limit or zero if the number of rows is not limited
+   */
+  public long getMaxRows() {
+    return maxRows;
+  }
+
+  /**
+   * Sets the maximum number of rows to be visited.
+   * @param maxRows the row limit to set or zero if the number of rows is
+   *    not to be limited
+   * @throws IllegalArgumentException if {@code maxRows} is negative
+   */
+  public void setMaxRows(long maxRows) {
+    if (maxRows < 0) {
+      throw new IllegalArgumentException("maxRows must be non-negative");
+    }
+    this.maxRows = maxRows;
+  }
+
+  private static String validateIndex(String index) {
+    if (index != null && !INDEX_PATTERN.matcher(index).matches()) {
+      throw new IllegalArgumentException(
+          "index must be in dotted-decimal form: " + index);
+    }
+    return index;
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+/**
+ * A visitor that receives the cells of a table as they are retrieved by a
+ * walk.
+ * <p>
+ * A visitor walk avoids creating a {@link VarbindCollection} (and its
+ * varbinds and index objects) for each row; instead, each cell is presented
+ * to the visitor using a single {@link WalkCell} that is reused for every
+ * cell of the walk.  The cells of a row are visited in column order, and
+ * the rows are visited in the order they are retrieved.
+ * <pre>
+ * context.visitTable(new WalkVisitor() {
+ *   public boolean visitCell(WalkCell cell) {
+ *     producer.send(cell.getColumn(), cell.getIndexString(), cell.asLong());
+ *     return true;
+ *   }
+ * }, "ifInOctets", "ifOutOctets").get();
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public interface WalkVisitor {
+
+  /**
+   * Visits a cell of the table.
+   * <p>
+   * The given cell (and any array it returns) is valid only for the
+   * duration of this call.
+   * @param cell the cell to visit
+   * @return {@code true} to continue the walk or {@code false} to end the
+   *    walk after the current row
+   */
+  boolean visitCell(WalkCell cell);
+
+}
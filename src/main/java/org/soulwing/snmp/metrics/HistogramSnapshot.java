@@ -0,0 +1,95 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+/**
+ * An immutable snapshot of a {@link LatencyHistogram}.
+ * <p>
+ * All durations reported by a snapshot are in microseconds.
+ *
+ * @author Carl Harris
+ */
+public final class HistogramSnapshot {
+
+  private final long[] counts;
+  private final long count;
+  private final long sum;
+  private final long max;
+
+  HistogramSnapshot(long[] counts, long count, long sum, long max) {
+    this.counts = counts;
+    this.count = count;
+    this.sum = sum;
+    this.max = max;
+  }
+
+  /**
+   * Gets the number of recorded values.
+   * @return count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the mean of the recorded values.
+   * @return mean duration in microseconds or zero if no values have been
+   *    recorded
+   */
+  public double getMean() {
+    return count == 0 ? 0 : (double) sum / count;
+  }
+
+  /**
+   * Gets the largest recorded value.
+   * @return maximum duration in microseconds
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Gets the value at the given percentile.
+   * <p>
+   * The returned value is the upper bound of the bucket that contains the
+   * requested percentile (but never more than the largest recorded value).
+   * @param percentile percentile in the range [0, 1]
+   * @return duration in microseconds or zero if no values have been recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (count == 0) return 0;
+    final long rank = Math.max(1, (long) Math.ceil(percentile * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(max, LatencyHistogram.bucketUpperBound(i));
+      }
+    }
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d, mean=%.1f, p50=%d, p99=%d, max=%d",
+        count, getMean(), getValueAtPercentile(0.5),
+        getValueAtPercentile(0.99), max);
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations with a fixed set of buckets.
+ * <p>
+ * Durations are recorded with microsecond resolution into log-linear
+ * buckets: each power of two is divided into {@value #SUB_BUCKET_COUNT}
+ * linear sub-buckets, so that any recorded value is reported with a
+ * relative error of no more than 12.5%.  Durations longer than about 19
+ * hours are recorded in the last bucket.
+ * <p>
+ * Recording a value costs a few atomic increments and never allocates.
+ *
+ * @author Carl Harris
+ */
+public final class LatencyHistogram {
+
+  static final int SUB_BUCKET_BITS = 3;
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  static final int MAX_EXPONENT = 36;
+  static final int BUCKET_COUNT = bucketIndex((1L << (MAX_EXPONENT + 1)) - 1) + 1;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a duration.
+   * @param nanos duration in nanoseconds
+   */
+  public void record(long nanos) {
+    final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    buckets.incrementAndGet(bucketIndex(micros));
+    sum.add(micros);
+    long current = max.get();
+    while (micros > current && !max.compareAndSet(current, micros)) {
+      current = max.get();
+    }
+  }
+
+  /**
+   * Creates a snapshot of the current state of this histogram.
+   * <p>
+   * Because values may be recorded concurrently, the snapshot is not
+   * guaranteed to be perfectly consistent, but each of its values reflects
+   * all recordings that completed before the snapshot was started.
+   * @return snapshot
+   */
+  public HistogramSnapshot snapshot() {
+    final long[] counts = new long[BUCKET_COUNT];
+    long total = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    return new HistogramSnapshot(counts, total, sum.sum(), max.get());
+  }
+
+  static int bucketIndex(long micros) {
+    if (micros < SUB_BUCKET_COUNT) return (int) micros;
+    final int exponent = Math.min(MAX_EXPONENT,
+        63 - Long.numberOfLeadingZeros(micros));
+    final int subBucket = exponent < MAX_EXPONENT ?
+        (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1)
+        : SUB_BUCKET_COUNT - 1;
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketLowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) return index;
+    final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    final int subBucket = index % SUB_BUCKET_COUNT;
+    return (long) (SUB_BUCKET_COUNT + subBucket)
+        << (exponent - SUB_BUCKET_BITS);
+  }
+
+  static long bucketUpperBound(int index) {
+    return bucketLowerBound(index + 1) - 1;
+  }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics for a single type of operation performed on a single target.
+ * <p>
+ * Two levels of activity are measured.  <em>Request</em> metrics describe
+ * the protocol data units exchanged with the agent: each PDU sent
+ * (including retries and hedged duplicates), each response received and
+ * its round trip time, and each request that ultimately timed out.
+ * <em>Operation</em> metrics describe operations as seen by the caller:
+ * the number of operations that completed successfully or failed, and the
+ * time taken to complete each of them (for a walk, the time from the first
+ * request until the end of the table was reached, along with the number
+ * of rows retrieved).
+ * <p>
+ * All counters are lock-free and recording never allocates.
+ *
+ * @author Carl Harris
+ */
+public final class OperationMetrics {
+
+  private final OperationType type;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder hedges = new LongAdder();
+  private final LongAdder responses = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder inFlight = new LongAdder();
+  private final LatencyHistogram roundTripTime = new LatencyHistogram();
+
+  private final LongAdder operations = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder rows = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  /**
+   * Constructs a new instance.
+   * @param type operation type
+   */
+  public OperationMetrics(OperationType type) {
+    this.type = type;
+  }
+
+  /**
+   * Gets the type of operation described by these metrics.
+   * @return operation type
+   */
+  public OperationType getType() {
+    return type;
+  }
+
+  /**
+   * Records the start of a request.
+   */
+  public void requestStarted() {
+    inFlight.increment();
+  }
+
+  /**
+   * Records that a request PDU was sent.
+   */
+  public void requestSent() {
+    requests.increment();
+  }
+
+  /**
+   * Records that a request PDU was sent again after a timeout.
+   */
+  public void retrySent() {
+    requests.increment();
+    retries.increment();
+  }
+
+  /**
+   * Records that a duplicate (hedged) request PDU was sent.
+   */
+  public void hedgeSent() {
+    requests.increment();
+    hedges.increment();
+  }
+
+  /**
+   * Records that a response was received for a request.
+   * @param roundTripNanos time since the answered PDU was sent (in
+   *    nanoseconds)
+   */
+  public void responseReceived(long roundTripNanos) {
+    responses.increment();
+    roundTripTime.record(roundTripNanos);
+    inFlight.decrement();
+  }
+
+  /**
+   * Records that no response was received for a request after all retries
+   * were exhausted.
+   */
+  public void requestTimedOut() {
+    timeouts.increment();
+    inFlight.decrement();
+  }
+
+  /**
+   * Records that a request failed for some reason other than a timeout
+   * (e.g. an I/O error).
+   */
+  public void requestFailed() {
+    inFlight.decrement();
+  }
+
+  /**
+   * Records the completion of an operation.
+   * @param nanos time taken to complete the operation (in nanoseconds)
+   * @param success {@code true} if the operation completed successfully
+   */
+  public void operationCompleted(long nanos, boolean success) {
+    operations.increment();
+    if (!success) {
+      failures.increment();
+    }
+    latency.record(nanos);
+  }
+
+  /**
+   * Records rows retrieved by a walk.
+   * @param count number of rows
+   */
+  public void rowsRetrieved(long count) {
+    rows.add(count);
+  }
+
+  /**
+   * Gets the number of request PDUs sent, including retries and hedges.
+   * @return request count
+   */
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  /**
+   * Gets the number of request PDUs that were retries.
+   * @return retry count
+   */
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  /**
+   * Gets the number of request PDUs that were hedged duplicates.
+   * @return hedge count
+   */
+  public long getHedges() {
+    return hedges.sum();
+  }
+
+  /**
+   * Gets the number of responses received.
+   * @return response count
+   */
+  public long getResponses() {
+    return responses.sum();
+  }
+
+  /**
+   * Gets the number of requests that timed out after all retries.
+   * @return timeout count
+   */
+  public long getTimeouts() {
+    return timeouts.sum();
+  }
+
+  /**
+   * Gets the number of requests awaiting a response.
+   * @return in-flight request count
+   */
+  public long getInFlight() {
+    return inFlight.sum();
+  }
+
+  /**
+   * Gets a snapshot of the distribution of request round trip times.
+   * @return histogram snapshot (microseconds)
+   */
+  public HistogramSnapshot getRoundTripTime() {
+    return roundTripTime.snapshot();
+  }
+
+  /**
+   * Gets the number of operations completed (successfully or not).
+   * @return operation count
+   */
+  public long getOperations() {
+    return operations.sum();
+  }
+
+  /**
+   * Gets the number of operations that failed.
+   * @return failure count
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  /**
+   * Gets the number of rows retrieved by walks.
+   * @return row count
+   */
+  public long getRows() {
+    return rows.sum();
+  }
+
+  /**
+   * Gets a snapshot of the distribution of operation completion times.
+   * @return histogram snapshot (microseconds)
+   */
+  public HistogramSnapshot getLatency() {
+    return latency.snapshot();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: requests=%d, retries=%d, hedges=%d, "
+        + "responses=%d, timeouts=%d, inFlight=%d, operations=%d, "
+        + "failures=%d, rows=%d, rtt=[%s], latency=[%s]", type,
+        getRequests(), getRetries(), getHedges(), getResponses(),
+        getTimeouts(), getInFlight(), getOperations(), getFailures(),
+        getRows(), getRoundTripTime(), getLatency());
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+/**
+ * An {@link OperationMetricsMXBean} that delegates to an
+ * {@link OperationMetrics} instance.
+ *
+ * @author Carl Harris
+ */
+class OperationMetricsMBean implements OperationMetricsMXBean {
+
+  private final OperationMetrics delegate;
+
+  OperationMetricsMBean(OperationMetrics delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public long getRequests() {
+    return delegate.getRequests();
+  }
+
+  @Override
+  public long getRetries() {
+    return delegate.getRetries();
+  }
+
+  @Override
+  public long getHedges() {
+    return delegate.getHedges();
+  }
+
+  @Override
+  public long getResponses() {
+    return delegate.getResponses();
+  }
+
+  @Override
+  public long getTimeouts() {
+    return delegate.getTimeouts();
+  }
+
+  @Override
+  public long getInFlight() {
+    return delegate.getInFlight();
+  }
+
+  @Override
+  public double getRoundTripTimeMean() {
+    return delegate.getRoundTripTime().getMean();
+  }
+
+  @Override
+  public long getRoundTripTime50thPercentile() {
+    return delegate.getRoundTripTime().getValueAtPercentile(0.5);
+  }
+
+  @Override
+  public long getRoundTripTime99thPercentile() {
+    return delegate.getRoundTripTime().getValueAtPercentile(0.99);
+  }
+
+  @Override
+  public long getRoundTripTime999thPercentile() {
+    return delegate.getRoundTripTime().getValueAtPercentile(0.999);
+  }
+
+  @Override
+  public long getRoundTripTimeMax() {
+    return delegate.getRoundTripTime().getMax();
+  }
+
+  @Override
+  public long getOperations() {
+    return delegate.getOperations();
+  }
+
+  @Override
+  public long getFailures() {
+    return delegate.getFailures();
+  }
+
+  @Override
+  public long getRows() {
+    return delegate.getRows();
+  }
+
+  @Override
+  public double getLatencyMean() {
+    return delegate.getLatency().getMean();
+  }
+
+  @Override
+  public long getLatency50thPercentile() {
+    return delegate.getLatency().getValueAtPercentile(0.5);
+  }
+
+  @Override
+  public long getLatency99thPercentile() {
+    return delegate.getLatency().getValueAtPercentile(0.99);
+  }
+
+  @Override
+  public long getLatency999thPercentile() {
+    return delegate.getLatency().getValueAtPercentile(0.999);
+  }
+
+  @Override
+  public long getLatencyMax() {
+    return delegate.getLatency().getMax();
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+/**
+ * A management interface for {@link OperationMetrics}.
+ * <p>
+ * All durations are in microseconds.
+ *
+ * @author Carl Harris
+ */
+public interface OperationMetricsMXBean {
+
+  long getRequests();
+
+  long getRetries();
+
+  long getHedges();
+
+  long getResponses();
+
+  long getTimeouts();
+
+  long getInFlight();
+
+  double getRoundTripTimeMean();
+
+  long getRoundTripTime50thPercentile();
+
+  long getRoundTripTime99thPercentile();
+
+  long getRoundTripTime999thPercentile();
+
+  long getRoundTripTimeMax();
+
+  long getOperations();
+
+  long getFailures();
+
+  long getRows();
+
+  double getLatencyMean();
+
+  long getLatency50thPercentile();
+
+  long getLatency99thPercentile();
+
+  long getLatency999thPercentile();
+
+  long getLatencyMax();
+
+}
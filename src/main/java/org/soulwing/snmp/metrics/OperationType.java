@@ -0,0 +1,44 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+/**
+ * An enumeration of the types of SNMP operations for which metrics are
+ * recorded.
+ *
+ * @author Carl Harris
+ */
+public enum OperationType {
+
+  /** SNMP GET */
+  GET,
+
+  /** SNMP GETNEXT */
+  GETNEXT,
+
+  /** SNMP GETBULK */
+  GETBULK,
+
+  /** SNMP SET */
+  SET,
+
+  /** a walk, comprised of one or more GETBULK requests */
+  WALK;
+
+}
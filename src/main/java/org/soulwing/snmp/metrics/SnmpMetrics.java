@@ -0,0 +1,173 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A registry of metrics for the targets of SNMP operations.
+ * <p>
+ * Metrics are recorded for each target with which a context has been
+ * created, broken down by {@linkplain OperationType operation type}.  The
+ * registry may optionally publish the metrics for each target and operation
+ * type as an {@link OperationMetricsMXBean} on an {@link MBeanServer}.
+ *
+ * @author Carl Harris
+ */
+public class SnmpMetrics {
+
+  /**
+   * Default domain for the names of published MBeans.
+   */
+  public static final String DEFAULT_DOMAIN = "org.soulwing.snmp";
+
+  private static final AtomicInteger instanceCount = new AtomicInteger();
+
+  private final ConcurrentMap<String, TargetMetrics> targets =
+      new ConcurrentHashMap<>();
+
+  private final int instance = instanceCount.incrementAndGet();
+
+  private volatile MBeanServer server;
+  private volatile String domain;
+
+  /**
+   * Gets the metrics for a target, creating them if necessary.
+   * @param name target name (typically of the form {@code address:port})
+   * @return target metrics
+   */
+  public TargetMetrics forTarget(String name) {
+    TargetMetrics metrics = targets.get(name);
+    if (metrics != null) return metrics;
+    metrics = new TargetMetrics(name);
+    final TargetMetrics existing = targets.putIfAbsent(name, metrics);
+    if (existing != null) return existing;
+    final MBeanServer server = this.server;
+    if (server != null) {
+      registerMBeans(server, metrics);
+    }
+    return metrics;
+  }
+
+  /**
+   * Gets the metrics for all targets.
+   * @return collection of target metrics
+   */
+  public Collection<TargetMetrics> getTargets() {
+    return Collections.unmodifiableCollection(
+        new ArrayList<>(targets.values()));
+  }
+
+  /**
+   * Removes the metrics for a target.
+   * <p>
+   * Any context that is still using the target will continue to record
+   * metrics in the removed instance, but they will no longer be visible
+   * in this registry.
+   * @param name target name
+   */
+  public void remove(String name) {
+    final TargetMetrics metrics = targets.remove(name);
+    final MBeanServer server = this.server;
+    if (metrics != null && server != null) {
+      unregisterMBeans(server, metrics);
+    }
+  }
+
+  /**
+   * Publishes the metrics for all targets (including targets added after
+   * this method is invoked) as MBeans.
+   * @param server the server on which to register the MBeans
+   * @param domain domain for the names of the registered MBeans
+   */
+  public synchronized void registerMBeans(MBeanServer server, String domain) {
+    if (this.server != null) {
+      throw new IllegalStateException("MBeans are already registered");
+    }
+    this.domain = domain;
+    this.server = server;
+    for (TargetMetrics metrics : targets.values()) {
+      registerMBeans(server, metrics);
+    }
+  }
+
+  /**
+   * Removes all MBeans registered by {@link #registerMBeans}.
+   */
+  public synchronized void unregisterMBeans() {
+    final MBeanServer server = this.server;
+    if (server == null) return;
+    this.server = null;
+    for (TargetMetrics metrics : targets.values()) {
+      unregisterMBeans(server, metrics);
+    }
+  }
+
+  private void registerMBeans(MBeanServer server, TargetMetrics metrics) {
+    try {
+      for (OperationMetrics operation : metrics.getOperations()) {
+        final ObjectName name = objectName(metrics, operation);
+        if (!server.isRegistered(name)) {
+          server.registerMBean(new OperationMetricsMBean(operation), name);
+        }
+      }
+    }
+    catch (JMException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private void unregisterMBeans(MBeanServer server, TargetMetrics metrics) {
+    try {
+      for (OperationMetrics operation : metrics.getOperations()) {
+        final ObjectName name = objectName(metrics, operation);
+        if (server.isRegistered(name)) {
+          server.unregisterMBean(name);
+        }
+      }
+    }
+    catch (JMException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private ObjectName objectName(TargetMetrics metrics,
+      OperationMetrics operation) throws JMException {
+    return new ObjectName(domain + ":type=Metrics,instance=" + instance
+        + ",target=" + ObjectName.quote(metrics.getName())
+        + ",operation=" + operation.getType());
+  }
+
+  @Override
+  public String toString() {
+    final List<TargetMetrics> list = new ArrayList<>(targets.values());
+    return list.toString();
+  }
+
+}
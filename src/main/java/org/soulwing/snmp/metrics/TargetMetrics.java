@@ -0,0 +1,81 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Metrics for the operations performed on a single target agent.
+ *
+ * @author Carl Harris
+ */
+public final class TargetMetrics {
+
+  private static final OperationType[] TYPES = OperationType.values();
+
+  private final String name;
+  private final OperationMetrics[] operations =
+      new OperationMetrics[TYPES.length];
+
+  /**
+   * Constructs a new instance.
+   * @param name name of the target (typically of the form
+   *    {@code address:port})
+   */
+  public TargetMetrics(String name) {
+    this.name = name;
+    for (int i = 0; i < TYPES.length; i++) {
+      operations[i] = new OperationMetrics(TYPES[i]);
+    }
+  }
+
+  /**
+   * Gets the name of the target.
+   * @return target name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the metrics for a given type of operation.
+   * @param type operation type
+   * @return operation metrics
+   */
+  public OperationMetrics get(OperationType type) {
+    return operations[type.ordinal()];
+  }
+
+  /**
+   * Gets the metrics for all types of operations.
+   * @return list of operation metrics, in the order of the constants of
+   *    {@link OperationType}
+   */
+  public List<OperationMetrics> getOperations() {
+    return Collections.unmodifiableList(Arrays.asList(operations));
+  }
+
+  @Override
+  public String toString() {
+    return name + Arrays.toString(operations);
+  }
+
+}
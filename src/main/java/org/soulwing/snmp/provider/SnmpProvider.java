@@ -19,6 +19,7 @@ package org.soulwing.snmp.provider;
 
 import org.soulwing.snmp.Mib;
 import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpFactory;
 import org.soulwing.snmp.SnmpFactoryConfig;
 import org.soulwing.snmp.SnmpListener;
 import org.soulwing.snmp.SnmpTarget;
@@ -46,6 +47,20 @@ public interface SnmpProvider {
    */
   void init(SnmpFactoryConfig config);
 
+  /**
+   * Initializes this provider instance for the factory that owns it.
+   * <p>
+   * This method is invoked by the factory in place of
+   * {@link #init(SnmpFactoryConfig)}, so that a provider can make use of
+   * the factory's resources (e.g. its metrics registry) rather than those
+   * of the singleton factory.  The default implementation invokes
+   * {@link #init(SnmpFactoryConfig)} with the factory's configuration.
+   * @param factory the factory that owns this provider
+   */
+  default void init(SnmpFactory factory) {
+    init(factory.getFactoryConfig());
+  }
+
   /**
    * Creates a new SNMP context.
    * @param target target agent
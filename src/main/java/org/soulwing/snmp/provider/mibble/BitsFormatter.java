@@ -23,12 +23,31 @@ import net.percederberg.mibble.MibValueSymbol;
 
 class BitsFormatter implements Formatter {
 
-  private final MibValueSymbol[] symbols;
+  private final long[] values;
+  private final String[] names;
   
   public BitsFormatter(MibValueSymbol[] symbols) {
-    this.symbols = symbols;
+    this.values = new long[symbols.length];
+    this.names = new String[symbols.length];
+    for (int i = 0; i < symbols.length; i++) {
+      values[i] = ((Number) symbols[i].getValue().toObject()).longValue();
+      names[i] = symbols[i].getName();
+    }
   }
-  
+
+  BitsFormatter(long[] values, String[] names) {
+    this.values = values;
+    this.names = names;
+  }
+
+  long[] getValues() {
+    return values;
+  }
+
+  String[] getNames() {
+    return names;
+  }
+
   public String format(Object obj) {
     byte[] value = (byte[]) obj;
     StringBuilder sb = new StringBuilder();
@@ -49,9 +68,9 @@ class BitsFormatter implements Formatter {
   }
 
   private String findName(int value) {
-    for (int i = 0; i < symbols.length; i++) {
-      if (symbols[i].getValue().toObject().equals(value)) {
-        return symbols[i].getName();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == value) {
+        return names[i];
       }
     }
     return "UNDEFINED(" + value + ")";
@@ -20,32 +20,87 @@ package org.soulwing.snmp.provider.mibble;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import net.percederberg.mibble.Mib;
+import net.percederberg.mibble.MibImport;
 import net.percederberg.mibble.MibLoader;
 import net.percederberg.mibble.MibLoaderException;
 
 /**
  * A {@link MibRepository} that caches and reuses loaded MIB modules.
+ * <p>
+ * A {@link MibLoader} is not safe for concurrent use, so modules loaded
+ * one at a time are parsed by the single loader of this repository while
+ * holding the loader's monitor; modules imported by several others are
+ * thus parsed only once.  When many modules are
+ * {@linkplain #loadAll(Collection) loaded together}, they are divided into
+ * groups that are parsed in parallel, each by a loader of its own with the
+ * same search path; a module imported by modules in different groups is
+ * parsed once for each of those groups.  The lock that guards the cache is
+ * never held while parsing, so that modules already cached remain
+ * available.
+ * <p>
+ * Modules may be loaded on demand while other threads are looking up
+ * symbols, so the cache and the list of names may be read without holding
+ * the lock; the list of names is copied on write, so that iterating it
+ * yields a consistent snapshot.
  *
  * @author Carl Harris
  */
 class CachingMibRepository implements MibRepository {
 
+  /**
+   * Minimum number of modules given to each loader when modules are
+   * parsed in parallel; each loader parses the base SMI modules again, so
+   * a group must be large enough to amortize that work.
+   */
+  static final int MODULES_PER_WORKER = 8;
+
   private final Lock lock = new ReentrantLock();
 
   private final MibLoader loader = new MibLoader();
 
-  private final List<String> names = new ArrayList<>();
+  private final List<String> names = new CopyOnWriteArrayList<>();
+
+  private final Map<String, Mib> cache = new ConcurrentHashMap<>();
+
+  private final List<File> directories = new CopyOnWriteArrayList<>();
+
+  private final int modulesPerWorker;
 
-  private final Map<String, Mib> cache = new HashMap<String, Mib>();
+  /**
+   * Constructs a new instance.
+   */
+  CachingMibRepository() {
+    this(MODULES_PER_WORKER);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param modulesPerWorker minimum number of modules given to each loader
+   *    when modules are parsed in parallel
+   */
+  CachingMibRepository(int modulesPerWorker) {
+    this.modulesPerWorker = modulesPerWorker;
+  }
 
   /**
    * Retrieves an iterable containing the names of MIB modules that have
@@ -74,25 +129,205 @@ class CachingMibRepository implements MibRepository {
   public Mib load(String name) throws MibLoaderException, IOException {
     lock.lock();
     try {
-      Mib mib = cache.get(name);
-      if (mib == null) {
-        mib = installMib(loader.load(name));
+      final Mib mib = cache.get(name);
+      if (mib != null) return mib;
+    }
+    finally {
+      lock.unlock();
+    }
+
+    final Mib mib;
+    synchronized (loader) {
+      mib = loader.load(name);
+    }
+
+    lock.lock();
+    try {
+      final Mib cached = cache.get(mib.getName());
+      return cached != null ? cached : installMib(mib);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<Mib> loadAll(Collection<String> names)
+      throws MibLoaderException, IOException {
+    final List<String> missing = new ArrayList<>();
+    lock.lock();
+    try {
+      for (final String name : names) {
+        if (!cache.containsKey(name) && !missing.contains(name)) {
+          missing.add(name);
+        }
       }
-      return mib;
+    }
+    finally {
+      lock.unlock();
+    }
+
+    final Map<String, Mib> parsed = parseAll(missing);
+
+    lock.lock();
+    try {
+      for (final Mib mib : dependencyOrder(parsed.values())) {
+        if (!cache.containsKey(mib.getName())) {
+          installMib(mib);
+        }
+      }
+      final List<Mib> mibs = new ArrayList<>(names.size());
+      for (final String name : names) {
+        final Mib mib = cache.get(name);
+        mibs.add(mib != null ? mib : parsed.get(name));
+      }
+      return mibs;
     }
     finally {
       lock.unlock();
     }
   }
 
+  /**
+   * Parses named modules.
+   * <p>
+   * When there are enough modules to keep more than one processor busy,
+   * the modules are divided into groups of consecutive names, and each
+   * group is parsed on a pool of its own by a new loader that has the same
+   * search path as the loader of this repository.  Otherwise, the modules
+   * are parsed by the loader of this repository.  Every module is
+   * attempted, so that all of the modules that cannot be parsed are
+   * reported at once.
+   * @param names names of the modules to parse
+   * @return map of each name to the module parsed for it, in the order
+   *    of {@code names}
+   * @throws MibLoaderException if a module cannot be parsed; the failures
+   *    of any other modules are suppressed by the exception thrown
+   * @throws IOException if an I/O error occurs
+   */
+  private Map<String, Mib> parseAll(List<String> names)
+      throws MibLoaderException, IOException {
+    if (names.isEmpty()) return Collections.emptyMap();
+    final int workers = Math.min(Runtime.getRuntime().availableProcessors(),
+        (names.size() + modulesPerWorker - 1) / modulesPerWorker);
+    if (workers <= 1) {
+      final ParseResult result;
+      synchronized (loader) {
+        result = parse(loader, names);
+      }
+      return result.getMibs();
+    }
+
+    final int groupSize = (names.size() + workers - 1) / workers;
+    final List<File> directories = new ArrayList<>(this.directories);
+    final List<Callable<ParseResult>> tasks = new ArrayList<>();
+    for (int i = 0; i < names.size(); i += groupSize) {
+      final List<String> group =
+          names.subList(i, Math.min(names.size(), i + groupSize));
+      tasks.add(new Callable<ParseResult>() {
+        @Override
+        public ParseResult call() {
+          final MibLoader groupLoader = new MibLoader();
+          for (final File directory : directories) {
+            groupLoader.addDir(directory);
+          }
+          return parse(groupLoader, group);
+        }
+      });
+    }
+
+    final ForkJoinPool pool = new ForkJoinPool(tasks.size());
+    try {
+      final ParseResult result = new ParseResult();
+      for (final Future<ParseResult> future : pool.invokeAll(tasks)) {
+        result.add(future.get());
+      }
+      return result.getMibs();
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(
+          "interrupted while parsing MIB modules");
+    }
+    catch (ExecutionException ex) {
+      final Throwable cause = ex.getCause();
+      if (cause instanceof Error) throw (Error) cause;
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      throw new IllegalStateException(cause);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Parses named modules using a given loader.
+   * @param loader the loader to use; the caller must have exclusive use
+   *    of it
+   * @param names names of the modules to parse
+   * @return result holding the parsed modules and the exceptions thrown
+   *    for modules that could not be parsed
+   */
+  private static ParseResult parse(MibLoader loader, List<String> names) {
+    final ParseResult result = new ParseResult();
+    for (final String name : names) {
+      try {
+        result.mibs.put(name, loader.load(name));
+      }
+      catch (MibLoaderException | IOException ex) {
+        result.failures.add(ex);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Orders parsed modules so that each follows those it imports.
+   * @param mibs the modules to order
+   * @return modules in dependency order; modules that are independent
+   *    of one another retain their relative order
+   */
+  private static List<Mib> dependencyOrder(Collection<Mib> mibs) {
+    final Map<String, Mib> byName = new LinkedHashMap<>();
+    for (final Mib mib : mibs) {
+      byName.put(mib.getName(), mib);
+    }
+    final List<Mib> ordered = new ArrayList<>(mibs.size());
+    final Set<String> visited = new HashSet<>();
+    for (final Mib mib : byName.values()) {
+      visit(mib, byName, visited, ordered);
+    }
+    return ordered;
+  }
+
+  private static void visit(Mib mib, Map<String, Mib> byName,
+      Set<String> visited, List<Mib> ordered) {
+    if (!visited.add(mib.getName())) return;
+    for (final MibImport mibImport : mib.getAllImports()) {
+      final Mib imported = byName.get(mibImport.getName());
+      if (imported != null) {
+        visit(imported, byName, visited, ordered);
+      }
+    }
+    ordered.add(mib);
+  }
+
   @Override
   public Mib load(File file) throws MibLoaderException, IOException {
-    return installMib(loader.load(file));
+    final Mib mib;
+    synchronized (loader) {
+      mib = loader.load(file);
+    }
+    return installMib(mib);
   }
 
   @Override
   public Mib load(URL url) throws MibLoaderException, IOException {
-    return installMib(loader.load(url));
+    final Mib mib;
+    synchronized (loader) {
+      mib = loader.load(url);
+    }
+    return installMib(mib);
   }
 
   private Mib installMib(Mib mib) {
@@ -110,12 +345,53 @@ class CachingMibRepository implements MibRepository {
 
   @Override
   public void addDirectory(File directory) {
-    loader.addDir(directory);
+    synchronized (loader) {
+      loader.addDir(directory);
+      directories.add(directory);
+    }
   }
 
   @Override
   public void removeDirectory(File directory) {
-    loader.removeDir(directory);
+    synchronized (loader) {
+      loader.removeDir(directory);
+      directories.remove(directory);
+    }
+  }
+
+  /**
+   * The modules parsed by one or more loaders and the exceptions thrown
+   * for the modules that could not be parsed.
+   */
+  private static class ParseResult {
+
+    final Map<String, Mib> mibs = new LinkedHashMap<>();
+    final List<Exception> failures = new ArrayList<>();
+
+    void add(ParseResult other) {
+      mibs.putAll(other.mibs);
+      failures.addAll(other.failures);
+    }
+
+    /**
+     * Gets the parsed modules.
+     * @return map of each name to the module parsed for it
+     * @throws MibLoaderException if any module could not be parsed; the
+     *    failures of any other modules are suppressed by the exception
+     * @throws IOException if an I/O error occurred
+     */
+    Map<String, Mib> getMibs() throws MibLoaderException, IOException {
+      if (failures.isEmpty()) return mibs;
+      final Exception failure = failures.get(0);
+      for (int i = 1; i < failures.size(); i++) {
+        failure.addSuppressed(failures.get(i));
+      }
+      if (failure instanceof MibLoaderException) {
+        throw (MibLoaderException) failure;
+      }
+      throw (IOException) failure;
+    }
+
   }
 
 }
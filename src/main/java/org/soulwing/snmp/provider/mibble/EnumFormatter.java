@@ -20,21 +20,39 @@ package org.soulwing.snmp.provider.mibble;
 import org.soulwing.snmp.Formatter;
 
 import net.percederberg.mibble.MibValueSymbol;
-import net.percederberg.mibble.value.NumberValue;
 
 class EnumFormatter implements Formatter {
 
-  private final MibValueSymbol[] symbols;
+  private final long[] values;
+  private final String[] names;
 
   public EnumFormatter(MibValueSymbol[] symbols) {
-    this.symbols = symbols;
+    this.values = new long[symbols.length];
+    this.names = new String[symbols.length];
+    for (int i = 0; i < symbols.length; i++) {
+      values[i] = ((Number) symbols[i].getValue().toObject()).longValue();
+      names[i] = symbols[i].getName();
+    }
   }
-  
+
+  EnumFormatter(long[] values, String[] names) {
+    this.values = values;
+    this.names = names;
+  }
+
+  long[] getValues() {
+    return values;
+  }
+
+  String[] getNames() {
+    return names;
+  }
+
   public String format(Object value) {
-    NumberValue numberValue = new NumberValue((Number) value);
-    for (int i = 0; i < symbols.length; i++) {
-      if (symbols[i].getValue().equals(numberValue)) {
-        return symbols[i].getName();
+    long number = ((Number) value).longValue();
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == number) {
+        return names[i];
       }
     }
     return value.toString();
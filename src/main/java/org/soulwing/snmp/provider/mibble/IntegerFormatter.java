@@ -28,6 +28,10 @@ class IntegerFormatter implements Formatter {
   public IntegerFormatter(String hint) {
     this.hint = hint;
   }
+
+  String getHint() {
+    return hint;
+  }
   
   public String format(Object value) {
     long i = ((Number) value).longValue();
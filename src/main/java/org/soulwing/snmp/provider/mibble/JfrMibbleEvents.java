@@ -0,0 +1,84 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link MibbleEvents} sink that emits Java Flight Recorder events.
+ * <p>
+ * This class must be loaded only when the {@code jdk.jfr} module is
+ * available.
+ *
+ * @author Carl Harris
+ */
+class JfrMibbleEvents extends MibbleEvents {
+
+  private static final EventType RESOLUTION =
+      EventType.getEventType(Resolution.class);
+
+  @Override
+  boolean isResolutionEnabled() {
+    return RESOLUTION.isEnabled();
+  }
+
+  @Override
+  void resolved(String kind, String input, String result, long latency) {
+    final Resolution event = new Resolution();
+    event.kind = kind;
+    event.input = input;
+    event.result = result;
+    event.latency = latency;
+    event.commit();
+  }
+
+  @Name("org.soulwing.snmp.MibResolution")
+  @Label("MIB Resolution")
+  @Category({ "SNMP", "MIB" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class Resolution extends Event {
+
+    @Label("Kind")
+    @Description("Kind of resolution performed")
+    String kind;
+
+    @Label("Input")
+    @Description("Object identifier or name that was resolved")
+    String input;
+
+    @Label("Result")
+    @Description("Result of the resolution; null if not resolved")
+    String result;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+  }
+
+}
@@ -0,0 +1,496 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import org.soulwing.snmp.Formatter;
+import org.soulwing.snmp.IndexExtractor;
+import org.soulwing.snmp.Oid;
+
+/**
+ * A compiled MIB image.
+ * <p>
+ * An image holds what {@link MibbleMib} needs to know about the OBJECT
+ * IDENTIFIER symbols of a set of MIB modules (names, syntaxes, display
+ * hints, enumeration and bit labels, and table index definitions) in a
+ * compact binary form that can be used directly from a memory-mapped file,
+ * without parsing the modules.  Images are produced by
+ * {@link MibImageWriter}, usually by way of {@link MibImageTool}.
+ * <p>
+ * All values in an image are big-endian 32-bit integers, apart from the
+ * UTF-8 bytes of the string table.  The image consists of
+ * <ol>
+ *   <li>a header: {@link #MAGIC} and {@link #VERSION}</li>
+ *   <li>the string table: a count <em>n</em>, <em>n</em>+1 offsets, and
+ *       the string bytes</li>
+ *   <li>the module table: a count and, for each module in load order, the
+ *       string index of its name</li>
+ *   <li>the integer pool: a count and the integers, which hold the
+ *       sub-identifiers of symbol OIDs, enumeration labels, and index
+ *       definitions</li>
+ *   <li>the symbol table: a count and, for each symbol, a record of
+ *       {@link #RECORD_SIZE} integers; records are sorted by OID, and
+ *       records with equal OIDs by descending module number</li>
+ *   <li>the name index: for each symbol, a record number; sorted by
+ *       symbol name, and then by descending module number</li>
+ * </ol>
+ * When more than one module defines a symbol for the same OID or name, the
+ * module that appears last in the module table is preferred, as if it had
+ * been loaded most recently.
+ *
+ * @author Carl Harris
+ */
+class MibImage {
+
+  static final int MAGIC = 0x544d4942;    // "TMIB"
+  static final int VERSION = 1;
+
+  static final int OID_OFFSET = 0;
+  static final int OID_LENGTH = 1;
+  static final int NAME = 2;
+  static final int MODULE = 3;
+  static final int SYNTAX = 4;
+  static final int FORMAT = 5;
+  static final int HINT = 6;
+  static final int LABELS_OFFSET = 7;
+  static final int LABEL_COUNT = 8;
+  static final int INDEX_OFFSET = 9;
+  static final int INDEX_COUNT = 10;
+  static final int RECORD_SIZE = 11;
+
+  static final int INDEX_ENTRY_SIZE = 4;
+
+  static final int NONE = -1;
+
+  static final int FORMAT_TO_STRING = 0;
+  static final int FORMAT_INTEGER = 1;
+  static final int FORMAT_ENUM = 2;
+  static final int FORMAT_BITS = 3;
+  static final int FORMAT_OCTET_STRING = 4;
+  static final int FORMAT_OBJECT_IDENTIFIER = 5;
+  static final int FORMAT_TIME_TICKS = 6;
+
+  private final ByteBuffer buffer;
+  private final int stringOffsets;
+  private final int stringData;
+  private final int pool;
+  private final int records;
+  private final int recordCount;
+  private final int nameIndex;
+  private final String[] modules;
+
+  private final String[] strings;
+  private final Formatter[] formatters;
+  private final IndexExtractor[] indexExtractors;
+
+  private MibImage(ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    if (buffer.limit() < 8 || buffer.getInt(0) != MAGIC) {
+      throw new IOException("not a MIB image");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("unsupported MIB image version: "
+          + buffer.getInt(4));
+    }
+    try {
+      int position = 8;
+      final int stringCount = buffer.getInt(position);
+      this.stringOffsets = position + 4;
+      this.stringData = stringOffsets + 4 * (stringCount + 1);
+      position = stringData + buffer.getInt(stringOffsets + 4 * stringCount);
+      this.strings = new String[stringCount];
+
+      final int moduleCount = buffer.getInt(position);
+      this.modules = new String[moduleCount];
+      for (int i = 0; i < moduleCount; i++) {
+        modules[i] = string(buffer.getInt(position + 4 + 4 * i));
+      }
+      position += 4 + 4 * moduleCount;
+
+      this.pool = position + 4;
+      position = pool + 4 * buffer.getInt(position);
+
+      this.recordCount = buffer.getInt(position);
+      this.records = position + 4;
+      this.nameIndex = records + 4 * RECORD_SIZE * recordCount;
+      if (nameIndex + 4 * recordCount != buffer.limit()) {
+        throw new IOException("MIB image is corrupt");
+      }
+    }
+    catch (IndexOutOfBoundsException ex) {
+      throw new IOException("MIB image is truncated", ex);
+    }
+    this.formatters = new Formatter[recordCount];
+    this.indexExtractors = new IndexExtractor[recordCount];
+  }
+
+  /**
+   * Tests whether the given bytes are the beginning of a MIB image.
+   * @param header the first bytes of a file
+   * @param length number of valid bytes in {@code header}
+   * @return {@code true} if {@code header} starts with {@link #MAGIC}
+   */
+  static boolean isImage(byte[] header, int length) {
+    return length >= 4 && ByteBuffer.wrap(header).getInt(0) == MAGIC;
+  }
+
+  /**
+   * Tests whether a file is a MIB image.
+   * @param file the file to test
+   * @return {@code true} if {@code file} starts with {@link #MAGIC}
+   * @throws IOException if an I/O error occurs
+   */
+  static boolean isImage(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(),
+        StandardOpenOption.READ)) {
+      final ByteBuffer header = ByteBuffer.allocate(4);
+      while (header.hasRemaining() && channel.read(header) != -1) {
+        continue;
+      }
+      return !header.hasRemaining() && header.getInt(0) == MAGIC;
+    }
+  }
+
+  /**
+   * Opens a MIB image by mapping it into memory.
+   * @param file the image file
+   * @return MIB image
+   * @throws IOException if the file is not a MIB image or an I/O error
+   *    occurs
+   */
+  static MibImage open(File file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(),
+        StandardOpenOption.READ)) {
+      return new MibImage(
+          channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Reads a MIB image into memory.
+   * @param header bytes of the image that have already been read from
+   *    {@code in}
+   * @param length number of valid bytes in {@code header}
+   * @param in stream containing the rest of the image
+   * @return MIB image
+   * @throws IOException if the stream does not contain a MIB image or an
+   *    I/O error occurs
+   */
+  static MibImage read(byte[] header, int length, InputStream in)
+      throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(header, 0, length);
+    final byte[] buf = new byte[8192];
+    int count;
+    while ((count = in.read(buf)) != -1) {
+      out.write(buf, 0, count);
+    }
+    return new MibImage(ByteBuffer.wrap(out.toByteArray()));
+  }
+
+  /**
+   * Reads as many bytes as are available (up to the length of the given
+   * array) from the start of a stream.
+   * @param in the stream to read
+   * @param header array to fill
+   * @return number of bytes read
+   * @throws IOException if an I/O error occurs
+   */
+  static int readHeader(InputStream in, byte[] header) throws IOException {
+    int length = 0;
+    int count;
+    while (length < header.length
+        && (count = in.read(header, length, header.length - length)) != -1) {
+      length += count;
+    }
+    return length;
+  }
+
+  /**
+   * Gets the names of the modules in this image, in load order.
+   * @return module names
+   */
+  String[] getModuleNames() {
+    return modules.clone();
+  }
+
+  /**
+   * Gets the number of symbols in this image.
+   * @return symbol count
+   */
+  int getSymbolCount() {
+    return recordCount;
+  }
+
+  /**
+   * Finds the symbol whose OID is the longest prefix of a given OID.
+   * @param oid the subject OID
+   * @return record number of the symbol or {@link #NONE}
+   */
+  int findSymbol(Oid oid) {
+    for (int length = oid.size(); length > 0; length--) {
+      final int record = findSymbol(oid, length);
+      if (record != NONE) return record;
+    }
+    return NONE;
+  }
+
+  private int findSymbol(Oid oid, int length) {
+    int low = 0;
+    int high = recordCount - 1;
+    int match = NONE;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int c = compareOid(mid, oid, length);
+      if (c < 0) {
+        low = mid + 1;
+      }
+      else {
+        if (c == 0) match = mid;
+        high = mid - 1;
+      }
+    }
+    return match;
+  }
+
+  private int compareOid(int record, Oid oid, int length) {
+    final int offset = field(record, OID_OFFSET);
+    final int recordLength = field(record, OID_LENGTH);
+    final int max = Math.min(recordLength, length);
+    for (int i = 0; i < max; i++) {
+      final int c = Integer.compare(poolInt(offset + i) ^ Integer.MIN_VALUE,
+          oid.get(i) ^ Integer.MIN_VALUE);
+      if (c != 0) return c;
+    }
+    return Integer.compare(recordLength, length);
+  }
+
+  /**
+   * Finds a symbol by name.
+   * @param scope name of the module that defines the symbol, or
+   *    {@code null} to prefer the module that was loaded last
+   * @param name symbol name
+   * @return record number of the symbol or {@link #NONE}
+   */
+  int findSymbol(String scope, String name) {
+    int low = 0;
+    int high = recordCount - 1;
+    int first = NONE;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int c = getName(byName(mid)).compareTo(name);
+      if (c < 0) {
+        low = mid + 1;
+      }
+      else {
+        if (c == 0) first = mid;
+        high = mid - 1;
+      }
+    }
+    if (first == NONE || scope == null) {
+      return first != NONE ? byName(first) : NONE;
+    }
+    for (int i = first; i < recordCount && getName(byName(i)).equals(name);
+        i++) {
+      if (getModuleName(byName(i)).equals(scope)) return byName(i);
+    }
+    return NONE;
+  }
+
+  private int byName(int i) {
+    return buffer.getInt(nameIndex + 4 * i);
+  }
+
+  /**
+   * Gets the number of sub-identifiers in the OID of a symbol.
+   * @param record record number of the symbol
+   * @return sub-identifier count
+   */
+  int getOidLength(int record) {
+    return field(record, OID_LENGTH);
+  }
+
+  /**
+   * Gets the OID of a symbol.
+   * @param record record number of the symbol
+   * @return object identifier
+   */
+  Oid getOid(int record) {
+    final int offset = field(record, OID_OFFSET);
+    final int[] value = new int[field(record, OID_LENGTH)];
+    for (int i = 0; i < value.length; i++) {
+      value[i] = poolInt(offset + i);
+    }
+    return Oid.valueOf(value);
+  }
+
+  /**
+   * Gets the name of a symbol.
+   * @param record record number of the symbol
+   * @return symbol name
+   */
+  String getName(int record) {
+    return string(field(record, NAME));
+  }
+
+  /**
+   * Gets the name of the module that defines a symbol.
+   * @param record record number of the symbol
+   * @return module name
+   */
+  String getModuleName(int record) {
+    return modules[field(record, MODULE)];
+  }
+
+  /**
+   * Gets the SMI syntax indicator of a symbol.
+   * @param record record number of the symbol
+   * @return syntax indicator or {@link #NONE} if the symbol is not an
+   *    OBJECT-TYPE
+   */
+  int getSyntax(int record) {
+    return field(record, SYNTAX);
+  }
+
+  /**
+   * Gets a formatter for the values of a symbol.
+   * @param record record number of the symbol
+   * @return formatter
+   * @throws IllegalArgumentException if the values of the symbol cannot
+   *    be formatted
+   */
+  Formatter getFormatter(int record) {
+    Formatter formatter = formatters[record];
+    if (formatter == null) {
+      formatter = newFormatter(record);
+      formatters[record] = formatter;
+    }
+    return formatter;
+  }
+
+  private Formatter newFormatter(int record) {
+    final int hint = field(record, HINT);
+    switch (field(record, FORMAT)) {
+      case FORMAT_TO_STRING:
+        return CachingFormatterFactory.TO_STRING_FORMATTER;
+      case FORMAT_INTEGER:
+        return new IntegerFormatter(string(hint));
+      case FORMAT_ENUM:
+        return new EnumFormatter(labelValues(record), labelNames(record));
+      case FORMAT_BITS:
+        return new BitsFormatter(labelValues(record), labelNames(record));
+      case FORMAT_OCTET_STRING:
+        return new OctetStringFormatter(string(hint));
+      case FORMAT_OBJECT_IDENTIFIER:
+        return new ObjectIdentifierFormatter();
+      case FORMAT_TIME_TICKS:
+        return new TimeTicksFormatter(hint != NONE ? string(hint) : null);
+      default:
+        throw new IllegalArgumentException("cannot format symbol: "
+            + getName(record));
+    }
+  }
+
+  private long[] labelValues(int record) {
+    final int offset = field(record, LABELS_OFFSET);
+    final long[] values = new long[field(record, LABEL_COUNT)];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = poolInt(offset + 2 * i);
+    }
+    return values;
+  }
+
+  private String[] labelNames(int record) {
+    final int offset = field(record, LABELS_OFFSET);
+    final String[] names = new String[field(record, LABEL_COUNT)];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = string(poolInt(offset + 2 * i + 1));
+    }
+    return names;
+  }
+
+  /**
+   * Gets an index extractor for a table column symbol.
+   * @param record record number of the symbol
+   * @return index extractor
+   * @throws IllegalArgumentException if the symbol is not a table column
+   */
+  IndexExtractor getIndexExtractor(int record) {
+    IndexExtractor extractor = indexExtractors[record];
+    if (extractor == null) {
+      extractor = newIndexExtractor(record);
+      indexExtractors[record] = extractor;
+    }
+    return extractor;
+  }
+
+  private IndexExtractor newIndexExtractor(int record) {
+    final int count = field(record, INDEX_COUNT);
+    if (count == NONE) {
+      throw new IllegalArgumentException(getName(record)
+          + ": not a table column");
+    }
+    final int offset = field(record, INDEX_OFFSET);
+    final String[] indexOids = new String[count];
+    final int[] syntaxes = new int[count];
+    final int[] lengths = new int[count];
+    final boolean[] implied = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      final int entry = offset + INDEX_ENTRY_SIZE * i;
+      indexOids[i] = string(poolInt(entry));
+      syntaxes[i] = poolInt(entry + 1);
+      lengths[i] = poolInt(entry + 2);
+      implied[i] = poolInt(entry + 3) != 0;
+    }
+    return new MibbleIndexExtractor(getOidLength(record), indexOids,
+        syntaxes, lengths, implied);
+  }
+
+  private int field(int record, int field) {
+    return buffer.getInt(records + 4 * (RECORD_SIZE * record + field));
+  }
+
+  private int poolInt(int i) {
+    return buffer.getInt(pool + 4 * i);
+  }
+
+  private String string(int i) {
+    String s = strings[i];
+    if (s == null) {
+      final int start = buffer.getInt(stringOffsets + 4 * i);
+      final byte[] bytes =
+          new byte[buffer.getInt(stringOffsets + 4 * (i + 1)) - start];
+      for (int j = 0; j < bytes.length; j++) {
+        bytes[j] = buffer.get(stringData + start + j);
+      }
+      s = new String(bytes, StandardCharsets.UTF_8);
+      strings[i] = s;
+    }
+    return s;
+  }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.percederberg.mibble.MibLoader;
+import net.percederberg.mibble.MibLoaderException;
+
+/**
+ * A command line tool that compiles MIB modules into a MIB image.
+ * <p>
+ * A MIB image can be loaded using {@link org.soulwing.snmp.Mib#load(File)}
+ * in place of the modules from which it was compiled, and is much faster
+ * to load than the module sources.
+ * <pre>
+ * java org.soulwing.snmp.provider.mibble.MibImageTool \
+ *     [-d directory]... -o image-file [module-name | module-file]...
+ * </pre>
+ * Each {@code -d} option adds a directory to the module search path.  The
+ * named modules (or module files) are compiled in the order given; if none
+ * are given, every file in the search directories is compiled.
+ *
+ * @author Carl Harris
+ */
+public class MibImageTool {
+
+  public static void main(String[] args) throws Exception {
+    final List<File> directories = new ArrayList<>();
+    final List<String> modules = new ArrayList<>();
+    File output = null;
+    for (int i = 0; i < args.length; i++) {
+      if ("-d".equals(args[i]) && i + 1 < args.length) {
+        directories.add(new File(args[++i]));
+      }
+      else if ("-o".equals(args[i]) && i + 1 < args.length) {
+        output = new File(args[++i]);
+      }
+      else if (args[i].startsWith("-")) {
+        usage();
+        return;
+      }
+      else {
+        modules.add(args[i]);
+      }
+    }
+    if (output == null) {
+      usage();
+      return;
+    }
+    try (OutputStream out = new FileOutputStream(output)) {
+      final int count = compile(directories, modules, out);
+      System.out.println("compiled " + count + " modules into " + output);
+    }
+  }
+
+  private static void usage() {
+    System.err.println("usage: " + MibImageTool.class.getName()
+        + " [-d directory]... -o image-file [module-name | module-file]...");
+    System.exit(1);
+  }
+
+  /**
+   * Compiles MIB modules into a MIB image.
+   * @param directories directories to add to the module search path
+   * @param modules names of modules (or paths of module files) to compile,
+   *    in load order; if empty, every file in {@code directories} is
+   *    compiled
+   * @param out stream to which the image will be written
+   * @return number of modules compiled
+   * @throws MibLoaderException if a named module cannot be parsed
+   * @throws IOException if an I/O error occurs
+   */
+  public static int compile(List<File> directories, List<String> modules,
+      OutputStream out) throws MibLoaderException, IOException {
+    final MibLoader loader = new MibLoader();
+    for (File directory : directories) {
+      loader.addDir(directory);
+    }
+    final MibImageWriter writer = new MibImageWriter();
+    int count = 0;
+    if (!modules.isEmpty()) {
+      for (String module : modules) {
+        final File file = new File(module);
+        writer.add(file.isFile() ? loader.load(file) : loader.load(module));
+        count++;
+      }
+    }
+    else {
+      for (File directory : directories) {
+        final File[] files = directory.listFiles();
+        if (files == null) continue;
+        Arrays.sort(files);
+        for (File file : files) {
+          if (!file.isFile()) continue;
+          try {
+            writer.add(loader.load(file));
+            count++;
+          }
+          catch (MibLoaderException ex) {
+            System.err.println("skipping " + file + ": " + ex.getMessage());
+          }
+        }
+      }
+    }
+    writer.write(out);
+    return count;
+  }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.percederberg.mibble.Mib;
+import net.percederberg.mibble.MibValue;
+import net.percederberg.mibble.MibValueSymbol;
+import net.percederberg.mibble.value.ObjectIdentifierValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.soulwing.snmp.Formatter;
+import org.soulwing.snmp.Oid;
+
+/**
+ * Writes a {@link MibImage} for a set of parsed MIB modules.
+ *
+ * @author Carl Harris
+ */
+class MibImageWriter {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(MibImageWriter.class);
+
+  private final List<Mib> modules = new ArrayList<>();
+
+  private final Map<String, Integer> stringIndexes = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+
+  private int[] pool = new int[1024];
+  private int poolSize;
+
+  /**
+   * Adds a module to the image.
+   * <p>
+   * Modules should be added in the order in which they would be loaded;
+   * when more than one module defines a symbol for the same OID or name,
+   * the module added last is preferred.  A module with the same name as
+   * one that has already been added is ignored.
+   * @param mib the module to add
+   * @return this writer
+   */
+  MibImageWriter add(Mib mib) {
+    for (Mib module : modules) {
+      if (module.getName().equals(mib.getName())) return this;
+    }
+    modules.add(mib);
+    return this;
+  }
+
+  /**
+   * Writes the image for the modules that have been added.
+   * @param out the stream to which the image will be written
+   * @throws IOException if an I/O error occurs
+   */
+  void write(OutputStream out) throws IOException {
+    final int[] moduleNames = new int[modules.size()];
+    final List<Entry> entries = new ArrayList<>();
+    for (int i = 0; i < modules.size(); i++) {
+      final Mib mib = modules.get(i);
+      moduleNames[i] = intern(mib.getName());
+      for (Object symbol : mib.getAllSymbols()) {
+        if (!(symbol instanceof MibValueSymbol)) continue;
+        final MibValue value = ((MibValueSymbol) symbol).getValue();
+        if (value instanceof ObjectIdentifierValue) {
+          entries.add(entry((MibValueSymbol) symbol,
+              MibbleMib.toOid((ObjectIdentifierValue) value), i));
+        }
+      }
+    }
+
+    Collections.sort(entries, new Comparator<Entry>() {
+      @Override
+      public int compare(Entry a, Entry b) {
+        final int c = a.oid.compareTo(b.oid);
+        return c != 0 ? c : Integer.compare(b.record[MibImage.MODULE],
+            a.record[MibImage.MODULE]);
+      }
+    });
+
+    final Integer[] byName = new Integer[entries.size()];
+    for (int i = 0; i < byName.length; i++) {
+      byName[i] = i;
+    }
+    Arrays.sort(byName, new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        final Entry ea = entries.get(a);
+        final Entry eb = entries.get(b);
+        final int c = ea.name.compareTo(eb.name);
+        return c != 0 ? c : Integer.compare(eb.record[MibImage.MODULE],
+            ea.record[MibImage.MODULE]);
+      }
+    });
+
+    final DataOutputStream data =
+        new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MibImage.MAGIC);
+    data.writeInt(MibImage.VERSION);
+    writeStrings(data);
+    writeInts(data, moduleNames, moduleNames.length);
+    writeInts(data, pool, poolSize);
+    data.writeInt(entries.size());
+    for (Entry entry : entries) {
+      for (int field : entry.record) {
+        data.writeInt(field);
+      }
+    }
+    for (Integer i : byName) {
+      data.writeInt(i);
+    }
+    data.flush();
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("wrote MIB image with {} modules and {} symbols",
+          modules.size(), entries.size());
+    }
+  }
+
+  private Entry entry(MibValueSymbol symbol, Oid oid, int module) {
+    final int[] record = new int[MibImage.RECORD_SIZE];
+    record[MibImage.OID_OFFSET] = poolSize;
+    record[MibImage.OID_LENGTH] = oid.size();
+    for (int i = 0; i < oid.size(); i++) {
+      addToPool(oid.get(i));
+    }
+    record[MibImage.NAME] = intern(symbol.getName());
+    record[MibImage.MODULE] = module;
+    record[MibImage.SYNTAX] = MibbleMib.syntax(symbol);
+    putFormat(symbol, record);
+    putIndexes(symbol, record);
+    return new Entry(oid, symbol.getName(), record);
+  }
+
+  private void putFormat(MibValueSymbol symbol, int[] record) {
+    record[MibImage.FORMAT] = MibImage.NONE;
+    record[MibImage.HINT] = MibImage.NONE;
+    record[MibImage.LABELS_OFFSET] = MibImage.NONE;
+    record[MibImage.LABEL_COUNT] = 0;
+    final Formatter formatter;
+    try {
+      formatter = new ObjectFormatter(symbol).getDelegate();
+    }
+    catch (IllegalArgumentException ex) {
+      logger.debug("{}", ex.getMessage());
+      return;
+    }
+    if (formatter instanceof IntegerFormatter) {
+      record[MibImage.FORMAT] = MibImage.FORMAT_INTEGER;
+      record[MibImage.HINT] = intern(((IntegerFormatter) formatter).getHint());
+    }
+    else if (formatter instanceof EnumFormatter) {
+      record[MibImage.FORMAT] = MibImage.FORMAT_ENUM;
+      putLabels(((EnumFormatter) formatter).getValues(),
+          ((EnumFormatter) formatter).getNames(), record);
+    }
+    else if (formatter instanceof BitsFormatter) {
+      record[MibImage.FORMAT] = MibImage.FORMAT_BITS;
+      putLabels(((BitsFormatter) formatter).getValues(),
+          ((BitsFormatter) formatter).getNames(), record);
+    }
+    else if (formatter instanceof OctetStringFormatter) {
+      record[MibImage.FORMAT] = MibImage.FORMAT_OCTET_STRING;
+      record[MibImage.HINT] =
+          intern(((OctetStringFormatter) formatter).getHint());
+    }
+    else if (formatter instanceof ObjectIdentifierFormatter) {
+      record[MibImage.FORMAT] = MibImage.FORMAT_OBJECT_IDENTIFIER;
+    }
+    else if (formatter instanceof TimeTicksFormatter) {
+      final String hint = ((TimeTicksFormatter) formatter).getHint();
+      record[MibImage.FORMAT] = MibImage.FORMAT_TIME_TICKS;
+      record[MibImage.HINT] = hint != null ? intern(hint) : MibImage.NONE;
+    }
+    else {
+      record[MibImage.FORMAT] = MibImage.FORMAT_TO_STRING;
+    }
+  }
+
+  private void putLabels(long[] values, String[] names, int[] record) {
+    record[MibImage.LABELS_OFFSET] = poolSize;
+    record[MibImage.LABEL_COUNT] = values.length;
+    for (int i = 0; i < values.length; i++) {
+      addToPool((int) values[i]);
+      addToPool(intern(names[i]));
+    }
+  }
+
+  private void putIndexes(MibValueSymbol symbol, int[] record) {
+    record[MibImage.INDEX_OFFSET] = MibImage.NONE;
+    record[MibImage.INDEX_COUNT] = MibImage.NONE;
+    if (!symbol.isTableColumn()) return;
+    final MibbleIndexExtractor extractor;
+    try {
+      extractor = new MibbleIndexExtractor(symbol);
+    }
+    catch (RuntimeException ex) {
+      logger.debug("cannot determine indexes of {}: {}", symbol.getName(),
+          ex.toString());
+      return;
+    }
+    final String[] indexOids = extractor.getIndexOids();
+    record[MibImage.INDEX_OFFSET] = poolSize;
+    record[MibImage.INDEX_COUNT] = indexOids.length;
+    for (int i = 0; i < indexOids.length; i++) {
+      addToPool(intern(indexOids[i]));
+      addToPool(extractor.getSyntaxes()[i]);
+      addToPool(extractor.getLengths()[i]);
+      addToPool(extractor.getImplied()[i] ? 1 : 0);
+    }
+  }
+
+  private int intern(String s) {
+    Integer index = stringIndexes.get(s);
+    if (index == null) {
+      index = strings.size();
+      strings.add(s);
+      stringIndexes.put(s, index);
+    }
+    return index;
+  }
+
+  private void addToPool(int value) {
+    if (poolSize == pool.length) {
+      pool = Arrays.copyOf(pool, 2 * pool.length);
+    }
+    pool[poolSize++] = value;
+  }
+
+  private void writeStrings(DataOutputStream data) throws IOException {
+    final byte[][] encoded = new byte[strings.size()][];
+    data.writeInt(encoded.length);
+    int offset = 0;
+    for (int i = 0; i < encoded.length; i++) {
+      encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+      data.writeInt(offset);
+      offset += encoded[i].length;
+    }
+    data.writeInt(offset);
+    for (byte[] bytes : encoded) {
+      data.write(bytes);
+    }
+  }
+
+  private static void writeInts(DataOutputStream data, int[] values,
+      int length) throws IOException {
+    data.writeInt(length);
+    for (int i = 0; i < length; i++) {
+      data.writeInt(values[i]);
+    }
+  }
+
+  private static class Entry {
+
+    final Oid oid;
+    final String name;
+    final int[] record;
+
+    Entry(Oid oid, String name, int[] record) {
+      this.oid = oid;
+      this.name = name;
+      this.record = record;
+    }
+
+  }
+
+}
@@ -0,0 +1,452 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.soulwing.snmp.Oid;
+
+/**
+ * An index of the MIB modules in a set of directories, used to load each
+ * module only when it is first needed.
+ * <p>
+ * When a directory is added, the MIB files it contains are scanned (not
+ * parsed) to find the modules they define, the names of the objects that
+ * each module defines, and the object identifiers of the top-level
+ * subtrees in which those objects reside.  A module is <em>pending</em>
+ * until it is {@linkplain #claim(Oid) claimed} by a lookup whose object
+ * identifier falls into one of its subtrees, or by a lookup of one of its
+ * names, and then {@linkplain #loaded(List) loaded}.
+ * <p>
+ * The lookup structures hold only pending modules and are rebuilt when
+ * modules are added or loaded, so that a lookup that needs no module
+ * to be loaded is answered without locking or allocation.  A module that
+ * has been claimed remains pending until it has been loaded, so that a
+ * concurrent lookup that needs it waits for the load to complete rather
+ * than using the symbols loaded before it.
+ *
+ * @author Carl Harris
+ */
+class MibModuleIndex {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(MibModuleIndex.class);
+
+  /**
+   * Values defined by the SMI itself, used to resolve object identifiers
+   * when the modules that define them are not in an indexed directory
+   * (e.g. the SMI modules provided by the MIB parser).
+   */
+  private static final Map<String, Oid> WELL_KNOWN = new HashMap<>();
+
+  static {
+    WELL_KNOWN.put("ccitt", Oid.valueOf(0));
+    WELL_KNOWN.put("itu-t", Oid.valueOf(0));
+    WELL_KNOWN.put("zeroDotZero", Oid.valueOf(0, 0));
+    WELL_KNOWN.put("iso", Oid.valueOf(1));
+    WELL_KNOWN.put("joint-iso-ccitt", Oid.valueOf(2));
+    WELL_KNOWN.put("joint-iso-itu-t", Oid.valueOf(2));
+    WELL_KNOWN.put("org", Oid.valueOf(1, 3));
+    WELL_KNOWN.put("dod", Oid.valueOf(1, 3, 6));
+    WELL_KNOWN.put("internet", Oid.valueOf(1, 3, 6, 1));
+    WELL_KNOWN.put("directory", Oid.valueOf(1, 3, 6, 1, 1));
+    WELL_KNOWN.put("mgmt", Oid.valueOf(1, 3, 6, 1, 2));
+    WELL_KNOWN.put("mib-2", Oid.valueOf(1, 3, 6, 1, 2, 1));
+    WELL_KNOWN.put("transmission", Oid.valueOf(1, 3, 6, 1, 2, 1, 10));
+    WELL_KNOWN.put("experimental", Oid.valueOf(1, 3, 6, 1, 3));
+    WELL_KNOWN.put("private", Oid.valueOf(1, 3, 6, 1, 4));
+    WELL_KNOWN.put("enterprises", Oid.valueOf(1, 3, 6, 1, 4, 1));
+    WELL_KNOWN.put("security", Oid.valueOf(1, 3, 6, 1, 5));
+    WELL_KNOWN.put("snmpV2", Oid.valueOf(1, 3, 6, 1, 6));
+    WELL_KNOWN.put("snmpDomains", Oid.valueOf(1, 3, 6, 1, 6, 1));
+    WELL_KNOWN.put("snmpProxys", Oid.valueOf(1, 3, 6, 1, 6, 2));
+    WELL_KNOWN.put("snmpModules", Oid.valueOf(1, 3, 6, 1, 6, 3));
+  }
+
+  private final Map<String, Module> modules = new LinkedHashMap<>();
+
+  private volatile OidTrie<Module[]> subtrees = new OidTrie<>();
+
+  private volatile Map<String, Module[]> names = Collections.emptyMap();
+
+  /**
+   * Scans the MIB files in a directory and adds the modules they define
+   * to this index.
+   * <p>
+   * A module with the same name as one that is already indexed is
+   * ignored; files that cannot be read are skipped.  Object identifiers
+   * are resolved using the modules found in the directory and the values
+   * defined by the SMI.
+   * @param directory the directory to scan
+   * @throws IOException if {@code directory} cannot be listed
+   */
+  synchronized void addDirectory(File directory) throws IOException {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      throw new IOException("cannot list directory " + directory);
+    }
+    Arrays.sort(files);
+    final List<Module> added = new ArrayList<>();
+    final Map<String, MibModuleScanner.Module> scanned = new HashMap<>();
+    for (final File file : files) {
+      if (!file.isFile() || file.getName().startsWith(".")) continue;
+      final List<MibModuleScanner.Module> fileModules = scan(file);
+      for (int i = 0; i < fileModules.size(); i++) {
+        final MibModuleScanner.Module module = fileModules.get(i);
+        if (modules.containsKey(module.getName())) continue;
+        final Module entry = new Module(module.getName(), file, i == 0);
+        modules.put(entry.getName(), entry);
+        scanned.put(entry.getName(), module);
+        added.add(entry);
+      }
+    }
+    new Resolver(scanned).resolve(added);
+    rebuild();
+    if (logger.isDebugEnabled()) {
+      logger.debug("indexed {} modules in {}", added.size(), directory);
+    }
+  }
+
+  private static List<MibModuleScanner.Module> scan(File file) {
+    try {
+      if (MibImage.isImage(file)) {
+        return Collections.emptyList();
+      }
+      final Reader reader = new InputStreamReader(new FileInputStream(file),
+          StandardCharsets.ISO_8859_1);
+      try {
+        return MibModuleScanner.scan(reader);
+      }
+      finally {
+        reader.close();
+      }
+    }
+    catch (IOException ex) {
+      logger.warn("cannot scan {}: {}", file, ex.toString());
+      return Collections.emptyList();
+    }
+  }
+
+  /**
+   * Removes the pending modules found in a directory from this index.
+   * @param directory the directory to remove
+   */
+  synchronized void removeDirectory(File directory) {
+    boolean removed = false;
+    for (final Module module : new ArrayList<>(modules.values())) {
+      if (!module.isClaimed()
+          && directory.equals(module.getFile().getParentFile())) {
+        modules.remove(module.getName());
+        removed = true;
+      }
+    }
+    if (removed) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Tests whether a pending module has a subtree that contains the given
+   * object identifier.
+   * @param oid the subject object identifier
+   * @return {@code true} if {@link #claim(Oid)} would claim a module, or
+   *    a module that it has claimed has not yet been loaded
+   */
+  boolean isPending(Oid oid) {
+    return subtrees.longestMatch(oid) != null;
+  }
+
+  /**
+   * Tests whether a pending module defines a given name.
+   * @param scope module name or {@code null}
+   * @param name object name
+   * @return {@code true} if {@link #claim(String, String)} would claim a
+   *    module, or a module that it has claimed has not yet been loaded
+   */
+  boolean isPending(String scope, String name) {
+    if (scope != null) {
+      final Module module = module(scope);
+      return module != null && !module.isLoaded();
+    }
+    return names.containsKey(name);
+  }
+
+  /**
+   * Claims the pending modules that have a subtree containing the given
+   * object identifier.
+   * <p>
+   * The claimed modules remain pending until the caller reports that they
+   * have been {@linkplain #loaded(List) loaded}.
+   * @param oid the subject object identifier
+   * @return claimed modules, outermost subtree first
+   */
+  synchronized List<Module> claim(Oid oid) {
+    final List<Module> claimed = new ArrayList<>();
+    for (final OidTrie.Node<Module[]> node : subtrees.matches(oid)) {
+      for (final Module module : node.getValue()) {
+        claim(module, claimed);
+      }
+    }
+    return claimed;
+  }
+
+  /**
+   * Claims the pending modules that define a given name.
+   * <p>
+   * The claimed modules remain pending until the caller reports that they
+   * have been {@linkplain #loaded(List) loaded}.
+   * @param scope name of the module that must define {@code name}, or
+   *    {@code null} if any module may define it
+   * @param name object name
+   * @return claimed modules
+   */
+  synchronized List<Module> claim(String scope, String name) {
+    final List<Module> claimed = new ArrayList<>();
+    if (scope != null) {
+      final Module module = module(scope);
+      if (module != null) {
+        claim(module, claimed);
+      }
+    }
+    else {
+      final Module[] defining = names.get(name);
+      if (defining != null) {
+        for (final Module module : defining) {
+          claim(module, claimed);
+        }
+      }
+    }
+    return claimed;
+  }
+
+  /**
+   * Removes claimed modules from the lookup structures after the caller
+   * has loaded them (or has failed to load them).
+   * @param loaded the modules that were claimed
+   */
+  synchronized void loaded(List<Module> loaded) {
+    if (loaded.isEmpty()) return;
+    for (final Module module : loaded) {
+      module.loaded = true;
+    }
+    rebuild();
+  }
+
+  private static void claim(Module module, List<Module> claimed) {
+    if (!module.isClaimed()) {
+      module.claimed = true;
+      claimed.add(module);
+    }
+  }
+
+  private synchronized Module module(String name) {
+    return modules.get(name);
+  }
+
+  /**
+   * Rebuilds the lookup structures for the modules that are pending.
+   */
+  private void rebuild() {
+    final Map<Oid, List<Module>> roots = new HashMap<>();
+    final Map<String, List<Module>> definers = new HashMap<>();
+    for (final Module module : modules.values()) {
+      if (module.isLoaded()) continue;
+      for (final Oid root : module.roots) {
+        List<Module> list = roots.get(root);
+        if (list == null) {
+          list = new ArrayList<>();
+          roots.put(root, list);
+        }
+        list.add(module);
+      }
+      for (final String name : module.names) {
+        List<Module> list = definers.get(name);
+        if (list == null) {
+          list = new ArrayList<>();
+          definers.put(name, list);
+        }
+        list.add(module);
+      }
+    }
+    final OidTrie<Module[]> subtrees = new OidTrie<>();
+    for (final Map.Entry<Oid, List<Module>> entry : roots.entrySet()) {
+      subtrees.put(entry.getKey(),
+          entry.getValue().toArray(new Module[entry.getValue().size()]));
+    }
+    final Map<String, Module[]> names = new HashMap<>();
+    for (final Map.Entry<String, List<Module>> entry : definers.entrySet()) {
+      names.put(entry.getKey(),
+          entry.getValue().toArray(new Module[entry.getValue().size()]));
+    }
+    this.subtrees = subtrees;
+    this.names = names;
+  }
+
+  /**
+   * Resolves the object identifiers assigned by scanned modules, to
+   * determine the top-level subtrees of each module.
+   */
+  private class Resolver {
+
+    private final Map<String, MibModuleScanner.Module> scanned;
+    private final Map<String, Oid> resolved = new HashMap<>();
+    private final Set<String> resolving = new HashSet<>();
+
+    Resolver(Map<String, MibModuleScanner.Module> scanned) {
+      this.scanned = scanned;
+    }
+
+    void resolve(List<Module> added) {
+      for (final Module module : added) {
+        final MibModuleScanner.Module source = scanned.get(module.getName());
+        final Map<String, MibModuleScanner.Assignment> assignments =
+            source.getAssignments();
+        final Set<Oid> roots = new HashSet<>();
+        for (final Map.Entry<String, MibModuleScanner.Assignment> entry
+            : assignments.entrySet()) {
+          final String parent = entry.getValue().getParent();
+          if (parent != null && assignments.containsKey(parent)) continue;
+          final Oid oid = resolve(source, entry.getKey());
+          if (oid != null) {
+            roots.add(oid);
+          }
+        }
+        module.names = assignments.keySet().toArray(
+            new String[assignments.size()]);
+        module.roots = roots.toArray(new Oid[roots.size()]);
+      }
+    }
+
+    private Oid resolve(MibModuleScanner.Module module, String name) {
+      final MibModuleScanner.Assignment assignment =
+          module.getAssignments().get(name);
+      if (assignment == null) {
+        return resolveImport(module, name);
+      }
+      final String key = module.getName() + "!" + name;
+      if (resolved.containsKey(key)) return resolved.get(key);
+      if (!resolving.add(key)) return null;
+      Oid oid = null;
+      final Oid parent = assignment.getParent() != null ?
+          resolve(module, assignment.getParent()) : Oid.valueOf();
+      if (parent != null) {
+        oid = parent.append(Oid.valueOf(assignment.getSubIds()));
+      }
+      resolving.remove(key);
+      resolved.put(key, oid);
+      return oid;
+    }
+
+    private Oid resolveImport(MibModuleScanner.Module module, String name) {
+      final String from = module.getImports().get(name);
+      final MibModuleScanner.Module source =
+          from != null ? scanned.get(from) : null;
+      if (source != null && source.getAssignments().containsKey(name)) {
+        return resolve(source, name);
+      }
+      return WELL_KNOWN.get(name);
+    }
+
+  }
+
+  /**
+   * A module in the index.
+   */
+  static class Module {
+
+    private final String name;
+    private final File file;
+    private final boolean first;
+
+    private Oid[] roots;
+    private String[] names;
+    private volatile boolean claimed;
+    private volatile boolean loaded;
+
+    Module(String name, File file, boolean first) {
+      this.name = name;
+      this.file = file;
+      this.first = first;
+    }
+
+    /**
+     * Gets the name of the module.
+     * @return module name
+     */
+    String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the file that defines the module.
+     * @return file
+     */
+    File getFile() {
+      return file;
+    }
+
+    /**
+     * Tests whether the module is the first module defined in its file,
+     * in which case it can be loaded from the file.
+     * @return {@code true} if the module is the first in its file
+     */
+    boolean isFirstInFile() {
+      return first;
+    }
+
+    /**
+     * Gets the object identifiers of the top-level subtrees of the module.
+     * @return object identifiers
+     */
+    Oid[] getRoots() {
+      return roots.clone();
+    }
+
+    boolean isClaimed() {
+      return claimed;
+    }
+
+    boolean isLoaded() {
+      return loaded;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+
+  }
+
+}
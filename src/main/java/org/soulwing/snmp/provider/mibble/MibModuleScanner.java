@@ -0,0 +1,350 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A scanner that finds the modules defined in MIB source text and the
+ * object identifier values that each module assigns, without parsing the
+ * modules.
+ * <p>
+ * Only what is needed to index a module is recognized: the module name,
+ * the symbols it imports, and the values of the OBJECT IDENTIFIER
+ * assignments and SMI macro invocations (OBJECT-TYPE, MODULE-IDENTITY,
+ * and so on) that it contains.  Everything else in the module is skipped.
+ *
+ * @author Carl Harris
+ */
+class MibModuleScanner {
+
+  private static final String STRING = "\"";
+
+  private static final Set<String> MACROS = new HashSet<>(Arrays.asList(
+      "OBJECT-TYPE", "OBJECT-IDENTITY", "MODULE-IDENTITY",
+      "NOTIFICATION-TYPE", "OBJECT-GROUP", "NOTIFICATION-GROUP",
+      "MODULE-COMPLIANCE", "AGENT-CAPABILITIES"));
+
+  private final List<String> tokens;
+
+  private int position;
+
+  private MibModuleScanner(List<String> tokens) {
+    this.tokens = tokens;
+  }
+
+  /**
+   * Scans MIB source text.
+   * @param reader reader for the source text
+   * @return modules found in the text, in the order in which they appear
+   * @throws IOException if an I/O error occurs
+   */
+  static List<Module> scan(Reader reader) throws IOException {
+    final StringBuilder sb = new StringBuilder();
+    final char[] buf = new char[8192];
+    int count;
+    while ((count = reader.read(buf)) != -1) {
+      sb.append(buf, 0, count);
+    }
+    return new MibModuleScanner(tokenize(sb)).modules();
+  }
+
+  /**
+   * Splits source text into tokens, discarding comments.  A quoted string
+   * is reduced to a single {@value #STRING} token.
+   */
+  private static List<String> tokenize(CharSequence s) {
+    final List<String> tokens = new ArrayList<>();
+    final int length = s.length();
+    int i = 0;
+    while (i < length) {
+      final char c = s.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      }
+      else if (c == '-' && i + 1 < length && s.charAt(i + 1) == '-') {
+        i += 2;
+        while (i < length && s.charAt(i) != '\n' && s.charAt(i) != '\r') {
+          if (s.charAt(i) == '-' && i + 1 < length
+              && s.charAt(i + 1) == '-') {
+            i += 2;
+            break;
+          }
+          i++;
+        }
+      }
+      else if (c == '"') {
+        i++;
+        while (i < length && s.charAt(i) != '"') {
+          i++;
+        }
+        i++;
+        tokens.add(STRING);
+      }
+      else if (c == ':' && i + 2 < length && s.charAt(i + 1) == ':'
+          && s.charAt(i + 2) == '=') {
+        tokens.add("::=");
+        i += 3;
+      }
+      else if (isWordChar(c)) {
+        final int start = i++;
+        while (i < length && isWordChar(s.charAt(i))
+            && !(s.charAt(i) == '-' && i + 1 < length
+                && s.charAt(i + 1) == '-')) {
+          i++;
+        }
+        tokens.add(s.subSequence(start, i).toString());
+      }
+      else {
+        tokens.add(String.valueOf(c));
+        i++;
+      }
+    }
+    return tokens;
+  }
+
+  private static boolean isWordChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+  }
+
+  private List<Module> modules() {
+    final List<Module> modules = new ArrayList<>();
+    Module module = null;
+    while (position < tokens.size()) {
+      final String token = tokens.get(position++);
+      if (token.equals("DEFINITIONS") && position > 1) {
+        module = new Module(tokens.get(position - 2));
+        modules.add(module);
+      }
+      else if (module == null) {
+        continue;
+      }
+      else if (token.equals("END")) {
+        module = null;
+      }
+      else if (token.equals("IMPORTS")) {
+        imports(module);
+      }
+      else if (token.equals("MACRO")) {
+        skipTo("END");
+      }
+      else if (Character.isLowerCase(token.charAt(0))
+          && position < tokens.size()) {
+        assignment(module, token);
+      }
+    }
+    return modules;
+  }
+
+  private void imports(Module module) {
+    final List<String> symbols = new ArrayList<>();
+    while (position < tokens.size()) {
+      final String token = tokens.get(position++);
+      if (token.equals(";")) return;
+      if (token.equals("FROM")) {
+        if (position == tokens.size()) return;
+        final String from = tokens.get(position++);
+        for (final String symbol : symbols) {
+          module.imports.put(symbol, from);
+        }
+        symbols.clear();
+      }
+      else if (!token.equals(",")) {
+        symbols.add(token);
+      }
+    }
+  }
+
+  private void assignment(Module module, String name) {
+    final String next = tokens.get(position);
+    if (next.equals("OBJECT")) {
+      if (!token(position + 1, "IDENTIFIER")
+          || !token(position + 2, "::=")) {
+        return;
+      }
+      position += 3;
+    }
+    else if (MACROS.contains(next)) {
+      if (!skipTo("::=")) return;
+    }
+    else {
+      return;
+    }
+    if (!token(position, "{")) return;
+    position++;
+    final Assignment assignment = value();
+    if (assignment != null) {
+      module.assignments.put(name, assignment);
+    }
+  }
+
+  /**
+   * Parses the components of an object identifier value, following the
+   * opening brace.
+   * @return assignment or {@code null} if the value is not recognized
+   */
+  private Assignment value() {
+    String parent = null;
+    final List<Integer> subIds = new ArrayList<>();
+    boolean first = true;
+    while (position < tokens.size()) {
+      final String token = tokens.get(position++);
+      if (token.equals("}")) {
+        if (first) return null;
+        final int[] values = new int[subIds.size()];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = subIds.get(i);
+        }
+        return new Assignment(parent, values);
+      }
+      if (Character.isDigit(token.charAt(0))) {
+        final Integer subId = parseSubId(token);
+        if (subId == null) return null;
+        subIds.add(subId);
+      }
+      else if (token(position, "(")) {
+        // named number; e.g. org(3)
+        if (position + 2 >= tokens.size()
+            || !token(position + 2, ")")) {
+          return null;
+        }
+        final Integer subId = parseSubId(tokens.get(position + 1));
+        if (subId == null) return null;
+        subIds.add(subId);
+        position += 3;
+      }
+      else if (first && Character.isLetter(token.charAt(0))) {
+        parent = token;
+      }
+      else {
+        return null;
+      }
+      first = false;
+    }
+    return null;
+  }
+
+  private static Integer parseSubId(String token) {
+    try {
+      final long value = Long.parseLong(token);
+      return value >= 0 && value <= 0xffffffffL ? (int) value : null;
+    }
+    catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  private boolean token(int index, String token) {
+    return index < tokens.size() && tokens.get(index).equals(token);
+  }
+
+  private boolean skipTo(String token) {
+    while (position < tokens.size()) {
+      if (tokens.get(position++).equals(token)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * A module found in MIB source text.
+   */
+  static class Module {
+
+    private final String name;
+    private final Map<String, String> imports = new LinkedHashMap<>();
+    private final Map<String, Assignment> assignments =
+        new LinkedHashMap<>();
+
+    Module(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Gets the name of the module.
+     * @return module name
+     */
+    String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the symbols imported by the module.
+     * @return map of symbol name to the name of the module from which the
+     *    symbol is imported
+     */
+    Map<String, String> getImports() {
+      return Collections.unmodifiableMap(imports);
+    }
+
+    /**
+     * Gets the object identifier values assigned by the module.
+     * @return map of symbol name to assignment, in the order in which the
+     *    symbols are defined
+     */
+    Map<String, Assignment> getAssignments() {
+      return Collections.unmodifiableMap(assignments);
+    }
+
+  }
+
+  /**
+   * An object identifier value assigned to a symbol.
+   * <p>
+   * The value is given relative to another named value (e.g.
+   * {@code { mib-2 2 }}), or as a sequence of numbers alone (e.g.
+   * {@code { iso(1) org(3) }}).
+   */
+  static class Assignment {
+
+    private final String parent;
+    private final int[] subIds;
+
+    Assignment(String parent, int[] subIds) {
+      this.parent = parent;
+      this.subIds = subIds;
+    }
+
+    /**
+     * Gets the name of the value to which this value is relative.
+     * @return name or {@code null} if the value is absolute
+     */
+    String getParent() {
+      return parent;
+    }
+
+    /**
+     * Gets the sub-identifiers that follow the parent value.
+     * @return sub-identifiers
+     */
+    int[] getSubIds() {
+      return subIds.clone();
+    }
+
+  }
+
+}
@@ -21,6 +21,8 @@ package org.soulwing.snmp.provider.mibble;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Collection;
+import java.util.List;
 
 import net.percederberg.mibble.Mib;
 import net.percederberg.mibble.MibLoaderException;
@@ -59,6 +61,21 @@ interface MibRepository {
    */
   Mib load(String name) throws MibLoaderException, IOException;
 
+  /**
+   * Loads several MIB modules by name.
+   * <p>
+   * Modules that have not been cached are parsed (possibly in parallel)
+   * and then installed together, after the modules they import; if any
+   * module cannot be parsed, none is installed.
+   * @param names names of the modules to load
+   * @return MIB modules in the order of {@code names}
+   * @throws MibLoaderException if a module cannot be parsed; the failures
+   *    of any other modules are suppressed by the exception thrown
+   * @throws IOException if an I/O error occurs
+   */
+  List<Mib> loadAll(Collection<String> names)
+      throws MibLoaderException, IOException;
+
   /**
    * Loads a MIB module from a file.
    * <p>
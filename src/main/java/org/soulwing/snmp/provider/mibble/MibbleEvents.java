@@ -0,0 +1,68 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+/**
+ * A sink for diagnostic events produced by this provider.
+ * <p>
+ * The {@link #INSTANCE} emits Java Flight Recorder events when the
+ * {@code jdk.jfr} module is available; otherwise it silently discards
+ * all events.  The events are disabled by default.
+ *
+ * @author Carl Harris
+ */
+class MibbleEvents {
+
+  static final MibbleEvents INSTANCE = newInstance();
+
+  private static MibbleEvents newInstance() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return (MibbleEvents) Class.forName(
+          MibbleEvents.class.getPackage().getName() + ".JfrMibbleEvents")
+          .getDeclaredConstructor().newInstance();
+    }
+    catch (Exception | LinkageError ex) {
+      return new MibbleEvents();
+    }
+  }
+
+  /**
+   * Tests whether resolution events are being recorded.
+   * <p>
+   * Callers use this to avoid the cost of timing resolutions that will
+   * not be recorded.
+   * @return {@code true} if resolution events are enabled
+   */
+  boolean isResolutionEnabled() {
+    return false;
+  }
+
+  /**
+   * Notifies this sink that an object identifier or name was resolved.
+   * @param kind kind of resolution performed
+   * @param input the object identifier or name that was resolved
+   * @param result the result of the resolution or {@code null} if the input
+   *    could not be resolved
+   * @param latency time taken to resolve the input (nanoseconds)
+   */
+  void resolved(String kind, String input, String result, long latency) {
+  }
+
+}
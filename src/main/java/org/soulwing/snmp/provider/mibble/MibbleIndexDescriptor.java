@@ -19,35 +19,29 @@ package org.soulwing.snmp.provider.mibble;
 
 import org.soulwing.snmp.IndexDescriptor;
 
-import net.percederberg.mibble.MibType;
-import net.percederberg.mibble.MibValueSymbol;
-import net.percederberg.mibble.snmp.SnmpObjectType;
-
 class MibbleIndexDescriptor implements IndexDescriptor {
 
-  private final MibValueSymbol indexSymbol;
-  private final MibType indexType;
+  private final String oid;
+  private final int syntax;
   private final int[] encoded;
   private final boolean implied;
   
-  public MibbleIndexDescriptor(MibValueSymbol indexSymbol,
-      int[] encoded, boolean implied) {
-    this.indexSymbol = indexSymbol;
-    this.indexType = ((SnmpObjectType) indexSymbol.getType()).getSyntax();
+  public MibbleIndexDescriptor(String oid, int syntax, int[] encoded,
+      boolean implied) {
+    this.oid = oid;
+    this.syntax = syntax;
     this.encoded = encoded;
     this.implied = implied;
   }
 
   @Override
   public String getOid() {
-    return indexSymbol.getValue().toString();
+    return oid;
   }
 
   @Override
   public int getSyntax() {
-    int category = indexType.getTag().getCategory();
-    int value = indexType.getTag().getValue();
-    return (category<<6) + value;
+    return syntax;
   }
 
   @Override
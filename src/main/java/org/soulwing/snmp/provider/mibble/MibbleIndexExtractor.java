@@ -19,7 +19,6 @@ package org.soulwing.snmp.provider.mibble;
 
 import java.util.List;
 
-import net.percederberg.mibble.Mib;
 import net.percederberg.mibble.MibType;
 import net.percederberg.mibble.MibTypeTag;
 import net.percederberg.mibble.MibValue;
@@ -31,11 +30,29 @@ import net.percederberg.mibble.type.StringType;
 import net.percederberg.mibble.type.ValueConstraint;
 import org.soulwing.snmp.IndexDescriptor;
 import org.soulwing.snmp.IndexExtractor;
+import org.soulwing.snmp.Oid;
 
+/**
+ * An {@link IndexExtractor} for a table column.
+ * <p>
+ * The index objects of the column's conceptual row are resolved when the
+ * extractor is constructed, into a plan that gives the object identifier,
+ * syntax, and encoded length of each index object; extracting the indexes
+ * of an instance consults only the plan and the sub-identifiers of the
+ * instance.
+ *
+ * @author Carl Harris
+ */
 class MibbleIndexExtractor implements IndexExtractor {
 
-  private final MibValueSymbol symbol;
-  private final SnmpIndex[] indexes;
+  private static final int VARIABLE_LENGTH = -1;
+  private static final int UNKNOWN_LENGTH = -2;
+
+  private final int columnLength;
+  private final String[] indexOids;
+  private final int[] syntaxes;
+  private final int[] lengths;
+  private final boolean[] implied;
 
   public MibbleIndexExtractor(MibValueSymbol symbol) {
     if (!symbol.isTableColumn()) {
@@ -43,7 +60,7 @@ class MibbleIndexExtractor implements IndexExtractor {
           + symbol.getName());
     }
     
-    this.symbol = symbol;
+    this.columnLength = MibbleMib.length(symbol);
     MibValueSymbol rowSymbol = symbol.getParent();
     SnmpObjectType rowType = (SnmpObjectType) rowSymbol.getType();
     if (rowType.getAugments() != null) {
@@ -52,53 +69,102 @@ class MibbleIndexExtractor implements IndexExtractor {
     }
     
     List<?> indexes = rowType.getIndex();
-    this.indexes = new SnmpIndex[indexes.size()];
-    for (int i = 0; i < this.indexes.length; i++) {
-      this.indexes[i] = (SnmpIndex) indexes.get(i);
+    this.indexOids = new String[indexes.size()];
+    this.syntaxes = new int[indexes.size()];
+    this.lengths = new int[indexes.size()];
+    this.implied = new boolean[indexes.size()];
+    for (int i = 0; i < indexOids.length; i++) {
+      SnmpIndex index = (SnmpIndex) indexes.get(i);
+      MibValueSymbol indexSymbol =
+          symbol.getMib().getSymbolByOid(index.getValue().toString());
+      MibType indexType = ((SnmpObjectType) indexSymbol.getType()).getSyntax();
+      indexOids[i] = indexSymbol.getValue().toString();
+      syntaxes[i] = (indexType.getTag().getCategory() << 6)
+          + indexType.getTag().getValue();
+      lengths[i] = fixedLength(indexType);
+      implied[i] = lengths[i] != VARIABLE_LENGTH || index.isImplied();
+      if (lengths[i] == VARIABLE_LENGTH && !isVariableLength(indexType)) {
+        lengths[i] = UNKNOWN_LENGTH;
+      }
     }
-    
   }
   
+  /**
+   * Constructs a new instance from a previously computed plan (e.g. one
+   * read from a {@link MibImage}).
+   * @param columnLength number of sub-identifiers in the column OID
+   * @param indexOids OIDs of the index objects
+   * @param syntaxes syntaxes of the index objects
+   * @param lengths encoded lengths of the index objects
+   * @param implied flags indicating whether the length of each index
+   *    object is implied
+   */
+  MibbleIndexExtractor(int columnLength, String[] indexOids, int[] syntaxes,
+      int[] lengths, boolean[] implied) {
+    this.columnLength = columnLength;
+    this.indexOids = indexOids;
+    this.syntaxes = syntaxes;
+    this.lengths = lengths;
+    this.implied = implied;
+  }
+
+  int getColumnLength() {
+    return columnLength;
+  }
+
+  String[] getIndexOids() {
+    return indexOids;
+  }
+
+  int[] getSyntaxes() {
+    return syntaxes;
+  }
+
+  int[] getLengths() {
+    return lengths;
+  }
+
+  boolean[] getImplied() {
+    return implied;
+  }
+
   @Override
   public IndexDescriptor[] extractIndexes(String instanceOid) {
-    String oid = symbol.getValue().toString();
+    return extractIndexes(Oid.parse(instanceOid));
+  }
 
+  @Override
+  public IndexDescriptor[] extractIndexes(Oid instanceOid) {
     // GitHub issue 9 fix; we might be asked to extract indexes from an
     // OID that represents a type, not an instance.
-    if (oid.equals(instanceOid)) return new IndexDescriptor[0];
-
-    String suboid = instanceOid.substring(oid.length() + 1);
-    int[] components = oidToArray(suboid);
-    int offset = 0;
-    IndexDescriptor[] descriptors = new IndexDescriptor[indexes.length];
-    for (int i = 0; i < indexes.length; i++) {
-      SnmpIndex index = indexes[i];
-      MibValueSymbol indexSymbol =
-          symbol.getMib().getSymbolByOid(index.getValue().toString());
-      MibType indexType = ((SnmpObjectType) indexSymbol.getType()).getSyntax();
-      int length = fixedLength(indexType);
-      boolean implied = length != -1 || index.isImplied();
-      if (length == -1) {
-        length = variableLength(indexType, components, offset, index.isImplied());
+    if (instanceOid.size() <= columnLength) return new IndexDescriptor[0];
+
+    int offset = columnLength;
+    IndexDescriptor[] descriptors = new IndexDescriptor[indexOids.length];
+    for (int i = 0; i < indexOids.length; i++) {
+      int length = lengths[i];
+      if (length == UNKNOWN_LENGTH) {
+        throw new IllegalStateException("cannot determine index length");
+      }
+      if (length == VARIABLE_LENGTH) {
+        length = implied[i] ? instanceOid.size() - offset
+            : instanceOid.get(offset) + 1;
+      }
+      if (length < 0 || length > instanceOid.size() - offset) {
+        throw new IllegalArgumentException(
+            "instance identifier is too short for its indexes: " + instanceOid);
       }
       int[] encoded = new int[length];
-      System.arraycopy(components, offset, encoded, 0, length);
-      
-      descriptors[i] = new MibbleIndexDescriptor(indexSymbol, encoded, implied);
+      for (int j = 0; j < length; j++) {
+        encoded[j] = instanceOid.get(offset + j);
+      }
+      descriptors[i] = new MibbleIndexDescriptor(indexOids[i], syntaxes[i],
+          encoded, implied[i]);
       offset += length;
     }
     return descriptors;
   }
 
-  private static int[] oidToArray(String oid) {
-    String[] tokens = oid.split("\\.");
-    int[] components = new int[tokens.length];
-    for (int i = 0; i < components.length; i++) {
-      components[i] = Integer.parseInt(tokens[i]);
-    }
-    return components;
-  }
-
   private static int fixedLength(MibType type) {
     if (type.hasTag(MibTypeTag.INTEGER)
         || type.hasTag(MibTypeTag.APPLICATION_CATEGORY, SnmpApplicationTypes.COUNTER32)
@@ -109,26 +175,23 @@ class MibbleIndexExtractor implements IndexExtractor {
     else if (type.hasTag(MibTypeTag.APPLICATION_CATEGORY, SnmpApplicationTypes.IP_ADDRESS)) {
       return 4;
     }
-    else if (type.hasTag(MibTypeTag.OCTET_STRING))  {
+    else if (type.hasTag(MibTypeTag.OCTET_STRING)
+        && ((StringType) type).getConstraint() instanceof SizeConstraint)  {
       List<?> constraints = ((SizeConstraint) 
           ((StringType) type).getConstraint()).getValues();
       for (int i = 0; i < constraints.size(); i++) {
         if (constraints.get(i) instanceof ValueConstraint) {
-          MibValue sizeValue = ((ValueConstraint) constraints.get(0)).getValue();
+          MibValue sizeValue = ((ValueConstraint) constraints.get(i)).getValue();
           return ((Number) sizeValue.toObject()).intValue();
         }
       }
     }
-    return -1;
+    return VARIABLE_LENGTH;
   }
   
-  private static int variableLength(MibType type, int[] components, int offset,
-      boolean impliedLength) {
-    if (type.hasTag(MibTypeTag.OBJECT_IDENTIFIER)
-        || type.hasTag(MibTypeTag.OCTET_STRING)) {
-      return impliedLength ? offset - components.length : components[offset] + 1;
-    }
-    throw new IllegalStateException("cannot determine index length");
+  private static boolean isVariableLength(MibType type) {
+    return type.hasTag(MibTypeTag.OBJECT_IDENTIFIER)
+        || type.hasTag(MibTypeTag.OCTET_STRING);
   }
 
 }
@@ -19,9 +19,15 @@ package org.soulwing.snmp.provider.mibble;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,8 +37,10 @@ import org.soulwing.snmp.Mib;
 import org.soulwing.snmp.MibException;
 import org.soulwing.snmp.MibTrapV1Support;
 import org.soulwing.snmp.ModuleParseException;
+import org.soulwing.snmp.Oid;
 import net.percederberg.mibble.MibLoaderException;
 import net.percederberg.mibble.MibType;
+import net.percederberg.mibble.MibValue;
 import net.percederberg.mibble.MibValueSymbol;
 import net.percederberg.mibble.snmp.SnmpObjectType;
 import net.percederberg.mibble.value.ObjectIdentifierValue;
@@ -47,6 +55,17 @@ class MibbleMib implements Mib, MibTrapV1Support {
 
   private final IndexExtractorFactory indexExtractorFactory;
 
+  private final MibbleEvents events = MibbleEvents.INSTANCE;
+
+  private volatile OidTrie<MibValueSymbol> symbols;
+
+  private volatile ConcurrentMap<String, Oid> resolvedNames =
+      new ConcurrentHashMap<>();
+
+  private final List<MibImage> images = new CopyOnWriteArrayList<>();
+
+  private final MibModuleIndex moduleIndex = new MibModuleIndex();
+
   public MibbleMib() {
     this(new CachingMibRepository(), new CachingFormatterFactory(),
         new CachingIndexExtractorFactory());
@@ -61,113 +80,348 @@ class MibbleMib implements Mib, MibTrapV1Support {
 
   @Override
   public String oidToInstanceName(String oid) {
-    MibValueSymbol symbol = getSymbolByOid(oid);
-    if (symbol == null) return oid;
-    String name = oid;
-    String baseOid = symbol.getValue().toString();
-    name = name.replaceFirst("^" + baseOid, symbol.getName());
-    return name;
+    final Oid value = parseOid(oid);
+    return value != null ? oidToInstanceName(value) : oid;
+  }
+
+  @Override
+  public String oidToInstanceName(Oid oid) {
+    OidTrie.Node<MibValueSymbol> node = findSymbolNode(oid);
+    ImageSymbol imageSymbol = findImageSymbol(oid, node);
+    if (imageSymbol != null) {
+      return oid.appendTo(new StringBuilder(imageSymbol.getName()),
+          imageSymbol.getDepth()).toString();
+    }
+    if (node == null) return oid.toString();
+    return oid.appendTo(new StringBuilder(node.getValue().getName()),
+        node.getDepth()).toString();
   }
 
   @Override
   public String oidToObjectName(String oid) {
-    MibValueSymbol symbol = getSymbolByOid(oid);
-    if (symbol == null) return oid;
+    final Oid value = parseOid(oid);
+    return value != null ? oidToObjectName(value) : oid;
+  }
+
+  @Override
+  public String oidToObjectName(Oid oid) {
+    OidTrie.Node<MibValueSymbol> node = findSymbolNode(oid);
+    ImageSymbol imageSymbol = findImageSymbol(oid, node);
+    if (imageSymbol != null) return imageSymbol.getName();
+    MibValueSymbol symbol = node != null ? node.getValue() : null;
+    if (symbol == null) return oid.toString();
     return symbol.getName();
   }
 
   @Override
   public String nameToOid(String name) {
-    int i = name.indexOf('!');
+    final Oid oid = resolveName(name);
+    return oid != null ? oid.toString() : null;
+  }
+
+  @Override
+  public Oid resolveName(String name) {
+    if (!events.isResolutionEnabled()) return lookupName(name);
+    final long startedAt = System.nanoTime();
+    final Oid oid = lookupName(name);
+    events.resolved("nameToOid", name, oid != null ? oid.toString() : null,
+        System.nanoTime() - startedAt);
+    return oid;
+  }
+
+  private Oid lookupName(String name) {
     int j = name.indexOf('.');
+    Oid oid = resolveObjectName(j != -1 ? name.substring(0, j) : name);
+    if (oid == null || j == -1) return oid;
+    final Oid instance = parseOid(name.substring(j));
+    return instance != null ? oid.append(instance) : null;
+  }
+
+  /**
+   * Resolves an object name (without an instance identifier) to an OID.
+   * <p>
+   * Resolved names are cached until the next module is loaded or a
+   * directory is removed from the search path; names that cannot be
+   * resolved are not cached.
+   * @param name object name, optionally qualified by module name
+   *    (e.g. {@code IF-MIB!ifInOctets})
+   * @return object identifier or {@code null} if {@code name} cannot be
+   *    resolved
+   */
+  private Oid resolveObjectName(String name) {
+    final ConcurrentMap<String, Oid> resolvedNames = this.resolvedNames;
+    Oid oid = resolvedNames.get(name);
+    if (oid != null) return oid;
+    int i = name.indexOf('!');
+    String scope = null;
+    String objectName = name;
     ObjectIdentifierValue value = null;
-    String instanceId = null;
-    if (j != -1) {
-      instanceId = name.substring(j);
-      name = name.substring(0, j);
-    }
     if (i != -1) {
-      String scope = name.substring(0, i);
-      name = name.substring(i + 1);
-      value = getSymbol(scope, name);
+      scope = name.substring(0, i);
+      objectName = name.substring(i + 1);
+      value = getSymbol(scope, objectName);
     }
     else {
-      value = getSymbol(name);
+      value = getSymbol(objectName);
     }
-    if (value == null) return null;
-    if (instanceId != null) {
-      return value.toString() + instanceId;
+    oid = value != null ? toOid(value) : findImageOid(scope, objectName);
+    if (oid == null && loadIndexedModules(scope, objectName)) {
+      return resolveObjectName(name);
     }
-    return value.toString();
+    if (oid == null) return null;
+    resolvedNames.put(name, oid);
+    return oid;
   }
 
   @Override
   public int syntaxForObject(String oid) {
-    MibValueSymbol symbol = getSymbolByOid(oid);
+    return syntaxForObject(parseOid(oid));
+  }
+
+  @Override
+  public int syntaxForObject(Oid oid) {
+    if (oid == null) {
+      throw new IllegalArgumentException("unrecognized object identifier");
+    }
+    OidTrie.Node<MibValueSymbol> node = findSymbolNode(oid);
+    ImageSymbol imageSymbol = findImageSymbol(oid, node);
+    if (imageSymbol != null) {
+      final int syntax = imageSymbol.getSyntax();
+      if (syntax == MibImage.NONE) {
+        throw new IllegalArgumentException("not an OBJECT-TYPE object");
+      }
+      return syntax;
+    }
+    MibValueSymbol symbol = node != null ? node.getValue() : null;
     if (symbol == null) {
       throw new IllegalArgumentException("unrecognized object identifier");
     }
     if (!(symbol.getType() instanceof SnmpObjectType)) {
       throw new IllegalArgumentException("not an OBJECT-TYPE object");
     }
-    MibType type = symbol.getType();
-    MibType syntax = ((SnmpObjectType) type).getSyntax();
+    return syntax(symbol);
+  }
+
+  /**
+   * Gets the SMI syntax indicator of an OBJECT-TYPE symbol.
+   * @param symbol the subject symbol
+   * @return syntax indicator or -1 if {@code symbol} is not an OBJECT-TYPE
+   */
+  static int syntax(MibValueSymbol symbol) {
+    if (!(symbol.getType() instanceof SnmpObjectType)) return -1;
+    MibType syntax = ((SnmpObjectType) symbol.getType()).getSyntax();
     int category = syntax.getTag().getCategory();
     int value = syntax.getTag().getValue();
     return (category<<6) + value;
   }
 
   MibValueSymbol getSymbolByOid(String oid) {
-    return geBestSymbolByOidMatch(oid, getAllSymbolByOidMatches(oid));
+    final Oid value = parseOid(oid);
+    return value != null ? getSymbolByOid(value) : null;
   }
 
-  private MibValueSymbol geBestSymbolByOidMatch(String oid,
-      List<MibValueSymbol> matches) {
+  MibValueSymbol getSymbolByOid(Oid oid) {
+    final OidTrie.Node<MibValueSymbol> node = findSymbolNode(oid);
+    return node != null ? node.getValue() : null;
+  }
 
-    if (matches.isEmpty()) return null;
+  /**
+   * Finds the symbol whose object identifier is the longest prefix of
+   * the given object identifier.
+   * @param oid the subject object identifier
+   * @return trie node for the matching symbol or {@code null} if there is
+   *    no matching symbol
+   */
+  private OidTrie.Node<MibValueSymbol> findSymbolNode(Oid oid) {
+    if (moduleIndex.isPending(oid)) {
+      loadIndexedModules(oid);
+    }
+    if (!events.isResolutionEnabled()) return symbols().longestMatch(oid);
+    final long startedAt = System.nanoTime();
+    final OidTrie.Node<MibValueSymbol> node = symbols().longestMatch(oid);
+    events.resolved("oidToSymbol", oid.toString(),
+        node != null ? node.getValue().getName() : null,
+        System.nanoTime() - startedAt);
+    return node;
+  }
 
-    // assume first match is best
-    MibValueSymbol best = matches.get(0);
-    String bestSuffix = oid.replaceFirst("^" + best.getValue().toString() + ".", "");
-    int bestRank = bestSuffix.split("\\.").length;
+  /**
+   * Gets the trie of the symbols of all loaded MIB modules, building it
+   * if a module has been loaded since the trie was last built.
+   * @return symbol trie
+   */
+  private OidTrie<MibValueSymbol> symbols() {
+    OidTrie<MibValueSymbol> symbols = this.symbols;
+    if (symbols == null) {
+      synchronized (this) {
+        symbols = this.symbols;
+        if (symbols == null) {
+          symbols = buildSymbols();
+          this.symbols = symbols;
+        }
+      }
+    }
+    return symbols;
+  }
 
-    for (int i = 0, max = matches.size(); i < max; i++) {
-      final MibValueSymbol other = matches.get(i);
-      final String otherSuffix =
-          oid.replaceFirst("^" + other.getValue().toString() + ".", "");
-      final int otherRank = otherSuffix.split("\\.").length;
-      // he have a new best if the range of this match is better
-      if (otherRank < bestRank) {
-        best = other;
-        bestRank = otherRank;
+  private OidTrie<MibValueSymbol> buildSymbols() {
+    // modules are named most recently loaded first; when more than one
+    // module defines a symbol for the same OID, the most recent one wins
+    final List<String> names = new ArrayList<>();
+    for (String name : repository.names()) {
+      names.add(0, name);
+    }
+    final OidTrie<MibValueSymbol> symbols = new OidTrie<>();
+    for (String name : names) {
+      final net.percederberg.mibble.Mib mib = repository.get(name);
+      if (mib == null) continue;
+      for (Object symbol : mib.getAllSymbols()) {
+        if (!(symbol instanceof MibValueSymbol)) continue;
+        final MibValue value = ((MibValueSymbol) symbol).getValue();
+        if (value instanceof ObjectIdentifierValue) {
+          symbols.put(toOid((ObjectIdentifierValue) value),
+              (MibValueSymbol) symbol);
+        }
       }
     }
     if (logger.isDebugEnabled()) {
-      logger.debug("getSymbolByOid selected best match {}", best);
+      logger.debug("built symbol trie for {} modules", names.size());
     }
-    return best;
+    return symbols;
   }
 
-  private List<MibValueSymbol> getAllSymbolByOidMatches(String oid) {
-    final List<MibValueSymbol> matches = new ArrayList<>();
-    for (String scope : repository.names()) {
-      final MibValueSymbol symbol = getSymbolByOid(scope, oid);
-      if (symbol != null) {
+  /**
+   * Discards the symbol trie and resolved names after a module has been
+   * loaded.
+   */
+  private synchronized void invalidateSymbols() {
+    symbols = null;
+    invalidateNames();
+  }
+
+  /**
+   * Loads the indexed modules that have a subtree containing the given
+   * object identifier.
+   * @param oid the subject object identifier
+   */
+  private void loadIndexedModules(Oid oid) {
+    synchronized (moduleIndex) {
+      loadIndexedModules(moduleIndex.claim(oid));
+    }
+  }
+
+  /**
+   * Loads the indexed modules that define a given name.
+   * @param scope module name or {@code null}
+   * @param name object name
+   * @return {@code true} if any module was loaded
+   */
+  private boolean loadIndexedModules(String scope, String name) {
+    if (!moduleIndex.isPending(scope, name)) return false;
+    synchronized (moduleIndex) {
+      return loadIndexedModules(moduleIndex.claim(scope, name));
+    }
+  }
+
+  /**
+   * Loads modules claimed from the module index.
+   * <p>
+   * Callers hold the lock of the index while the modules are loaded, so
+   * that a concurrent lookup waits for the modules it needs; the modules
+   * remain pending in the index until the symbol trie has been invalidated,
+   * so that a lookup that does not wait never sees the symbols loaded
+   * before them.  A module that cannot be loaded is not tried again.
+   * @param modules the modules to load
+   * @return {@code true} if any module was loaded
+   */
+  private boolean loadIndexedModules(List<MibModuleIndex.Module> modules) {
+    try {
+      return loadModules(modules);
+    }
+    finally {
+      moduleIndex.loaded(modules);
+    }
+  }
+
+  private boolean loadModules(List<MibModuleIndex.Module> modules) {
+    boolean loaded = false;
+    for (MibModuleIndex.Module module : modules) {
+      if (repository.get(module.getName()) != null) continue;
+      try {
+        if (module.isFirstInFile()) {
+          repository.load(module.getFile());
+        }
+        else {
+          repository.load(module.getName());
+        }
+        loaded = true;
         if (logger.isDebugEnabled()) {
-          logger.debug("getSymbolByOid found match: {}", symbol);
+          logger.debug("loaded indexed module {} from {}", module.getName(),
+              module.getFile());
         }
-        matches.add(symbol);
       }
+      catch (MibLoaderException | IOException ex) {
+        logger.warn("cannot load indexed module {} from {}: {}",
+            module.getName(), module.getFile(), ex.toString());
+      }
+    }
+    if (loaded) {
+      invalidateSymbols();
     }
-    return matches;
+    return loaded;
   }
 
-  private MibValueSymbol getSymbolByOid(String scope, String oid) {
-    final net.percederberg.mibble.Mib mib = repository.get(scope);
-    if (mib == null) return null;
-    return mib.getSymbolByOid(oid);
+  /**
+   * Reads a MIB image from a resource location.
+   * @param url location of the resource
+   * @return MIB image or {@code null} if the resource cannot be opened
+   *    or is not a MIB image (in which case the repository reports the
+   *    problem)
+   * @throws IOException if an I/O error occurs reading an image
+   */
+  private static MibImage readImage(URL url) throws IOException {
+    final InputStream in;
+    try {
+      in = url.openStream();
+    }
+    catch (IOException ex) {
+      return null;
+    }
+    try {
+      final byte[] header = new byte[4];
+      final int length = MibImage.readHeader(in, header);
+      if (!MibImage.isImage(header, length)) return null;
+      return MibImage.read(header, length, in);
+    }
+    finally {
+      in.close();
+    }
   }
-  
+
+  /**
+   * Adds a MIB image; its symbols are preferred over those of images that
+   * were loaded before it.
+   * @param image the image to add
+   */
+  private void addImage(MibImage image) {
+    images.add(0, image);
+    invalidateNames();
+    if (logger.isDebugEnabled()) {
+      logger.debug("loaded MIB image with {} symbols from modules {}",
+          image.getSymbolCount(), Arrays.asList(image.getModuleNames()));
+    }
+  }
+
+  /**
+   * Discards resolved names.
+   * <p>
+   * A lookup that is in progress puts its result into the map that it
+   * started with, which is no longer reachable.
+   */
+  private void invalidateNames() {
+    resolvedNames = new ConcurrentHashMap<>();
+  }
+
   private ObjectIdentifierValue getSymbol(String name) {
     ObjectIdentifierValue oid = null;
     for (String scope : repository.names()) {
@@ -187,12 +441,119 @@ class MibbleMib implements Mib, MibTrapV1Support {
   
   @Override
   public Formatter newFormatter(String oid) {
-    return formatterFactory.getFormatter(getSymbolByOid(oid));
+    final Oid value = parseOid(oid);
+    return value != null ?
+        newFormatter(value) : formatterFactory.getFormatter(null);
   }
 
   @Override
   public IndexExtractor newIndexExtractor(String oid) {
-    return indexExtractorFactory.getIndexExtractor(getSymbolByOid(oid));
+    final Oid value = parseOid(oid);
+    return value != null ? newIndexExtractor(value)
+        : indexExtractorFactory.getIndexExtractor(null);
+  }
+
+  @Override
+  public Formatter newFormatter(Oid oid) {
+    OidTrie.Node<MibValueSymbol> node = findSymbolNode(oid);
+    ImageSymbol imageSymbol = findImageSymbol(oid, node);
+    if (imageSymbol != null) return imageSymbol.getFormatter();
+    return formatterFactory.getFormatter(node != null ? node.getValue() : null);
+  }
+
+  @Override
+  public IndexExtractor newIndexExtractor(Oid oid) {
+    OidTrie.Node<MibValueSymbol> node = findSymbolNode(oid);
+    ImageSymbol imageSymbol = findImageSymbol(oid, node);
+    if (imageSymbol != null) return imageSymbol.getIndexExtractor();
+    return indexExtractorFactory.getIndexExtractor(
+        node != null ? node.getValue() : null);
+  }
+
+  /**
+   * Finds the symbol in the loaded MIB images whose OID is the longest
+   * prefix of a given OID, if it is longer than the OID of the symbol
+   * found in the loaded modules.
+   * @param oid the subject OID
+   * @param node trie node of the symbol found in the loaded modules or
+   *    {@code null} if none was found
+   * @return image symbol or {@code null} if no image has a better match
+   *    than {@code node}
+   */
+  private ImageSymbol findImageSymbol(Oid oid,
+      OidTrie.Node<MibValueSymbol> node) {
+    int depth = node != null ? node.getDepth() : 0;
+    ImageSymbol match = null;
+    for (MibImage image : images) {
+      final int record = image.findSymbol(oid);
+      if (record != MibImage.NONE && image.getOidLength(record) > depth) {
+        match = new ImageSymbol(image, record);
+        depth = match.getDepth();
+      }
+    }
+    return match;
+  }
+
+  /**
+   * Finds the OID of a symbol by name in the loaded MIB images.
+   * @param scope module name or {@code null}
+   * @param name symbol name
+   * @return object identifier or {@code null} if no image defines the
+   *    symbol
+   */
+  private Oid findImageOid(String scope, String name) {
+    for (MibImage image : images) {
+      final int record = image.findSymbol(scope, name);
+      if (record != MibImage.NONE) return image.getOid(record);
+    }
+    return null;
+  }
+
+  /**
+   * Parses a dotted-decimal object identifier.
+   * @param oid the string to parse
+   * @return object identifier or {@code null} if {@code oid} is not a
+   *    dotted-decimal object identifier
+   */
+  private static Oid parseOid(String oid) {
+    try {
+      return Oid.parse(oid);
+    }
+    catch (IllegalArgumentException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the number of sub-identifiers in the object identifier of a
+   * symbol.
+   */
+  static int length(MibValueSymbol symbol) {
+    if (symbol.getValue() instanceof ObjectIdentifierValue) {
+      int length = 0;
+      ObjectIdentifierValue value = (ObjectIdentifierValue) symbol.getValue();
+      while (value != null) {
+        length++;
+        value = value.getParent();
+      }
+      return length;
+    }
+    return parseOid(symbol.getValue().toString()).size();
+  }
+
+  /**
+   * Converts the value of an OBJECT IDENTIFIER symbol to binary form.
+   */
+  static Oid toOid(ObjectIdentifierValue value) {
+    int length = 0;
+    for (ObjectIdentifierValue v = value; v != null; v = v.getParent()) {
+      length++;
+    }
+    final int[] subIds = new int[length];
+    for (ObjectIdentifierValue v = value; v != null; v = v.getParent()) {
+      subIds[--length] = v.getValue();
+    }
+    return Oid.valueOf(subIds);
   }
 
   @Override
@@ -214,9 +575,18 @@ class MibbleMib implements Mib, MibTrapV1Support {
     return this;
   }
 
+  @Override
+  public Mib indexDirectory(File directory) throws IOException {
+    repository.addDirectory(directory);
+    moduleIndex.addDirectory(directory);
+    return this;
+  }
+
   @Override
   public Mib removeDirectory(File directory) {
     repository.removeDirectory(directory);
+    moduleIndex.removeDirectory(directory);
+    invalidateNames();
     return this;
   }
 
@@ -224,6 +594,20 @@ class MibbleMib implements Mib, MibTrapV1Support {
   public Mib load(String name) throws ModuleParseException, IOException {
     try {
       repository.load(name);
+      invalidateSymbols();
+      return this;
+    }
+    catch (MibLoaderException ex) {
+      throw new ModuleParseException(ex.getMessage(), ex);
+    }
+  }
+
+  @Override
+  public Mib loadAll(Collection<String> names)
+      throws ModuleParseException, IOException {
+    try {
+      repository.loadAll(names);
+      invalidateSymbols();
       return this;
     }
     catch (MibLoaderException ex) {
@@ -233,8 +617,13 @@ class MibbleMib implements Mib, MibTrapV1Support {
 
   @Override
   public Mib load(File file) throws ModuleParseException, IOException {
+    if (file.isFile() && MibImage.isImage(file)) {
+      addImage(MibImage.open(file));
+      return this;
+    }
     try {
       repository.load(file);
+      invalidateSymbols();
       return this;
     }
     catch (MibLoaderException ex) {
@@ -244,8 +633,14 @@ class MibbleMib implements Mib, MibTrapV1Support {
   
   @Override
   public Mib load(URL url) throws ModuleParseException, IOException {
+    final MibImage image = readImage(url);
+    if (image != null) {
+      addImage(image);
+      return this;
+    }
     try {
       repository.load(url);
+      invalidateSymbols();
       return this;
     }
     catch (MibLoaderException ex) {
@@ -267,4 +662,40 @@ class MibbleMib implements Mib, MibTrapV1Support {
   public Formatter getTimestampFormatter() {
     return new TimeTicksFormatter(null);
   }
+
+  /**
+   * A symbol in a MIB image.
+   */
+  private static class ImageSymbol {
+
+    private final MibImage image;
+    private final int record;
+
+    ImageSymbol(MibImage image, int record) {
+      this.image = image;
+      this.record = record;
+    }
+
+    String getName() {
+      return image.getName(record);
+    }
+
+    int getDepth() {
+      return image.getOidLength(record);
+    }
+
+    int getSyntax() {
+      return image.getSyntax(record);
+    }
+
+    Formatter getFormatter() {
+      return image.getFormatter(record);
+    }
+
+    IndexExtractor getIndexExtractor() {
+      return image.getIndexExtractor(record);
+    }
+
+  }
+
 }
@@ -129,6 +129,10 @@ class ObjectFormatter implements Formatter {
     return tc;
   }
 
+  Formatter getDelegate() {
+    return delegate;
+  }
+
   public String format(Object value) {
     return delegate.format(value);
   }
@@ -30,6 +30,10 @@ class OctetStringFormatter implements Formatter {
     this.hint = hint;
   }
 
+  String getHint() {
+    return hint;
+  }
+
   public String format(Object value) {
     final StringBuilder sb = new StringBuilder();
     final HintIterator it = new HintIterator(hint);
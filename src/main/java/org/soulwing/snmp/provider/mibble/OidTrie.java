@@ -0,0 +1,167 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.soulwing.snmp.Oid;
+
+/**
+ * A trie of values (e.g. MIB symbols) keyed by the sub-identifiers of
+ * object identifiers.
+ * <p>
+ * The children of each node are kept in arrays sorted by sub-identifier,
+ * so that finding the value whose object identifier is the longest prefix
+ * of a given object identifier requires a binary search at each level and
+ * no allocation.
+ * <p>
+ * A trie is not safe for concurrent modification; it is intended to be
+ * built and then published to the threads that search it.
+ *
+ * @param <V> value type
+ * @author Carl Harris
+ */
+class OidTrie<V> {
+
+  private final Node<V> root = new Node<>(0);
+
+  /**
+   * Puts a value into the trie, replacing any value that was previously
+   * put at the same object identifier.
+   * @param oid object identifier of the value
+   * @param value the value to put
+   */
+  void put(Oid oid, V value) {
+    Node<V> node = root;
+    for (int i = 0, max = oid.size(); i < max; i++) {
+      node = node.childFor(oid.get(i));
+    }
+    node.value = value;
+  }
+
+  /**
+   * Finds the node of the value whose object identifier is the longest
+   * prefix of the given object identifier.
+   * @param oid the subject object identifier
+   * @return node whose value is the longest match, or {@code null} if no
+   *    value matches
+   */
+  Node<V> longestMatch(Oid oid) {
+    Node<V> match = null;
+    Node<V> node = root;
+    for (int i = 0, max = oid.size(); i < max && node != null; i++) {
+      node = node.child(oid.get(i));
+      if (node != null && node.value != null) {
+        match = node;
+      }
+    }
+    return match;
+  }
+
+  /**
+   * Finds the nodes of all values whose object identifiers are prefixes
+   * of the given object identifier.
+   * @param oid the subject object identifier
+   * @return matching nodes, shortest object identifier first
+   */
+  List<Node<V>> matches(Oid oid) {
+    List<Node<V>> matches = Collections.emptyList();
+    Node<V> node = root;
+    for (int i = 0, max = oid.size(); i < max && node != null; i++) {
+      node = node.child(oid.get(i));
+      if (node != null && node.value != null) {
+        if (matches.isEmpty()) {
+          matches = new ArrayList<>();
+        }
+        matches.add(node);
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * A node of the trie.
+   */
+  static class Node<V> {
+
+    private static final int[] NO_KEYS = new int[0];
+
+    private final int depth;
+
+    private int[] keys = NO_KEYS;
+    private Node<V>[] children = newArray(0);
+    private V value;
+
+    Node(int depth) {
+      this.depth = depth;
+    }
+
+    /**
+     * Gets the value at this node.
+     * @return value or {@code null} if no value has this node's
+     *    object identifier
+     */
+    V getValue() {
+      return value;
+    }
+
+    /**
+     * Gets the number of sub-identifiers in this node's object identifier.
+     * <p>
+     * For the node returned by {@link OidTrie#longestMatch(Oid)}, this is
+     * the offset of the instance suffix in the subject object identifier.
+     * @return depth
+     */
+    int getDepth() {
+      return depth;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newArray(int length) {
+      return (Node<V>[]) new Node[length];
+    }
+
+    private Node<V> child(int key) {
+      final int i = Arrays.binarySearch(keys, key);
+      return i >= 0 ? children[i] : null;
+    }
+
+    private Node<V> childFor(int key) {
+      int i = Arrays.binarySearch(keys, key);
+      if (i >= 0) return children[i];
+      i = -(i + 1);
+      final int[] newKeys = new int[keys.length + 1];
+      final Node<V>[] newChildren = newArray(children.length + 1);
+      System.arraycopy(keys, 0, newKeys, 0, i);
+      System.arraycopy(children, 0, newChildren, 0, i);
+      System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+      System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+      newKeys[i] = key;
+      newChildren[i] = new Node<>(depth + 1);
+      keys = newKeys;
+      children = newChildren;
+      return newChildren[i];
+    }
+
+  }
+
+}
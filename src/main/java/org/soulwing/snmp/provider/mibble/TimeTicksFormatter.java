@@ -22,13 +22,19 @@ import org.soulwing.snmp.Formatter;
 
 class TimeTicksFormatter implements Formatter {
 
+  private final String hint;
   private final Formatter delegate;
   
   public TimeTicksFormatter(String hint) {
+    this.hint = hint;
     this.delegate = hint != null ? 
         new IntegerFormatter(hint) : new InnerFormatter();
   }
 
+  String getHint() {
+    return hint;
+  }
+
   @Override
   public String format(Object value) {
     return delegate.format(value);
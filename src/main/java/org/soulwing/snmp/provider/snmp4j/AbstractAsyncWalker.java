@@ -18,8 +18,12 @@
 
 package org.soulwing.snmp.provider.snmp4j;
 
+import static org.soulwing.snmp.provider.snmp4j.Snmp4jLogger.logger;
+
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -36,10 +40,23 @@ import org.soulwing.snmp.SnmpFactory;
 import org.soulwing.snmp.SnmpResponse;
 import org.soulwing.snmp.TimeoutException;
 import org.soulwing.snmp.TruncatedResponseException;
+import org.soulwing.snmp.WalkCheckpoint;
+import org.soulwing.snmp.WalkOptions;
 import org.soulwing.snmp.WouldBlockException;
+import org.soulwing.snmp.metrics.OperationType;
 
 /**
  * An abstract base {@link SnmpAsyncWalker} implementations.
+ * <p>
+ * Each repeating column is walked using its own cursor, so that the walk
+ * handles sparse tables in a single pass.  A row is assembled from the
+ * cells whose index is the least of those at the head of each column; a
+ * column that has no instance with that index is absent from the row.  When
+ * a column runs past the end of the table it is retired, and subsequent
+ * requests ask only for the columns that remain active.  The position of a
+ * retired column is moved past the end of the column, so that a walk
+ * continued from a {@linkplain #getCheckpoint() checkpoint} doesn't ask for
+ * it either.
  *
  * @author Carl Harris
  */
@@ -53,11 +70,28 @@ abstract class AbstractAsyncWalker<V>
   final int maxRepetitions;
   final VariableBinding[] requestedVarbinds;
   
-  private int repeaters;
+  private final int repeaters;
+  private final OID[] position;
+  private final boolean[] retired;
+  private final int[] requestColumns;
+  private final int[] heads;
+  private final VariableBinding[] cells;
+
+  private OID[] endOids;
+  private long maxRows;
+  private boolean endReached;
+  private boolean bounded;
+  private int requestColumnCount;
   private PDU response;
-  private int offset;
+  private Deadline deadline;
+  private long startedAt;
+  private long chunkStartedAt;
+  private boolean started;
+  private boolean finished;
+  private boolean complete;
+  private int resumes;
+  private long rows;
 
-  
   /**
    * Constructs a new instance.
    * @param context
@@ -67,13 +101,102 @@ abstract class AbstractAsyncWalker<V>
    */
   protected AbstractAsyncWalker(Snmp4jContext context,
       VariableBinding[] varbinds, int nonRepeaters, int maxRepetitions) {
+    this(context, varbinds, varbinds, nonRepeaters, maxRepetitions);
+  }
+
+  /**
+   * Constructs a new instance that continues a walk from a checkpoint.
+   * @param context
+   * @param varbinds the non-repeaters followed by the OIDs from which each
+   *    of the repeating columns is to be continued
+   * @param requestedVarbinds the non-repeaters followed by the repeating
+   *    columns originally requested
+   * @param nonRepeaters
+   * @param maxRepetitions
+   */
+  protected AbstractAsyncWalker(Snmp4jContext context,
+      VariableBinding[] varbinds, VariableBinding[] requestedVarbinds,
+      int nonRepeaters, int maxRepetitions) {
     super(context, varbinds);
     this.nonRepeaters = nonRepeaters;
     this.maxRepetitions = maxRepetitions;
     this.repeaters = varbinds.length - nonRepeaters;
-    this.requestedVarbinds = Arrays.copyOf(varbinds, varbinds.length);
+    this.requestedVarbinds = Arrays.copyOf(requestedVarbinds,
+        requestedVarbinds.length);
+    this.position = new OID[repeaters];
+    this.retired = new boolean[repeaters];
+    this.requestColumns = new int[repeaters];
+    this.heads = new int[repeaters];
+    this.cells = new VariableBinding[repeaters];
+    for (int i = 0; i < repeaters; i++) {
+      position[i] = varbinds[nonRepeaters + i].getOid();
+      // a column continued from past its end was retired before the checkpoint
+      retired[i] = !position[i].startsWith(columnOid(i));
+    }
+    if (repeaters > 0 && allRetired()) {
+      endReached = true;
+      complete = true;
+    }
   }
   
+  /**
+   * Applies options that bound the rows visited by this walker.
+   * <p>
+   * This method must be called before the walker is invoked.
+   * @param options the options to apply
+   */
+  void configure(WalkOptions options) {
+    if (options.getStartIndex() != null) {
+      final OID startIndex = new OID(options.getStartIndex());
+      for (int i = 0; i < repeaters; i++) {
+        final OID column = requestedVarbinds[nonRepeaters + i].getOid();
+        position[i] = new OID(column.getValue(), startIndex.getValue());
+      }
+    }
+    if (options.getEndIndex() != null) {
+      final OID endIndex = new OID(options.getEndIndex());
+      endOids = new OID[repeaters];
+      for (int i = 0; i < repeaters; i++) {
+        final OID column = requestedVarbinds[nonRepeaters + i].getOid();
+        endOids[i] = new OID(column.getValue(), endIndex.getValue());
+      }
+    }
+    maxRows = options.getMaxRows();
+  }
+
+  /**
+   * Ends the walk after the current row, as if the end of the table had
+   * been reached.
+   */
+  protected void endWalk() {
+    lock.lock();
+    try {
+      endReached = true;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gets the {@code maxRepetitions} value for the next request.
+   * <p>
+   * When the number of rows is bounded, each request after the first
+   * continues from the last row visited, so the request need not ask for
+   * more repetitions than there are rows remaining.
+   * @return max repetitions value
+   */
+  protected int maxRepetitions() {
+    lock.lock();
+    try {
+      if (maxRows <= 0) return maxRepetitions;
+      return (int) Math.max(1, Math.min(maxRepetitions, maxRows - rows));
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -86,8 +209,9 @@ abstract class AbstractAsyncWalker<V>
 
     lock.lock();
     try {
-      this.offset = 0;
+      Arrays.fill(heads, 0);
       validateResponse(event);
+      chunkReceived(event.getResponse());
       /*
        * Since we're in a response handler, we need to dispatch the callback
        * on another thread, so that it can invoke another request if needed.
@@ -111,6 +235,15 @@ abstract class AbstractAsyncWalker<V>
       });
     }
     catch (SnmpException ex) {
+      if (resume(ex)) {
+        SnmpFactory.getInstance().getExecutorService().execute(new Runnable() {
+          @Override
+          public void run() {
+            invoke(callback);
+          }
+        });
+        return;
+      }
       callback.onSnmpResponse(new SnmpEvent<SnmpAsyncWalker<V>>(context,
           new ExceptionResponse<SnmpAsyncWalker<V>>(ex)));
     }
@@ -125,19 +258,65 @@ abstract class AbstractAsyncWalker<V>
   @Override
   public SnmpResponse<SnmpAsyncWalker<V>> invoke() throws SnmpException,
       TimeoutException {
-    PDU request = createRequest(varbinds);
+    walkStarted();
+    while (true) {
+      PDU request = createRequest(varbinds);
+      try {
+        chunkStartedAt = System.nanoTime();
+        ResponseEvent event = doInvoke(request, deadline());
+        validateResponse(event);
+        chunkReceived(event.getResponse());
+        this.response = event.getResponse();
+        Arrays.fill(heads, 0);
+        return new SuccessResponse<SnmpAsyncWalker<V>>(this);
+      }
+      catch (RuntimeException ex) {
+        if (resume(ex)) continue;
+        walkFinished(false);
+        return new ExceptionResponse<SnmpAsyncWalker<V>>(ex);
+      }
+      catch (IOException ex) {
+        if (resume(ex)) continue;
+        walkFinished(false);
+        return new ExceptionResponse<SnmpAsyncWalker<V>>(ex);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invoke(SnmpCallback<SnmpAsyncWalker<V>> callback) {
+    lock.lock();
     try {
-      ResponseEvent event = doInvoke(request);
-      validateResponse(event);
-      this.response = event.getResponse();
-      this.offset = 0;
-      return new SuccessResponse<SnmpAsyncWalker<V>>(this);
+      walkStarted();
+      chunkStartedAt = System.nanoTime();
+      super.invoke(callback);
+    }
+    finally {
+      lock.unlock();
     }
-    catch (RuntimeException ex) {
-      return new ExceptionResponse<SnmpAsyncWalker<V>>(ex);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * A walk is a single operation that spans all of the requests needed to
+   * retrieve the table, so the deadline is established when the first
+   * request is sent and applies to each request that follows.
+   */
+  @Override
+  protected Deadline deadline() {
+    lock.lock();
+    try {
+      if (deadline == null) {
+        deadline = super.deadline();
+      }
+      return deadline;
     }
-    catch (IOException ex) {
-      return new ExceptionResponse<SnmpAsyncWalker<V>>(ex);
+    finally {
+      lock.unlock();
     }
   }
 
@@ -145,16 +324,115 @@ abstract class AbstractAsyncWalker<V>
    * {@inheritDoc}
    */
   @Override
-  public void invoke(SnmpCallback<SnmpAsyncWalker<V>> callback) {
+  protected OperationType getOperationType() {
+    return OperationType.WALK;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The callback for a walk is invoked once for each response received
+   * during the walk, so the wrapped callback records only failures; the
+   * successful completion of a walk is recorded when the end of the table
+   * is reached.
+   */
+  @Override
+  protected SnmpCallback<SnmpAsyncWalker<V>> meter(
+      SnmpCallback<SnmpAsyncWalker<V>> callback) {
+    if (callback instanceof AbstractAsyncWalker.WalkCallback) return callback;
+    return new WalkCallback(callback);
+  }
+
+  private void walkStarted() {
     lock.lock();
     try {
-      super.invoke(callback);
+      if (!started) {
+        started = true;
+        startedAt = System.nanoTime();
+      }
     }
     finally {
       lock.unlock();
     }
   }
 
+  /**
+   * Determines whether the walk should resume after a failed request.
+   * <p>
+   * Since the request OIDs are updated only when a response is consumed,
+   * resuming simply sends the failed request again, continuing each column
+   * from the last instance received.  Only timeouts and transport failures
+   * are retried; a response that indicates an error (or was truncated)
+   * would most likely be given again by the agent.
+   * @param ex the cause of the failure
+   * @return {@code true} if the failed request should be sent again
+   */
+  private boolean resume(Exception ex) {
+    if (!(ex instanceof TimeoutException || ex instanceof IOException
+        || ex instanceof SnmpException
+            && ex.getCause() instanceof IOException)) {
+      return false;
+    }
+    lock.lock();
+    try {
+      if (resumes >= context.getConfig().getWalkMaxResumes()
+          || deadline().isExpired()) {
+        return false;
+      }
+      resumes++;
+      if (logger.isDebugEnabled()) {
+        logger.debug("resuming walk (attempt {}) after: {}", resumes, ex);
+      }
+      return true;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private void chunkReceived(PDU response) {
+    resumes = 0;
+    final int rows = requestColumnCount > 0 ?
+        (response.size() - nonRepeaters) / requestColumnCount : 0;
+    Snmp4jEvents.INSTANCE.walkChunk(context.getMetrics().getName(), response,
+        rows, System.nanoTime() - chunkStartedAt);
+  }
+
+  private void walkFinished(boolean success) {
+    lock.lock();
+    try {
+      if (finished) return;
+      finished = true;
+      operationCompleted(startedAt, success);
+      metrics().rowsRetrieved(rows);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The request includes the non-repeaters followed by only those columns
+   * that have not been retired, each continued from the last instance
+   * consumed from the column.
+   */
+  @Override
+  protected PDU createRequest(VariableBinding[] varbinds) {
+    final PDU pdu = context.getPduFactory().newPDU();
+    for (int i = 0; i < nonRepeaters; i++) {
+      pdu.add(varbinds[i]);
+    }
+    requestColumnCount = 0;
+    for (int i = 0; i < repeaters; i++) {
+      if (retired[i]) continue;
+      requestColumns[requestColumnCount++] = i;
+      pdu.add(new VariableBinding(position[i]));
+    }
+    return pdu;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -169,9 +447,12 @@ abstract class AbstractAsyncWalker<V>
           "response contains no repeaters; too many non-repeaters?");
     }
     
-    if (nonRepeaters + repeaters > responseSize) {
+    if (nonRepeaters + requestColumnCount > responseSize) {
       if (context.getConfig().isWalkAllowsTruncatedRepetition()) {
-        this.repeaters = responseSize - nonRepeaters;
+        // columns missing from the first repetition are given up
+        for (int j = responseSize - nonRepeaters; j < requestColumnCount; j++) {
+          retired[requestColumns[j]] = true;
+        }
       }
       else {
         throw new TruncatedResponseException(
@@ -185,14 +466,15 @@ abstract class AbstractAsyncWalker<V>
    * {@inheritDoc}
    */
   @Override
-  protected abstract ResponseEvent doInvoke(PDU request) throws IOException;
+  protected abstract ResponseEvent doInvoke(PDU request, Deadline deadline)
+      throws IOException;
 
   /**
    * {@inheritDoc}
    */
   @Override
-  protected abstract void doInvoke(PDU request, Object userObject) 
-      throws IOException;
+  protected abstract void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException;
 
   /**
    * {@inheritDoc}
@@ -209,17 +491,45 @@ abstract class AbstractAsyncWalker<V>
   public SnmpResponse<V> next() throws WouldBlockException {
     lock.lock();
     try {
-      int offset = this.offset == 0 ? nonRepeaters : this.offset;
-  
-      if (endOfTable(offset)) {
+      if (endReached || (maxRows > 0 && rows >= maxRows)) {
+        walkFinished(true);
         return new SuccessResponse<V>(null);
       }
-  
-      SnmpResponse<V> response = new SuccessResponse<V>(
-          createRow(this.response, nonRepeaters, repeaters, offset));
-     
-      this.offset = offset + repeaters;
-     
+      if (response == null) {
+        throw new WouldBlockException();
+      }
+
+      final int head = nextRowHead();
+      if (head == -1) {
+        complete = !bounded;
+        walkFinished(true);
+        return new SuccessResponse<V>(null);
+      }
+
+      final OID rowOid = cellAt(head).getOid();
+      final int rowPrefix = columnOid(requestColumns[head]).size();
+      Arrays.fill(cells, null);
+      for (int j = 0; j < requestColumnCount; j++) {
+        final int column = requestColumns[j];
+        if (retired[column]) continue;
+        final VariableBinding cell = cellAt(j);
+        if (compareIndex(cell.getOid(), columnOid(column).size(),
+            rowOid, rowPrefix) == 0) {
+          cells[column] = cell;
+          position[column] = cell.getOid();
+          heads[j]++;
+        }
+      }
+
+      final SnmpResponse<V> response = new SuccessResponse<V>(
+          createRow(this.response, nonRepeaters, cells));
+      rows++;
+      if (endOids != null
+          && rowOid.equals(endOids[requestColumns[head]])) {
+        // no successor can be within the bound, so don't request another
+        endReached = true;
+      }
+
       return response;
     }
     finally {
@@ -227,33 +537,146 @@ abstract class AbstractAsyncWalker<V>
     }
   }
 
-  private boolean endOfTable(int offset) {
-    if (response == null) {
-      throw new WouldBlockException();
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public WalkCheckpoint getCheckpoint() {
+    lock.lock();
+    try {
+      if (complete) return null;
+      final List<String> nonRepeaterOids = new ArrayList<String>(nonRepeaters);
+      for (int i = 0; i < nonRepeaters; i++) {
+        nonRepeaterOids.add(requestedVarbinds[i].getOid().toDottedString());
+      }
+      final List<String> repeaterOids = new ArrayList<String>(position.length);
+      final List<String> nextOids = new ArrayList<String>(position.length);
+      for (int i = 0; i < position.length; i++) {
+        repeaterOids.add(
+            requestedVarbinds[nonRepeaters + i].getOid().toDottedString());
+        nextOids.add(position[i].toDottedString());
+      }
+      return new WalkCheckpoint(nonRepeaterOids, repeaterOids, nextOids);
     }
-    int i = 0;
-    while (offset + i < response.size() && i < repeaters) {
-      OID oid = response.get(offset + i).getOid();
-      if (!oid.startsWith(requestedVarbinds[nonRepeaters + i].getOid())) {
-        return true;
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Finds the column whose head cell has the least index, retiring each
+   * column whose head cell is past the end of the table (or the end of the
+   * walk's bounds).
+   * @return position of the column in the current request or -1 if all
+   *    columns have been retired
+   * @throws WouldBlockException if a column has no more cells in the
+   *    current response, so that its head is not yet known
+   */
+  private int nextRowHead() throws WouldBlockException {
+    int head = -1;
+    boolean exhausted = false;
+    for (int j = 0; j < requestColumnCount; j++) {
+      final int column = requestColumns[j];
+      if (retired[column]) continue;
+      final VariableBinding cell = cellAt(j);
+      if (cell == null) {
+        exhausted = true;
+        continue;
+      }
+      final OID oid = cell.getOid();
+      if (!oid.startsWith(columnOid(column))
+          || cell.getVariable().isException()) {
+        retired[column] = true;
+        position[column] = columnOid(column).nextPeer();
+        continue;
+      }
+      if (endOids != null && oid.compareTo(endOids[column]) > 0) {
+        retired[column] = true;
+        bounded = true;
+        continue;
+      }
+      if (head == -1 || compareIndex(oid, columnOid(column).size(),
+          cellAt(head).getOid(), columnOid(requestColumns[head]).size()) < 0) {
+        head = j;
       }
-      i++;
     }
-    if (i < repeaters) {
-      setNextOids(offset - repeaters);
+    if (exhausted) {
+      // a column with no more cells might yet hold a row with a lesser index
       throw new WouldBlockException();
     }
-    return false;
+    return head;
   }
-  
-  private void setNextOids(int offset) {
-    for (int i = 0; i < repeaters; i++) {
-      OID oid = response.get(offset + i).getOid();
-      varbinds[i + nonRepeaters] = new VariableBinding(oid);
+
+  private boolean allRetired() {
+    for (boolean r : retired) {
+      if (!r) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the cell at the head of a column of the current response.
+   * @param j position of the column in the current request
+   * @return variable binding or {@code null} if the response contains no
+   *    more cells for the column
+   */
+  private VariableBinding cellAt(int j) {
+    final int offset = nonRepeaters + heads[j] * requestColumnCount + j;
+    return offset < response.size() ? response.get(offset) : null;
+  }
+
+  private OID columnOid(int column) {
+    return requestedVarbinds[nonRepeaters + column].getOid();
+  }
+
+  /**
+   * Compares the index suffixes of two instance OIDs, treating each
+   * sub-identifier as unsigned.
+   */
+  private static int compareIndex(OID a, int aPrefix, OID b, int bPrefix) {
+    final int[] av = a.getValue();
+    final int[] bv = b.getValue();
+    final int aLength = a.size() - aPrefix;
+    final int bLength = b.size() - bPrefix;
+    for (int i = 0, max = Math.min(aLength, bLength); i < max; i++) {
+      final long x = av[aPrefix + i] & 0xffffffffL;
+      final long y = bv[bPrefix + i] & 0xffffffffL;
+      if (x != y) return x < y ? -1 : 1;
     }
+    return aLength - bLength;
   }
 
+  /**
+   * Creates the result for a row.
+   * @param response the response that contains the row
+   * @param nonRepeaters number of non-repeaters at the start of the response
+   * @param cells the cells of the row, one per repeating column, with
+   *    {@code null} for each column that has no instance in the row; the
+   *    array is reused for each row, so it must not be retained
+   * @return row result
+   */
   protected abstract V createRow(PDU response, int nonRepeaters,
-      int repeaters, int offset);
+      VariableBinding[] cells);
+
+  /**
+   * A callback wrapper that records the failure of a walk.
+   */
+  private class WalkCallback implements SnmpCallback<SnmpAsyncWalker<V>> {
+
+    private final SnmpCallback<SnmpAsyncWalker<V>> delegate;
+
+    WalkCallback(SnmpCallback<SnmpAsyncWalker<V>> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onSnmpResponse(SnmpEvent<SnmpAsyncWalker<V>> event) {
+      if (event.getResponse() instanceof ExceptionResponse) {
+        walkFinished(false);
+      }
+      delegate.onSnmpResponse(event);
+    }
+
+  }
 
 }
@@ -34,6 +34,8 @@ import org.soulwing.snmp.SnmpOperation;
 import org.soulwing.snmp.SnmpResponse;
 import org.soulwing.snmp.TimeoutException;
 import org.soulwing.snmp.Varbind;
+import org.soulwing.snmp.metrics.OperationMetrics;
+import org.soulwing.snmp.metrics.OperationType;
 
 /**
  * An abstract base for {@link SnmpOperation} implementations.
@@ -91,17 +93,21 @@ abstract class AbstractOperation<V> implements SnmpOperation<V>,
    */
   @Override
   public SnmpResponse<V> invoke() throws SnmpException, TimeoutException {
+    final long startedAt = System.nanoTime();
     PDU request = createRequest(varbinds);
     try {
-      ResponseEvent event = doInvoke(request);
+      ResponseEvent event = doInvoke(request, deadline());
       validateResponse(event);
       V result = createResult(event.getResponse());
+      operationCompleted(startedAt, true);
       return new SuccessResponse<V>(result);
     }
     catch (RuntimeException ex) {
+      operationCompleted(startedAt, false);
       return new ExceptionResponse<V>(ex);
     }
     catch (IOException ex) {
+      operationCompleted(startedAt, false);
       return new ExceptionResponse<V>(ex);
     }
   }
@@ -111,9 +117,10 @@ abstract class AbstractOperation<V> implements SnmpOperation<V>,
    */
   @Override
   public void invoke(SnmpCallback<V> callback) {
+    callback = meter(callback);
     PDU request = createRequest(varbinds);
     try {
-      doInvoke(request, callback);
+      doInvoke(request, deadline(), callback);
       if (logger.isDebugEnabled()) {
         logger.debug("sent request {}", request.getRequestID());
       }
@@ -128,6 +135,52 @@ abstract class AbstractOperation<V> implements SnmpOperation<V>,
     }
   }
 
+  /**
+   * Gets the deadline that applies to a request that is about to be sent.
+   * <p>
+   * This implementation returns a new deadline on each invocation, based on
+   * the configured operation timeout.  Subclasses that send a series of
+   * requests on behalf of a single operation may override this method to
+   * return the deadline that applies to the entire series.
+   * @return deadline
+   */
+  protected Deadline deadline() {
+    return Deadline.after(context.getConfig().getOperationTimeout());
+  }
+
+  /**
+   * Gets the metrics for this operation's type on the associated target.
+   * @return operation metrics
+   */
+  protected OperationMetrics metrics() {
+    return context.getMetrics().get(getOperationType());
+  }
+
+  /**
+   * Records the completion of an invocation of this operation in the
+   * operation's {@linkplain #metrics() metrics} and diagnostic events.
+   * @param startedAt value of {@link System#nanoTime()} when the invocation
+   *    started
+   * @param success flag indicating whether the invocation was successful
+   */
+  protected void operationCompleted(long startedAt, boolean success) {
+    final long latency = System.nanoTime() - startedAt;
+    metrics().operationCompleted(latency, success);
+    Snmp4jEvents.INSTANCE.operationCompleted(context.getMetrics().getName(),
+        getOperationType(), varbinds.length, success, latency);
+  }
+
+  /**
+   * Wraps a callback so that the outcome of an asynchronous invocation is
+   * recorded in this operation's {@linkplain #metrics() metrics}.
+   * @param callback the callback to wrap
+   * @return callback that should be passed to the underlying asynchronous
+   *    operation
+   */
+  protected SnmpCallback<V> meter(SnmpCallback<V> callback) {
+    return new MeteredCallback<V>(callback, this);
+  }
+
   protected PDU createRequest(VariableBinding[] varbinds) {
     PDU pdu = context.getPduFactory().newPDU();
     for (VariableBinding varbind : varbinds) {
@@ -153,6 +206,10 @@ abstract class AbstractOperation<V> implements SnmpOperation<V>,
   }
 
   protected String objectNameToKey(Varbind v) {
+    if (v instanceof Snmp4jVarbind) {
+      final String objectName = ((Snmp4jVarbind) v).getObjectName();
+      if (objectName != null) return objectName;
+    }
     String name = v.getName();
     int index = name.indexOf('.');
     return index != -1 ? name.substring(0, index) : name;
@@ -162,10 +219,12 @@ abstract class AbstractOperation<V> implements SnmpOperation<V>,
    * Invokes an operation on the associated remote agent using the given
    * request PDU and waits for the response.
    * @param request request PDU
+   * @param deadline deadline for the operation
    * @return response
    * @throws IOException
    */
-  protected abstract ResponseEvent doInvoke(PDU request) throws IOException;
+  protected abstract ResponseEvent doInvoke(PDU request, Deadline deadline)
+      throws IOException;
   
   /**
    * Invokes an asynchronous operation on the associated remote agent using 
@@ -175,12 +234,19 @@ abstract class AbstractOperation<V> implements SnmpOperation<V>,
    * instance and subclasses must not override the {@link #onResponse(ResponseEvent)}
    * method without invoking the superclass implementation.
    * @param request request PDU
+   * @param deadline deadline for the operation
    * @param userObject user object that should be passed to the underlying
    *    asynchronous operation
    * @throws IOException
    */
-  protected abstract void doInvoke(PDU request, Object userObject)
-      throws IOException;
+  protected abstract void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException;
+
+  /**
+   * Gets the type of this operation, for the purpose of recording metrics.
+   * @return operation type
+   */
+  protected abstract OperationType getOperationType();
 
   /**
    * Creates a result object from the given response PDU.
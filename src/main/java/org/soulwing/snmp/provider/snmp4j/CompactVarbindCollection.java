@@ -0,0 +1,270 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.soulwing.snmp.Varbind;
+import org.soulwing.snmp.VarbindCollection;
+
+/**
+ * An immutable {@link VarbindCollection} that stores its varbinds in a flat
+ * array.
+ * <p>
+ * Each varbind occupies a <em>slot</em>.  The mapping of keys to slots is
+ * described by a {@link Layout} that is shared by all of the rows of a walk,
+ * so that a row consists of little more than its array of varbinds.  The
+ * slots at the start of the array hold the varbinds that make up the list
+ * view of the collection; a row that has no instance of some column has
+ * {@code null} in the column's slot.  Any remaining slots hold index
+ * varbinds, which are available only by key.
+ *
+ * @author Carl Harris
+ */
+final class CompactVarbindCollection implements VarbindCollection {
+
+  private final Layout layout;
+  private final Varbind[] slots;
+  private final int listSlots;
+  private final int size;
+
+  /**
+   * Constructs a new instance.
+   * @param layout layout of the slots
+   * @param slots the varbinds of the collection, which must not be
+   *    subsequently modified
+   */
+  CompactVarbindCollection(Layout layout, Varbind[] slots) {
+    this.layout = layout;
+    this.slots = slots;
+    this.listSlots = Math.min(layout.listSize, slots.length);
+    int size = 0;
+    for (int i = 0; i < listSlots; i++) {
+      if (slots[i] != null) size++;
+    }
+    this.size = size;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Varbind get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index " + index);
+    }
+    if (size == listSlots) return slots[index];
+    for (int i = 0; i < listSlots; i++) {
+      if (slots[i] != null && index-- == 0) return slots[i];
+    }
+    throw new AssertionError("slot not found");
+  }
+
+  @Override
+  public Varbind get(String oid) {
+    final int slot = layout.slotOf(oid);
+    return slot >= 0 && slot < slots.length ? slots[slot] : null;
+  }
+
+  @Override
+  public Set<String> keySet() {
+    final Set<String> keys = new LinkedHashSet<String>();
+    for (int i = 0; i < slots.length; i++) {
+      if (slots[i] != null && layout.keys[i] != null) {
+        keys.add(layout.keys[i]);
+      }
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+  @Override
+  public Iterator<Varbind> iterator() {
+    return new Iterator<Varbind>() {
+      private int next = advance(0);
+
+      @Override
+      public boolean hasNext() {
+        return next < listSlots;
+      }
+
+      @Override
+      public Varbind next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        final Varbind varbind = slots[next];
+        next = advance(next + 1);
+        return varbind;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+
+      private int advance(int i) {
+        while (i < listSlots && slots[i] == null) {
+          i++;
+        }
+        return i;
+      }
+    };
+  }
+
+  @Override
+  public List<Varbind> asList() {
+    final List<Varbind> list = new ArrayList<Varbind>(size);
+    for (Varbind varbind : this) {
+      list.add(varbind);
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  @Override
+  public Map<String, Varbind> asMap() {
+    final Map<String, Varbind> map = new LinkedHashMap<String, Varbind>();
+    for (int i = 0; i < slots.length; i++) {
+      if (slots[i] != null && layout.keys[i] != null) {
+        map.put(layout.keys[i], slots[i]);
+      }
+    }
+    return Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  public List<String> nextIdentifiers(List<String> oids) {
+    final List<String> list = new ArrayList<String>(Math.max(size,
+        oids.size()));
+    list.addAll(oids);
+    for (int i = oids.size(); i < size; i++) {
+      list.add(get(i).getOid());
+    }
+    return list;
+  }
+
+  @Override
+  public List<String> nextIdentifiers(String... oids) {
+    return nextIdentifiers(Arrays.asList(oids));
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("{ ");
+    for (Varbind varbind : this) {
+      sb.append(varbind.getName())
+        .append('=')
+        .append(varbind.asString())
+        .append(" ");
+    }
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * An immutable mapping of keys to slots.
+   * <p>
+   * The key of a slot is usually learned from the first varbind that
+   * occupies it, so a layout is extended one key at a time using
+   * {@link #withKey(int, String)}; since a walk learns each key only once,
+   * the layout of a walk is replaced only a few times.
+   */
+  static final class Layout {
+
+    private final String[] keys;
+    private final int listSize;
+    private final Map<String, Integer> slotMap;
+
+    /**
+     * Constructs a new instance with no keys.
+     * @param listSize number of slots that make up the list view of
+     *    the collection
+     */
+    Layout(int listSize) {
+      this(new String[listSize], listSize);
+    }
+
+    private Layout(String[] keys, int listSize) {
+      this.keys = keys;
+      this.listSize = listSize;
+      this.slotMap = new HashMap<String, Integer>();
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] != null) {
+          // like a map, the last slot with a given key wins
+          slotMap.put(keys[i], i);
+        }
+      }
+    }
+
+    /**
+     * Gets the number of slots for which this layout has keys.
+     * @return slot count
+     */
+    int size() {
+      return keys.length;
+    }
+
+    /**
+     * Determines whether the key for a slot is known.
+     * @param slot the subject slot
+     * @return {@code true} if this layout has a key for {@code slot}
+     */
+    boolean hasKey(int slot) {
+      return slot < keys.length && keys[slot] != null;
+    }
+
+    /**
+     * Gets the slot for a key.
+     * @param key the subject key
+     * @return slot or -1 if there is no slot with the given key
+     */
+    int slotOf(String key) {
+      final Integer slot = slotMap.get(key);
+      return slot != null ? slot : -1;
+    }
+
+    /**
+     * Creates a layout that is a copy of this layout with a key for an
+     * additional slot.
+     * @param slot the subject slot
+     * @param key key for {@code slot}
+     * @return new layout
+     */
+    Layout withKey(int slot, String key) {
+      final String[] keys = Arrays.copyOf(this.keys,
+          Math.max(this.keys.length, slot + 1));
+      keys[slot] = key;
+      return new Layout(keys, listSize);
+    }
+
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time after which no further requests should be sent on
+ * behalf of an operation.
+ *
+ * @author Carl Harris
+ */
+final class Deadline {
+
+  /**
+   * A deadline that never expires.
+   */
+  static final Deadline NONE = new Deadline(0L, false);
+
+  private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final long expiresAt;
+  private final boolean bounded;
+
+  private Deadline(long expiresAt, boolean bounded) {
+    this.expiresAt = expiresAt;
+    this.bounded = bounded;
+  }
+
+  /**
+   * Creates a deadline that expires after the given timeout.
+   * @param timeout timeout in milliseconds; a value of zero or less
+   *    indicates no deadline
+   * @return deadline
+   */
+  static Deadline after(long timeout) {
+    if (timeout <= 0) return NONE;
+    return new Deadline(System.nanoTime()
+        + TimeUnit.MILLISECONDS.toNanos(timeout), true);
+  }
+
+  /**
+   * Tests whether this deadline has expired.
+   * @return {@code true} if the deadline has passed
+   */
+  boolean isExpired() {
+    return bounded && expiresAt - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Gets the time remaining until this deadline expires.
+   * @param limit upper bound on the returned value (milliseconds)
+   * @return the lesser of {@code limit} and the number of milliseconds
+   *    remaining before this deadline expires (rounded up)
+   */
+  long remaining(long limit) {
+    if (!bounded) return limit;
+    final long nanos = expiresAt - System.nanoTime();
+    if (nanos <= 0) return 0;
+    return Math.min(limit, (nanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI);
+  }
+
+}
@@ -19,81 +19,96 @@
 package org.soulwing.snmp.provider.snmp4j;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.snmp4j.PDU;
 import org.snmp4j.event.ResponseEvent;
-import org.snmp4j.smi.OID;
 import org.snmp4j.smi.VariableBinding;
-import org.soulwing.snmp.MutableVarbindCollection;
 import org.soulwing.snmp.SnmpAsyncWalker;
 import org.soulwing.snmp.Varbind;
 import org.soulwing.snmp.VarbindCollection;
 
 /**
  * An {@link SnmpAsyncWalker} implemented using an SNMP GETBULK operation.
+ * <p>
+ * Each row is a {@link CompactVarbindCollection}; the keys of the rows are
+ * determined once for the walk and shared by all of the rows.
  *
  * @author Carl Harris
  */
 class GetBulkAsyncWalker
     extends AbstractAsyncWalker<VarbindCollection> {
 
+  private CompactVarbindCollection.Layout layout;
+
   public GetBulkAsyncWalker(Snmp4jContext context, VariableBinding[] varbinds,
       int nonRepeaters, int maxRepetitions) {
     super(context, varbinds, nonRepeaters, maxRepetitions);
   }
 
+  public GetBulkAsyncWalker(Snmp4jContext context, VariableBinding[] varbinds,
+      VariableBinding[] requestedVarbinds, int nonRepeaters,
+      int maxRepetitions) {
+    super(context, varbinds, requestedVarbinds, nonRepeaters, maxRepetitions);
+  }
+
   @Override
-  protected ResponseEvent doInvoke(PDU request) throws IOException {
+  protected ResponseEvent doInvoke(PDU request, Deadline deadline)
+      throws IOException {
     configureRequest(request);
-    return context.getSession().getBulk(request, context.getSnmp4jTarget());
+    return context.getSession().getBulk(request, context.getSnmp4jTarget(),
+        deadline);
   }
 
   @Override
-  protected void doInvoke(PDU request, Object userObject) throws IOException {
+  protected void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException {
     configureRequest(request);
-    context.getSession().getBulk(request, context.getSnmp4jTarget(), userObject,
-        this);
+    context.getSession().getBulk(request, context.getSnmp4jTarget(), deadline,
+        userObject, this);
   }
 
   private void configureRequest(PDU request) {
     request.setNonRepeaters(nonRepeaters);
-    request.setMaxRepetitions(maxRepetitions);
+    request.setMaxRepetitions(maxRepetitions());
   }
 
   @Override
   protected VarbindCollection createRow(PDU response, int nonRepeaters,
-      int repeaters, int offset) {
+      VariableBinding[] cells) {
     final int responseSize = response.size();
-    MutableVarbindCollection row = new MutableVarbindCollection();
+    final int listSize = nonRepeaters + cells.length;
+    if (layout == null) {
+      layout = new CompactVarbindCollection.Layout(listSize);
+    }
+    Varbind[] slots = new Varbind[Math.max(listSize, layout.size())];
     for (int i = 0; i < nonRepeaters; i++) {
       if (i < responseSize
           && response.get(i).getOid().startsWith(varbinds[i].getOid())) {
-        Varbind v = context.getVarbindFactory().newVarbind(response.get(i));
-        row.add(i, objectNameToKey(v), v);
+        slots[i] = context.getVarbindFactory().newVarbind(response.get(i));
+      }
+    }
+    Varbind[] indexes = null;
+    for (int i = 0; i < cells.length; i++) {
+      if (cells[i] == null) continue;
+      final Varbind v = context.getVarbindFactory().newVarbind(cells[i]);
+      slots[nonRepeaters + i] = v;
+      if (indexes == null) {
+        indexes = v.getIndexes();
       }
     }
-    if (repeaters > 0) {
-      Varbind[] indexes = new Varbind[0];
-      int count = 0;
-      for (int i = 0; i < repeaters; i++) {
-        if (i + offset < response.size()) {
-          OID oid = response.get(i + offset).getOid();
-          if (oid.startsWith(requestedVarbinds[i + nonRepeaters].getOid())) {
-            Varbind v = context.getVarbindFactory()
-                .newVarbind(response.get(i + offset));
-            row.add(i + nonRepeaters, objectNameToKey(v), v);
-            count++;
-            if (indexes.length == 0) {
-              indexes = v.getIndexes();
-            }
-          }
-        }
+    if (indexes != null) {
+      if (slots.length != listSize + indexes.length) {
+        slots = Arrays.copyOf(slots, listSize + indexes.length);
       }
-      for (Varbind index : indexes) {
-        row.addIndex(objectNameToKey(index), index);
+      System.arraycopy(indexes, 0, slots, listSize, indexes.length);
+    }
+    for (int i = 0; i < slots.length; i++) {
+      if (slots[i] != null && !layout.hasKey(i)) {
+        layout = layout.withKey(i, objectNameToKey(slots[i]));
       }
     }
-    return row.immutableCopy();
+    return new CompactVarbindCollection(layout, slots);
   }
 
 }
@@ -29,6 +29,7 @@ import org.snmp4j.smi.VariableBinding;
 import org.soulwing.snmp.MutableVarbindCollection;
 import org.soulwing.snmp.Varbind;
 import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.metrics.OperationType;
 
 /**
  * An SNMP GETBULK operation.
@@ -56,19 +57,30 @@ class GetBulkOperation extends AbstractOperation<List<VarbindCollection>> {
    * {@inheritDoc}
    */
   @Override
-  protected ResponseEvent doInvoke(PDU request) throws IOException {
+  protected OperationType getOperationType() {
+    return OperationType.GETBULK;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected ResponseEvent doInvoke(PDU request, Deadline deadline)
+      throws IOException {
     configureRequest(request);
-    return context.getSession().getBulk(request, context.getSnmp4jTarget());
+    return context.getSession().getBulk(request, context.getSnmp4jTarget(),
+        deadline);
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  protected void doInvoke(PDU request, Object userObject) throws IOException {
+  protected void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException {
     configureRequest(request);
-    context.getSession().getBulk(request, context.getSnmp4jTarget(), userObject,
-        this);
+    context.getSession().getBulk(request, context.getSnmp4jTarget(), deadline,
+        userObject, this);
   }
 
   private void configureRequest(PDU request) {
@@ -43,16 +43,32 @@ class GetBulkSyncWalker extends GetBulkAsyncWalker {
     super(context, varbinds, nonRepeaters, maxRepetitions);
   }
 
+  /**
+   * Constructs a new instance that continues a walk from a checkpoint.
+   * @param context
+   * @param varbinds
+   * @param requestedVarbinds
+   * @param nonRepeaters
+   * @param maxRepetitions
+   */
+  public GetBulkSyncWalker(Snmp4jContext context, VariableBinding[] varbinds,
+      VariableBinding[] requestedVarbinds, int nonRepeaters,
+      int maxRepetitions) {
+    super(context, varbinds, requestedVarbinds, nonRepeaters, maxRepetitions);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public SnmpResponse<VarbindCollection> next() {
-    try {
-      return super.next();
-    }
-    catch (WouldBlockException ex) {
-      return super.invoke().get().next();
+    while (true) {
+      try {
+        return super.next();
+      }
+      catch (WouldBlockException ex) {
+        super.invoke().get();
+      }
     }
   }
 
@@ -0,0 +1,73 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.io.IOException;
+
+import org.snmp4j.PDU;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * A walker implemented using an SNMP GETBULK operation, that appends each
+ * row to a {@link Snmp4jTable} rather than producing a varbind collection.
+ * <p>
+ * Each row returned by the walker is the table itself.
+ *
+ * @author Carl Harris
+ */
+class GetBulkTableWalker extends AbstractAsyncWalker<Snmp4jTable> {
+
+  private final Snmp4jTable table;
+
+  GetBulkTableWalker(Snmp4jContext context, VariableBinding[] varbinds,
+      int maxRepetitions, Snmp4jTable table) {
+    super(context, varbinds, 0, maxRepetitions);
+    this.table = table;
+  }
+
+  @Override
+  protected ResponseEvent doInvoke(PDU request, Deadline deadline)
+      throws IOException {
+    configureRequest(request);
+    return context.getSession().getBulk(request, context.getSnmp4jTarget(),
+        deadline);
+  }
+
+  @Override
+  protected void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException {
+    configureRequest(request);
+    context.getSession().getBulk(request, context.getSnmp4jTarget(), deadline,
+        userObject, this);
+  }
+
+  private void configureRequest(PDU request) {
+    request.setNonRepeaters(0);
+    request.setMaxRepetitions(maxRepetitions());
+  }
+
+  @Override
+  protected Snmp4jTable createRow(PDU response, int nonRepeaters,
+      VariableBinding[] cells) {
+    table.addRow(cells);
+    return table;
+  }
+
+}
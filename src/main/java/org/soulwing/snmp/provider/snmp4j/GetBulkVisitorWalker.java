@@ -0,0 +1,103 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.io.IOException;
+
+import org.snmp4j.PDU;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.WalkCell;
+import org.soulwing.snmp.WalkVisitor;
+
+/**
+ * A walker implemented using an SNMP GETBULK operation, that presents each
+ * cell of a row to a {@link WalkVisitor} rather than producing a varbind
+ * collection.
+ * <p>
+ * Each row returned by the walker is the (reused) cell, positioned on the
+ * last cell of the row.
+ *
+ * @author Carl Harris
+ */
+class GetBulkVisitorWalker extends AbstractAsyncWalker<WalkCell> {
+
+  private final WalkVisitor visitor;
+  private final Snmp4jWalkCell cell;
+
+  private int row;
+
+  GetBulkVisitorWalker(Snmp4jContext context, VariableBinding[] varbinds,
+      int maxRepetitions, WalkVisitor visitor) {
+    super(context, varbinds, 0, maxRepetitions);
+    this.visitor = visitor;
+    final OID[] columnOids = new OID[varbinds.length];
+    for (int i = 0; i < varbinds.length; i++) {
+      columnOids[i] = varbinds[i].getOid();
+    }
+    this.cell = new Snmp4jWalkCell(columnOids, context.getVarbindFactory());
+  }
+
+  /**
+   * Gets the number of rows visited.
+   * @return row count
+   */
+  int getRowCount() {
+    return row;
+  }
+
+  @Override
+  protected ResponseEvent doInvoke(PDU request, Deadline deadline)
+      throws IOException {
+    configureRequest(request);
+    return context.getSession().getBulk(request, context.getSnmp4jTarget(),
+        deadline);
+  }
+
+  @Override
+  protected void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException {
+    configureRequest(request);
+    context.getSession().getBulk(request, context.getSnmp4jTarget(), deadline,
+        userObject, this);
+  }
+
+  private void configureRequest(PDU request) {
+    request.setNonRepeaters(0);
+    request.setMaxRepetitions(maxRepetitions());
+  }
+
+  @Override
+  protected WalkCell createRow(PDU response, int nonRepeaters,
+      VariableBinding[] cells) {
+    boolean more = true;
+    for (int i = 0; i < cells.length; i++) {
+      if (cells[i] == null) continue;
+      cell.set(row, i, cells[i]);
+      more &= visitor.visitCell(cell);
+    }
+    row++;
+    if (!more) {
+      endWalk();
+    }
+    return cell;
+  }
+
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import org.snmp4j.PDU;
 import org.snmp4j.event.ResponseEvent;
 import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.metrics.OperationType;
 
 /**
  * An SNMP GET operation.
@@ -44,17 +45,28 @@ class GetOperation extends VarbindCollectionOperation {
    * {@inheritDoc}
    */
   @Override
-  protected ResponseEvent doInvoke(PDU request) throws IOException {
-    return context.getSession().get(request, context.getSnmp4jTarget());
+  protected OperationType getOperationType() {
+    return OperationType.GET;
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  protected void doInvoke(PDU request, Object userObject)
+  protected ResponseEvent doInvoke(PDU request, Deadline deadline)
       throws IOException {
-    context.getSession().get(request, context.getSnmp4jTarget(), userObject, this);
+    return context.getSession().get(request, context.getSnmp4jTarget(),
+        deadline);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException {
+    context.getSession().get(request, context.getSnmp4jTarget(), deadline,
+        userObject, this);
   }
 
 }
@@ -0,0 +1,142 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.SnmpAsyncWalker;
+import org.soulwing.snmp.SnmpCallback;
+import org.soulwing.snmp.SnmpEvent;
+import org.soulwing.snmp.SnmpOperation;
+import org.soulwing.snmp.SnmpResponse;
+import org.soulwing.snmp.SnmpTable;
+import org.soulwing.snmp.WouldBlockException;
+
+/**
+ * An {@link SnmpOperation} that retrieves a conceptual table in columnar
+ * form using a {@link GetBulkTableWalker}.
+ * <p>
+ * Each invocation walks the table anew, producing a new table.
+ *
+ * @author Carl Harris
+ */
+class GetTableOperation implements SnmpOperation<SnmpTable> {
+
+  private final Snmp4jContext context;
+  private final VariableBinding[] columns;
+  private final String[] requestedNames;
+
+  /**
+   * Constructs a new instance.
+   * @param context context for the operation
+   * @param columns resolved column identifiers
+   * @param requestedNames column names as requested
+   */
+  GetTableOperation(Snmp4jContext context, VariableBinding[] columns,
+      String[] requestedNames) {
+    this.context = context;
+    this.columns = columns;
+    this.requestedNames = requestedNames;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpResponse<SnmpTable> invoke() {
+    final Snmp4jTable table = newTable();
+    final GetBulkTableWalker walker = newWalker(table);
+    try {
+      while (true) {
+        try {
+          drain(walker);
+          break;
+        }
+        catch (WouldBlockException ex) {
+          walker.invoke().get();
+        }
+      }
+      table.complete();
+      return new SuccessResponse<SnmpTable>(table);
+    }
+    catch (RuntimeException ex) {
+      return new ExceptionResponse<SnmpTable>(ex);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invoke(final SnmpCallback<SnmpTable> callback) {
+    final Snmp4jTable table = newTable();
+    final GetBulkTableWalker walker = newWalker(table);
+    walker.invoke(new SnmpCallback<SnmpAsyncWalker<Snmp4jTable>>() {
+      @Override
+      public void onSnmpResponse(SnmpEvent<SnmpAsyncWalker<Snmp4jTable>> event) {
+        SnmpResponse<SnmpTable> response;
+        try {
+          event.getResponse().get();
+          drain(walker);
+          table.complete();
+          response = new SuccessResponse<SnmpTable>(table);
+        }
+        catch (WouldBlockException ex) {
+          walker.invoke(this);
+          return;
+        }
+        catch (RuntimeException ex) {
+          response = new ExceptionResponse<SnmpTable>(ex);
+        }
+        callback.onSnmpResponse(new SnmpEvent<SnmpTable>(context, response));
+      }
+    });
+  }
+
+  /**
+   * Consumes the rows available from a walker, each of which was appended
+   * to the table by the walker.
+   * @throws WouldBlockException if the next request must be sent to
+   *    continue the walk
+   */
+  private static void drain(GetBulkTableWalker walker) {
+    Snmp4jTable row = walker.next().get();
+    while (row != null) {
+      row = walker.next().get();
+    }
+  }
+
+  private Snmp4jTable newTable() {
+    final OID[] oids = new OID[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      oids[i] = columns[i].getOid();
+    }
+    return new Snmp4jTable(oids, requestedNames, context.getVarbindFactory());
+  }
+
+  private GetBulkTableWalker newWalker(Snmp4jTable table) {
+    final VariableBinding[] varbinds = new VariableBinding[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      varbinds[i] = new VariableBinding(columns[i].getOid());
+    }
+    return new GetBulkTableWalker(context, varbinds,
+        context.getConfig().getWalkMaxRepetitions(), table);
+  }
+
+}
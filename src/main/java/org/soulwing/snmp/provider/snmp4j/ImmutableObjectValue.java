@@ -18,6 +18,7 @@
  */
 package org.soulwing.snmp.provider.snmp4j;
 
+import org.snmp4j.smi.SMIConstants;
 import org.soulwing.snmp.Formatter;
 import org.soulwing.snmp.ObjectValue;
 
@@ -53,6 +54,34 @@ class ImmutableObjectValue implements ObjectValue {
     return value.longValue();
   }
 
+  @Override
+  public long asUnsignedInt() {
+    return value.longValue() & 0xffffffffL;
+  }
+
+  @Override
+  public long asUnsignedLong() {
+    if (syntax == SMIConstants.SYNTAX_COUNTER64) {
+      return value.longValue();
+    }
+    return asUnsignedInt();
+  }
+
+  @Override
+  public int getLength() {
+    return 0;
+  }
+
+  @Override
+  public int copyBytes(byte[] dst, int offset) {
+    throw new UnsupportedOperationException("not an octet string");
+  }
+
+  @Override
+  public int copyOid(int[] dst, int offset) {
+    throw new UnsupportedOperationException("not an object identifier");
+  }
+
   @Override
   public Object toObject() {
     return value;
@@ -67,12 +96,12 @@ class ImmutableObjectValue implements ObjectValue {
   public boolean equals(Object obj) {
     if (obj == this) return true;
     if (!(obj instanceof ImmutableObjectValue)) return false;
-    return this.toObject().equals(((ImmutableObjectValue) obj).toObject());
+    return this.asLong() == ((ImmutableObjectValue) obj).asLong();
   }
 
   @Override
   public int hashCode() {
-    return this.toObject().hashCode();
+    return Long.hashCode(asLong());
   }
 
   @Override
@@ -0,0 +1,166 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.snmp4j.PDU;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.SnmpRequestInfo;
+import org.soulwing.snmp.SnmpResponseInfo;
+
+/**
+ * The {@link SnmpRequestInfo} for a request that is observed by an
+ * {@link InterceptorChain}.
+ *
+ * @author Carl Harris
+ */
+class InterceptedRequest implements SnmpRequestInfo {
+
+  private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+  private final String target;
+  private final PDU request;
+
+  private volatile int requestId;
+  private volatile int attempt;
+  private volatile boolean hedge;
+
+  /**
+   * Constructs a new instance.
+   * @param target target name
+   * @param request the (primary) request PDU
+   */
+  InterceptedRequest(String target, PDU request) {
+    this.target = target;
+    this.request = request;
+  }
+
+  /**
+   * Updates this request to describe a protocol data unit that is about
+   * to be sent.
+   * @param pdu the PDU to be sent
+   * @param attempt attempt number
+   * @param hedge flag indicating whether {@code pdu} is a hedged duplicate
+   */
+  void sending(PDU pdu, int attempt, boolean hedge) {
+    this.requestId = pdu.getRequestID().getValue();
+    this.attempt = attempt;
+    this.hedge = hedge;
+  }
+
+  /**
+   * Creates response metadata for a response to this request.
+   * @param response the response PDU
+   * @param roundTripTime round trip time in nanoseconds
+   * @return response metadata
+   */
+  SnmpResponseInfo response(final PDU response, final long roundTripTime) {
+    final int requestId = response.getRequestID().getValue();
+    final int errorStatus = response.getErrorStatus();
+    final int errorIndex = response.getErrorIndex();
+    final int varbindCount = response.size();
+    return new SnmpResponseInfo() {
+      @Override
+      public int getRequestId() {
+        return requestId;
+      }
+
+      @Override
+      public int getErrorStatus() {
+        return errorStatus;
+      }
+
+      @Override
+      public int getErrorIndex() {
+        return errorIndex;
+      }
+
+      @Override
+      public int getVarbindCount() {
+        return varbindCount;
+      }
+
+      @Override
+      public long getRoundTripTime() {
+        return roundTripTime;
+      }
+    };
+  }
+
+  @Override
+  public String getTarget() {
+    return target;
+  }
+
+  @Override
+  public String getPduType() {
+    return PDU.getTypeString(request.getType());
+  }
+
+  @Override
+  public int getRequestId() {
+    return requestId;
+  }
+
+  @Override
+  public List<String> getVarbinds() {
+    final List<String> oids = new ArrayList<>(request.size());
+    for (VariableBinding varbind : request.getVariableBindings()) {
+      oids.add(varbind.getOid().toDottedString());
+    }
+    return oids;
+  }
+
+  @Override
+  public int getAttempt() {
+    return attempt;
+  }
+
+  @Override
+  public boolean isHedge() {
+    return hedge;
+  }
+
+  @Override
+  public Object getAttribute(String name) {
+    return attributes.get(name);
+  }
+
+  @Override
+  public void setAttribute(String name, Object value) {
+    if (value == null) {
+      attributes.remove(name);
+    }
+    else {
+      attributes.put(name, value);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getPduType() + " " + getVarbinds() + " to " + target
+        + " (requestId=" + requestId + ", attempt=" + attempt
+        + (hedge ? ", hedge" : "") + ")";
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.soulwing.snmp.SnmpInterceptor;
+import org.soulwing.snmp.SnmpRequestInfo;
+import org.soulwing.snmp.SnmpResponseInfo;
+
+/**
+ * An ordered collection of {@link SnmpInterceptor} objects that are
+ * notified in turn, isolating the caller from any exception thrown by an
+ * interceptor.
+ *
+ * @author Carl Harris
+ */
+class InterceptorChain {
+
+  private final SnmpInterceptor[] interceptors;
+  private final Logger logger;
+
+  private InterceptorChain(SnmpInterceptor[] interceptors, Logger logger) {
+    this.interceptors = interceptors;
+    this.logger = logger;
+  }
+
+  /**
+   * Creates a chain for the given interceptors.
+   * @param interceptors list of interceptors (may be {@code null})
+   * @return chain or {@code null} if there are no interceptors
+   */
+  static InterceptorChain of(List<SnmpInterceptor> interceptors) {
+    return of(interceptors, Snmp4jLogger.logger);
+  }
+
+  /**
+   * Creates a chain for the given interceptors.
+   * @param interceptors list of interceptors (may be {@code null})
+   * @param logger logger for exceptions thrown by the interceptors
+   * @return chain or {@code null} if there are no interceptors
+   */
+  static InterceptorChain of(List<SnmpInterceptor> interceptors,
+      Logger logger) {
+    if (interceptors == null || interceptors.isEmpty()) return null;
+    return new InterceptorChain(
+        interceptors.toArray(new SnmpInterceptor[interceptors.size()]),
+        logger);
+  }
+
+  void beforeSend(SnmpRequestInfo request) {
+    for (SnmpInterceptor interceptor : interceptors) {
+      try {
+        interceptor.beforeSend(request);
+      }
+      catch (RuntimeException ex) {
+        interceptorFailed(interceptor, ex);
+      }
+    }
+  }
+
+  void onRetry(SnmpRequestInfo request) {
+    for (SnmpInterceptor interceptor : interceptors) {
+      try {
+        interceptor.onRetry(request);
+      }
+      catch (RuntimeException ex) {
+        interceptorFailed(interceptor, ex);
+      }
+    }
+  }
+
+  void onResponse(SnmpRequestInfo request, SnmpResponseInfo response) {
+    for (SnmpInterceptor interceptor : interceptors) {
+      try {
+        interceptor.onResponse(request, response);
+      }
+      catch (RuntimeException ex) {
+        interceptorFailed(interceptor, ex);
+      }
+    }
+  }
+
+  void onTimeout(SnmpRequestInfo request) {
+    for (SnmpInterceptor interceptor : interceptors) {
+      try {
+        interceptor.onTimeout(request);
+      }
+      catch (RuntimeException ex) {
+        interceptorFailed(interceptor, ex);
+      }
+    }
+  }
+
+  void onError(SnmpRequestInfo request, Exception error) {
+    for (SnmpInterceptor interceptor : interceptors) {
+      try {
+        interceptor.onError(request, error);
+      }
+      catch (RuntimeException ex) {
+        interceptorFailed(interceptor, ex);
+      }
+    }
+  }
+
+  private void interceptorFailed(SnmpInterceptor interceptor,
+      RuntimeException ex) {
+    logger.warn("interceptor {} threw an exception", interceptor, ex);
+  }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.snmp4j.PDU;
+import org.soulwing.snmp.metrics.OperationType;
+
+/**
+ * An {@link Snmp4jEvents} sink that emits Java Flight Recorder events.
+ * <p>
+ * This class must be loaded only when the {@code jdk.jfr} module is
+ * available.
+ *
+ * @author Carl Harris
+ */
+class JfrSnmp4jEvents extends Snmp4jEvents {
+
+  private static final EventType REQUEST_SENT =
+      EventType.getEventType(RequestSent.class);
+
+  private static final EventType REQUEST_RETRY =
+      EventType.getEventType(RequestRetry.class);
+
+  private static final EventType RESPONSE_RECEIVED =
+      EventType.getEventType(ResponseReceived.class);
+
+  private static final EventType REQUEST_TIMEOUT =
+      EventType.getEventType(RequestTimeout.class);
+
+  private static final EventType WALK_CHUNK =
+      EventType.getEventType(WalkChunk.class);
+
+  private static final EventType OPERATION =
+      EventType.getEventType(Operation.class);
+
+  @Override
+  void requestSent(String target, PDU request, int attempt, boolean hedge) {
+    if (REQUEST_SENT.isEnabled()) {
+      final RequestSent event = new RequestSent();
+      event.target = target;
+      event.pduType = PDU.getTypeString(request.getType());
+      event.requestId = request.getRequestID().getValue();
+      event.varbindCount = request.size();
+      event.attempt = attempt;
+      event.hedge = hedge;
+      event.commit();
+    }
+    if (attempt > 0 && REQUEST_RETRY.isEnabled()) {
+      final RequestRetry event = new RequestRetry();
+      event.target = target;
+      event.pduType = PDU.getTypeString(request.getType());
+      event.requestId = request.getRequestID().getValue();
+      event.varbindCount = request.size();
+      event.attempt = attempt;
+      event.commit();
+    }
+  }
+
+  @Override
+  void responseReceived(String target, PDU request, PDU response,
+      long latency) {
+    if (!RESPONSE_RECEIVED.isEnabled()) return;
+    final ResponseReceived event = new ResponseReceived();
+    event.target = target;
+    event.pduType = PDU.getTypeString(request.getType());
+    event.requestId = response.getRequestID().getValue();
+    event.varbindCount = response.size();
+    event.errorStatus = response.getErrorStatus();
+    event.latency = latency;
+    event.commit();
+  }
+
+  @Override
+  void requestTimedOut(String target, PDU request, int attempt,
+      boolean retrying, long latency) {
+    if (!REQUEST_TIMEOUT.isEnabled()) return;
+    final RequestTimeout event = new RequestTimeout();
+    event.target = target;
+    event.pduType = PDU.getTypeString(request.getType());
+    event.requestId = request.getRequestID().getValue();
+    event.varbindCount = request.size();
+    event.attempt = attempt;
+    event.retrying = retrying;
+    event.latency = latency;
+    event.commit();
+  }
+
+  @Override
+  void walkChunk(String target, PDU response, int rows, long latency) {
+    if (!WALK_CHUNK.isEnabled()) return;
+    final WalkChunk event = new WalkChunk();
+    event.target = target;
+    event.requestId = response.getRequestID().getValue();
+    event.varbindCount = response.size();
+    event.rows = rows;
+    event.latency = latency;
+    event.commit();
+  }
+
+  @Override
+  void operationCompleted(String target, OperationType type,
+      int varbindCount, boolean success, long latency) {
+    if (!OPERATION.isEnabled()) return;
+    final Operation event = new Operation();
+    event.target = target;
+    event.operationType = type.name();
+    event.varbindCount = varbindCount;
+    event.success = success;
+    event.latency = latency;
+    event.commit();
+  }
+
+  @Name("org.soulwing.snmp.RequestSent")
+  @Label("SNMP Request Sent")
+  @Category({ "SNMP", "Request" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class RequestSent extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("PDU Type")
+    String pduType;
+
+    @Label("Request ID")
+    int requestId;
+
+    @Label("Varbind Count")
+    int varbindCount;
+
+    @Label("Attempt")
+    @Description("Attempt number; zero for the first attempt")
+    int attempt;
+
+    @Label("Hedge")
+    @Description("Whether the request is a hedged duplicate")
+    boolean hedge;
+
+  }
+
+  @Name("org.soulwing.snmp.RequestRetry")
+  @Label("SNMP Request Retry")
+  @Category({ "SNMP", "Request" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class RequestRetry extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("PDU Type")
+    String pduType;
+
+    @Label("Request ID")
+    int requestId;
+
+    @Label("Varbind Count")
+    int varbindCount;
+
+    @Label("Attempt")
+    int attempt;
+
+  }
+
+  @Name("org.soulwing.snmp.ResponseReceived")
+  @Label("SNMP Response Received")
+  @Category({ "SNMP", "Request" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class ResponseReceived extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("PDU Type")
+    @Description("Type of the request PDU")
+    String pduType;
+
+    @Label("Request ID")
+    int requestId;
+
+    @Label("Varbind Count")
+    int varbindCount;
+
+    @Label("Error Status")
+    int errorStatus;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+  }
+
+  @Name("org.soulwing.snmp.RequestTimeout")
+  @Label("SNMP Request Timeout")
+  @Category({ "SNMP", "Request" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class RequestTimeout extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("PDU Type")
+    String pduType;
+
+    @Label("Request ID")
+    int requestId;
+
+    @Label("Varbind Count")
+    int varbindCount;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Retrying")
+    @Description("Whether the request will be retried")
+    boolean retrying;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+  }
+
+  @Name("org.soulwing.snmp.WalkChunk")
+  @Label("SNMP Walk Chunk")
+  @Category({ "SNMP", "Walk" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class WalkChunk extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("Request ID")
+    int requestId;
+
+    @Label("Varbind Count")
+    int varbindCount;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+  }
+
+  @Name("org.soulwing.snmp.Operation")
+  @Label("SNMP Operation")
+  @Category({ "SNMP", "Operation" })
+  @Enabled(false)
+  @StackTrace(false)
+  static class Operation extends Event {
+
+    @Label("Target")
+    String target;
+
+    @Label("Operation Type")
+    String operationType;
+
+    @Label("Varbind Count")
+    int varbindCount;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+  }
+
+}
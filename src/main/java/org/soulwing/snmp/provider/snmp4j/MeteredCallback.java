@@ -0,0 +1,57 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import org.soulwing.snmp.SnmpCallback;
+import org.soulwing.snmp.SnmpEvent;
+
+/**
+ * An {@link SnmpCallback} that records the outcome and latency of an
+ * asynchronous operation before delegating to another callback.
+ *
+ * @author Carl Harris
+ */
+class MeteredCallback<V> implements SnmpCallback<V> {
+
+  private final long startedAt = System.nanoTime();
+
+  private final SnmpCallback<V> delegate;
+  private final AbstractOperation<V> operation;
+
+  /**
+   * Constructs a new instance.
+   * @param delegate callback that will receive the operation's response
+   * @param operation the operation whose completion is to be recorded
+   */
+  MeteredCallback(SnmpCallback<V> delegate, AbstractOperation<V> operation) {
+    this.delegate = delegate;
+    this.operation = operation;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onSnmpResponse(SnmpEvent<V> event) {
+    operation.operationCompleted(startedAt,
+        !(event.getResponse() instanceof ExceptionResponse));
+    delegate.onSnmpResponse(event);
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.soulwing.snmp.HedgingPolicy;
+
+/**
+ * Tracks observed response latency for a target and decides when (and
+ * whether) a request should be hedged, according to a {@link HedgingPolicy}.
+ * <p>
+ * Latency is sampled into a fixed-size ring; the configured percentile is
+ * recomputed from the ring periodically rather than on every request.
+ * Hedges are paid for from a token bucket that is credited with the
+ * policy's budget for each request sent, so the hedge rate can never
+ * exceed the budget (plus a small burst allowance).
+ *
+ * @author Carl Harris
+ */
+class RequestHedger {
+
+  static final int SAMPLE_COUNT = 128;
+
+  private static final int RECOMPUTE_INTERVAL = 16;
+
+  /** cost of a single hedge, in micro-tokens */
+  private static final long HEDGE_COST = 1000000L;
+
+  /** maximum number of hedges that may be banked, in micro-tokens */
+  private static final long MAX_BALANCE = 10 * HEDGE_COST;
+
+  private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_COUNT);
+  private final AtomicLong sampleCount = new AtomicLong();
+  private final AtomicLong balance = new AtomicLong();
+
+  private final double percentile;
+  private final long minimumDelay;
+  private final int minimumSamples;
+  private final long credit;
+
+  private volatile long estimate = -1;
+  private volatile long estimatedAt;
+
+  /**
+   * Constructs a new instance.
+   * @param policy hedging policy
+   */
+  RequestHedger(HedgingPolicy policy) {
+    this.percentile = policy.getPercentile();
+    this.minimumDelay = policy.getMinimumDelay();
+    this.minimumSamples = Math.max(1, policy.getMinimumSamples());
+    this.credit = (long) (policy.getBudget() * HEDGE_COST);
+  }
+
+  /**
+   * Tests whether this hedger applies a given policy.
+   * @param policy the policy to test
+   * @return {@code true} if this hedger was constructed using a policy
+   *    with the same settings as {@code policy}
+   */
+  boolean hasPolicy(HedgingPolicy policy) {
+    return percentile == policy.getPercentile()
+        && minimumDelay == policy.getMinimumDelay()
+        && minimumSamples == Math.max(1, policy.getMinimumSamples())
+        && credit == (long) (policy.getBudget() * HEDGE_COST);
+  }
+
+  /**
+   * Records the latency of a response.
+   * @param nanos observed round trip time in nanoseconds
+   */
+  void recordLatency(long nanos) {
+    final long n = sampleCount.getAndIncrement();
+    samples.set((int) (n % SAMPLE_COUNT), nanos);
+  }
+
+  /**
+   * Credits the hedge budget for a request that has been sent.
+   */
+  void requestSent() {
+    if (credit == 0) return;
+    long current;
+    do {
+      current = balance.get();
+      if (current >= MAX_BALANCE) return;
+    }
+    while (!balance.compareAndSet(current,
+        Math.min(MAX_BALANCE, current + credit)));
+  }
+
+  /**
+   * Gets the delay after which a request should be hedged.
+   * @return delay in milliseconds or -1 if too few latency observations
+   *    have been recorded to make an estimate
+   */
+  long hedgeDelay() {
+    final long n = sampleCount.get();
+    if (n < minimumSamples) return -1;
+    long estimate = this.estimate;
+    if (estimate < 0 || n - estimatedAt >= RECOMPUTE_INTERVAL) {
+      estimate = computePercentile(n);
+      this.estimate = estimate;
+      this.estimatedAt = n;
+    }
+    return Math.max(minimumDelay,
+        TimeUnit.NANOSECONDS.toMillis(estimate));
+  }
+
+  /**
+   * Withdraws the cost of a hedge from the budget.
+   * @return {@code true} if the budget allowed the hedge
+   */
+  boolean tryHedge() {
+    long current;
+    do {
+      current = balance.get();
+      if (current < HEDGE_COST) return false;
+    }
+    while (!balance.compareAndSet(current, current - HEDGE_COST));
+    return true;
+  }
+
+  private long computePercentile(long n) {
+    final int length = (int) Math.min(n, SAMPLE_COUNT);
+    final long[] sorted = new long[length];
+    for (int i = 0; i < length; i++) {
+      sorted[i] = samples.get(i);
+    }
+    Arrays.sort(sorted);
+    final int rank = (int) Math.ceil(percentile * length) - 1;
+    return sorted[Math.max(0, Math.min(length - 1, rank))];
+  }
+
+}
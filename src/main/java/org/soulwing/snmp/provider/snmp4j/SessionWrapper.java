@@ -21,9 +21,11 @@ package org.soulwing.snmp.provider.snmp4j;
 import static org.soulwing.snmp.provider.snmp4j.Snmp4jLogger.logger;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -34,7 +36,13 @@ import org.snmp4j.Target;
 import org.snmp4j.TransportMapping;
 import org.snmp4j.event.ResponseEvent;
 import org.snmp4j.event.ResponseListener;
+import org.snmp4j.smi.Integer32;
+import org.soulwing.snmp.HedgingPolicy;
 import org.soulwing.snmp.SnmpFactory;
+import org.soulwing.snmp.SnmpInterceptor;
+import org.soulwing.snmp.metrics.OperationMetrics;
+import org.soulwing.snmp.metrics.OperationType;
+import org.soulwing.snmp.metrics.TargetMetrics;
 
 /**
  * A wrapper for session that provides support for per-request timeout.
@@ -47,6 +55,11 @@ class SessionWrapper implements Snmp4jSession {
   private final ScheduledExecutorService executorService;
   private final int retries;
   private final long timeout;
+  private final RequestHedger hedger;
+  private final TargetMetrics metrics;
+  private final String targetName;
+  private final InterceptorChain interceptors;
+  private final Snmp4jEvents events = Snmp4jEvents.INSTANCE;
 
   /**
    * Constructs a new instance.
@@ -56,7 +69,26 @@ class SessionWrapper implements Snmp4jSession {
    * @param timeout the timeout delay for each request
    */
   public SessionWrapper(Snmp delegate, int retries, long timeout) {
-    this(delegate, retries, timeout,
+    this(delegate, retries, timeout, null, new TargetMetrics(""), null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param delegate tne SNMP session delegate
+   * @param retries the number of additional attempts for each request when
+   *    the first request times out
+   * @param timeout the timeout delay for each request
+   * @param hedgingPolicy policy for hedging GET and GETNEXT requests or
+   *    {@code null} if requests should not be hedged
+   * @param metrics metrics to update for requests sent using this session
+   * @param interceptors interceptors to notify of the lifecycle of requests
+   *    sent using this session (may be {@code null})
+   */
+  public SessionWrapper(Snmp delegate, int retries, long timeout,
+      HedgingPolicy hedgingPolicy, TargetMetrics metrics,
+      List<SnmpInterceptor> interceptors) {
+    this(delegate, retries, timeout, hedgingPolicy != null ?
+        new RequestHedger(hedgingPolicy) : null, metrics, interceptors,
         SnmpFactory.getInstance().getScheduledExecutorService());
   }
 
@@ -71,9 +103,36 @@ class SessionWrapper implements Snmp4jSession {
    */
   SessionWrapper(Snmp delegate, int retries, long timeout,
       ScheduledExecutorService executorService) {
+    this(delegate, retries, timeout, null, new TargetMetrics(""), null,
+        executorService);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param delegate the SNMP session delegate
+   * @param retries the number of additional attempts for each request when
+   *    the first request times out
+   * @param timeout the timeout delay for each request
+   * @param hedger hedger for GET and GETNEXT requests (typically shared
+   *    by all sessions for the same target) or {@code null} if requests
+   *    should not be hedged
+   * @param metrics metrics to update for requests sent using this session
+   * @param interceptors interceptors to notify of the lifecycle of requests
+   *    sent using this session (may be {@code null})
+   * @param executorService scheduled executor service to use in scheduling
+   *    request timeouts and hedges
+   */
+  SessionWrapper(Snmp delegate, int retries, long timeout,
+      RequestHedger hedger, TargetMetrics metrics,
+      List<SnmpInterceptor> interceptors,
+      ScheduledExecutorService executorService) {
     this.delegate = delegate;
     this.retries = retries;
     this.timeout = timeout;
+    this.hedger = hedger;
+    this.metrics = metrics;
+    this.targetName = metrics.getName();
+    this.interceptors = InterceptorChain.of(interceptors);
     this.executorService = executorService;
   }
 
@@ -97,14 +156,26 @@ class SessionWrapper implements Snmp4jSession {
   @Override
   public ResponseEvent send(final PDU pdu, final Target target,
       final TransportMapping transport) throws IOException {
-    return new SynchronousRequest(pdu, target, transport, retries, timeout).get();
+    return send(pdu, target, transport, Deadline.NONE);
   }
 
   @Override
   public void send(PDU pdu, Target target, TransportMapping transport,
       Object userHandle, ResponseListener listener) throws IOException {
+    send(pdu, target, transport, Deadline.NONE, userHandle, listener);
+  }
+
+  private ResponseEvent send(PDU pdu, Target target,
+      TransportMapping<?> transport, Deadline deadline) throws IOException {
+    return new SynchronousRequest(pdu, target, transport, retries, timeout,
+        deadline).get();
+  }
+
+  private void send(PDU pdu, Target target, TransportMapping<?> transport,
+      Deadline deadline, Object userHandle, ResponseListener listener)
+      throws IOException {
     new AsynchronousRequest(pdu, target, transport, userHandle, retries,
-        timeout, listener).send();
+        timeout, deadline, listener).send();
   }
 
   @Override
@@ -113,55 +184,74 @@ class SessionWrapper implements Snmp4jSession {
   }
 
   @Override
-  public ResponseEvent get(PDU pdu, Target target) throws IOException {
+  public ResponseEvent get(PDU pdu, Target target, Deadline deadline)
+      throws IOException {
     pdu.setType(PDU.GET);
-    return send(pdu, target);
+    return send(pdu, target, null, deadline);
   }
 
   @Override
-  public void get(PDU pdu, Target target, Object userHandle,
-      ResponseListener listener) throws IOException {
+  public void get(PDU pdu, Target target, Deadline deadline,
+      Object userHandle, ResponseListener listener) throws IOException {
     pdu.setType(PDU.GET);
-    send(pdu, target, userHandle, listener);
+    send(pdu, target, null, deadline, userHandle, listener);
   }
 
   @Override
-  public ResponseEvent set(PDU pdu, Target target) throws IOException {
+  public ResponseEvent set(PDU pdu, Target target, Deadline deadline)
+      throws IOException {
     pdu.setType(PDU.SET);
-    return send(pdu, target);
+    return send(pdu, target, null, deadline);
   }
 
   @Override
-  public void set(PDU pdu, Target target, Object userHandle,
-      ResponseListener listener) throws IOException {
+  public void set(PDU pdu, Target target, Deadline deadline,
+      Object userHandle, ResponseListener listener) throws IOException {
     pdu.setType(PDU.SET);
-    send(pdu, target, userHandle, listener);
+    send(pdu, target, null, deadline, userHandle, listener);
   }
 
   @Override
-  public ResponseEvent getNext(PDU pdu, Target target) throws IOException {
+  public ResponseEvent getNext(PDU pdu, Target target, Deadline deadline)
+      throws IOException {
     pdu.setType(PDU.GETNEXT);
-    return send(pdu, target);
+    return send(pdu, target, null, deadline);
   }
 
   @Override
-  public void getNext(PDU pdu, Target target, Object userHandle,
-      ResponseListener listener) throws IOException {
+  public void getNext(PDU pdu, Target target, Deadline deadline,
+      Object userHandle, ResponseListener listener) throws IOException {
     pdu.setType(PDU.GETNEXT);
-    send(pdu, target, userHandle, listener);
+    send(pdu, target, null, deadline, userHandle, listener);
   }
 
   @Override
-  public ResponseEvent getBulk(PDU pdu, Target target) throws IOException {
+  public ResponseEvent getBulk(PDU pdu, Target target, Deadline deadline)
+      throws IOException {
     pdu.setType(PDU.GETBULK);
-    return send(pdu, target);
+    return send(pdu, target, null, deadline);
   }
 
   @Override
-  public void getBulk(PDU pdu, Target target, Object userHandle,
-      ResponseListener listener) throws IOException {
+  public void getBulk(PDU pdu, Target target, Deadline deadline,
+      Object userHandle, ResponseListener listener) throws IOException {
     pdu.setType(PDU.GETBULK);
-    send(pdu, target, userHandle, listener);
+    send(pdu, target, null, deadline, userHandle, listener);
+  }
+
+  private OperationMetrics metricsFor(int pduType) {
+    switch (pduType) {
+      case PDU.GET:
+        return metrics.get(OperationType.GET);
+      case PDU.GETNEXT:
+        return metrics.get(OperationType.GETNEXT);
+      case PDU.GETBULK:
+        return metrics.get(OperationType.GETBULK);
+      case PDU.SET:
+        return metrics.get(OperationType.SET);
+      default:
+        return null;
+    }
   }
 
   abstract class AbstractRequest implements ResponseListener, Runnable {
@@ -172,31 +262,81 @@ class SessionWrapper implements Snmp4jSession {
     protected final Object userHandle;
 
     private final long timeout;
+    private final Deadline deadline;
+    private final boolean hedgeable;
+    private final OperationMetrics metrics;
+    private final InterceptedRequest intercepted;
+    private final AtomicBoolean done = new AtomicBoolean();
 
     private int retries;
+    private volatile int attempts;
 
-    private ScheduledFuture<?> future;
+    private volatile ScheduledFuture<?> future;
+    private volatile ScheduledFuture<?> hedgeFuture;
+    private volatile PDU hedge;
+    private volatile long sentAt;
+    private volatile long hedgeSentAt;
 
     protected ResponseEvent event;
 
     AbstractRequest(PDU request, Target target,
         TransportMapping<?> transportMapping, Object userHandle,
-        int retries, long timeout) {
+        int retries, long timeout, Deadline deadline) {
       this.request = request;
       this.target = target;
       this.transportMapping = transportMapping;
       this.userHandle = userHandle;
       this.retries = retries;
       this.timeout = timeout;
+      this.deadline = deadline;
+      this.hedgeable = hedger != null
+          && (request.getType() == PDU.GET || request.getType() == PDU.GETNEXT);
+      this.metrics = metricsFor(request.getType());
+      if (metrics != null) {
+        metrics.requestStarted();
+      }
+      this.intercepted = interceptors != null ?
+          new InterceptedRequest(targetName(), request) : null;
     }
 
     public final void send() {
+      if (deadline.isExpired()) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("operation deadline expired before sending request");
+        }
+        onResponse(new ResponseEvent(delegate, target.getAddress(),
+            request, null, userHandle));
+        return;
+      }
       try {
         if (logger.isTraceEnabled()) {
           logger.trace("sending request");
         }
-        future = executorService.schedule(this, timeout, TimeUnit.MILLISECONDS);
+        final int attempt = attempts++;
+        if (hedger != null && attempt == 0) {
+          hedger.requestSent();
+        }
+        if (metrics != null) {
+          if (attempt > 0) {
+            metrics.retrySent();
+          }
+          else {
+            metrics.requestSent();
+          }
+        }
+        if (intercepted != null) {
+          intercept(request, attempt, false);
+        }
+        final long attemptTimeout = deadline.remaining(timeout);
+        future = executorService.schedule(this, attemptTimeout,
+            TimeUnit.MILLISECONDS);
+        sentAt = System.nanoTime();
         delegate.send(request, target, transportMapping, userHandle, this);
+        events.requestSent(targetName(), request, attempt, false);
+        if (hedgeable && hedge == null) {
+          // a hedge that is already in flight keeps racing the retry
+          scheduleHedge(attemptTimeout);
+        }
       }
       catch (IOException ex) {
         onResponse(new ResponseEvent(delegate, target.getAddress(),
@@ -205,14 +345,80 @@ class SessionWrapper implements Snmp4jSession {
       }
     }
 
+    private void scheduleHedge(long attemptTimeout) {
+      final long delay = hedger.hedgeDelay();
+      if (delay < 0 || delay >= attemptTimeout) return;
+      hedgeFuture = executorService.schedule(new Runnable() {
+        @Override
+        public void run() {
+          sendHedge();
+        }
+      }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void sendHedge() {
+      if (done.get() || !hedger.tryHedge()) return;
+      final PDU pdu = (PDU) request.clone();
+      // a request ID of zero causes a new request ID to be assigned
+      pdu.setRequestID(new Integer32(0));
+      hedge = pdu;
+      if (intercepted != null) {
+        intercept(pdu, attempts - 1, true);
+      }
+      try {
+        if (logger.isDebugEnabled()) {
+          logger.debug("sending hedged request");
+        }
+        hedgeSentAt = System.nanoTime();
+        delegate.send(pdu, target, transportMapping, userHandle, this);
+        if (metrics != null) {
+          metrics.hedgeSent();
+        }
+        events.requestSent(targetName(), pdu, attempts - 1, true);
+        if (done.get()) {
+          // a response arrived while we were sending the hedge
+          cancel(pdu, this);
+        }
+      }
+      catch (IOException ex) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("failed to send hedged request: {}", ex.toString());
+        }
+      }
+    }
+
+    /**
+     * Notifies interceptors that a PDU is about to be sent.
+     * <p>
+     * A request ID is assigned to the PDU here (rather than by the
+     * delegate session when sending) so that interceptors can observe it.
+     */
+    private void intercept(PDU pdu, int attempt, boolean hedge) {
+      if (pdu.getRequestID().getValue() == 0) {
+        pdu.setRequestID(new Integer32(delegate.getNextRequestID()));
+      }
+      intercepted.sending(pdu, attempt, hedge);
+      if (attempt > 0 && !hedge) {
+        interceptors.onRetry(intercepted);
+      }
+      interceptors.beforeSend(intercepted);
+    }
+
     @Override
     public void run() {
       timeout();
     }
 
     private void timeout() {
+      final ScheduledFuture<?> hedgeFuture = this.hedgeFuture;
+      if (hedgeFuture != null) {
+        hedgeFuture.cancel(false);
+      }
       cancel(request, this);
-      if (retries == 0) {
+      final boolean retrying = retries > 0 && !deadline.isExpired();
+      events.requestTimedOut(targetName(), request, attempts - 1, retrying,
+          System.nanoTime() - sentAt);
+      if (!retrying) {
         if (logger.isDebugEnabled()) {
           logger.debug("signaling timeout");
         }
@@ -224,15 +430,98 @@ class SessionWrapper implements Snmp4jSession {
       send();
     }
 
+    private void cancelHedge() {
+      final ScheduledFuture<?> hedgeFuture = this.hedgeFuture;
+      if (hedgeFuture != null) {
+        hedgeFuture.cancel(false);
+      }
+      final PDU hedge = this.hedge;
+      if (hedge != null) {
+        cancel(hedge, this);
+        this.hedge = null;
+      }
+    }
+
+    private String targetName() {
+      return !targetName.isEmpty() ?
+          targetName : String.valueOf(target.getAddress());
+    }
+
+    /**
+     * Cancels all outstanding requests made on behalf of this request.
+     */
+    protected void cancelAll() {
+      cancelHedge();
+      cancel(request, this);
+    }
+
     @Override
-    public void onResponse(ResponseEvent event) {
+    public final void onResponse(ResponseEvent event) {
+      if (!done.compareAndSet(false, true)) {
+        // the other of a hedged pair of requests already completed
+        if (event.getRequest() != null) {
+          cancel(event.getRequest(), this);
+        }
+        return;
+      }
       if (logger.isTraceEnabled()) {
         logger.trace("response received");
       }
-      future.cancel(false);
-      cancel(request, this);
+      final ScheduledFuture<?> future = this.future;
+      if (future != null) {
+        future.cancel(false);
+      }
+      if (event.getResponse() != null) {
+        final PDU answered = event.getRequest() != null ?
+            event.getRequest() : request;
+        final long roundTripTime = System.nanoTime()
+            - (answered != request ? hedgeSentAt : sentAt);
+        events.responseReceived(targetName(), answered, event.getResponse(),
+            roundTripTime);
+        if (hedger != null && answered == request && attempts == 1) {
+          // the latency of a winning hedge (or of a retry) understates
+          // the latency of the target and would make hedging ever more
+          // aggressive
+          hedger.recordLatency(roundTripTime);
+        }
+        if (metrics != null) {
+          metrics.responseReceived(roundTripTime);
+        }
+        if (intercepted != null) {
+          interceptors.onResponse(intercepted,
+              intercepted.response(event.getResponse(), roundTripTime));
+        }
+      }
+      else {
+        if (metrics != null) {
+          if (event.getError() != null) {
+            metrics.requestFailed();
+          }
+          else {
+            metrics.requestTimedOut();
+          }
+        }
+        if (intercepted != null) {
+          if (event.getError() != null) {
+            interceptors.onError(intercepted, event.getError());
+          }
+          else {
+            interceptors.onTimeout(intercepted);
+          }
+        }
+      }
+      cancelAll();
+      complete(event);
     }
 
+    /**
+     * Notifies the recipient of this request that it is complete.
+     * <p>
+     * This method is invoked exactly once for each request.
+     * @param event the response event (which may represent a timeout)
+     */
+    protected abstract void complete(ResponseEvent event);
+
   }
 
   class SynchronousRequest extends AbstractRequest {
@@ -241,8 +530,10 @@ class SessionWrapper implements Snmp4jSession {
     private final Condition readyCondition = lock.newCondition();
 
     SynchronousRequest(PDU request, Target target,
-        TransportMapping<?> transportMapping, int retries, long timeout) {
-      super(request, target, transportMapping, null, retries, timeout);
+        TransportMapping<?> transportMapping, int retries, long timeout,
+        Deadline deadline) {
+      super(request, target, transportMapping, null, retries, timeout,
+          deadline);
     }
 
     public ResponseEvent get() throws IOException {
@@ -259,7 +550,7 @@ class SessionWrapper implements Snmp4jSession {
       }
       catch (InterruptedException ex) {
         // treat this as though a timeout occurred
-        cancel(request, this);
+        cancelAll();
         return new ResponseEvent(delegate, target.getAddress(),
             request, null, userHandle);
       }
@@ -269,8 +560,7 @@ class SessionWrapper implements Snmp4jSession {
     }
 
     @Override
-    public void onResponse(ResponseEvent event) {
-      super.onResponse(event);
+    protected void complete(ResponseEvent event) {
       lock.lock();
       try {
         this.event = event;
@@ -289,14 +579,15 @@ class SessionWrapper implements Snmp4jSession {
 
     AsynchronousRequest(PDU request, Target target,
         TransportMapping<?> transportMapping, Object userHandle,
-        int retries, long timeout, ResponseListener listener) {
-      super(request, target, transportMapping, userHandle, retries, timeout);
+        int retries, long timeout, Deadline deadline,
+        ResponseListener listener) {
+      super(request, target, transportMapping, userHandle, retries, timeout,
+          deadline);
       this.listener = listener;
     }
 
     @Override
-    public void onResponse(ResponseEvent event) {
-      super.onResponse(event);
+    protected void complete(ResponseEvent event) {
       listener.onResponse(event);
     }
 
@@ -24,6 +24,7 @@ import java.io.IOException;
 import org.snmp4j.PDU;
 import org.snmp4j.event.ResponseEvent;
 import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.metrics.OperationType;
 
 /**
  * An SNMP SET operation.
@@ -45,17 +46,28 @@ class SetOperation extends VarbindCollectionOperation {
    * {@inheritDoc}
    */
   @Override
-  protected ResponseEvent doInvoke(PDU request) throws IOException {
-    return context.getSession().set(request, context.getSnmp4jTarget());
+  protected OperationType getOperationType() {
+    return OperationType.SET;
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  protected void doInvoke(PDU request, Object userObject)
+  protected ResponseEvent doInvoke(PDU request, Deadline deadline)
       throws IOException {
-    context.getSession().set(request, context.getSnmp4jTarget(), userObject, this);
+    return context.getSession().set(request, context.getSnmp4jTarget(),
+        deadline);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void doInvoke(PDU request, Deadline deadline,
+      Object userObject) throws IOException {
+    context.getSession().set(request, context.getSnmp4jTarget(), deadline,
+        userObject, this);
   }
 
 }
@@ -18,22 +18,55 @@
  */
 package org.soulwing.snmp.provider.snmp4j;
 
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.snmp4j.PDU;
+import org.snmp4j.smi.OID;
 import org.snmp4j.smi.VariableBinding;
 import org.soulwing.snmp.Formatter;
 import org.soulwing.snmp.IndexExtractor;
 import org.soulwing.snmp.Mib;
 import org.soulwing.snmp.MutableVarbindCollection;
+import org.soulwing.snmp.Oid;
 import org.soulwing.snmp.Varbind;
 import org.soulwing.snmp.VarbindCollection;
 
 /**
  * A simple {@link VarbindFactory}.
+ * <p>
+ * The varbinds produced by this factory consult the MIB only when the name,
+ * formatter, or index extractor of the varbind is first needed.  What the
+ * MIB has to say about an object type is cached by the factory, so that it
+ * is shared by every instance of the object type (e.g. every cell of a
+ * table column).
+ * <p>
+ * Instances that the MIB doesn't describe are remembered too, in a cache
+ * that is simply cleared when it reaches its limit, so that a stream of
+ * unknown objects neither consults the MIB repeatedly nor grows without
+ * bound.  An object described by a module loaded after an instance was
+ * first seen is therefore not named until the cache is next cleared.
  *
  * @author Carl Harris
  */
 class SimpleVarbindFactory implements VarbindFactory {
 
+  static final int MAX_UNKNOWN_INSTANCES = 4096;
+
+  private static final ThreadLocal<Key> PROBE = new ThreadLocal<Key>() {
+    @Override
+    protected Key initialValue() {
+      return new Key();
+    }
+  };
+
+  private final ConcurrentMap<Key, ObjectMetadata> objects =
+      new ConcurrentHashMap<Key, ObjectMetadata>();
+
+  private final ConcurrentMap<Key, ObjectMetadata> unknownInstances =
+      new ConcurrentHashMap<Key, ObjectMetadata>();
+
   private final Mib mib;
 
   public SimpleVarbindFactory(Mib mib) {
@@ -47,11 +80,77 @@ class SimpleVarbindFactory implements VarbindFactory {
 
   @Override
   public Varbind newVarbind(VariableBinding vb) {
-    String oid = vb.getOid().toString();
-    String name = mib.oidToInstanceName(oid);
-    Formatter formatter = mib.newFormatter(oid);
-    IndexExtractor indexExtractor = createIndexExtractor(oid);
-    return new Snmp4jVarbind(name, vb, formatter, indexExtractor, this);
+    return new Snmp4jVarbind(vb, this);
+  }
+
+  /**
+   * Gets the metadata for the object type of a given instance.
+   * <p>
+   * Since the instances of an object type are leaves of the OID tree, at
+   * most one cached object type can be a prefix of the instance; the
+   * longest prefix is tried first, since the instance identifier of most
+   * objects is short.  The caches are probed using a reusable key that
+   * refers to the sub-identifiers of {@code oid}, so that a hit allocates
+   * nothing.
+   * @param oid object instance identifier
+   * @return metadata for the object type
+   */
+  ObjectMetadata getObjectMetadata(OID oid) {
+    final int[] value = oid.getValue();
+    final int size = oid.size();
+    final Key probe = PROBE.get();
+    for (int length = size - 1; length > 0; length--) {
+      final ObjectMetadata metadata = objects.get(probe.set(value, length));
+      if (metadata != null) return metadata;
+    }
+    final ObjectMetadata unknown = unknownInstances.get(probe.set(value, size));
+    if (unknown != null) return unknown;
+
+    final Oid instanceOid = Oid.valueOf(value, 0, size);
+    final String name = mib.oidToInstanceName(instanceOid);
+    final int dot = name.indexOf('.');
+    if (name.equals(instanceOid.toString()) || dot == -1) {
+      return unknownInstance(value, size,
+          new ObjectMetadata(mib, instanceOid, null, name));
+    }
+
+    int instanceLength = 1;
+    for (int i = name.indexOf('.', dot + 1); i != -1;
+        i = name.indexOf('.', i + 1)) {
+      instanceLength++;
+    }
+    if (instanceLength >= size || !isObjectType(instanceOid)) {
+      return unknownInstance(value, size,
+          new ObjectMetadata(mib, instanceOid, null, name));
+    }
+
+    final int objectLength = size - instanceLength;
+    final ObjectMetadata metadata = new ObjectMetadata(mib,
+        instanceOid.prefix(objectLength), name.substring(0, dot),
+        name.substring(0, dot));
+    final ObjectMetadata existing =
+        objects.putIfAbsent(new Key(value, objectLength), metadata);
+    return existing != null ? existing : metadata;
+  }
+
+  private ObjectMetadata unknownInstance(int[] value, int length,
+      ObjectMetadata metadata) {
+    if (unknownInstances.size() >= MAX_UNKNOWN_INSTANCES) {
+      unknownInstances.clear();
+    }
+    final ObjectMetadata existing =
+        unknownInstances.putIfAbsent(new Key(value, length), metadata);
+    return existing != null ? existing : metadata;
+  }
+
+  private boolean isObjectType(Oid oid) {
+    try {
+      mib.syntaxForObject(oid);
+      return true;
+    }
+    catch (IllegalArgumentException ex) {
+      return false;
+    }
   }
 
   @Override
@@ -72,6 +171,10 @@ class SimpleVarbindFactory implements VarbindFactory {
   }
 
   protected String objectNameToKey(Varbind v) {
+    if (v instanceof Snmp4jVarbind) {
+      final String objectName = ((Snmp4jVarbind) v).getObjectName();
+      if (objectName != null) return objectName;
+    }
     String oid = v.getOid();
     String name = v.getName();
     if (name.equals(oid)) return oid;
@@ -79,13 +182,133 @@ class SimpleVarbindFactory implements VarbindFactory {
     return index != -1 ? name.substring(0, index) : name;
   }
 
-  private IndexExtractor createIndexExtractor(String oid) {
-    try {
-      return mib.newIndexExtractor(oid);
+  /**
+   * A cache key consisting of the leading sub-identifiers of an object
+   * identifier.
+   * <p>
+   * A key used to probe a cache refers to the sub-identifiers of the
+   * subject and is reused; a key stored in a cache has its own copy.
+   */
+  static final class Key {
+
+    private int[] value;
+    private int length;
+    private int hash;
+
+    Key() {
     }
-    catch (IllegalArgumentException ex) {
-      return null;
+
+    Key(int[] value, int length) {
+      set(Arrays.copyOf(value, length), length);
+    }
+
+    Key set(int[] value, int length) {
+      int hash = 1;
+      for (int i = 0; i < length; i++) {
+        hash = 31 * hash + value[i];
+      }
+      this.value = value;
+      this.length = length;
+      this.hash = hash;
+      return this;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key other = (Key) obj;
+      if (other.length != length || other.hash != hash) return false;
+      for (int i = 0; i < length; i++) {
+        if (other.value[i] != value[i]) return false;
+      }
+      return true;
+    }
+
+  }
+
+  /**
+   * What the MIB has to say about an object type.
+   * <p>
+   * The formatter and index extractor are obtained from the MIB when first
+   * needed.
+   */
+  static class ObjectMetadata {
+
+    private final Mib mib;
+    private final Oid oid;
+    private final String objectName;
+    private final String name;
+
+    private volatile Formatter formatter;
+    private volatile IndexExtractor indexExtractor;
+    private volatile boolean indexExtractorResolved;
+
+    /**
+     * Constructs a new instance.
+     * @param mib the MIB
+     * @param oid object identifier of the object type
+     * @param objectName name of the object type or {@code null} if the
+     *    object type is not known
+     * @param name name of the object type, or the name to use for its
+     *    sole instance if the object type is not known
+     */
+    ObjectMetadata(Mib mib, Oid oid, String objectName, String name) {
+      this.mib = mib;
+      this.oid = oid;
+      this.objectName = objectName;
+      this.name = name;
+    }
+
+    /**
+     * Gets the name of the object type.
+     * @return object name or {@code null} if the object type is not
+     *    known
+     */
+    String getObjectName() {
+      return objectName;
+    }
+
+    /**
+     * Gets the name of an instance of the object type.
+     * @param instance object instance identifier
+     * @return object name suffixed by the instance identifier
+     */
+    String getInstanceName(OID instance) {
+      if (instance.size() <= oid.size()) return name;
+      final int[] value = instance.getValue();
+      final StringBuilder sb = new StringBuilder(name);
+      for (int i = oid.size(); i < instance.size(); i++) {
+        sb.append('.').append(value[i] & 0xffffffffL);
+      }
+      return sb.toString();
     }
+
+    Formatter getFormatter() {
+      if (formatter == null) {
+        formatter = mib.newFormatter(oid);
+      }
+      return formatter;
+    }
+
+    IndexExtractor getIndexExtractor() {
+      if (!indexExtractorResolved) {
+        try {
+          indexExtractor = mib.newIndexExtractor(oid);
+        }
+        catch (IllegalArgumentException ex) {
+          indexExtractor = null;
+        }
+        indexExtractorResolved = true;
+      }
+      return indexExtractor;
+    }
+
   }
 
 }
@@ -20,8 +20,8 @@ package org.soulwing.snmp.provider.snmp4j;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.regex.Pattern;
 
 import org.snmp4j.Snmp;
 import org.snmp4j.Target;
@@ -34,21 +34,26 @@ import org.snmp4j.smi.UnsignedInteger32;
 import org.snmp4j.smi.Variable;
 import org.snmp4j.smi.VariableBinding;
 import org.soulwing.snmp.Mib;
+import org.soulwing.snmp.Oid;
 import org.soulwing.snmp.SnmpAsyncWalker;
 import org.soulwing.snmp.SnmpCallback;
 import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpInterceptor;
 import org.soulwing.snmp.SnmpOperation;
 import org.soulwing.snmp.SnmpResponse;
+import org.soulwing.snmp.SnmpTable;
 import org.soulwing.snmp.SnmpTarget;
 import org.soulwing.snmp.SnmpTargetConfig;
 import org.soulwing.snmp.SnmpWalker;
 import org.soulwing.snmp.Varbind;
 import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.WalkCheckpoint;
+import org.soulwing.snmp.WalkOptions;
+import org.soulwing.snmp.WalkVisitor;
+import org.soulwing.snmp.metrics.TargetMetrics;
 
 class Snmp4jContext implements SnmpContext {
 
-  private static final Pattern OID_PATTERN = Pattern.compile("^[0-9.]*$");
-
   private final AtomicBoolean closed = new AtomicBoolean();
 
   private final SnmpTarget target;
@@ -59,20 +64,31 @@ class Snmp4jContext implements SnmpContext {
   private final PduFactory pduFactory;
   private final VarbindFactory varbindFactory;
   private final DisposeListener disposeListener;
+  private final TargetMetrics metrics;
   
   public Snmp4jContext(SnmpTarget target, SnmpTargetConfig config,
       Mib mib, Snmp snmp, Target snmp4jTarget, PduFactory pduFactory,
-      VarbindFactory varbindFactory, DisposeListener disposeListener) {
+      VarbindFactory varbindFactory, TargetMetrics metrics,
+      RequestHedger hedger, List<SnmpInterceptor> interceptors,
+      ScheduledExecutorService executorService,
+      DisposeListener disposeListener) {
     this.target = target;
     this.config = config;
     this.mib = mib;
+    this.metrics = metrics;
     this.snmp = new SessionWrapper(snmp, config.getRetries(),
-        config.getTimeout());
+        config.getTimeout(), hedger, metrics, interceptors, executorService);
     this.snmp4jTarget = snmp4jTarget;
     this.pduFactory = pduFactory;
     this.varbindFactory = varbindFactory;
     this.disposeListener = disposeListener;
   }
+
+  static String metricsName(SnmpTarget target) {
+    final String address = target.getAddress();
+    return (address.indexOf(':') != -1 ? "[" + address + "]" : address)
+        + ":" + target.getPort();
+  }
   
   /**
    * {@inheritDoc}
@@ -122,6 +138,14 @@ class Snmp4jContext implements SnmpContext {
     return varbindFactory;
   }
 
+  /**
+   * Gets the metrics recorded for operations on this context's target.
+   * @return target metrics
+   */
+  public TargetMetrics getMetrics() {
+    return metrics;
+  }
+
   /**
    * Gets the {@code config} property.
    * @return property value
@@ -154,7 +178,9 @@ class Snmp4jContext implements SnmpContext {
   @Override
   public Varbind newVarbind(String oid, Object value) {
     VariableBinding varbind = resolveOid(oid);
-    int syntax = mib.syntaxForObject(varbind.getOid().toString());
+    OID resolvedOid = varbind.getOid();
+    int syntax = mib.syntaxForObject(
+        Oid.valueOf(resolvedOid.getValue(), 0, resolvedOid.size()));
     Variable variable = AbstractVariable.createFromSyntax(syntax);
     if (variable instanceof Integer32) {
       ((Integer32) variable).setValue(((Number) value).intValue());
@@ -427,6 +453,43 @@ class Snmp4jContext implements SnmpContext {
     return walk(0, Arrays.asList(repeaters));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpWalker<VarbindCollection> walk(WalkCheckpoint checkpoint) {
+    final List<String> oids = new ArrayList<String>(
+        checkpoint.getNonRepeaters());
+    oids.addAll(checkpoint.getRepeaters());
+    final List<String> nextOids = new ArrayList<String>(
+        checkpoint.getNonRepeaters());
+    nextOids.addAll(checkpoint.getNextOids());
+    return new GetBulkSyncWalker(this, resolveOids(nextOids),
+        resolveOids(oids), checkpoint.getNonRepeaters().size(),
+        config.getWalkMaxRepetitions());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpWalker<VarbindCollection> walk(WalkOptions options,
+      int nonRepeaters, List<String> oids) {
+    final GetBulkSyncWalker walker = new GetBulkSyncWalker(this,
+        resolveOids(oids), nonRepeaters, config.getWalkMaxRepetitions());
+    walker.configure(options);
+    return walker;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpWalker<VarbindCollection> walk(WalkOptions options,
+      String... repeaters) {
+    return walk(options, 0, Arrays.asList(repeaters));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -472,6 +535,103 @@ class Snmp4jContext implements SnmpContext {
     newWalk(repeaters).invoke(callback);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
+      WalkCheckpoint checkpoint) {
+    newWalk(checkpoint).invoke(callback);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
+      WalkOptions options, int nonRepeaters, List<String> oids) {
+    newWalk(options, nonRepeaters, oids).invoke(callback);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncWalk(SnmpCallback<SnmpAsyncWalker<VarbindCollection>> callback,
+      WalkOptions options, String... repeaters) {
+    newWalk(options, repeaters).invoke(callback);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpResponse<SnmpTable> getTable(List<String> columns) {
+    return newGetTable(columns).invoke();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpResponse<SnmpTable> getTable(String... columns) {
+    return newGetTable(columns).invoke();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpResponse<Long> visitTable(WalkVisitor visitor,
+      List<String> columns) {
+    return newVisitTable(visitor, columns).invoke();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpResponse<Long> visitTable(WalkVisitor visitor,
+      String... columns) {
+    return newVisitTable(visitor, columns).invoke();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncGetTable(SnmpCallback<SnmpTable> callback,
+      List<String> columns) {
+    newGetTable(columns).invoke(callback);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncGetTable(SnmpCallback<SnmpTable> callback,
+      String... columns) {
+    newGetTable(columns).invoke(callback);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncVisitTable(SnmpCallback<Long> callback,
+      WalkVisitor visitor, List<String> columns) {
+    newVisitTable(visitor, columns).invoke(callback);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void asyncVisitTable(SnmpCallback<Long> callback,
+      WalkVisitor visitor, String... columns) {
+    newVisitTable(visitor, columns).invoke(callback);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -622,6 +782,79 @@ class Snmp4jContext implements SnmpContext {
     return newWalk(0, Arrays.asList(repeaters));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpAsyncWalker<VarbindCollection> newWalk(
+      WalkCheckpoint checkpoint) {
+    final List<String> oids = new ArrayList<String>(
+        checkpoint.getNonRepeaters());
+    oids.addAll(checkpoint.getRepeaters());
+    final List<String> nextOids = new ArrayList<String>(
+        checkpoint.getNonRepeaters());
+    nextOids.addAll(checkpoint.getNextOids());
+    return new GetBulkAsyncWalker(this, resolveOids(nextOids),
+        resolveOids(oids), checkpoint.getNonRepeaters().size(),
+        config.getWalkMaxRepetitions());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpAsyncWalker<VarbindCollection> newWalk(WalkOptions options,
+      int nonRepeaters, List<String> oids) {
+    final GetBulkAsyncWalker walker = new GetBulkAsyncWalker(this,
+        resolveOids(oids), nonRepeaters, config.getWalkMaxRepetitions());
+    walker.configure(options);
+    return walker;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpAsyncWalker<VarbindCollection> newWalk(WalkOptions options,
+      String... repeaters) {
+    return newWalk(options, 0, Arrays.asList(repeaters));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpOperation<SnmpTable> newGetTable(List<String> columns) {
+    return new GetTableOperation(this, resolveOids(columns),
+        columns.toArray(new String[columns.size()]));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpOperation<SnmpTable> newGetTable(String... columns) {
+    return newGetTable(Arrays.asList(columns));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpOperation<Long> newVisitTable(WalkVisitor visitor,
+      List<String> columns) {
+    return new VisitTableOperation(this, resolveOids(columns), visitor);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpOperation<Long> newVisitTable(WalkVisitor visitor,
+      String... columns) {
+    return newVisitTable(visitor, Arrays.asList(columns));
+  }
+
   private VariableBinding[] resolveOids(List<String> oids) {
     VariableBinding[] resolvedOids = new VariableBinding[oids.size()];
     for (int i = 0; i < oids.size(); i++) {
@@ -671,12 +904,15 @@ class Snmp4jContext implements SnmpContext {
   }
 
   private VariableBinding resolveOid(String oid) {
-    if (!OID_PATTERN.matcher(oid).matches() && mib != null) {
-      String resolvedOid = mib.nameToOid(oid);
+    if (Oid.isDotted(oid)) {
+      return new VariableBinding(new OID(Oid.parse(oid).toArray()));
+    }
+    if (mib != null) {
+      Oid resolvedOid = mib.resolveName(oid);
       if (resolvedOid == null) {
         throw new IllegalArgumentException("'" + oid + "' cannot be resolved");
       }
-      oid = resolvedOid;
+      return new VariableBinding(new OID(resolvedOid.toArray()));
     }
     return new VariableBinding(new OID(oid));
   }
@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import org.snmp4j.PDU;
+import org.soulwing.snmp.metrics.OperationType;
+
+/**
+ * A sink for diagnostic events produced by this provider.
+ * <p>
+ * The {@link #INSTANCE} emits Java Flight Recorder events when the
+ * {@code jdk.jfr} module is available; otherwise it silently discards
+ * all events.  The events are disabled by default, and must be enabled
+ * in the recording settings (e.g. {@code org.soulwing.snmp.*#enabled=true}).
+ *
+ * @author Carl Harris
+ */
+class Snmp4jEvents {
+
+  static final Snmp4jEvents INSTANCE = newInstance();
+
+  private static Snmp4jEvents newInstance() {
+    try {
+      Class.forName("jdk.jfr.Event");
+      return (Snmp4jEvents) Class.forName(
+          Snmp4jEvents.class.getPackage().getName() + ".JfrSnmp4jEvents")
+          .getDeclaredConstructor().newInstance();
+    }
+    catch (Exception | LinkageError ex) {
+      return new Snmp4jEvents();
+    }
+  }
+
+  /**
+   * Notifies this sink that a request was sent.
+   * @param target target name
+   * @param request the request PDU
+   * @param attempt attempt number (zero for the first attempt)
+   * @param hedge flag indicating whether the request is a hedged duplicate
+   */
+  void requestSent(String target, PDU request, int attempt, boolean hedge) {
+  }
+
+  /**
+   * Notifies this sink that a response was received.
+   * @param target target name
+   * @param request the request PDU that was answered
+   * @param response the response PDU
+   * @param latency time since the request was sent (nanoseconds)
+   */
+  void responseReceived(String target, PDU request, PDU response,
+      long latency) {
+  }
+
+  /**
+   * Notifies this sink that an attempt to send a request timed out.
+   * @param target target name
+   * @param request the request PDU
+   * @param attempt attempt number (zero for the first attempt)
+   * @param retrying flag indicating whether the request will be retried
+   * @param latency time since the request was sent (nanoseconds)
+   */
+  void requestTimedOut(String target, PDU request, int attempt,
+      boolean retrying, long latency) {
+  }
+
+  /**
+   * Notifies this sink that a GETBULK response was received during a walk.
+   * @param target target name
+   * @param response the response PDU
+   * @param rows number of rows (repetitions) in the response
+   * @param latency time since the request was sent (nanoseconds)
+   */
+  void walkChunk(String target, PDU response, int rows, long latency) {
+  }
+
+  /**
+   * Notifies this sink that an operation completed.
+   * @param target target name
+   * @param type operation type
+   * @param varbindCount number of varbinds requested by the operation
+   * @param success flag indicating whether the operation was successful
+   * @param latency time taken to complete the operation (nanoseconds)
+   */
+  void operationCompleted(String target, OperationType type,
+      int varbindCount, boolean success, long latency) {
+  }
+
+}
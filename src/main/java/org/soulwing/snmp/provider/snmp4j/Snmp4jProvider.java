@@ -20,7 +20,9 @@ package org.soulwing.snmp.provider.snmp4j;
 import static org.soulwing.snmp.provider.snmp4j.Snmp4jLogger.logger;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -31,6 +33,7 @@ import org.snmp4j.smi.Address;
 import org.snmp4j.smi.GenericAddress;
 import org.snmp4j.smi.UdpAddress;
 import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.soulwing.snmp.HedgingPolicy;
 import org.soulwing.snmp.Mib;
 import org.soulwing.snmp.SnmpContext;
 import org.soulwing.snmp.SnmpException;
@@ -69,10 +72,15 @@ public class Snmp4jProvider implements SnmpProvider, DisposeListener {
   private final IdentityHashMap<Object, Object> refs =
       new IdentityHashMap<Object, Object>();
 
+  private final Map<String, RequestHedger> hedgers =
+      new HashMap<String, RequestHedger>();
+
   private boolean useSingleSession;
 
   private volatile Snmp snmp;
 
+  private volatile SnmpFactory factory;
+
   static {
     SNMP4JSettings.setThreadFactory(
         new Snmp4jThreadFactory(SnmpFactory.getInstance().getThreadFactory()));
@@ -89,6 +97,12 @@ public class Snmp4jProvider implements SnmpProvider, DisposeListener {
     return PROVIDER_NAME;
   }
 
+  @Override
+  public void init(SnmpFactory factory) {
+    this.factory = factory;
+    init(factory.getFactoryConfig());
+  }
+
   @Override
   public void init(SnmpFactoryConfig config) {
     Object useSingleSession = config.getProperty(USE_SINGLE_SESSION);
@@ -116,9 +130,15 @@ public class Snmp4jProvider implements SnmpProvider, DisposeListener {
       snmp4jTarget.setRetries(0);
       snmp4jTarget.setTimeout(Integer.MAX_VALUE);
 
+      final SnmpFactory factory = getFactory();
+      final String targetName = Snmp4jContext.metricsName(target);
       Snmp4jContext context = new Snmp4jContext(target, config, mib,
           getSnmp(), snmp4jTarget, pduFactory,
-          new SimpleVarbindFactory(mib), this);
+          new SimpleVarbindFactory(mib),
+          factory.getMetrics().forTarget(targetName),
+          getHedger(targetName, config.getHedgingPolicy()),
+          factory.getInterceptors(), factory.getScheduledExecutorService(),
+          this);
       refs.put(context, context);
       return context;
     }
@@ -145,6 +165,43 @@ public class Snmp4jProvider implements SnmpProvider, DisposeListener {
     }
   }
 
+  /**
+   * Gets the factory that owns this provider.
+   * @return the factory passed to {@link #init(SnmpFactory)}, or the
+   *    singleton factory if this provider was not initialized by a factory
+   */
+  private SnmpFactory getFactory() {
+    final SnmpFactory factory = this.factory;
+    return factory != null ? factory : SnmpFactory.getInstance();
+  }
+
+  /**
+   * Gets the hedger for a target.
+   * <p>
+   * Hedgers are kept for the lifetime of this provider, so that the
+   * latency samples and hedge budget accumulated for a target carry over
+   * from one context to the next.  A context configured with a different
+   * policy than the one in use for its target replaces the target's hedger.
+   * @param targetName name of the target, as used for its metrics
+   * @param policy hedging policy of the context or {@code null}
+   * @return hedger or {@code null} if {@code policy} is {@code null}
+   */
+  RequestHedger getHedger(String targetName, HedgingPolicy policy) {
+    if (policy == null) return null;
+    lock.lock();
+    try {
+      RequestHedger hedger = hedgers.get(targetName);
+      if (hedger == null || !hedger.hasPolicy(policy)) {
+        hedger = new RequestHedger(policy);
+        hedgers.put(targetName, hedger);
+      }
+      return hedger;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
   private Snmp getSnmp() {
     if (snmp == null) {
       try {
@@ -33,24 +33,28 @@ import org.snmp4j.event.ResponseListener;
  */
 interface Snmp4jSession extends Session {
 
-  ResponseEvent get(PDU pdu, Target target) throws IOException;
+  ResponseEvent get(PDU pdu, Target target, Deadline deadline)
+      throws IOException;
 
-  void get(PDU pdu, Target target, Object userHandle,
+  void get(PDU pdu, Target target, Deadline deadline, Object userHandle,
       ResponseListener listener) throws IOException;
 
-  ResponseEvent set(PDU pdu, Target target) throws IOException;
+  ResponseEvent set(PDU pdu, Target target, Deadline deadline)
+      throws IOException;
 
-  void set(PDU pdu, Target target, Object userHandle,
+  void set(PDU pdu, Target target, Deadline deadline, Object userHandle,
       ResponseListener listener) throws IOException;
 
-  ResponseEvent getNext(PDU pdu, Target target) throws IOException;
+  ResponseEvent getNext(PDU pdu, Target target, Deadline deadline)
+      throws IOException;
 
-  void getNext(PDU pdu, Target target, Object userHandle,
+  void getNext(PDU pdu, Target target, Deadline deadline, Object userHandle,
       ResponseListener listener) throws IOException;
 
-  ResponseEvent getBulk(PDU pdu, Target target) throws IOException;
+  ResponseEvent getBulk(PDU pdu, Target target, Deadline deadline)
+      throws IOException;
 
-  void getBulk(PDU pdu, Target target, Object userHandle,
+  void getBulk(PDU pdu, Target target, Deadline deadline, Object userHandle,
       ResponseListener listener) throws IOException;
 
-}
\ No newline at end of file
+}
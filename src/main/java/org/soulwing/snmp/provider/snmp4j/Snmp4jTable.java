@@ -0,0 +1,368 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.SMIConstants;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.Oid;
+import org.soulwing.snmp.SnmpTable;
+import org.soulwing.snmp.Varbind;
+
+/**
+ * An {@link SnmpTable} that is filled directly from the variable bindings
+ * of GETBULK responses.
+ * <p>
+ * Column arrays are allocated when the first value of the column is
+ * received and grow geometrically as rows are added; when the table is
+ * {@linkplain #complete() complete}, they are trimmed to the row count.
+ *
+ * @author Carl Harris
+ */
+class Snmp4jTable implements SnmpTable {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final OID[] columnOids;
+  private final String[] requestedNames;
+  private final String[] columnNames;
+  private final VarbindFactory varbindFactory;
+
+  private final ColumnType[] types;
+  private final BitSet[] present;
+  private final long[][] longs;
+  private final byte[][][] bytes;
+  private final int[][][] oids;
+
+  private int[][] indexes = new int[INITIAL_CAPACITY][];
+  private Varbind[][] indexVarbinds;
+  private int rowCount;
+
+  /**
+   * Constructs a new instance.
+   * @param columnOids object identifiers of the columns
+   * @param requestedNames names of the columns as requested
+   * @param varbindFactory factory used to resolve column names and to
+   *    produce index varbinds (may be {@code null}, in which case the
+   *    columns are named by OID and rows have no index varbinds)
+   */
+  Snmp4jTable(OID[] columnOids, String[] requestedNames,
+      VarbindFactory varbindFactory) {
+    this.columnOids = columnOids;
+    this.requestedNames = requestedNames;
+    this.varbindFactory = varbindFactory;
+    final int columnCount = columnOids.length;
+    this.columnNames = new String[columnCount];
+    this.types = new ColumnType[columnCount];
+    this.present = new BitSet[columnCount];
+    this.longs = new long[columnCount][];
+    this.bytes = new byte[columnCount][][];
+    this.oids = new int[columnCount][][];
+    for (int i = 0; i < columnCount; i++) {
+      final OID oid = columnOids[i];
+      final String name = varbindFactory != null ?
+          varbindFactory.getMib().oidToObjectName(
+              Oid.valueOf(oid.getValue(), 0, oid.size())) : null;
+      columnNames[i] = name != null ? name : oid.toDottedString();
+      present[i] = new BitSet();
+    }
+  }
+
+  /**
+   * Appends a row.
+   * <p>
+   * The index of the row is taken from the first cell that is an instance
+   * of the corresponding column; a cell whose index differs from that of
+   * the row is ignored, and a column whose cell is {@code null} is absent
+   * from the row.
+   * @param cells the cells of the row, one per column
+   * @return {@code true} if a row was appended
+   */
+  boolean addRow(VariableBinding[] cells) {
+    final int count = Math.min(cells.length, columnOids.length);
+    int[] index = null;
+    for (int i = 0; i < count && index == null; i++) {
+      if (cells[i] == null) continue;
+      final OID oid = cells[i].getOid();
+      final OID column = columnOids[i];
+      if (oid.size() > column.size() && oid.startsWith(column)) {
+        index = Arrays.copyOfRange(oid.getValue(), column.size(), oid.size());
+      }
+    }
+    if (index == null) return false;
+
+    ensureCapacity(rowCount + 1);
+    indexes[rowCount] = index;
+    for (int i = 0; i < count; i++) {
+      final VariableBinding vb = cells[i];
+      if (vb != null && isInstance(vb.getOid(), columnOids[i], index)) {
+        setValue(i, rowCount, vb.getVariable());
+      }
+    }
+    rowCount++;
+    return true;
+  }
+
+  /**
+   * Trims the column arrays to the row count once all rows have been added.
+   */
+  void complete() {
+    indexes = Arrays.copyOf(indexes, rowCount);
+    for (int i = 0; i < columnOids.length; i++) {
+      if (longs[i] != null) {
+        longs[i] = Arrays.copyOf(longs[i], rowCount);
+      }
+      if (bytes[i] != null) {
+        bytes[i] = Arrays.copyOf(bytes[i], rowCount);
+      }
+      if (oids[i] != null) {
+        oids[i] = Arrays.copyOf(oids[i], rowCount);
+      }
+    }
+  }
+
+  private static boolean isInstance(OID oid, OID column, int[] index) {
+    if (oid.size() != column.size() + index.length
+        || !oid.startsWith(column)) {
+      return false;
+    }
+    final int[] value = oid.getValue();
+    for (int i = 0; i < index.length; i++) {
+      if (value[column.size() + i] != index[i]) return false;
+    }
+    return true;
+  }
+
+  private void setValue(int column, int row, Variable variable) {
+    if (variable == null || variable.isException()) return;
+    final ColumnType type = typeOf(variable);
+    if (type == null) return;
+    if (types[column] == null) {
+      types[column] = type;
+      allocate(column, indexes.length);
+    }
+    else if (types[column] != type) {
+      return;
+    }
+    switch (type) {
+      case LONG:
+        longs[column][row] = variable.toLong();
+        break;
+      case BYTES:
+        bytes[column][row] = variable instanceof IpAddress ?
+            ((IpAddress) variable).getInetAddress().getAddress()
+            : ((OctetString) variable).getValue();
+        break;
+      case OID:
+        oids[column][row] = ((OID) variable).getValue();
+        break;
+      default:
+        throw new AssertionError("unrecognized column type");
+    }
+    present[column].set(row);
+  }
+
+  private static ColumnType typeOf(Variable variable) {
+    switch (variable.getSyntax()) {
+      case SMIConstants.SYNTAX_INTEGER:
+      case SMIConstants.SYNTAX_COUNTER32:
+      case SMIConstants.SYNTAX_GAUGE32:
+      case SMIConstants.SYNTAX_TIMETICKS:
+      case SMIConstants.SYNTAX_COUNTER64:
+        return ColumnType.LONG;
+      case SMIConstants.SYNTAX_OCTET_STRING:
+      case SMIConstants.SYNTAX_OPAQUE:
+      case SMIConstants.SYNTAX_IPADDRESS:
+        return variable instanceof OctetString
+            || variable instanceof IpAddress ? ColumnType.BYTES : null;
+      case SMIConstants.SYNTAX_OBJECT_IDENTIFIER:
+        return ColumnType.OID;
+      default:
+        return null;
+    }
+  }
+
+  private void allocate(int column, int capacity) {
+    switch (types[column]) {
+      case LONG:
+        longs[column] = new long[capacity];
+        break;
+      case BYTES:
+        bytes[column] = new byte[capacity][];
+        break;
+      case OID:
+        oids[column] = new int[capacity][];
+        break;
+      default:
+        throw new AssertionError("unrecognized column type");
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= indexes.length) return;
+    final int newCapacity = Math.max(capacity, indexes.length * 2);
+    indexes = Arrays.copyOf(indexes, newCapacity);
+    for (int i = 0; i < columnOids.length; i++) {
+      if (longs[i] != null) {
+        longs[i] = Arrays.copyOf(longs[i], newCapacity);
+      }
+      if (bytes[i] != null) {
+        bytes[i] = Arrays.copyOf(bytes[i], newCapacity);
+      }
+      if (oids[i] != null) {
+        oids[i] = Arrays.copyOf(oids[i], newCapacity);
+      }
+    }
+  }
+
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return columnOids.length;
+  }
+
+  @Override
+  public String getColumnName(int column) {
+    return columnNames[column];
+  }
+
+  @Override
+  public String getColumnOid(int column) {
+    return columnOids[column].toDottedString();
+  }
+
+  @Override
+  public int getColumnIndex(String name) {
+    for (int i = 0; i < columnOids.length; i++) {
+      if (name.equals(requestedNames[i]) || name.equals(columnNames[i])
+          || name.equals(columnOids[i].toDottedString())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public ColumnType getColumnType(int column) {
+    return types[column];
+  }
+
+  @Override
+  public int[] getIndex(int row) {
+    checkRow(row);
+    return indexes[row];
+  }
+
+  @Override
+  public String getIndexString(int row) {
+    return new OID(getIndex(row)).toDottedString();
+  }
+
+  @Override
+  public Varbind[] getIndexes(int row) {
+    final int[] index = getIndex(row);
+    if (varbindFactory == null) return new Varbind[0];
+    if (indexVarbinds == null) {
+      indexVarbinds = new Varbind[rowCount][];
+    }
+    else if (indexVarbinds.length < rowCount) {
+      indexVarbinds = Arrays.copyOf(indexVarbinds, rowCount);
+    }
+    if (indexVarbinds[row] == null) {
+      final OID oid = new OID(columnOids[0].getValue(), index);
+      indexVarbinds[row] =
+          varbindFactory.newVarbind(new VariableBinding(oid)).getIndexes();
+    }
+    return indexVarbinds[row].clone();
+  }
+
+  @Override
+  public boolean isPresent(int row, int column) {
+    checkRow(row);
+    return present[column].get(row);
+  }
+
+  @Override
+  public long[] getLongColumn(int column) {
+    checkType(column, ColumnType.LONG);
+    if (longs[column] == null) {
+      longs[column] = new long[rowCount];
+    }
+    return longs[column];
+  }
+
+  @Override
+  public byte[][] getBytesColumn(int column) {
+    checkType(column, ColumnType.BYTES);
+    if (bytes[column] == null) {
+      bytes[column] = new byte[rowCount][];
+    }
+    return bytes[column];
+  }
+
+  @Override
+  public int[][] getOidColumn(int column) {
+    checkType(column, ColumnType.OID);
+    if (oids[column] == null) {
+      oids[column] = new int[rowCount][];
+    }
+    return oids[column];
+  }
+
+  @Override
+  public long getLong(int row, int column) {
+    checkRow(row);
+    return getLongColumn(column)[row];
+  }
+
+  @Override
+  public byte[] getBytes(int row, int column) {
+    checkRow(row);
+    return getBytesColumn(column)[row];
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= rowCount) {
+      throw new IndexOutOfBoundsException("row " + row);
+    }
+  }
+
+  private void checkType(int column, ColumnType type) {
+    if (types[column] != null && types[column] != type) {
+      throw new IllegalStateException("column " + columnNames[column]
+          + " is of type " + types[column]);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "columns=" + Arrays.toString(columnNames) + ", rows=" + rowCount;
+  }
+
+}
@@ -19,6 +19,7 @@ package org.soulwing.snmp.provider.snmp4j;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.Arrays;
 
 import org.snmp4j.smi.AbstractVariable;
 import org.snmp4j.smi.Counter64;
@@ -26,30 +27,29 @@ import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.IpAddress;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.SMIConstants;
 import org.snmp4j.smi.UnsignedInteger32;
 import org.snmp4j.smi.Variable;
 import org.snmp4j.smi.VariableBinding;
-import org.soulwing.snmp.Formatter;
 import org.soulwing.snmp.IndexDescriptor;
 import org.soulwing.snmp.IndexExtractor;
+import org.soulwing.snmp.Oid;
 import org.soulwing.snmp.SnmpException;
 import org.soulwing.snmp.Varbind;
 
 class Snmp4jVarbind implements Varbind {
 
-  private final String name;
   private final VariableBinding delegate;
-  private final Formatter formatter;
-  private final IndexExtractor indexExtractor;
-  private final VarbindFactory varbindFactory;
+  private final SimpleVarbindFactory varbindFactory;
+
+  private SimpleVarbindFactory.ObjectMetadata metadata;
+  private String name;
+  private String oid;
+  private Varbind[] indexes;
   
-  public Snmp4jVarbind(String name, VariableBinding delegate, 
-      Formatter formatter, IndexExtractor indexExtractor,
-      VarbindFactory varbindFactory) {
-    this.name = name;
+  public Snmp4jVarbind(VariableBinding delegate,
+      SimpleVarbindFactory varbindFactory) {
     this.delegate = delegate;
-    this.formatter = formatter;
-    this.indexExtractor = indexExtractor;
     this.varbindFactory = varbindFactory;
   }
 
@@ -59,12 +59,27 @@ class Snmp4jVarbind implements Varbind {
 
   @Override
   public String getName() {
+    if (name == null) {
+      name = getMetadata().getInstanceName(delegate.getOid());
+    }
     return name;
   }
 
   @Override
   public String getOid() {
-    return delegate.getOid().toString();
+    if (oid == null) {
+      oid = delegate.getOid().toString();
+    }
+    return oid;
+  }
+
+  /**
+   * Gets the name of the object type of this varbind (without an instance
+   * identifier).
+   * @return object name or {@code null} if the object type is not known
+   */
+  String getObjectName() {
+    return getMetadata().getObjectName();
   }
 
   @Override
@@ -90,6 +105,56 @@ class Snmp4jVarbind implements Varbind {
     return variable.toLong();
   }
 
+  @Override
+  public long asUnsignedInt() {
+    return asLong() & 0xffffffffL;
+  }
+
+  @Override
+  public long asUnsignedLong() {
+    Variable variable = getVariable();
+    if (variable.getSyntax() == SMIConstants.SYNTAX_COUNTER64) {
+      return variable.toLong();
+    }
+    return variable.toLong() & 0xffffffffL;
+  }
+
+  @Override
+  public int getLength() {
+    Variable variable = getVariable();
+    if (variable instanceof OctetString) {
+      return ((OctetString) variable).length();
+    }
+    if (variable instanceof IpAddress) {
+      return ((IpAddress) variable).toByteArray().length;
+    }
+    if (variable instanceof OID) {
+      return ((OID) variable).size();
+    }
+    return 0;
+  }
+
+  @Override
+  public int copyBytes(byte[] dst, int offset) {
+    final byte[] bytes = bytes(getVariable());
+    if (bytes == null) {
+      throw new UnsupportedOperationException("not an octet string");
+    }
+    System.arraycopy(bytes, 0, dst, offset, bytes.length);
+    return bytes.length;
+  }
+
+  @Override
+  public int copyOid(int[] dst, int offset) {
+    Variable variable = getVariable();
+    if (!(variable instanceof OID)) {
+      throw new UnsupportedOperationException("not an object identifier");
+    }
+    final OID oid = (OID) variable;
+    System.arraycopy(oid.getValue(), 0, dst, offset, oid.size());
+    return oid.size();
+  }
+
   @Override
   public Object toObject() {
     return toObject(getVariable());
@@ -97,7 +162,7 @@ class Snmp4jVarbind implements Varbind {
 
   @Override
   public String asString() {
-    return formatter.format(toObject(getVariable()));
+    return getMetadata().getFormatter().format(toObject(getVariable()));
   }
 
   @Override
@@ -105,6 +170,18 @@ class Snmp4jVarbind implements Varbind {
     delegate.setVariable(newVariable(delegate.getSyntax(), value));
   }
 
+  /**
+   * Gets the metadata for the object type of this varbind, which is
+   * obtained from the factory when first needed.
+   * @return metadata
+   */
+  private SimpleVarbindFactory.ObjectMetadata getMetadata() {
+    if (metadata == null) {
+      metadata = varbindFactory.getObjectMetadata(delegate.getOid());
+    }
+    return metadata;
+  }
+
   private Variable getVariable() throws SnmpException {
     Variable variable = delegate.getVariable();
     if (variable.isException()) {
@@ -114,7 +191,7 @@ class Snmp4jVarbind implements Varbind {
     return variable;
   }
 
-  private static Object toObject(Variable variable) {
+  static Object toObject(Variable variable) {
     if (variable instanceof OID) {
       return ((OID) variable).toIntArray();
     }
@@ -153,10 +230,20 @@ class Snmp4jVarbind implements Varbind {
   
   @Override
   public Varbind[] getIndexes() {
+    if (indexes == null) {
+      indexes = extractIndexes();
+    }
+    return indexes.length == 0 ? indexes : indexes.clone();
+  }
+
+  private Varbind[] extractIndexes() {
+    final IndexExtractor indexExtractor = getMetadata().getIndexExtractor();
     if (indexExtractor == null) {
       return new Varbind[0];
     }
-    IndexDescriptor[] descriptors = indexExtractor.extractIndexes(getOid());
+    final OID instanceOid = delegate.getOid();
+    IndexDescriptor[] descriptors = indexExtractor.extractIndexes(
+        Oid.valueOf(instanceOid.getValue(), 0, instanceOid.size()));
     Varbind[] varbinds = new Varbind[descriptors.length];
     for (int i = 0; i < descriptors.length; i++) {
       IndexDescriptor descriptor = descriptors[i];
@@ -173,12 +260,21 @@ class Snmp4jVarbind implements Varbind {
 
   /**
    * {@inheritDoc}
+   * <p>
+   * Varbinds are equal if their values are equal.  Integral values are
+   * compared numerically, regardless of syntax; octet strings (including
+   * IP addresses) and object identifiers are compared element by element.
    */
   @Override
   public boolean equals(Object obj) {
     if (obj == this) return true;
     if (!(obj instanceof Varbind)) return false;
-    return this.toObject().equals(((Varbind) obj).toObject());
+    if (obj instanceof Snmp4jVarbind) {
+      return valueEquals(delegate.getVariable(),
+          ((Snmp4jVarbind) obj).delegate.getVariable());
+    }
+    return objectEquals(toObject(delegate.getVariable()),
+        ((Varbind) obj).toObject());
   }
 
   /**
@@ -186,7 +282,77 @@ class Snmp4jVarbind implements Varbind {
    */
   @Override
   public int hashCode() {
-    return this.toObject().hashCode();
+    final Variable variable = delegate.getVariable();
+    if (isIntegral(variable)) {
+      return Long.hashCode(variable.toLong());
+    }
+    final byte[] bytes = bytes(variable);
+    if (bytes != null) {
+      return Arrays.hashCode(bytes);
+    }
+    if (variable instanceof OID) {
+      return Arrays.hashCode(((OID) variable).getValue());
+    }
+    return variable.getSyntax();
+  }
+
+  private static boolean valueEquals(Variable a, Variable b) {
+    if (isIntegral(a)) {
+      return isIntegral(b) && a.toLong() == b.toLong();
+    }
+    if (a instanceof OctetString && b instanceof OctetString) {
+      return a.equals(b);
+    }
+    final byte[] bytes = bytes(a);
+    if (bytes != null) {
+      return Arrays.equals(bytes, bytes(b));
+    }
+    if (a instanceof OID) {
+      return b instanceof OID && a.equals(b);
+    }
+    return a.getSyntax() == b.getSyntax();
+  }
+
+  private static boolean objectEquals(Object a, Object b) {
+    if (a instanceof Number) {
+      return b instanceof Number
+          && ((Number) a).longValue() == ((Number) b).longValue();
+    }
+    if (a instanceof byte[]) {
+      return b instanceof byte[] && Arrays.equals((byte[]) a, (byte[]) b);
+    }
+    if (a instanceof int[]) {
+      return b instanceof int[] && Arrays.equals((int[]) a, (int[]) b);
+    }
+    return a == null ? b == null : a.equals(b);
+  }
+
+  private static boolean isIntegral(Variable variable) {
+    switch (variable.getSyntax()) {
+      case SMIConstants.SYNTAX_INTEGER:
+      case SMIConstants.SYNTAX_COUNTER32:
+      case SMIConstants.SYNTAX_GAUGE32:
+      case SMIConstants.SYNTAX_TIMETICKS:
+      case SMIConstants.SYNTAX_COUNTER64:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Gets the octets of a variable, without copying them if possible.
+   * @return octets or {@code null} if the variable is not an octet string
+   *    or IP address
+   */
+  private static byte[] bytes(Variable variable) {
+    if (variable instanceof OctetString) {
+      return ((OctetString) variable).getValue();
+    }
+    if (variable instanceof IpAddress) {
+      return ((IpAddress) variable).toByteArray();
+    }
+    return null;
   }
 
   @Override
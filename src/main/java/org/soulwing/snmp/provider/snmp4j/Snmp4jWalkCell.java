@@ -0,0 +1,182 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import java.util.Arrays;
+
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.SMIConstants;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.Formatter;
+import org.soulwing.snmp.Oid;
+import org.soulwing.snmp.Varbind;
+import org.soulwing.snmp.WalkCell;
+
+/**
+ * A {@link WalkCell} that presents each variable binding of a GETBULK
+ * response in turn.
+ * <p>
+ * The formatter for each column is obtained from the MIB only when a cell
+ * of the column is first formatted.
+ *
+ * @author Carl Harris
+ */
+class Snmp4jWalkCell implements WalkCell {
+
+  private final OID[] columnOids;
+  private final VarbindFactory varbindFactory;
+  private final Formatter[] formatters;
+
+  private int row;
+  private int column;
+  private VariableBinding vb;
+
+  /**
+   * Constructs a new instance.
+   * @param columnOids object identifiers of the columns
+   * @param varbindFactory factory used to access the MIB and to create
+   *    varbinds
+   */
+  Snmp4jWalkCell(OID[] columnOids, VarbindFactory varbindFactory) {
+    this.columnOids = columnOids;
+    this.varbindFactory = varbindFactory;
+    this.formatters = new Formatter[columnOids.length];
+  }
+
+  /**
+   * Positions this cell on a variable binding.
+   * @param row row number
+   * @param column column number
+   * @param vb variable binding for the cell
+   */
+  void set(int row, int column, VariableBinding vb) {
+    this.row = row;
+    this.column = column;
+    this.vb = vb;
+  }
+
+  @Override
+  public int getRow() {
+    return row;
+  }
+
+  @Override
+  public int getColumn() {
+    return column;
+  }
+
+  @Override
+  public int getIndexLength() {
+    return vb.getOid().size() - columnOids[column].size();
+  }
+
+  @Override
+  public int getIndex(int i) {
+    if (i < 0 || i >= getIndexLength()) {
+      throw new IndexOutOfBoundsException("index " + i);
+    }
+    return vb.getOid().getValue()[columnOids[column].size() + i];
+  }
+
+  @Override
+  public int[] getIndex() {
+    final OID oid = vb.getOid();
+    return Arrays.copyOfRange(oid.getValue(), columnOids[column].size(),
+        oid.size());
+  }
+
+  @Override
+  public String getIndexString() {
+    return new OID(getIndex()).toDottedString();
+  }
+
+  @Override
+  public int getSyntax() {
+    return vb.getSyntax();
+  }
+
+  @Override
+  public int asInt() {
+    return (int) asLong();
+  }
+
+  @Override
+  public long asLong() {
+    final Variable variable = vb.getVariable();
+    switch (variable.getSyntax()) {
+      case SMIConstants.SYNTAX_INTEGER:
+      case SMIConstants.SYNTAX_COUNTER32:
+      case SMIConstants.SYNTAX_GAUGE32:
+      case SMIConstants.SYNTAX_TIMETICKS:
+      case SMIConstants.SYNTAX_COUNTER64:
+        return variable.toLong();
+      default:
+        throw new IllegalStateException("cell value is not numeric: "
+            + variable.getSyntaxString());
+    }
+  }
+
+  @Override
+  public byte[] getBytes() {
+    final Variable variable = vb.getVariable();
+    if (variable instanceof OctetString) {
+      return ((OctetString) variable).getValue();
+    }
+    if (variable instanceof IpAddress) {
+      return ((IpAddress) variable).getInetAddress().getAddress();
+    }
+    throw new IllegalStateException("cell value is not an octet string: "
+        + variable.getSyntaxString());
+  }
+
+  @Override
+  public String asString() {
+    final Variable variable = vb.getVariable();
+    if (variable.isException()) {
+      return variable.toString();
+    }
+    if (formatters[column] == null) {
+      final OID oid = columnOids[column];
+      formatters[column] = varbindFactory.getMib().newFormatter(
+          Oid.valueOf(oid.getValue(), 0, oid.size()));
+    }
+    return formatters[column].format(Snmp4jVarbind.toObject(variable));
+  }
+
+  @Override
+  public String getName() {
+    final OID oid = vb.getOid();
+    return varbindFactory.getMib().oidToInstanceName(
+        Oid.valueOf(oid.getValue(), 0, oid.size()));
+  }
+
+  @Override
+  public Varbind toVarbind() {
+    return varbindFactory.newVarbind(vb);
+  }
+
+  @Override
+  public String toString() {
+    return "row=" + row + ", column=" + column + ", vb=" + vb;
+  }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.SnmpAsyncWalker;
+import org.soulwing.snmp.SnmpCallback;
+import org.soulwing.snmp.SnmpEvent;
+import org.soulwing.snmp.SnmpOperation;
+import org.soulwing.snmp.SnmpResponse;
+import org.soulwing.snmp.WalkCell;
+import org.soulwing.snmp.WalkVisitor;
+import org.soulwing.snmp.WouldBlockException;
+
+/**
+ * An {@link SnmpOperation} that presents the cells of a conceptual table
+ * to a {@link WalkVisitor} using a {@link GetBulkVisitorWalker}.
+ * <p>
+ * Each invocation walks the table anew; the result is the number of rows
+ * visited.
+ *
+ * @author Carl Harris
+ */
+class VisitTableOperation implements SnmpOperation<Long> {
+
+  private final Snmp4jContext context;
+  private final VariableBinding[] columns;
+  private final WalkVisitor visitor;
+
+  /**
+   * Constructs a new instance.
+   * @param context context for the operation
+   * @param columns resolved column identifiers
+   * @param visitor visitor to receive the cells of the table
+   */
+  VisitTableOperation(Snmp4jContext context, VariableBinding[] columns,
+      WalkVisitor visitor) {
+    this.context = context;
+    this.columns = columns;
+    this.visitor = visitor;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SnmpResponse<Long> invoke() {
+    final GetBulkVisitorWalker walker = newWalker();
+    try {
+      while (true) {
+        try {
+          drain(walker);
+          break;
+        }
+        catch (WouldBlockException ex) {
+          walker.invoke().get();
+        }
+      }
+      return new SuccessResponse<Long>((long) walker.getRowCount());
+    }
+    catch (RuntimeException ex) {
+      return new ExceptionResponse<Long>(ex);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invoke(final SnmpCallback<Long> callback) {
+    final GetBulkVisitorWalker walker = newWalker();
+    walker.invoke(new SnmpCallback<SnmpAsyncWalker<WalkCell>>() {
+      @Override
+      public void onSnmpResponse(SnmpEvent<SnmpAsyncWalker<WalkCell>> event) {
+        SnmpResponse<Long> response;
+        try {
+          event.getResponse().get();
+          drain(walker);
+          response = new SuccessResponse<Long>((long) walker.getRowCount());
+        }
+        catch (WouldBlockException ex) {
+          walker.invoke(this);
+          return;
+        }
+        catch (RuntimeException ex) {
+          response = new ExceptionResponse<Long>(ex);
+        }
+        callback.onSnmpResponse(new SnmpEvent<Long>(context, response));
+      }
+    });
+  }
+
+  /**
+   * Consumes the rows available from a walker, each of which was presented
+   * to the visitor by the walker.
+   * @throws WouldBlockException if the next request must be sent to
+   *    continue the walk
+   */
+  private static void drain(GetBulkVisitorWalker walker) {
+    WalkCell cell = walker.next().get();
+    while (cell != null) {
+      cell = walker.next().get();
+    }
+  }
+
+  private GetBulkVisitorWalker newWalker() {
+    final VariableBinding[] varbinds = new VariableBinding[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      varbinds[i] = new VariableBinding(columns[i].getOid());
+    }
+    return new GetBulkVisitorWalker(context, varbinds,
+        context.getConfig().getWalkMaxRepetitions(), visitor);
+  }
+
+}
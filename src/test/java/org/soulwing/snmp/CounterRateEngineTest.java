@@ -0,0 +1,278 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CounterRateEngine}.
+ *
+ * @author Carl Harris
+ */
+public class CounterRateEngineTest {
+
+  private static final double DELTA = 1e-9;
+
+  private final CounterRateEngine engine = new CounterRateEngine(4);
+
+  @Test
+  public void testRate() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    agent.poll(0, 100);
+    assertThat(Double.isNaN(agent.rate(1, 1000, false)), is(true));
+    agent.poll(2000, 300);
+    assertThat(agent.rate(1, 3000, false), is(closeTo(1000.0, DELTA)));
+    assertThat(Double.isNaN(agent.rate(1, 3000, false)), is(true));
+  }
+
+  @Test
+  public void testCounter32Wrap() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    agent.poll(0);
+    agent.rate(1, 0xffffff00L, false);
+    agent.poll(1000);
+    assertThat(agent.rate(1, 0x100L, false), is(closeTo(512.0, DELTA)));
+  }
+
+  @Test
+  public void testCounter64Wrap() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    agent.poll(0);
+    agent.rate(1, -256L, true);
+    agent.poll(1000);
+    assertThat(agent.rate(1, 256L, true), is(closeTo(512.0, DELTA)));
+    agent.poll(2000);
+    // an unsigned value beyond the range of a long
+    assertThat(agent.rate(1, Long.MIN_VALUE, true),
+        is(closeTo(Math.pow(2, 63) - 256, 1e4)));
+  }
+
+  @Test
+  public void testSysUpTimeRegression() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    agent.poll(0, 1000);
+    agent.rate(1, 5000, false);
+    agent.rate(2, 5000, true);
+    agent.poll(1000, 10);
+    assertThat(agent.getDiscontinuityCount(), is(equalTo(1)));
+    assertThat(Double.isNaN(agent.rate(1, 100, false)), is(true));
+    assertThat(Double.isNaN(agent.rate(2, 100, true)), is(true));
+    agent.poll(2000, 110);
+    assertThat(agent.rate(1, 600, false), is(closeTo(500.0, DELTA)));
+  }
+
+  @Test
+  public void testSysUpTimeWrap() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    final long sysUpTime = (1L << 32) - 50;
+    agent.poll(0, sysUpTime);
+    agent.rate(1, 5000, false);
+    agent.poll(1000, sysUpTime + 100 - (1L << 32));
+    assertThat(agent.getDiscontinuityCount(), is(equalTo(0)));
+    assertThat(agent.rate(1, 5100, false), is(closeTo(100.0, DELTA)));
+    // a restart is still detected when the regression is not a wrap
+    agent.poll(2000, 10);
+    assertThat(agent.getDiscontinuityCount(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testCollidingHashes() throws Exception {
+    final CounterRateEngine engine = new CounterRateEngine(4, 0);
+    final CounterRateEngine.Agent a = engine.agent("a");
+    final CounterRateEngine.Agent b = engine.agent("b");
+    final double[] rates = new double[2];
+    a.poll(0);
+    b.poll(0);
+    for (int i = 1; i <= 20; i++) {
+      a.rate(i, 0, false);
+      b.rate(i, 1000, false);
+    }
+    a.rates(new TestTable().row(1, 0L).row(2, 0L), 0, false, rates);
+    a.poll(1000);
+    b.poll(1000);
+    for (int i = 1; i <= 20; i++) {
+      assertThat(a.rate(i, i, false), is(closeTo(i, DELTA)));
+      assertThat(b.rate(i, 1000 + 2 * i, false), is(closeTo(2 * i, DELTA)));
+    }
+    assertThat(a.rates(new TestTable().row(1, 7L).row(2, 9L), 0, false,
+        rates), is(equalTo(2)));
+    assertThat(rates[0], is(closeTo(7.0, DELTA)));
+    assertThat(rates[1], is(closeTo(9.0, DELTA)));
+    assertThat(engine.getCounterCount(), is(equalTo(42)));
+  }
+
+  @Test
+  public void testAgentsAreIndependent() throws Exception {
+    final CounterRateEngine.Agent a = engine.agent("a");
+    final CounterRateEngine.Agent b = engine.agent("b");
+    assertThat(engine.agent("a"), is(equalTo(a)));
+    a.poll(0);
+    b.poll(0);
+    a.rate(1, 0, false);
+    b.rate(1, 1000, false);
+    a.poll(1000);
+    b.poll(1000);
+    assertThat(a.rate(1, 10, false), is(closeTo(10.0, DELTA)));
+    assertThat(b.rate(1, 1100, false), is(closeTo(100.0, DELTA)));
+    assertThat(engine.getCounterCount(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testTableRates() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    final double[] rates = new double[3];
+    agent.poll(0);
+    assertThat(agent.rates(new TestTable().row(1, 100L).row(2, 200L),
+        0, false, rates), is(equalTo(0)));
+    agent.poll(10000);
+    assertThat(agent.rates(new TestTable().row(1, 200L).row(2, null)
+        .row(3, 300L), 0, false, rates), is(equalTo(1)));
+    assertThat(rates[0], is(closeTo(10.0, DELTA)));
+    assertThat(Double.isNaN(rates[1]), is(true));
+    assertThat(Double.isNaN(rates[2]), is(true));
+  }
+
+  @Test
+  public void testGrowAndExpire() throws Exception {
+    final CounterRateEngine.Agent agent = engine.agent("agent");
+    agent.poll(0);
+    for (int i = 0; i < 1000; i++) {
+      agent.rate(i, i, false);
+    }
+    agent.poll(1000);
+    for (int i = 0; i < 500; i++) {
+      assertThat(agent.rate(i, i + 1000, false), is(closeTo(1000.0, DELTA)));
+    }
+    assertThat(engine.getCounterCount(), is(equalTo(1000)));
+    assertThat(engine.expire(1000), is(equalTo(500)));
+    assertThat(engine.getCounterCount(), is(equalTo(500)));
+    agent.poll(2000);
+    assertThat(agent.rate(0, 3000, false), is(closeTo(2000.0, DELTA)));
+    assertThat(Double.isNaN(agent.rate(999, 3000, false)), is(true));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRateBeforePoll() throws Exception {
+    engine.agent("agent").rate(1, 0, false);
+  }
+
+  /**
+   * A table with a single counter column.
+   */
+  private static class TestTable implements SnmpTable {
+
+    private final List<int[]> indexes = new ArrayList<>();
+    private final List<Long> counters = new ArrayList<>();
+
+    TestTable row(int index, Long counter) {
+      indexes.add(new int[] { index });
+      counters.add(counter);
+      return this;
+    }
+
+    @Override
+    public int getRowCount() {
+      return indexes.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+      return 1;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+      return "ifInOctets";
+    }
+
+    @Override
+    public String getColumnOid(int column) {
+      return "1.3.6.1.2.1.2.2.1.10";
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+      return -1;
+    }
+
+    @Override
+    public ColumnType getColumnType(int column) {
+      return ColumnType.LONG;
+    }
+
+    @Override
+    public int[] getIndex(int row) {
+      return indexes.get(row);
+    }
+
+    @Override
+    public String getIndexString(int row) {
+      return Integer.toString(indexes.get(row)[0]);
+    }
+
+    @Override
+    public Varbind[] getIndexes(int row) {
+      return new Varbind[0];
+    }
+
+    @Override
+    public boolean isPresent(int row, int column) {
+      return counters.get(row) != null;
+    }
+
+    @Override
+    public long[] getLongColumn(int column) {
+      final long[] values = new long[counters.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = isPresent(i, column) ? counters.get(i) : 0;
+      }
+      return values;
+    }
+
+    @Override
+    public byte[][] getBytesColumn(int column) {
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public int[][] getOidColumn(int column) {
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+      return counters.get(row);
+    }
+
+    @Override
+    public byte[] getBytes(int row, int column) {
+      throw new IllegalStateException();
+    }
+
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the default methods of {@link ObjectValue}.
+ *
+ * @author Carl Harris
+ */
+public class ObjectValueTest {
+
+  @Test
+  public void testUnsignedInt() throws Exception {
+    final ObjectValue value = new MockObjectValue(0x42, 0xfffffffeL);
+    assertThat(value.asUnsignedInt(), is(equalTo(0xfffffffeL)));
+    assertThat(value.asUnsignedLong(), is(equalTo(0xfffffffeL)));
+    assertThat(new MockObjectValue(0x02, -1L).asUnsignedInt(),
+        is(equalTo(0xffffffffL)));
+  }
+
+  @Test
+  public void testUnsignedLongCounter64() throws Exception {
+    final ObjectValue value = new MockObjectValue(0x46, -2L);
+    assertThat(value.asUnsignedLong(), is(equalTo(-2L)));
+    assertThat(value.asUnsignedInt(), is(equalTo(0xfffffffeL)));
+  }
+
+  @Test
+  public void testOctetString() throws Exception {
+    final ObjectValue value = new MockObjectValue(0x04, new byte[] { 1, 2 });
+    final byte[] dst = new byte[3];
+    assertThat(value.getLength(), is(equalTo(2)));
+    assertThat(value.copyBytes(dst, 1), is(equalTo(2)));
+    assertThat(dst, is(equalTo(new byte[] { 0, 1, 2 })));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCopyOidOfOctetString() throws Exception {
+    new MockObjectValue(0x04, new byte[0]).copyOid(new int[1], 0);
+  }
+
+  @Test
+  public void testObjectIdentifier() throws Exception {
+    final ObjectValue value = new MockObjectValue(0x06, new int[] { 1, 3, 6 });
+    final int[] dst = new int[3];
+    assertThat(value.getLength(), is(equalTo(3)));
+    assertThat(value.copyOid(dst, 0), is(equalTo(3)));
+    assertThat(dst, is(equalTo(new int[] { 1, 3, 6 })));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testCopyBytesTooSmall() throws Exception {
+    new MockObjectValue(0x04, new byte[] { 1, 2 }).copyBytes(new byte[1], 0);
+  }
+
+  @Test
+  public void testIntegerLength() throws Exception {
+    assertThat(new MockObjectValue(0x02, 7L).getLength(), is(equalTo(0)));
+  }
+
+  /**
+   * An {@link ObjectValue} that implements only the abstract methods.
+   */
+  private static class MockObjectValue implements ObjectValue {
+
+    private final int syntax;
+    private final Object value;
+
+    MockObjectValue(int syntax, Object value) {
+      this.syntax = syntax;
+      this.value = value;
+    }
+
+    @Override
+    public int getSyntax() {
+      return syntax;
+    }
+
+    @Override
+    public int asInt() {
+      return (int) asLong();
+    }
+
+    @Override
+    public long asLong() {
+      return (Long) value;
+    }
+
+    @Override
+    public String asString() {
+      return value.toString();
+    }
+
+    @Override
+    public Object toObject() {
+      return value;
+    }
+
+    @Override
+    public void set(Object value) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
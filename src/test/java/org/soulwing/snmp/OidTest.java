@@ -0,0 +1,89 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Oid}.
+ *
+ * @author Carl Harris
+ */
+public class OidTest {
+
+  @Test
+  public void testParse() throws Exception {
+    final Oid oid = Oid.parse(".1.3.6.1.2.1.2.2.1.2.4294967295");
+    assertThat(oid.size(), is(equalTo(11)));
+    assertThat(oid.get(10), is(equalTo(-1)));
+    assertThat(oid.toString(), is(equalTo("1.3.6.1.2.1.2.2.1.2.4294967295")));
+    assertThat(oid, is(equalTo(Oid.valueOf(1, 3, 6, 1, 2, 1, 2, 2, 1, 2, -1))));
+  }
+
+  @Test
+  public void testCompareTo() throws Exception {
+    final Oid ifDescr = Oid.parse("1.3.6.1.2.1.2.2.1.2");
+    assertThat(ifDescr.compareTo(ifDescr.append(Oid.valueOf(1))),
+        is(lessThan(0)));
+    assertThat(ifDescr.append(Oid.valueOf(-1))
+        .compareTo(ifDescr.append(Oid.valueOf(1))), is(greaterThan(0)));
+  }
+
+  @Test
+  public void testPrefixAndSuffix() throws Exception {
+    final Oid oid = Oid.parse("1.3.6.1.2.1.2.2.1.2.7");
+    final Oid column = oid.prefix(10);
+    assertThat(oid.startsWith(column), is(true));
+    assertThat(column.startsWith(oid), is(false));
+    assertThat(oid.suffix(10), is(equalTo(Oid.valueOf(7))));
+    assertThat(oid.appendTo(new StringBuilder("ifDescr"), 10).toString(),
+        is(equalTo("ifDescr.7")));
+  }
+
+  @Test
+  public void testIsDotted() throws Exception {
+    assertThat(Oid.isDotted("1.3.6.1.2.1.1.3.0"), is(true));
+    assertThat(Oid.isDotted(".1.3.6"), is(true));
+    assertThat(Oid.isDotted("sysUpTime.0"), is(false));
+    assertThat(Oid.isDotted("RFC1213-MIB!sysUpTime"), is(false));
+    assertThat(Oid.isDotted(""), is(false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseNotNumeric() throws Exception {
+    Oid.parse("ifDescr.1");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseOverflow() throws Exception {
+    Oid.parse("1.3.4294967296");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseEmptyComponent() throws Exception {
+    Oid.parse("1..3");
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SnmpTableChangeDetector}.
+ *
+ * @author Carl Harris
+ */
+public class SnmpTableChangeDetectorTest {
+
+  private final SnmpTableChangeDetector detector =
+      new SnmpTableChangeDetector();
+
+  @Test
+  public void testFirstPollAddsAllRows() throws Exception {
+    final SnmpTableChanges changes = detector.update(new TestTable()
+        .row(1, "eth1", 100).row(2, "eth2", 200));
+    assertThat(changes.getAddedRows(), is(equalTo(new int[] { 0, 1 })));
+    assertThat(changes.getChangedRows().length, is(equalTo(0)));
+    assertThat(changes.getRemovedIndexes().length, is(equalTo(0)));
+    assertThat(detector.getRowCount(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testUnchangedTable() throws Exception {
+    detector.update(new TestTable().row(1, "eth1", 100).row(2, "eth2", 200));
+    assertThat(detector.update(new TestTable()
+        .row(1, "eth1", 100).row(2, "eth2", 200)).isEmpty(), is(true));
+  }
+
+  @Test
+  public void testAddedChangedAndRemovedRows() throws Exception {
+    detector.update(new TestTable()
+        .row(1, "eth1", 100).row(2, "eth2", 200).row(3, "eth3", 300));
+    final SnmpTableChanges changes = detector.update(new TestTable()
+        .row(1, "eth1", 100).row(3, "eth3", 350).row(4, "eth4", 400)
+        .row(10, "eth10", 1000));
+
+    assertThat(changes.getAddedRows(), is(equalTo(new int[] { 2, 3 })));
+    assertThat(changes.getChangedRows(), is(equalTo(new int[] { 1 })));
+    assertThat(changes.getChangedColumns()[0], is(equalTo(new int[] { 1 })));
+    assertThat(changes.getRemovedIndexes().length, is(equalTo(1)));
+    assertThat(changes.getRemovedIndexes()[0], is(equalTo(new int[] { 2 })));
+  }
+
+  @Test
+  public void testAbsentCellIsChange() throws Exception {
+    detector.update(new TestTable().row(1, "eth1", 100));
+    final SnmpTableChanges changes = detector.update(
+        new TestTable().row(1, null, 100));
+    assertThat(changes.getChangedRows(), is(equalTo(new int[] { 0 })));
+    assertThat(changes.getChangedColumns()[0], is(equalTo(new int[] { 0 })));
+  }
+
+  @Test
+  public void testEmptyColumnGainsValue() throws Exception {
+    detector.update(new TestTable()
+        .row(1, null, 100).row(2, null, 200).row(3, null, 300));
+    final SnmpTableChanges changes = detector.update(new TestTable()
+        .row(1, null, 100).row(2, "eth2", 200).row(3, null, 300));
+    assertThat(changes.getChangedRows(), is(equalTo(new int[] { 1 })));
+    assertThat(changes.getChangedColumns()[0], is(equalTo(new int[] { 0 })));
+    assertThat(detector.update(new TestTable()
+        .row(1, null, 100).row(2, null, 200).row(3, null, 300))
+        .getChangedRows(), is(equalTo(new int[] { 1 })));
+  }
+
+  @Test
+  public void testRowsOutOfOrder() throws Exception {
+    detector.update(new TestTable().row(1, "eth1", 100).row(2, "eth2", 200));
+    final SnmpTableChanges changes = detector.update(new TestTable()
+        .row(3, "eth3", 300).row(2, "eth2", 250).row(1, "eth1", 100));
+    assertThat(changes.getAddedRows(), is(equalTo(new int[] { 0 })));
+    assertThat(changes.getChangedRows(), is(equalTo(new int[] { 1 })));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testColumnCountMismatch() throws Exception {
+    detector.update(new TestTable().row(1, "eth1", 100));
+    detector.update(new SingleColumnTable());
+  }
+
+  /**
+   * A table with an octet string column and a counter column.
+   */
+  private static class TestTable implements SnmpTable {
+
+    private final List<int[]> indexes = new ArrayList<>();
+    private final List<byte[]> names = new ArrayList<>();
+    private final List<Long> counters = new ArrayList<>();
+
+    TestTable row(int index, String name, long counter) {
+      indexes.add(new int[] { index });
+      names.add(name != null ? name.getBytes(StandardCharsets.US_ASCII) : null);
+      counters.add(counter);
+      return this;
+    }
+
+    @Override
+    public int getRowCount() {
+      return indexes.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+      return 2;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+      return column == 0 ? "ifDescr" : "ifInOctets";
+    }
+
+    @Override
+    public String getColumnOid(int column) {
+      return column == 0 ? "1.3.6.1.2.1.2.2.1.2" : "1.3.6.1.2.1.2.2.1.10";
+    }
+
+    @Override
+    public int getColumnIndex(String name) {
+      return -1;
+    }
+
+    @Override
+    public ColumnType getColumnType(int column) {
+      if (column != 0) return ColumnType.LONG;
+      for (byte[] name : names) {
+        if (name != null) return ColumnType.BYTES;
+      }
+      return null;
+    }
+
+    @Override
+    public int[] getIndex(int row) {
+      return indexes.get(row);
+    }
+
+    @Override
+    public String getIndexString(int row) {
+      return Integer.toString(indexes.get(row)[0]);
+    }
+
+    @Override
+    public Varbind[] getIndexes(int row) {
+      return new Varbind[0];
+    }
+
+    @Override
+    public boolean isPresent(int row, int column) {
+      return column != 0 || names.get(row) != null;
+    }
+
+    @Override
+    public long[] getLongColumn(int column) {
+      final long[] values = new long[counters.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = counters.get(i);
+      }
+      return values;
+    }
+
+    @Override
+    public byte[][] getBytesColumn(int column) {
+      return names.toArray(new byte[names.size()][]);
+    }
+
+    @Override
+    public int[][] getOidColumn(int column) {
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+      return counters.get(row);
+    }
+
+    @Override
+    public byte[] getBytes(int row, int column) {
+      return names.get(row);
+    }
+
+  }
+
+  /**
+   * A table with only the counter column.
+   */
+  private static class SingleColumnTable extends TestTable {
+
+    @Override
+    public int getColumnCount() {
+      return 1;
+    }
+
+  }
+
+}
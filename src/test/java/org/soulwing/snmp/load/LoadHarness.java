@@ -0,0 +1,218 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.load;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Runs a {@link LoadRunner} configured using {@code load.*} system
+ * properties, or a sweep over several configurations.
+ * <p>
+ * A sweep is requested by giving a comma-separated list of values for any
+ * of the properties in {@link #SWEEP_PROPERTIES}; a load test is run for
+ * each combination of the given values.  Because the factory is a
+ * singleton, each load test in a sweep is run in a new JVM, using the same
+ * class path and any JVM options given by the {@code load.jvmArgs}
+ * property.  For example:
+ * <pre>
+ * java -cp ... -Dload.version=v2c,v3 -Dload.workerPoolSize=2,4,8 \
+ *     -Dload.walkMaxRepetitions=10,50 org.soulwing.snmp.load.LoadHarness
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public class LoadHarness {
+
+  /**
+   * Names of the properties (without the {@code load.} prefix) that may
+   * be given a list of values to sweep.
+   */
+  public static final List<String> SWEEP_PROPERTIES = Arrays.asList(
+      "version", "agents", "ports", "threads", "workerPoolSize",
+      "walkMaxRepetitions");
+
+  private static final String CHILD = LoadTestConfig.PREFIX + "child";
+  private static final String JVM_ARGS = LoadTestConfig.PREFIX + "jvmArgs";
+  private static final String RESULT_MARKER = "RESULT:";
+
+  public static void main(String[] args) throws Exception {
+    final Properties properties = System.getProperties();
+    final Map<String, String[]> sweep = sweepValues(properties);
+    if (sweep.isEmpty()) {
+      final LoadTestConfig config = LoadTestConfig.fromProperties(properties);
+      final boolean child = Boolean.parseBoolean(properties.getProperty(CHILD));
+      if (!child) {
+        System.out.println(config);
+      }
+      final LoadTestResult result = new LoadRunner(config).run();
+      if (child) {
+        System.out.print(RESULT_MARKER + result);
+      }
+      else {
+        System.out.print(LoadTestResult.header());
+        System.out.print(result);
+      }
+      return;
+    }
+
+    // validate the configuration before starting any child
+    LoadTestConfig.fromProperties(firstValues(properties, sweep));
+    System.out.print(LoadTestResult.header());
+    final List<Properties> points = new ArrayList<>();
+    points.add(loadProperties(properties));
+    for (Map.Entry<String, String[]> entry : sweep.entrySet()) {
+      final List<Properties> expanded = new ArrayList<>();
+      for (Properties point : points) {
+        for (String value : entry.getValue()) {
+          final Properties next = new Properties();
+          next.putAll(point);
+          next.setProperty(entry.getKey(), value.trim());
+          expanded.add(next);
+        }
+      }
+      points.clear();
+      points.addAll(expanded);
+    }
+    int failed = 0;
+    for (Properties point : points) {
+      if (!runChild(point, properties.getProperty(JVM_ARGS, ""))) {
+        failed++;
+      }
+    }
+    if (failed > 0) {
+      System.err.println(failed + " of " + points.size()
+          + " load tests failed");
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, String[]> sweepValues(Properties properties) {
+    final Map<String, String[]> sweep = new LinkedHashMap<>();
+    for (String name : SWEEP_PROPERTIES) {
+      final String value =
+          properties.getProperty(LoadTestConfig.PREFIX + name);
+      if (value != null && value.indexOf(',') != -1) {
+        sweep.put(LoadTestConfig.PREFIX + name, value.split(","));
+      }
+    }
+    return sweep;
+  }
+
+  private static Properties firstValues(Properties properties,
+      Map<String, String[]> sweep) {
+    final Properties first = loadProperties(properties);
+    for (Map.Entry<String, String[]> entry : sweep.entrySet()) {
+      first.setProperty(entry.getKey(), entry.getValue()[0].trim());
+    }
+    return first;
+  }
+
+  private static Properties loadProperties(Properties properties) {
+    final Properties load = new Properties();
+    for (String name : properties.stringPropertyNames()) {
+      if (name.startsWith(LoadTestConfig.PREFIX) && !name.equals(JVM_ARGS)) {
+        load.setProperty(name, properties.getProperty(name));
+      }
+    }
+    return load;
+  }
+
+  private static boolean runChild(Properties point, String jvmArgs)
+      throws IOException, InterruptedException {
+    final List<String> command = new ArrayList<>();
+    command.add(new File(new File(System.getProperty("java.home"), "bin"),
+        "java").getPath());
+    for (String arg : jvmArgs.trim().split("\\s+")) {
+      if (!arg.isEmpty()) {
+        command.add(arg);
+      }
+    }
+    command.add("-cp");
+    command.add(classPath());
+    for (String name : point.stringPropertyNames()) {
+      command.add("-D" + name + "=" + point.getProperty(name));
+    }
+    command.add("-D" + CHILD + "=true");
+    command.add(LoadHarness.class.getName());
+
+    final Process process = new ProcessBuilder(command)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start();
+    boolean reported = false;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        process.getInputStream(), StandardCharsets.UTF_8))) {
+      String line = reader.readLine();
+      while (line != null) {
+        if (line.startsWith(RESULT_MARKER)) {
+          System.out.println(line.substring(RESULT_MARKER.length()));
+          reported = true;
+        }
+        line = reader.readLine();
+      }
+    }
+    final int status = process.waitFor();
+    if (status != 0 || !reported) {
+      System.err.println("load test failed (exit status " + status + "): "
+          + point);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the class path of the harness, which may have been loaded by a
+   * class loader other than the system class loader (e.g. when run using
+   * the {@code exec:java} goal of Maven).
+   */
+  private static String classPath() {
+    final ClassLoader classLoader = LoadHarness.class.getClassLoader();
+    if (!(classLoader instanceof URLClassLoader)
+        || classLoader == ClassLoader.getSystemClassLoader()) {
+      return System.getProperty("java.class.path");
+    }
+    final StringBuilder sb = new StringBuilder();
+    for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+      try {
+        if (sb.length() > 0) {
+          sb.append(File.pathSeparatorChar);
+        }
+        sb.append(new File(url.toURI()).getPath());
+      }
+      catch (URISyntaxException | IllegalArgumentException ex) {
+        throw new IllegalStateException("unsupported class path entry: "
+            + url, ex);
+      }
+    }
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,427 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.load;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.Variable;
+import org.soulwing.snmp.Mib;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SimpleSnmpV3Target;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpFactory;
+import org.soulwing.snmp.SnmpFactoryConfig;
+import org.soulwing.snmp.SnmpTarget;
+import org.soulwing.snmp.SnmpV3Target;
+import org.soulwing.snmp.SnmpWalker;
+import org.soulwing.snmp.TimeoutException;
+import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.metrics.LatencyHistogram;
+import org.soulwing.snmp.metrics.OperationMetrics;
+import org.soulwing.snmp.metrics.TargetMetrics;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * A closed-loop load test that drives contexts produced by the
+ * {@link SnmpFactory} against a fleet of simulated agents.
+ * <p>
+ * Each of the configured client threads repeatedly chooses a context at
+ * random and either retrieves a fixed set of {@code ifTable} instances
+ * using GET, or walks several {@code ifTable} columns, waiting for each
+ * operation to complete before starting the next.  After a warmup period,
+ * the latency of each operation, the number of requests sent, and the
+ * CPU, allocation, and garbage collection activity of the process are
+ * measured for the configured duration.
+ * <p>
+ * The simulated agents run in the same process; the CPU time and
+ * allocations of their threads are excluded from the results.  Because
+ * the factory is a singleton, a load test can be run only once in a given
+ * JVM, and only if no factory has already been created.
+ *
+ * @author Carl Harris
+ */
+public class LoadRunner {
+
+  static final int IF_TABLE_COLUMNS = 10;
+
+  private static final String IF_ENTRY = "1.3.6.1.2.1.2.2.1";
+
+  private static final String[] WALK_COLUMNS = {
+      IF_ENTRY + ".2", IF_ENTRY + ".3", IF_ENTRY + ".8", IF_ENTRY + ".10"
+  };
+
+  private static final String AUTH_PASSPHRASE = "authPassphrase";
+  private static final String PRIV_PASSPHRASE = "privPassphrase";
+
+  private static final String CLIENT_THREAD_PREFIX = "LoadRunner-client-";
+
+  private final LatencyHistogram getLatency = new LatencyHistogram();
+  private final LatencyHistogram walkLatency = new LatencyHistogram();
+  private final LongAdder failures = new LongAdder();
+
+  private final LoadTestConfig config;
+  private final String[] getOids;
+
+  private volatile boolean running;
+  private volatile boolean measuring;
+
+  /**
+   * Constructs a new instance.
+   * @param config load test configuration
+   */
+  public LoadRunner(LoadTestConfig config) {
+    this.config = config;
+    this.getOids = new String[config.getOids()];
+    for (int i = 0; i < getOids.length; i++) {
+      getOids[i] = IF_ENTRY + "." + (i % IF_TABLE_COLUMNS + 1)
+          + "." + (i / IF_TABLE_COLUMNS + 1);
+    }
+  }
+
+  /**
+   * Runs the load test.
+   * @return results
+   * @throws IOException if the simulated agents cannot be started
+   * @throws InterruptedException if interrupted while running
+   * @throws IllegalStateException if the factory singleton has already
+   *    been created
+   */
+  public LoadTestResult run() throws IOException, InterruptedException {
+    final SnmpFactory factory = createFactory();
+    final AgentSimulator simulator = new AgentSimulator();
+    final List<SnmpContext> contexts = new ArrayList<>();
+    try {
+      final Mib mib = createMib();
+      final AgentData data = createAgentData(config.getRows());
+      final int[] ports = new int[config.getPorts()];
+      for (int i = 0; i < ports.length; i++) {
+        ports[i] = simulator.listen();
+      }
+      final SimpleSnmpTargetConfig targetConfig = new SimpleSnmpTargetConfig();
+      targetConfig.setTimeout(config.getTimeout());
+      targetConfig.setRetries(config.getRetries());
+      targetConfig.setWalkMaxRepetitions(config.getWalkMaxRepetitions());
+      for (int i = 0; i < config.getAgents(); i++) {
+        final String name = "agent" + i;
+        final int port = ports[i % ports.length];
+        final SimulatedAgent agent = new SimulatedAgent(data);
+        agent.setCommunity(name);
+        agent.setLatency(config.getLatency());
+        simulator.addAgent(port, agent);
+        if ("v3".equals(config.getVersion())) {
+          simulator.addUser(name, AuthSHA.ID, AUTH_PASSPHRASE,
+              PrivAES128.ID, PRIV_PASSPHRASE);
+        }
+        contexts.add(factory.newContext(createTarget(name, port),
+            targetConfig, mib));
+      }
+      return drive(factory, contexts);
+    }
+    finally {
+      for (SnmpContext context : contexts) {
+        context.close();
+      }
+      simulator.close();
+      factory.close();
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private SnmpFactory createFactory() {
+    final SnmpFactoryConfig factoryConfig = new SnmpFactoryConfig();
+    factoryConfig.setWorkerPoolSize(config.getWorkerPoolSize());
+    final SnmpFactory factory = SnmpFactory.getInstance(factoryConfig,
+        new LoadRunnerThreadFactory("LoadRunner-worker-"));
+    if (factory.getFactoryConfig() != factoryConfig) {
+      throw new IllegalStateException(
+          "the factory singleton has already been created");
+    }
+    return factory;
+  }
+
+  private Mib createMib() throws IOException {
+    final Mib mib = MibFactory.getInstance().newMib();
+    for (String module : config.getMibs().split(",")) {
+      if (!module.trim().isEmpty()) {
+        mib.load(module.trim());
+      }
+    }
+    return mib;
+  }
+
+  private SnmpTarget createTarget(String name, int port) {
+    if ("v3".equals(config.getVersion())) {
+      final SimpleSnmpV3Target target = new SimpleSnmpV3Target();
+      target.setAddress("127.0.0.1");
+      target.setPort(port);
+      target.setSecurityName(name);
+      target.setAuthType(SnmpV3Target.AuthType.SHA);
+      target.setAuthPassphrase(AUTH_PASSPHRASE);
+      target.setPrivType(SnmpV3Target.PrivType.AES128);
+      target.setPrivPassphrase(PRIV_PASSPHRASE);
+      return target;
+    }
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(port);
+    target.setCommunity(name);
+    return target;
+  }
+
+  /**
+   * Creates the instances served by each agent: the scalars of the
+   * {@code system} group, and an {@code ifTable} with the given number
+   * of rows.
+   */
+  static AgentData createAgentData(int rows) {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    instances.put(new OID("1.3.6.1.2.1.1.1.0"),
+        new OctetString("Simulated agent"));
+    instances.put(new OID("1.3.6.1.2.1.1.3.0"), new TimeTicks(123456789L));
+    instances.put(new OID("1.3.6.1.2.1.1.5.0"), new OctetString("agent"));
+    for (int row = 1; row <= rows; row++) {
+      final Variable[] columns = {
+          new Integer32(row),
+          new OctetString("GigabitEthernet0/" + row),
+          new Integer32(6),
+          new Integer32(1500),
+          new Counter32(1000000000L),
+          OctetString.fromHexString("00:1b:54:c2:01:" + hexByte(row)),
+          new Integer32(1),
+          new Integer32(row % 5 == 0 ? 2 : 1),
+          new TimeTicks(1000L * row),
+          new Counter32(1000003L * row)
+      };
+      for (int column = 0; column < columns.length; column++) {
+        instances.put(new OID(IF_ENTRY + "." + (column + 1) + "." + row),
+            columns[column]);
+      }
+    }
+    return new AgentData(instances);
+  }
+
+  private static String hexByte(int value) {
+    final String hex = Integer.toHexString(value & 0xff);
+    return hex.length() < 2 ? "0" + hex : hex;
+  }
+
+  private LoadTestResult drive(SnmpFactory factory,
+      final List<SnmpContext> contexts) throws InterruptedException {
+    running = true;
+    final List<Thread> clients = new ArrayList<>();
+    final ThreadFactory threadFactory =
+        new LoadRunnerThreadFactory(CLIENT_THREAD_PREFIX);
+    for (int i = 0; i < config.getThreads(); i++) {
+      final Thread client = threadFactory.newThread(new Runnable() {
+        @Override
+        public void run() {
+          runClient(contexts);
+        }
+      });
+      clients.add(client);
+      client.start();
+    }
+
+    try {
+      TimeUnit.SECONDS.sleep(config.getWarmup());
+      final ResourceUsage before = ResourceUsage.capture(factory);
+      measuring = true;
+      TimeUnit.SECONDS.sleep(config.getDuration());
+      measuring = false;
+      final ResourceUsage after = ResourceUsage.capture(factory);
+      return new LoadTestResult(config, after.nanos - before.nanos,
+          getLatency.snapshot(), walkLatency.snapshot(),
+          after.requests - before.requests, failures.sum(),
+          after.clientCpuNanos(before), after.clientAllocated(before),
+          after.gcCount - before.gcCount, after.gcMillis - before.gcMillis,
+          after.peakHeap);
+    }
+    finally {
+      running = false;
+      for (Thread client : clients) {
+        client.join(config.getTimeout() * (config.getRetries() + 1) + 1000);
+      }
+    }
+  }
+
+  private void runClient(List<SnmpContext> contexts) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (running) {
+      final SnmpContext context = contexts.get(random.nextInt(contexts.size()));
+      final boolean walk = random.nextDouble() < config.getWalkRatio();
+      final long startedAt = System.nanoTime();
+      try {
+        if (walk) {
+          walk(context);
+          if (measuring) {
+            walkLatency.record(System.nanoTime() - startedAt);
+          }
+        }
+        else {
+          context.get(getOids).get();
+          if (measuring) {
+            getLatency.record(System.nanoTime() - startedAt);
+          }
+        }
+      }
+      catch (RuntimeException ex) {
+        if (measuring) {
+          failures.increment();
+        }
+      }
+    }
+  }
+
+  private static void walk(SnmpContext context) throws TimeoutException {
+    final SnmpWalker<VarbindCollection> walker = context.walk(WALK_COLUMNS);
+    VarbindCollection row = walker.next().get();
+    while (row != null) {
+      row = walker.next().get();
+    }
+  }
+
+  /**
+   * A snapshot of the resources consumed by the process.
+   */
+  private static class ResourceUsage {
+
+    final long nanos = System.nanoTime();
+    long requests;
+    long processCpuNanos = -1;
+    long simulatorCpuNanos;
+    long allocated = -1;
+    long simulatorAllocated;
+    long gcCount;
+    long gcMillis;
+    long peakHeap;
+
+    static ResourceUsage capture(SnmpFactory factory) {
+      final ResourceUsage usage = new ResourceUsage();
+      for (TargetMetrics target : factory.getMetrics().getTargets()) {
+        for (OperationMetrics operation : target.getOperations()) {
+          usage.requests += operation.getRequests();
+        }
+      }
+
+      final OperatingSystemMXBean os =
+          ManagementFactory.getOperatingSystemMXBean();
+      if (os instanceof com.sun.management.OperatingSystemMXBean) {
+        usage.processCpuNanos =
+            ((com.sun.management.OperatingSystemMXBean) os)
+                .getProcessCpuTime();
+      }
+
+      final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+      final com.sun.management.ThreadMXBean hotspotThreads =
+          threads instanceof com.sun.management.ThreadMXBean ?
+              (com.sun.management.ThreadMXBean) threads : null;
+      if (hotspotThreads != null
+          && hotspotThreads.isThreadAllocatedMemorySupported()) {
+        usage.allocated = 0;
+      }
+      for (Thread thread : Thread.getAllStackTraces().keySet()) {
+        final boolean simulator = thread.getName().startsWith(
+            AgentSimulator.THREAD_NAME_PREFIX);
+        if (simulator && threads.isThreadCpuTimeSupported()) {
+          usage.simulatorCpuNanos +=
+              Math.max(0, threads.getThreadCpuTime(thread.getId()));
+        }
+        if (usage.allocated != -1) {
+          final long bytes = Math.max(0,
+              hotspotThreads.getThreadAllocatedBytes(thread.getId()));
+          usage.allocated += bytes;
+          if (simulator) {
+            usage.simulatorAllocated += bytes;
+          }
+        }
+      }
+
+      for (GarbageCollectorMXBean gc :
+          ManagementFactory.getGarbageCollectorMXBeans()) {
+        usage.gcCount += Math.max(0, gc.getCollectionCount());
+        usage.gcMillis += Math.max(0, gc.getCollectionTime());
+      }
+      for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+          usage.peakHeap += pool.getPeakUsage().getUsed();
+          pool.resetPeakUsage();
+        }
+      }
+      return usage;
+    }
+
+    long clientCpuNanos(ResourceUsage before) {
+      if (processCpuNanos == -1 || before.processCpuNanos == -1) return -1;
+      return (processCpuNanos - before.processCpuNanos)
+          - (simulatorCpuNanos - before.simulatorCpuNanos);
+    }
+
+    long clientAllocated(ResourceUsage before) {
+      if (allocated == -1 || before.allocated == -1) return -1;
+      return Math.max(0, (allocated - before.allocated)
+          - (simulatorAllocated - before.simulatorAllocated));
+    }
+
+  }
+
+  private static class LoadRunnerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final String prefix;
+
+    LoadRunnerThreadFactory(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread = new Thread(r, prefix + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+
+  }
+
+}
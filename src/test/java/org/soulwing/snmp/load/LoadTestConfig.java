@@ -0,0 +1,383 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.load;
+
+import java.util.Properties;
+
+import org.soulwing.snmp.SnmpDefaults;
+import org.soulwing.snmp.SnmpFactoryConfig;
+
+/**
+ * Configuration for a single run of a {@link LoadRunner}.
+ * <p>
+ * Each property can be set using a system property whose name is the
+ * property name with a {@code load.} prefix (e.g. {@code load.agents}).
+ *
+ * @author Carl Harris
+ */
+public class LoadTestConfig {
+
+  /**
+   * Prefix for the names of system properties that configure a load test.
+   */
+  public static final String PREFIX = "load.";
+
+  private int agents = 100;
+  private int ports = 1;
+  private int threads = 16;
+  private int oids = 10;
+  private double walkRatio = 0.05;
+  private int rows = 50;
+  private long latency;
+  private int warmup = 5;
+  private int duration = 30;
+  private String version = "v2c";
+  private String mibs = "IF-MIB";
+  private int workerPoolSize = SnmpFactoryConfig.DEFAULT_WORKER_POOL_SIZE;
+  private int walkMaxRepetitions = SnmpDefaults.WALK_MAX_REPETITIONS;
+  private long timeout = SnmpDefaults.TIMEOUT;
+  private int retries = SnmpDefaults.RETRIES;
+
+  /**
+   * Creates a configuration from {@code load.*} properties.
+   * @param properties the subject properties (typically the system
+   *    properties)
+   * @return configuration in which each property that is not specified
+   *    has its default value
+   * @throws IllegalArgumentException if a property value is invalid
+   */
+  public static LoadTestConfig fromProperties(Properties properties) {
+    final LoadTestConfig config = new LoadTestConfig();
+    config.agents = intValue(properties, "agents", config.agents);
+    config.ports = intValue(properties, "ports", config.ports);
+    config.threads = intValue(properties, "threads", config.threads);
+    config.oids = intValue(properties, "oids", config.oids);
+    config.walkRatio = Double.parseDouble(properties.getProperty(
+        PREFIX + "walkRatio", Double.toString(config.walkRatio)));
+    config.rows = intValue(properties, "rows", config.rows);
+    config.latency = intValue(properties, "latency", (int) config.latency);
+    config.warmup = intValue(properties, "warmup", config.warmup);
+    config.duration = intValue(properties, "duration", config.duration);
+    config.version = properties.getProperty(PREFIX + "version",
+        config.version);
+    config.mibs = properties.getProperty(PREFIX + "mibs", config.mibs);
+    config.workerPoolSize = intValue(properties, "workerPoolSize",
+        config.workerPoolSize);
+    config.walkMaxRepetitions = intValue(properties, "walkMaxRepetitions",
+        config.walkMaxRepetitions);
+    config.timeout = intValue(properties, "timeout", (int) config.timeout);
+    config.retries = intValue(properties, "retries", config.retries);
+    config.validate();
+    return config;
+  }
+
+  private static int intValue(Properties properties, String name,
+      int defaultValue) {
+    final String value = properties.getProperty(PREFIX + name);
+    if (value == null || value.trim().isEmpty()) return defaultValue;
+    try {
+      return Integer.parseInt(value.trim());
+    }
+    catch (NumberFormatException ex) {
+      throw new IllegalArgumentException(PREFIX + name
+          + " must be an integer: " + value);
+    }
+  }
+
+  private void validate() {
+    if (!"v2c".equals(version) && !"v3".equals(version)) {
+      throw new IllegalArgumentException(PREFIX
+          + "version must be v2c or v3");
+    }
+    if (agents < 1 || ports < 1 || ports > agents || threads < 1) {
+      throw new IllegalArgumentException(PREFIX + "agents, " + PREFIX
+          + "ports, and " + PREFIX + "threads must be positive, with no "
+          + "more ports than agents");
+    }
+    if (walkRatio < 0 || walkRatio > 1) {
+      throw new IllegalArgumentException(PREFIX
+          + "walkRatio must be between 0 and 1");
+    }
+    if (oids < 1 || oids > rows * LoadRunner.IF_TABLE_COLUMNS) {
+      throw new IllegalArgumentException(PREFIX + "oids must be between 1 "
+          + "and the number of instances in the table");
+    }
+  }
+
+  /**
+   * Gets the number of simulated agents (and contexts).
+   * @return agent count
+   */
+  public int getAgents() {
+    return agents;
+  }
+
+  /**
+   * Sets the number of simulated agents (and contexts).
+   * @param agents the agent count to set
+   */
+  public void setAgents(int agents) {
+    this.agents = agents;
+  }
+
+  /**
+   * Gets the number of loopback ports across which the agents are spread.
+   * @return port count
+   */
+  public int getPorts() {
+    return ports;
+  }
+
+  /**
+   * Sets the number of loopback ports across which the agents are spread.
+   * <p>
+   * Each port is serviced by its own listener thread in the simulator;
+   * using more ports allows the simulated agents to respond concurrently.
+   * @param ports the port count to set
+   */
+  public void setPorts(int ports) {
+    this.ports = ports;
+  }
+
+  /**
+   * Gets the number of threads that issue requests.
+   * @return thread count
+   */
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * Sets the number of threads that issue requests.
+   * <p>
+   * Each thread issues a request, waits for the result, and immediately
+   * issues another, so this is also the number of operations in flight.
+   * @param threads the thread count to set
+   */
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  /**
+   * Gets the number of OIDs in each GET request.
+   * @return OID count
+   */
+  public int getOids() {
+    return oids;
+  }
+
+  /**
+   * Sets the number of OIDs in each GET request.
+   * @param oids the OID count to set
+   */
+  public void setOids(int oids) {
+    this.oids = oids;
+  }
+
+  /**
+   * Gets the fraction of operations that are table walks.
+   * @return walk ratio
+   */
+  public double getWalkRatio() {
+    return walkRatio;
+  }
+
+  /**
+   * Sets the fraction of operations that are table walks.
+   * @param walkRatio the walk ratio to set (0 to 1)
+   */
+  public void setWalkRatio(double walkRatio) {
+    this.walkRatio = walkRatio;
+  }
+
+  /**
+   * Gets the number of rows in the interface table of each agent.
+   * @return row count
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Sets the number of rows in the interface table of each agent.
+   * @param rows the row count to set
+   */
+  public void setRows(int rows) {
+    this.rows = rows;
+  }
+
+  /**
+   * Gets the simulated latency of each agent response.
+   * @return latency in milliseconds
+   */
+  public long getLatency() {
+    return latency;
+  }
+
+  /**
+   * Sets the simulated latency of each agent response.
+   * @param latency the latency to set (in milliseconds)
+   */
+  public void setLatency(long latency) {
+    this.latency = latency;
+  }
+
+  /**
+   * Gets the duration of the warmup period, during which nothing is
+   * measured.
+   * @return warmup duration in seconds
+   */
+  public int getWarmup() {
+    return warmup;
+  }
+
+  /**
+   * Sets the duration of the warmup period.
+   * @param warmup the warmup duration to set (in seconds)
+   */
+  public void setWarmup(int warmup) {
+    this.warmup = warmup;
+  }
+
+  /**
+   * Gets the duration of the measurement period.
+   * @return duration in seconds
+   */
+  public int getDuration() {
+    return duration;
+  }
+
+  /**
+   * Sets the duration of the measurement period.
+   * @param duration the duration to set (in seconds)
+   */
+  public void setDuration(int duration) {
+    this.duration = duration;
+  }
+
+  /**
+   * Gets the SNMP version.
+   * @return {@code v2c} or {@code v3}
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the SNMP version.
+   * <p>
+   * SNMPv3 targets use SHA authentication and AES-128 privacy.
+   * @param version the version to set ({@code v2c} or {@code v3})
+   */
+  public void setVersion(String version) {
+    this.version = version;
+  }
+
+  /**
+   * Gets the names of the MIB modules loaded into the MIB shared by all
+   * contexts.
+   * @return comma-separated module names (possibly empty)
+   */
+  public String getMibs() {
+    return mibs;
+  }
+
+  /**
+   * Sets the names of the MIB modules loaded into the MIB shared by all
+   * contexts.
+   * @param mibs comma-separated module names; an empty string loads no
+   *    modules, so that all objects are named numerically
+   */
+  public void setMibs(String mibs) {
+    this.mibs = mibs;
+  }
+
+  /**
+   * Gets the worker pool size of the factory.
+   * @return worker pool size
+   */
+  public int getWorkerPoolSize() {
+    return workerPoolSize;
+  }
+
+  /**
+   * Sets the worker pool size of the factory.
+   * @param workerPoolSize the worker pool size to set
+   */
+  public void setWorkerPoolSize(int workerPoolSize) {
+    this.workerPoolSize = workerPoolSize;
+  }
+
+  /**
+   * Gets the maximum repetitions requested by each GETBULK of a walk.
+   * @return maximum repetitions
+   */
+  public int getWalkMaxRepetitions() {
+    return walkMaxRepetitions;
+  }
+
+  /**
+   * Sets the maximum repetitions requested by each GETBULK of a walk.
+   * @param walkMaxRepetitions the maximum repetitions to set
+   */
+  public void setWalkMaxRepetitions(int walkMaxRepetitions) {
+    this.walkMaxRepetitions = walkMaxRepetitions;
+  }
+
+  /**
+   * Gets the request timeout.
+   * @return timeout in milliseconds
+   */
+  public long getTimeout() {
+    return timeout;
+  }
+
+  /**
+   * Sets the request timeout.
+   * @param timeout the timeout to set (in milliseconds)
+   */
+  public void setTimeout(long timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * Gets the number of retries for each request.
+   * @return retry count
+   */
+  public int getRetries() {
+    return retries;
+  }
+
+  /**
+   * Sets the number of retries for each request.
+   * @param retries the retry count to set
+   */
+  public void setRetries(int retries) {
+    this.retries = retries;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("version=%s agents=%d ports=%d threads=%d oids=%d "
+        + "walkRatio=%s rows=%d latency=%d workerPoolSize=%d "
+        + "walkMaxRepetitions=%d", version, agents, ports, threads, oids,
+        walkRatio, rows, latency, workerPoolSize, walkMaxRepetitions);
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.load;
+
+import org.soulwing.snmp.metrics.HistogramSnapshot;
+
+/**
+ * The results of a {@link LoadRunner}, formatted as a row of a table whose
+ * columns are given by {@link #header()}.
+ * <p>
+ * Latencies are reported in milliseconds.  CPU time and allocations are
+ * those of the client side of the process only, normalized per thousand
+ * requests (PDUs sent) and per request, respectively.
+ *
+ * @author Carl Harris
+ */
+public class LoadTestResult {
+
+  private static final String FORMAT = "%-4s %6d %5d %7d %5d %7d"
+      + " %9s %8s %8s %8s %8s %8s %8s %8s %7s %9s %7s %6s %7s %8s%n";
+
+  private final LoadTestConfig config;
+  private final long nanos;
+  private final HistogramSnapshot getLatency;
+  private final HistogramSnapshot walkLatency;
+  private final long requests;
+  private final long failures;
+  private final long cpuNanos;
+  private final long allocated;
+  private final long gcCount;
+  private final long gcMillis;
+  private final long peakHeap;
+
+  LoadTestResult(LoadTestConfig config, long nanos,
+      HistogramSnapshot getLatency, HistogramSnapshot walkLatency,
+      long requests, long failures, long cpuNanos,
+      long allocated, long gcCount, long gcMillis, long peakHeap) {
+    this.config = config;
+    this.nanos = nanos;
+    this.getLatency = getLatency;
+    this.walkLatency = walkLatency;
+    this.requests = requests;
+    this.failures = failures;
+    this.cpuNanos = cpuNanos;
+    this.allocated = allocated;
+    this.gcCount = gcCount;
+    this.gcMillis = gcMillis;
+    this.peakHeap = peakHeap;
+  }
+
+  /**
+   * Gets the header of the table in which results are reported.
+   * @return header line (including a line terminator)
+   */
+  public static String header() {
+    return String.format(FORMAT.replaceAll("d", "s"), "ver", "agents",
+        "ports", "workers", "reps", "threads", "req/s", "get/s", "get-p50",
+        "get-p99", "get-p999", "walk/s", "walk-p50", "walk-p99", "failed", "cpu/1kreq",
+        "kb/req", "gc", "gc-ms", "heap-mb");
+  }
+
+  /**
+   * Gets the number of requests sent per second.
+   * @return request rate
+   */
+  public double getRequestRate() {
+    return rate(requests);
+  }
+
+  /**
+   * Gets the latency of GET operations.
+   * @return latency histogram snapshot (in microseconds)
+   */
+  public HistogramSnapshot getGetLatency() {
+    return getLatency;
+  }
+
+  /**
+   * Gets the latency of complete table walks.
+   * @return latency histogram snapshot (in microseconds)
+   */
+  public HistogramSnapshot getWalkLatency() {
+    return walkLatency;
+  }
+
+  /**
+   * Gets the number of operations that failed or timed out.
+   * @return failure count
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  private double rate(long count) {
+    return nanos > 0 ? count * 1e9 / nanos : 0;
+  }
+
+  private static String millis(HistogramSnapshot snapshot,
+      double percentile) {
+    if (snapshot.getCount() == 0) return "-";
+    return String.format("%.2f",
+        snapshot.getValueAtPercentile(percentile) / 1000.0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(FORMAT, config.getVersion(), config.getAgents(),
+        config.getPorts(), config.getWorkerPoolSize(),
+        config.getWalkMaxRepetitions(), config.getThreads(),
+        String.format("%.0f", getRequestRate()),
+        String.format("%.0f", rate(getLatency.getCount())),
+        millis(getLatency, 0.5), millis(getLatency, 0.99),
+        millis(getLatency, 0.999),
+        String.format("%.1f", rate(walkLatency.getCount())),
+        millis(walkLatency, 0.5), millis(walkLatency, 0.99),
+        Long.toString(failures),
+        cpuNanos < 0 || requests == 0 ? "-" :
+            String.format("%.1f", cpuNanos / 1e6 / (requests / 1000.0)),
+        allocated < 0 || requests == 0 ? "-" :
+            String.format("%.1f", allocated / 1024.0 / requests),
+        Long.toString(gcCount), Long.toString(gcMillis),
+        Long.toString(peakHeap / (1024 * 1024)));
+  }
+
+}
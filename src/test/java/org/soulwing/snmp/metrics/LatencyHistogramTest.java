@@ -0,0 +1,93 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author Carl Harris
+ */
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBucketBoundsAreContiguous() throws Exception {
+    for (int i = 0; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+      assertThat(LatencyHistogram.bucketLowerBound(i + 1),
+          is(equalTo(LatencyHistogram.bucketUpperBound(i) + 1)));
+    }
+  }
+
+  @Test
+  public void testValuesMapToContainingBucket() throws Exception {
+    for (long v = 0; v < 1L << 20; v += 7) {
+      final int index = LatencyHistogram.bucketIndex(v);
+      assertThat(LatencyHistogram.bucketLowerBound(index),
+          is(lessThanOrEqualTo(v)));
+      assertThat(LatencyHistogram.bucketUpperBound(index),
+          is(greaterThanOrEqualTo(v)));
+    }
+  }
+
+  @Test
+  public void testHugeValueMapsToLastBucket() throws Exception {
+    assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE),
+        is(equalTo(LatencyHistogram.BUCKET_COUNT - 1)));
+  }
+
+  @Test
+  public void testEmptySnapshot() throws Exception {
+    final HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+    assertThat(snapshot.getCount(), is(equalTo(0L)));
+    assertThat(snapshot.getMean(), is(equalTo(0.0)));
+    assertThat(snapshot.getValueAtPercentile(0.99), is(equalTo(0L)));
+  }
+
+  @Test
+  public void testSnapshot() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    final HistogramSnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(equalTo(1000L)));
+    assertThat(snapshot.getMax(), is(equalTo(1000000L)));
+    assertThat(snapshot.getMean(), is(closeTo(500500.0, 0.1)));
+    assertWithinBucketError(snapshot.getValueAtPercentile(0.5), 500000L);
+    assertWithinBucketError(snapshot.getValueAtPercentile(0.99), 990000L);
+    assertThat(snapshot.getValueAtPercentile(1.0), is(equalTo(1000000L)));
+  }
+
+  private static void assertWithinBucketError(long actual, long expected) {
+    assertThat(actual, is(both(greaterThanOrEqualTo(expected))
+        .and(lessThanOrEqualTo(expected + expected / 8))));
+  }
+
+}
@@ -23,9 +23,16 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.describedAs;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import net.percederberg.mibble.Mib;
+import net.percederberg.mibble.MibLoaderException;
 
 /**
  * Unit tests for {@link CachingMibRepository}.
@@ -50,4 +57,57 @@ public class CachingMibRepositoryTest {
         is(equalTo("sysUpTime")));
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testLoadAllInDependencyOrder() throws Exception {
+    final CachingMibRepository repository = new CachingMibRepository();
+    final List<Mib> mibs = repository.loadAll(
+        Arrays.asList("SNMPv2-MIB", "SNMPv2-TC", "SNMPv2-SMI"));
+
+    assertThat(mibs.size(), is(equalTo(3)));
+    assertThat(mibs.get(0).getName(), is(equalTo("SNMPv2-MIB")));
+    assertThat(mibs.get(1).getName(), is(equalTo("SNMPv2-TC")));
+    assertThat(mibs.get(2).getName(), is(equalTo("SNMPv2-SMI")));
+    assertThat(repository.names(), contains("SNMPv2-MIB", "SNMPv2-TC",
+        "SNMPv2-SMI"));
+    assertThat(repository.get("SNMPv2-TC"), is(equalTo(mibs.get(1))));
+  }
+
+  @Test
+  public void testLoadAllInParallel() throws Exception {
+    final CachingMibRepository repository = new CachingMibRepository(1);
+    final List<Mib> mibs = repository.loadAll(
+        Arrays.asList("SNMPv2-MIB", "SNMPv2-TC", "SNMPv2-SMI"));
+
+    assertThat(mibs.size(), is(equalTo(3)));
+    assertThat(mibs.get(0).getName(), is(equalTo("SNMPv2-MIB")));
+    assertThat(repository.names(), contains("SNMPv2-MIB", "SNMPv2-TC",
+        "SNMPv2-SMI"));
+    assertThat(repository.get("SNMPv2-SMI"), is(equalTo(mibs.get(2))));
+  }
+
+  @Test
+  public void testLoadAllInParallelReportsEveryUnparsedModule()
+      throws Exception {
+    assertReportsEveryUnparsedModule(new CachingMibRepository(1));
+  }
+
+  @Test
+  public void testLoadAllReportsEveryUnparsedModule() throws Exception {
+    assertReportsEveryUnparsedModule(new CachingMibRepository());
+  }
+
+  private static void assertReportsEveryUnparsedModule(
+      CachingMibRepository repository) throws Exception {
+    try {
+      repository.loadAll(Arrays.asList("NO-SUCH-MIB", "SNMPv2-SMI",
+          "NO-OTHER-MIB"));
+      fail("expected an exception");
+    }
+    catch (MibLoaderException | IOException ex) {
+      assertThat(ex.getSuppressed().length, is(equalTo(1)));
+      assertThat(repository.get("SNMPv2-SMI"), is(nullValue()));
+      assertThat(repository.names().iterator().hasNext(), is(false));
+    }
+  }
+
+}
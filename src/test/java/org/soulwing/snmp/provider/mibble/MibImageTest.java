@@ -0,0 +1,98 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.snmp.IndexDescriptor;
+
+/**
+ * Tests for {@link MibImage}, {@link MibImageWriter}, and loading a MIB
+ * image into a {@link MibbleMib}.
+ *
+ * @author Carl Harris
+ */
+public class MibImageTest {
+
+  private static final String IF_TYPE_OID = "1.3.6.1.2.1.2.2.1.3";
+
+  private File file;
+
+  private MibbleMib mib;
+
+  @Before
+  public void setUp() throws Exception {
+    file = File.createTempFile("mib", ".img");
+    try (OutputStream out = new FileOutputStream(file)) {
+      MibImageTool.compile(Collections.<File>emptyList(),
+          Collections.singletonList(Constants.RFC1213_MIB), out);
+    }
+    mib = new MibbleMib();
+    mib.load(file);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    file.delete();
+  }
+
+  @Test
+  public void testOidToName() throws Exception {
+    assertThat(mib.oidToInstanceName(Constants.SYS_DESCR_OID + ".0"),
+        is(equalTo("sysDescr.0")));
+    assertThat(mib.oidToObjectName(Constants.IF_DESCR_OID + ".3"),
+        is(equalTo("ifDescr")));
+  }
+
+  @Test
+  public void testNameToOid() throws Exception {
+    assertThat(mib.nameToOid("ifDescr.3"),
+        is(equalTo(Constants.IF_DESCR_OID + ".3")));
+    assertThat(mib.nameToOid("RFC1213-MIB!sysDescr"),
+        is(equalTo(Constants.SYS_DESCR_OID)));
+  }
+
+  @Test
+  public void testSyntaxAndFormatter() throws Exception {
+    assertThat(mib.syntaxForObject(Constants.SYS_DESCR_OID), is(equalTo(4)));
+    assertThat(mib.newFormatter(IF_TYPE_OID).format(6),
+        is(equalTo("ethernet-csmacd")));
+  }
+
+  @Test
+  public void testIndexExtractor() throws Exception {
+    final IndexDescriptor[] indexes =
+        mib.newIndexExtractor(Constants.IF_DESCR_OID)
+            .extractIndexes(Constants.IF_DESCR_OID + ".3");
+    assertThat(indexes.length, is(equalTo(1)));
+    assertThat(indexes[0].getOid(), is(equalTo("1.3.6.1.2.1.2.2.1.1")));
+    assertThat(indexes[0].getEncoded()[0], is(equalTo(3)));
+  }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.soulwing.snmp.Oid;
+
+/**
+ * Unit tests for {@link MibModuleIndex}.
+ *
+ * @author Carl Harris
+ */
+public class MibModuleIndexTest {
+
+  private static final String SOURCE =
+      "TEST-MIB DEFINITIONS ::= BEGIN\n"
+      + "IMPORTS\n"
+      + "  MODULE-IDENTITY, OBJECT-TYPE, Integer32, enterprises\n"
+      + "    FROM SNMPv2-SMI;\n"
+      + "testMIB MODULE-IDENTITY\n"
+      + "  LAST-UPDATED \"202610190000Z\"\n"
+      + "  ORGANIZATION \"test -- not a comment\"\n"
+      + "  CONTACT-INFO \"nobody\"\n"
+      + "  DESCRIPTION \"A test module\"\n"
+      + "  ::= { enterprises 99999 }\n"
+      + "-- bogus OBJECT IDENTIFIER ::= { testMIB 9 }\n"
+      + "testObjects OBJECT IDENTIFIER ::= { testMIB 1 }\n"
+      + "testTable OBJECT-TYPE\n"
+      + "  SYNTAX SEQUENCE OF TestEntry\n"
+      + "  MAX-ACCESS not-accessible\n"
+      + "  STATUS current\n"
+      + "  DESCRIPTION \"A table\"\n"
+      + "  ::= { testObjects 1 }\n"
+      + "TestEntry ::= SEQUENCE {\n"
+      + "  testIndex Integer32,\n"
+      + "  testOid OBJECT IDENTIFIER\n"
+      + "}\n"
+      + "testEntry OBJECT-TYPE\n"
+      + "  SYNTAX TestEntry\n"
+      + "  MAX-ACCESS not-accessible\n"
+      + "  STATUS current\n"
+      + "  DESCRIPTION \"A row\"\n"
+      + "  INDEX { testIndex }\n"
+      + "  ::= { testTable 1 }\n"
+      + "testIndex OBJECT-TYPE\n"
+      + "  SYNTAX Integer32 (1..100)\n"
+      + "  MAX-ACCESS read-only\n"
+      + "  STATUS current\n"
+      + "  DESCRIPTION \"An index\"\n"
+      + "  ::= { testEntry 1 }\n"
+      + "END\n"
+      + "OTHER-MIB DEFINITIONS ::= BEGIN\n"
+      + "IMPORTS testObjects FROM TEST-MIB;\n"
+      + "otherObject OBJECT-TYPE\n"
+      + "  SYNTAX INTEGER { up(1), down(2) }\n"
+      + "  MAX-ACCESS read-only\n"
+      + "  STATUS current\n"
+      + "  DESCRIPTION \"Another object\"\n"
+      + "  ::= { testObjects 2 }\n"
+      + "otherRoot OBJECT IDENTIFIER ::= { iso org(3) dod(6) 1 4 1 88888 }\n"
+      + "END\n";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private MibModuleIndex index = new MibModuleIndex();
+
+  @Before
+  public void setUp() throws Exception {
+    final File file = folder.newFile("TEST-MIB.txt");
+    final Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+        StandardCharsets.ISO_8859_1);
+    try {
+      writer.write(SOURCE);
+    }
+    finally {
+      writer.close();
+    }
+    index.addDirectory(folder.getRoot());
+  }
+
+  @Test
+  public void testRoots() throws Exception {
+    final List<MibModuleIndex.Module> test =
+        index.claim("TEST-MIB", "testMIB");
+    assertThat(test.size(), is(equalTo(1)));
+    assertThat(test.get(0).isFirstInFile(), is(true));
+    assertThat(test.get(0).getRoots(),
+        arrayContainingInAnyOrder(Oid.parse("1.3.6.1.4.1.99999")));
+
+    final List<MibModuleIndex.Module> other =
+        index.claim("OTHER-MIB", "otherObject");
+    assertThat(other.size(), is(equalTo(1)));
+    assertThat(other.get(0).isFirstInFile(), is(false));
+    assertThat(other.get(0).getRoots(), arrayContainingInAnyOrder(
+        Oid.parse("1.3.6.1.4.1.99999.1.2"), Oid.parse("1.3.6.1.4.1.88888")));
+  }
+
+  @Test
+  public void testClaimByOid() throws Exception {
+    final Oid row = Oid.parse("1.3.6.1.4.1.99999.1.1.1.1.5");
+    assertThat(index.isPending(Oid.parse("1.3.6.1.2.1.1.3")), is(false));
+    assertThat(index.isPending(row), is(true));
+    final List<MibModuleIndex.Module> claimed = index.claim(row);
+    assertThat(names(claimed), contains("TEST-MIB"));
+    // remains pending until loaded, so that lookups wait for the load
+    assertThat(index.isPending(row), is(true));
+    assertThat(index.claim(row), is(empty()));
+    index.loaded(claimed);
+    assertThat(index.isPending(row), is(false));
+
+    final Oid other = Oid.parse("1.3.6.1.4.1.99999.1.2.0");
+    assertThat(index.isPending(other), is(true));
+    index.loaded(index.claim(other));
+    assertThat(index.isPending(Oid.parse("1.3.6.1.4.1.88888.1")),
+        is(false));
+  }
+
+  @Test
+  public void testClaimByName() throws Exception {
+    assertThat(index.isPending(null, "bogus"), is(false));
+    assertThat(index.isPending(null, "testOid"), is(false));
+    assertThat(index.isPending(null, "otherObject"), is(true));
+    final List<MibModuleIndex.Module> claimed =
+        index.claim(null, "otherObject");
+    assertThat(names(claimed), contains("OTHER-MIB"));
+    assertThat(index.isPending(null, "otherObject"), is(true));
+    assertThat(index.isPending("OTHER-MIB", "otherObject"), is(true));
+    index.loaded(claimed);
+    assertThat(index.isPending(null, "otherObject"), is(false));
+    assertThat(index.isPending("OTHER-MIB", "otherObject"), is(false));
+    assertThat(index.isPending(null, "testIndex"), is(true));
+  }
+
+  @Test
+  public void testRemoveDirectory() throws Exception {
+    index.removeDirectory(folder.getRoot());
+    assertThat(index.isPending(null, "testIndex"), is(false));
+    assertThat(index.isPending(Oid.parse("1.3.6.1.4.1.99999.1")),
+        is(false));
+  }
+
+  private static List<String> names(List<MibModuleIndex.Module> modules) {
+    final List<String> names = new ArrayList<>();
+    for (final MibModuleIndex.Module module : modules) {
+      names.add(module.getName());
+    }
+    return names;
+  }
+
+}
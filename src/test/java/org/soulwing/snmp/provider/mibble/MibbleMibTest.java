@@ -24,7 +24,9 @@ import static org.hamcrest.Matchers.is;
 
 import java.io.File;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -113,6 +115,27 @@ public class MibbleMibTest {
         is(equalTo("1.3.6.1.2.1.1.1.0")));
   }
 
+  @Test
+  public void testNameToOidIsCachedUntilLoad() throws Exception {
+    final String name = "some name";
+    context.checking(new Expectations() { {
+      exactly(2).of(repository).names();
+      will(returnValue(Collections.singleton(Constants.RFC1213_MIB)));
+      exactly(2).of(repository).get(Constants.RFC1213_MIB);
+      will(returnValue(delegate));
+      oneOf(repository).load(name);
+      will(returnValue(delegate));
+    } });
+
+    assertThat(mib.nameToOid("sysDescr"),
+        is(equalTo(Constants.SYS_DESCR_OID)));
+    assertThat(mib.nameToOid("sysDescr.0"),
+        is(equalTo("1.3.6.1.2.1.1.1.0")));
+    mib.load(name);
+    assertThat(mib.nameToOid("sysDescr"),
+        is(equalTo(Constants.SYS_DESCR_OID)));
+  }
+
   @Test
   public void testSyntaxForObject() throws Exception {
     context.checking(symbolByOidExpectations());
@@ -150,6 +173,17 @@ public class MibbleMibTest {
     mib.load(name);
   }
 
+  @Test
+  public void testLoadAll() throws Exception {
+    final List<String> names = Arrays.asList("some name", "other name");
+    context.checking(new Expectations() { {
+      oneOf(repository).loadAll(names);
+      will(returnValue(Collections.singletonList(delegate)));
+    } });
+
+    mib.loadAll(names);
+  }
+
   @Test
   public void testLoadFile() throws Exception {
     final File file = new File("some file");
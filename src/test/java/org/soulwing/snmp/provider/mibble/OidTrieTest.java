@@ -0,0 +1,92 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.mibble;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.snmp.Oid;
+
+/**
+ * Unit tests for {@link OidTrie}.
+ *
+ * @author Carl Harris
+ */
+public class OidTrieTest {
+
+  private static final Oid IF_ENTRY = Oid.parse("1.3.6.1.2.1.2.2.1");
+  private static final Oid IF_DESCR = Oid.parse("1.3.6.1.2.1.2.2.1.2");
+
+  private final OidTrie<String> trie = new OidTrie<>();
+
+  @Before
+  public void setUp() throws Exception {
+    trie.put(IF_DESCR, "ifDescr");
+    trie.put(IF_ENTRY, "ifEntry");
+  }
+
+  @Test
+  public void testLongestMatch() throws Exception {
+    final OidTrie.Node<String> node =
+        trie.longestMatch(IF_DESCR.append(Oid.valueOf(7)));
+    assertThat(node.getValue(), is(equalTo("ifDescr")));
+    assertThat(node.getDepth(), is(equalTo(IF_DESCR.size())));
+    assertThat(trie.longestMatch(IF_DESCR).getValue(),
+        is(equalTo("ifDescr")));
+  }
+
+  @Test
+  public void testLongestMatchAtAncestor() throws Exception {
+    final OidTrie.Node<String> node =
+        trie.longestMatch(Oid.parse("1.3.6.1.2.1.2.2.1.99.1"));
+    assertThat(node.getValue(), is(equalTo("ifEntry")));
+    assertThat(node.getDepth(), is(equalTo(IF_ENTRY.size())));
+  }
+
+  @Test
+  public void testNoMatch() throws Exception {
+    assertThat(trie.longestMatch(Oid.parse("1.3.6.1.2.1.2.2")),
+        is(nullValue()));
+    assertThat(trie.longestMatch(Oid.parse("1.3.6.1.4.1")), is(nullValue()));
+  }
+
+  @Test
+  public void testMatches() throws Exception {
+    final List<OidTrie.Node<String>> nodes =
+        trie.matches(IF_DESCR.append(Oid.valueOf(7)));
+    assertThat(nodes.size(), is(equalTo(2)));
+    assertThat(nodes.get(0).getValue(), is(equalTo("ifEntry")));
+    assertThat(nodes.get(1).getValue(), is(equalTo("ifDescr")));
+    assertThat(trie.matches(Oid.parse("1.3.6.1.4.1")).isEmpty(), is(true));
+  }
+
+  @Test
+  public void testPutReplaces() throws Exception {
+    trie.put(IF_DESCR, "otherIfDescr");
+    assertThat(trie.longestMatch(IF_DESCR.append(Oid.valueOf(1))).getValue(),
+        is(equalTo("otherIfDescr")));
+  }
+
+}
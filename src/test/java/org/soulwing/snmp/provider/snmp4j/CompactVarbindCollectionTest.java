@@ -0,0 +1,94 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.snmp.Varbind;
+
+/**
+ * Unit tests for {@link CompactVarbindCollection}.
+ *
+ * @author Carl Harris
+ */
+public class CompactVarbindCollectionTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  private Varbind sysUpTime;
+  private Varbind ifDescr;
+  private Varbind ifIndex;
+
+  private CompactVarbindCollection.Layout layout;
+
+  @Before
+  public void setUp() throws Exception {
+    sysUpTime = context.mock(Varbind.class, "sysUpTime");
+    ifDescr = context.mock(Varbind.class, "ifDescr");
+    ifIndex = context.mock(Varbind.class, "ifIndex");
+    layout = new CompactVarbindCollection.Layout(3)
+        .withKey(0, "sysUpTime")
+        .withKey(1, "ifName")
+        .withKey(2, "ifDescr")
+        .withKey(3, "ifIndex");
+  }
+
+  @Test
+  public void testDenseRow() throws Exception {
+    final Varbind ifName = context.mock(Varbind.class, "ifName");
+    final CompactVarbindCollection row = new CompactVarbindCollection(layout,
+        new Varbind[] { sysUpTime, ifName, ifDescr, ifIndex });
+    assertThat(row.size(), is(equalTo(3)));
+    assertThat(row.get(1), is(sameInstance(ifName)));
+    assertThat(row, contains(sysUpTime, ifName, ifDescr));
+    assertThat(row.get("ifIndex"), is(sameInstance(ifIndex)));
+    assertThat(row.keySet(),
+        contains("sysUpTime", "ifName", "ifDescr", "ifIndex"));
+  }
+
+  @Test
+  public void testSparseRow() throws Exception {
+    final CompactVarbindCollection row = new CompactVarbindCollection(layout,
+        new Varbind[] { sysUpTime, null, ifDescr, ifIndex });
+    assertThat(row.size(), is(equalTo(2)));
+    assertThat(row.get(1), is(sameInstance(ifDescr)));
+    assertThat(row.asList(), contains(sysUpTime, ifDescr));
+    assertThat(row.get("ifName"), is(nullValue()));
+    assertThat(row.get("ifDescr"), is(sameInstance(ifDescr)));
+    assertThat(row.asMap().keySet(),
+        contains("sysUpTime", "ifDescr", "ifIndex"));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetBeyondSize() throws Exception {
+    new CompactVarbindCollection(layout,
+        new Varbind[] { sysUpTime, null, ifDescr, ifIndex }).get(2);
+  }
+
+}
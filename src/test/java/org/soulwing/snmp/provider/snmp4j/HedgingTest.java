@@ -0,0 +1,181 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.soulwing.snmp.HedgingPolicy;
+import org.soulwing.snmp.metrics.OperationMetrics;
+import org.soulwing.snmp.metrics.OperationType;
+import org.soulwing.snmp.metrics.TargetMetrics;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for hedged requests sent using {@link SessionWrapper}.
+ *
+ * @author Carl Harris
+ */
+public class HedgingTest {
+
+  private static final OID SYS_NAME = new OID("1.3.6.1.2.1.1.5.0");
+  private static final long TIMEOUT = 2000;
+  private static final long HEDGE_DELAY = 50;
+  private static final int WARM_UP_REQUESTS = 5;
+
+  private AgentSimulator simulator;
+  private SimulatedAgent agent;
+  private Snmp snmp;
+  private ScheduledExecutorService executorService;
+  private TargetMetrics metrics;
+  private SessionWrapper session;
+  private CommunityTarget target;
+
+  @Before
+  public void setUp() throws Exception {
+    agent = new SimulatedAgent(AgentData.load(getClass().getClassLoader()
+        .getResource("simulator/linux-host.snmprec")));
+    simulator = new AgentSimulator();
+    final int port = simulator.addAgent(agent);
+
+    snmp = new Snmp(new DefaultUdpTransportMapping());
+    snmp.listen();
+    executorService = Executors.newSingleThreadScheduledExecutor();
+    metrics = new TargetMetrics("agent");
+
+    final HedgingPolicy policy = new HedgingPolicy();
+    policy.setBudget(1.0);
+    policy.setMinimumDelay(HEDGE_DELAY);
+    policy.setMinimumSamples(WARM_UP_REQUESTS);
+    session = new SessionWrapper(snmp, 0, TIMEOUT, new RequestHedger(policy),
+        metrics, null, executorService);
+
+    target = new CommunityTarget(new UdpAddress("127.0.0.1/" + port),
+        new OctetString("public"));
+    target.setVersion(SnmpConstants.version2c);
+    target.setRetries(0);
+    target.setTimeout(Integer.MAX_VALUE);
+
+    // prime the latency estimate and the hedge budget
+    for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+      assertThat(session.get(request(), target, Deadline.NONE).getResponse(),
+          is(notNullValue()));
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    session.close();
+    simulator.close();
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void testSlowAgentIsHedgedAndAnsweredOnce() throws Exception {
+    agent.setLatency(4 * HEDGE_DELAY);
+    final Recorder recorder = new Recorder();
+    session.get(request(), target, Deadline.NONE, null, recorder);
+
+    assertThat(recorder.await(), is(true));
+    assertThat(recorder.event.get().getResponse(), is(notNullValue()));
+    // allow the response to the other request of the pair to arrive
+    Thread.sleep(4 * HEDGE_DELAY);
+    assertThat(recorder.count.get(), is(equalTo(1)));
+    assertThat(agent.getRequests(), is(equalTo(WARM_UP_REQUESTS + 2L)));
+    assertThat(getMetrics().getHedges(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testHedgeAnswersWhenOriginalIsLost() throws Exception {
+    agent.setLossRate(1.0);
+    final Recorder recorder = new Recorder();
+    final long startedAt = System.currentTimeMillis();
+    session.get(request(), target, Deadline.NONE, null, recorder);
+    while (agent.getRequests() == WARM_UP_REQUESTS) {
+      Thread.sleep(1);
+    }
+    agent.setLossRate(0);
+
+    assertThat(recorder.await(), is(true));
+    assertThat(System.currentTimeMillis() - startedAt,
+        is(lessThan(TIMEOUT)));
+    assertThat(recorder.event.get().getResponse().get(0).getVariable()
+        .toString(), is(equalTo("router1")));
+    Thread.sleep(2 * HEDGE_DELAY);
+    assertThat(recorder.count.get(), is(equalTo(1)));
+    assertThat(agent.getDropped(), is(equalTo(1L)));
+    assertThat(getMetrics().getHedges(), is(equalTo(1L)));
+  }
+
+  private OperationMetrics getMetrics() {
+    return metrics.get(OperationType.GET);
+  }
+
+  private static PDU request() {
+    final PDU pdu = new PDU();
+    pdu.add(new VariableBinding(SYS_NAME));
+    return pdu;
+  }
+
+  private static class Recorder implements ResponseListener {
+
+    final AtomicInteger count = new AtomicInteger();
+    final AtomicReference<ResponseEvent> event = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    @Override
+    public void onResponse(ResponseEvent event) {
+      count.incrementAndGet();
+      this.event.compareAndSet(null, event);
+      latch.countDown();
+    }
+
+    boolean await() throws InterruptedException {
+      return latch.await(2 * TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+  }
+
+}
@@ -0,0 +1,463 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.event.ResponseListener;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.TcpAddress;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpFactory;
+import org.soulwing.snmp.SnmpFactoryConfig;
+import org.soulwing.snmp.SnmpInterceptor;
+import org.soulwing.snmp.SnmpRequestInfo;
+import org.soulwing.snmp.SnmpResponseInfo;
+import org.soulwing.snmp.metrics.TargetMetrics;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for the {@link SnmpInterceptor} hooks invoked by
+ * {@link SessionWrapper}.
+ *
+ * @author Carl Harris
+ */
+public class InterceptorTest {
+
+  private static final OID SYS_NAME = new OID("1.3.6.1.2.1.1.5.0");
+  private static final long TIMEOUT = 200;
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private AgentSimulator simulator;
+  private SimulatedAgent agent;
+  private Snmp snmp;
+  private ScheduledExecutorService executorService;
+  private int port;
+  private SessionWrapper session;
+
+  @Before
+  public void setUp() throws Exception {
+    agent = new SimulatedAgent(AgentData.load(getClass().getClassLoader()
+        .getResource("simulator/linux-host.snmprec")));
+    simulator = new AgentSimulator();
+    port = simulator.addAgent(agent);
+    snmp = new Snmp(new DefaultUdpTransportMapping());
+    snmp.listen();
+    executorService = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (session != null) {
+      session.close();
+    }
+    simulator.close();
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void testResponse() throws Exception {
+    final RecordingInterceptor recorder = new RecordingInterceptor();
+    session = newSession(0, recorder);
+
+    final ResponseEvent event = send(udpTarget());
+    assertThat(event.getResponse(), is(notNullValue()));
+    assertThat(recorder.events(),
+        contains("beforeSend:0", "onResponse:0"));
+    assertThat(recorder.response.getRequestId(),
+        is(equalTo(recorder.request.getRequestId())));
+    assertThat(recorder.response.getErrorStatus(), is(equalTo(0)));
+    assertThat(recorder.response.getVarbindCount(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testRetryThenResponse() throws Exception {
+    final RecordingInterceptor recorder = new RecordingInterceptor();
+    session = newSession(1, recorder);
+    agent.setLossRate(1.0);
+
+    final Listener listener = new Listener();
+    session.get(request(), udpTarget(), Deadline.NONE, null, listener);
+    while (agent.getRequests() == 0) {
+      Thread.sleep(1);
+    }
+    agent.setLossRate(0);
+
+    assertThat(listener.await().getResponse(), is(notNullValue()));
+    assertThat(recorder.events(), contains("beforeSend:0", "onRetry:1",
+        "beforeSend:1", "onResponse:1"));
+  }
+
+  @Test
+  public void testRetryThenTimeout() throws Exception {
+    final RecordingInterceptor recorder = new RecordingInterceptor();
+    session = newSession(1, recorder);
+    agent.setLossRate(1.0);
+
+    assertThat(send(udpTarget()).getResponse(), is(nullValue()));
+    assertThat(recorder.events(), contains("beforeSend:0", "onRetry:1",
+        "beforeSend:1", "onTimeout:1"));
+  }
+
+  @Test
+  public void testError() throws Exception {
+    final RecordingInterceptor recorder = new RecordingInterceptor();
+    session = newSession(0, recorder);
+
+    // there is no TCP transport mapping, so the send fails immediately
+    final ResponseEvent event =
+        send(target(new TcpAddress("127.0.0.1/" + port)));
+    assertThat(event.getError(), is(notNullValue()));
+    assertThat(recorder.events(), contains("beforeSend:0", "onError:0"));
+    assertThat(recorder.error, is(sameInstance(event.getError())));
+  }
+
+  @Test
+  public void testFailingInterceptorIsIsolated() throws Exception {
+    final RecordingInterceptor recorder = new RecordingInterceptor();
+    session = newSession(0, new FailingInterceptor(), recorder);
+
+    final ResponseEvent event = send(udpTarget());
+    assertThat(event.getResponse(), is(notNullValue()));
+    assertThat(event.getResponse().get(0).getVariable().toString(),
+        is(equalTo("router1")));
+    assertThat(recorder.events(),
+        contains("beforeSend:0", "onResponse:0"));
+  }
+
+  @Test
+  public void testFailingInterceptorIsLogged() throws Exception {
+    final FailingInterceptor interceptor = new FailingInterceptor();
+    final RecordingLogger logger = new RecordingLogger();
+    final InterceptorChain chain = InterceptorChain.of(
+        Collections.<SnmpInterceptor>singletonList(interceptor),
+        logger.proxy());
+
+    chain.beforeSend(new InterceptedRequest("agent", request()));
+    assertThat(logger.warnings.size(), is(equalTo(1)));
+    final Object[] args = logger.warnings.get(0);
+    assertThat(args[1], is(sameInstance((Object) interceptor)));
+    assertThat(args[2], is(instanceOf(IllegalStateException.class)));
+  }
+
+  @Test
+  public void testNoInterceptors() throws Exception {
+    assertThat(InterceptorChain.of(null), is(nullValue()));
+    assertThat(InterceptorChain.of(Collections.<SnmpInterceptor>emptyList()),
+        is(nullValue()));
+
+    session = newSession(0);
+    assertThat(send(udpTarget()).getResponse(), is(notNullValue()));
+  }
+
+  @Test
+  public void testServiceLoaderDiscovery() throws Exception {
+    final File services = new File(folder.newFolder("META-INF", "services"),
+        SnmpInterceptor.class.getName());
+    try (OutputStream outputStream = new FileOutputStream(services)) {
+      outputStream.write((DiscoveredInterceptor.class.getName() + "\n")
+          .getBytes("UTF-8"));
+    }
+
+    final Thread thread = Thread.currentThread();
+    final ClassLoader contextClassLoader = thread.getContextClassLoader();
+    final URLClassLoader classLoader = new URLClassLoader(
+        new URL[] { folder.getRoot().toURI().toURL() },
+        getClass().getClassLoader());
+    thread.setContextClassLoader(classLoader);
+    try {
+      final SnmpFactory factory = SnmpFactory.newInstance(
+          Executors.defaultThreadFactory(), new SnmpFactoryConfig());
+      try {
+        assertThat(factory.getInterceptors().size(), is(equalTo(1)));
+        assertThat(factory.getInterceptors().get(0),
+            is(instanceOf(DiscoveredInterceptor.class)));
+      }
+      finally {
+        factory.close();
+      }
+    }
+    finally {
+      thread.setContextClassLoader(contextClassLoader);
+      classLoader.close();
+    }
+  }
+
+  @Test
+  public void testFactoryInterceptor() throws Exception {
+    final RecordingInterceptor recorder = new RecordingInterceptor();
+    final SnmpFactoryConfig config = new SnmpFactoryConfig();
+    config.addInterceptor(recorder);
+    final SnmpFactory factory = SnmpFactory.newInstance(
+        Executors.defaultThreadFactory(), config);
+    try {
+      final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+      target.setAddress("127.0.0.1");
+      target.setPort(port);
+      target.setCommunity("public");
+      final SnmpContext context = factory.newContext(target,
+          new SimpleSnmpTargetConfig(), MibFactory.getInstance().newMib());
+      try {
+        context.get(SYS_NAME.toDottedString()).get();
+      }
+      finally {
+        context.close();
+      }
+      assertThat(recorder.events(),
+          contains("beforeSend:0", "onResponse:0"));
+    }
+    finally {
+      factory.close();
+    }
+  }
+
+  private SessionWrapper newSession(int retries,
+      SnmpInterceptor... interceptors) {
+    return new SessionWrapper(snmp, retries, TIMEOUT, null,
+        new TargetMetrics("agent"), Arrays.asList(interceptors),
+        executorService);
+  }
+
+  private ResponseEvent send(CommunityTarget target) throws Exception {
+    final Listener listener = new Listener();
+    session.get(request(), target, Deadline.NONE, null, listener);
+    return listener.await();
+  }
+
+  private CommunityTarget udpTarget() {
+    return target(new UdpAddress("127.0.0.1/" + port));
+  }
+
+  private static CommunityTarget target(Address address) {
+    final CommunityTarget target = new CommunityTarget(address,
+        new OctetString("public"));
+    target.setVersion(SnmpConstants.version2c);
+    target.setRetries(0);
+    target.setTimeout(Integer.MAX_VALUE);
+    return target;
+  }
+
+  private static PDU request() {
+    final PDU pdu = new PDU();
+    pdu.add(new VariableBinding(SYS_NAME));
+    return pdu;
+  }
+
+  private static class Listener implements ResponseListener {
+
+    final AtomicReference<ResponseEvent> event = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+
+    @Override
+    public void onResponse(ResponseEvent event) {
+      this.event.compareAndSet(null, event);
+      latch.countDown();
+    }
+
+    ResponseEvent await() throws InterruptedException {
+      assertThat(latch.await(10 * TIMEOUT, TimeUnit.MILLISECONDS),
+          is(true));
+      return event.get();
+    }
+
+  }
+
+  private static class RecordingInterceptor implements SnmpInterceptor {
+
+    private final List<String> events = new ArrayList<>();
+
+    volatile SnmpRequestInfo request;
+    volatile SnmpResponseInfo response;
+    volatile Exception error;
+
+    @Override
+    public void beforeSend(SnmpRequestInfo request) {
+      this.request = request;
+      record("beforeSend", request);
+    }
+
+    @Override
+    public void onRetry(SnmpRequestInfo request) {
+      record("onRetry", request);
+    }
+
+    @Override
+    public void onResponse(SnmpRequestInfo request,
+        SnmpResponseInfo response) {
+      this.response = response;
+      record("onResponse", request);
+    }
+
+    @Override
+    public void onTimeout(SnmpRequestInfo request) {
+      record("onTimeout", request);
+    }
+
+    @Override
+    public void onError(SnmpRequestInfo request, Exception error) {
+      this.error = error;
+      record("onError", request);
+    }
+
+    private synchronized void record(String hook, SnmpRequestInfo request) {
+      events.add(hook + ":" + request.getAttempt());
+    }
+
+    synchronized List<String> events() {
+      return new ArrayList<>(events);
+    }
+
+  }
+
+  private static class FailingInterceptor implements SnmpInterceptor {
+
+    @Override
+    public void beforeSend(SnmpRequestInfo request) {
+      throw new IllegalStateException("beforeSend");
+    }
+
+    @Override
+    public void onRetry(SnmpRequestInfo request) {
+      throw new IllegalStateException("onRetry");
+    }
+
+    @Override
+    public void onResponse(SnmpRequestInfo request,
+        SnmpResponseInfo response) {
+      throw new IllegalStateException("onResponse");
+    }
+
+    @Override
+    public void onTimeout(SnmpRequestInfo request) {
+      throw new IllegalStateException("onTimeout");
+    }
+
+    @Override
+    public void onError(SnmpRequestInfo request, Exception error) {
+      throw new IllegalStateException("onError");
+    }
+
+  }
+
+  /**
+   * An interceptor discovered using the {@link java.util.ServiceLoader}.
+   */
+  public static class DiscoveredInterceptor implements SnmpInterceptor {
+
+    @Override
+    public void beforeSend(SnmpRequestInfo request) {
+    }
+
+    @Override
+    public void onRetry(SnmpRequestInfo request) {
+    }
+
+    @Override
+    public void onResponse(SnmpRequestInfo request,
+        SnmpResponseInfo response) {
+    }
+
+    @Override
+    public void onTimeout(SnmpRequestInfo request) {
+    }
+
+    @Override
+    public void onError(SnmpRequestInfo request, Exception error) {
+    }
+
+  }
+
+  private static class RecordingLogger implements InvocationHandler {
+
+    final List<Object[]> warnings = new ArrayList<>();
+
+    Logger proxy() {
+      return (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(),
+          new Class<?>[] { Logger.class }, this);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+      if (method.getName().equals("warn")) {
+        final List<Object> flattened = new ArrayList<>();
+        for (Object arg : args) {
+          if (arg instanceof Object[]) {
+            flattened.addAll(Arrays.asList((Object[]) arg));
+          }
+          else {
+            flattened.add(arg);
+          }
+        }
+        warnings.add(flattened.toArray());
+      }
+      if (method.getReturnType() == boolean.class) return true;
+      return null;
+    }
+
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.snmp.HedgingPolicy;
+
+/**
+ * Unit tests for {@link RequestHedger}.
+ *
+ * @author Carl Harris
+ */
+public class RequestHedgerTest {
+
+  private static final int MINIMUM_SAMPLES = 10;
+
+  private HedgingPolicy policy = new HedgingPolicy();
+
+  @Before
+  public void setUp() throws Exception {
+    policy.setPercentile(0.9);
+    policy.setBudget(0.1);
+    policy.setMinimumDelay(1);
+    policy.setMinimumSamples(MINIMUM_SAMPLES);
+  }
+
+  @Test
+  public void testNoDelayUntilMinimumSamples() throws Exception {
+    final RequestHedger hedger = new RequestHedger(policy);
+    for (int i = 0; i < MINIMUM_SAMPLES - 1; i++) {
+      hedger.recordLatency(millis(10));
+    }
+    assertThat(hedger.hedgeDelay(), is(equalTo(-1L)));
+    hedger.recordLatency(millis(10));
+    assertThat(hedger.hedgeDelay(), is(equalTo(10L)));
+  }
+
+  @Test
+  public void testDelayAtPercentile() throws Exception {
+    final RequestHedger hedger = new RequestHedger(policy);
+    for (int i = 1; i <= 100; i++) {
+      hedger.recordLatency(millis(i));
+    }
+    assertThat(hedger.hedgeDelay(), is(equalTo(90L)));
+  }
+
+  @Test
+  public void testDelayAtLeastMinimumDelay() throws Exception {
+    policy.setMinimumDelay(50);
+    final RequestHedger hedger = new RequestHedger(policy);
+    for (int i = 0; i < MINIMUM_SAMPLES; i++) {
+      hedger.recordLatency(millis(10));
+    }
+    assertThat(hedger.hedgeDelay(), is(equalTo(50L)));
+  }
+
+  @Test
+  public void testDelayUsesRecentSamples() throws Exception {
+    final RequestHedger hedger = new RequestHedger(policy);
+    for (int i = 0; i < RequestHedger.SAMPLE_COUNT; i++) {
+      hedger.recordLatency(millis(100));
+    }
+    assertThat(hedger.hedgeDelay(), is(equalTo(100L)));
+    for (int i = 0; i < RequestHedger.SAMPLE_COUNT; i++) {
+      hedger.recordLatency(millis(20));
+    }
+    assertThat(hedger.hedgeDelay(), is(equalTo(20L)));
+  }
+
+  @Test
+  public void testHedgesLimitedByBudget() throws Exception {
+    final RequestHedger hedger = new RequestHedger(policy);
+    assertThat(hedger.tryHedge(), is(false));
+    for (int i = 0; i < 10; i++) {
+      hedger.requestSent();
+    }
+    assertThat(hedger.tryHedge(), is(true));
+    assertThat(hedger.tryHedge(), is(false));
+  }
+
+  @Test
+  public void testBudgetBalanceIsCapped() throws Exception {
+    final RequestHedger hedger = new RequestHedger(policy);
+    for (int i = 0; i < 10000; i++) {
+      hedger.requestSent();
+    }
+    int hedges = 0;
+    while (hedger.tryHedge()) {
+      hedges++;
+    }
+    assertThat(hedges, is(equalTo(10)));
+  }
+
+  @Test
+  public void testZeroBudgetNeverHedges() throws Exception {
+    policy.setBudget(0);
+    final RequestHedger hedger = new RequestHedger(policy);
+    for (int i = 0; i < 1000; i++) {
+      hedger.requestSent();
+    }
+    assertThat(hedger.tryHedge(), is(false));
+  }
+
+  @Test
+  public void testProviderKeepsHedgerPerTarget() throws Exception {
+    final Snmp4jProvider provider = new Snmp4jProvider();
+    final RequestHedger hedger = provider.getHedger("agent:161", policy);
+    assertThat(provider.getHedger("agent:161", policy.clone()),
+        is(sameInstance(hedger)));
+    assertThat(provider.getHedger("other:161", policy),
+        is(not(sameInstance(hedger))));
+    assertThat(provider.getHedger("agent:161", null), is(nullValue()));
+
+    final HedgingPolicy other = policy.clone();
+    other.setBudget(0.5);
+    final RequestHedger replacement = provider.getHedger("agent:161", other);
+    assertThat(replacement, is(not(sameInstance(hedger))));
+    assertThat(provider.getHedger("agent:161", other),
+        is(sameInstance(replacement)));
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+}
@@ -22,11 +22,18 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
 import org.junit.Test;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.Formatter;
 import org.soulwing.snmp.Mib;
+import org.soulwing.snmp.Oid;
 import org.soulwing.snmp.Varbind;
 import org.soulwing.snmp.provider.mibble.MibbleMibProvider;
 import net.percederberg.mibble.MibLoader;
@@ -38,6 +45,91 @@ import net.percederberg.mibble.MibLoader;
  */
 public class SimpleVarbindFactoryTest {
 
+  private static final String IF_DESCR_OID = "1.3.6.1.2.1.2.2.1.2";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Mib mib;
+
+  @Mock
+  private Formatter formatter;
+
+  @Test
+  public void testNumericAccessWithoutMib() throws Exception {
+    final SimpleVarbindFactory factory = new SimpleVarbindFactory(mib);
+    final Varbind vb = factory.newVarbind(
+        new VariableBinding(new OID(IF_DESCR_OID + ".1"), new Integer32(42)));
+    assertThat(vb.asLong(), is(equalTo(42L)));
+    assertThat(vb.getOid(), is(equalTo(IF_DESCR_OID + ".1")));
+  }
+
+  @Test
+  public void testObjectMetadataSharedByInstances() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(mib).oidToInstanceName(Oid.parse(IF_DESCR_OID + ".1"));
+        will(returnValue("ifDescr.1"));
+        oneOf(mib).syntaxForObject(Oid.parse(IF_DESCR_OID + ".1"));
+        will(returnValue(4));
+        oneOf(mib).newFormatter(Oid.parse(IF_DESCR_OID));
+        will(returnValue(formatter));
+        exactly(2).of(formatter).format(with(any(Object.class)));
+        will(returnValue("eth"));
+      }
+    });
+
+    final SimpleVarbindFactory factory = new SimpleVarbindFactory(mib);
+    final Varbind vb1 = factory.newVarbind(new VariableBinding(
+        new OID(IF_DESCR_OID + ".1"), new OctetString("eth0")));
+    final Varbind vb2 = factory.newVarbind(new VariableBinding(
+        new OID(IF_DESCR_OID + ".2"), new OctetString("eth1")));
+    assertThat(vb1.getName(), is(equalTo("ifDescr.1")));
+    assertThat(vb2.getName(), is(equalTo("ifDescr.2")));
+    assertThat(vb1.asString(), is(equalTo("eth")));
+    assertThat(vb2.asString(), is(equalTo("eth")));
+  }
+
+  @Test
+  public void testUnknownObject() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(mib).oidToInstanceName(Oid.parse("1.3.6.1.4.1.99999.1"));
+        will(returnValue("1.3.6.1.4.1.99999.1"));
+      }
+    });
+
+    final SimpleVarbindFactory factory = new SimpleVarbindFactory(mib);
+    final VariableBinding binding = new VariableBinding(
+        new OID("1.3.6.1.4.1.99999.1"), new Integer32(1));
+    assertThat(factory.newVarbind(binding).getName(),
+        is(equalTo("1.3.6.1.4.1.99999.1")));
+    // the MIB isn't consulted again for an unknown object
+    assertThat(factory.newVarbind(binding).getName(),
+        is(equalTo("1.3.6.1.4.1.99999.1")));
+  }
+
+  @Test
+  public void testUnknownInstancesAreBounded() throws Exception {
+    final int limit = SimpleVarbindFactory.MAX_UNKNOWN_INSTANCES;
+    context.checking(new Expectations() {
+      {
+        // each distinct instance, then the first again once cleared
+        exactly(limit + 2).of(mib).oidToInstanceName(with(any(Oid.class)));
+        will(returnValue("unknown"));
+      }
+    });
+
+    final SimpleVarbindFactory factory = new SimpleVarbindFactory(mib);
+    for (int i = 1; i <= limit + 1; i++) {
+      factory.getObjectMetadata(new OID(new int[] { 1, 3, 6, 1, 4, 1, i }));
+    }
+    factory.getObjectMetadata(new OID(new int[] { 1, 3, 6, 1, 4, 1, 1 }));
+    factory.getObjectMetadata(
+        new OID(new int[] { 1, 3, 6, 1, 4, 1, limit + 1 }));
+  }
+
   @Test
   public void testGitHubIssue9() throws Exception {
     final MibbleMibProvider provider = new MibbleMibProvider();
@@ -0,0 +1,260 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.snmp4j.PDU;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpWalker;
+import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Unit tests for {@link Snmp4jEvents} and {@link JfrSnmp4jEvents}.
+ *
+ * @author Carl Harris
+ */
+public class Snmp4jEventsTest {
+
+  private static final String SYS_NAME = "1.3.6.1.2.1.1.5.0";
+  private static final String IF_DESCR = "1.3.6.1.2.1.2.2.1.2";
+
+  private static final String EVENT_PREFIX = "org.soulwing.snmp.";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final Snmp4jProvider provider = new Snmp4jProvider();
+
+  private AgentSimulator simulator;
+  private SnmpContext context;
+  private String targetName;
+
+  @Before
+  public void setUp() throws Exception {
+    simulator = new AgentSimulator();
+    final SimulatedAgent agent = new SimulatedAgent(
+        AgentData.load(getClass().getClassLoader()
+            .getResource("simulator/linux-host.snmprec")));
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(simulator.addAgent(agent));
+    target.setCommunity("public");
+    targetName = "127.0.0.1:" + target.getPort();
+    final SimpleSnmpTargetConfig config = new SimpleSnmpTargetConfig();
+    config.setWalkMaxRepetitions(2);
+    context = provider.newContext(target, config,
+        MibFactory.getInstance().newMib());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.close();
+    provider.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testRecordsRequestAndWalkEvents() throws Exception {
+    assertThat(Snmp4jEvents.INSTANCE, is(instanceOf(JfrSnmp4jEvents.class)));
+
+    final File file = folder.newFile("events.jfr");
+    final Recording recording = new Recording();
+    try {
+      recording.enable(EVENT_PREFIX + "RequestSent");
+      recording.enable(EVENT_PREFIX + "ResponseReceived");
+      recording.enable(EVENT_PREFIX + "WalkChunk");
+      recording.enable(EVENT_PREFIX + "Operation");
+      recording.start();
+
+      context.get(SYS_NAME).get();
+      final SnmpWalker<VarbindCollection> walker = context.walk(IF_DESCR);
+      int rows = 0;
+      while (walker.next().get() != null) {
+        rows++;
+      }
+      assertThat(rows, is(greaterThan(0)));
+
+      recording.stop();
+      recording.dump(file.toPath());
+    }
+    finally {
+      recording.close();
+    }
+
+    final List<RecordedEvent> events =
+        RecordingFile.readAllEvents(file.toPath());
+
+    final RecordedEvent sent = first(events, "RequestSent");
+    assertThat(sent.getString("target"), is(equalTo(targetName)));
+    assertThat(sent.getString("pduType"), is(equalTo("GET")));
+    assertThat(sent.getInt("varbindCount"), is(equalTo(1)));
+    assertThat(sent.getInt("attempt"), is(equalTo(0)));
+    assertThat(sent.getBoolean("hedge"), is(false));
+    assertThat(sent.getInt("requestId"), is(not(equalTo(0))));
+
+    final RecordedEvent received = first(events, "ResponseReceived");
+    assertThat(received.getString("target"), is(equalTo(targetName)));
+    assertThat(received.getString("pduType"), is(equalTo("GET")));
+    assertThat(received.getInt("requestId"),
+        is(equalTo(sent.getInt("requestId"))));
+    assertThat(received.getInt("varbindCount"), is(equalTo(1)));
+    assertThat(received.getInt("errorStatus"), is(equalTo(PDU.noError)));
+    assertThat(received.getLong("latency"), is(greaterThan(0L)));
+
+    final List<RecordedEvent> chunks = all(events, "WalkChunk");
+    assertThat(chunks.isEmpty(), is(false));
+    int chunkRows = 0;
+    for (final RecordedEvent chunk : chunks) {
+      assertThat(chunk.getString("target"), is(equalTo(targetName)));
+      assertThat(chunk.getInt("varbindCount"), is(greaterThan(0)));
+      assertThat(chunk.getLong("latency"), is(greaterThan(0L)));
+      chunkRows += chunk.getInt("rows");
+    }
+    assertThat(chunkRows, is(greaterThan(0)));
+
+    final RecordedEvent operation = first(events, "Operation");
+    assertThat(operation.getString("target"), is(equalTo(targetName)));
+    assertThat(operation.getString("operationType"), is(equalTo("GET")));
+    assertThat(operation.getInt("varbindCount"), is(equalTo(1)));
+    assertThat(operation.getBoolean("success"), is(true));
+  }
+
+  @Test
+  public void testFallsBackToNoOpSinkWithoutJfr() throws Exception {
+    final ClassLoader loader = new JfrHidingClassLoader(
+        getClass().getClassLoader());
+    final Class<?> eventsClass =
+        Class.forName(Snmp4jEvents.class.getName(), true, loader);
+    assertThat(eventsClass.getClassLoader(), is(equalTo(loader)));
+
+    final Field field = eventsClass.getDeclaredField("INSTANCE");
+    field.setAccessible(true);
+    final Object instance = field.get(null);
+    assertThat(instance.getClass().getName(),
+        is(equalTo(Snmp4jEvents.class.getName())));
+
+    final Method requestSent = eventsClass.getDeclaredMethod("requestSent",
+        String.class, PDU.class, int.class, boolean.class);
+    requestSent.setAccessible(true);
+    requestSent.invoke(instance, "target", new PDU(), 0, false);
+  }
+
+  private static RecordedEvent first(List<RecordedEvent> events,
+      String name) {
+    final List<RecordedEvent> matches = all(events, name);
+    assertThat(name + " recorded", matches.isEmpty(), is(false));
+    return matches.get(0);
+  }
+
+  private static List<RecordedEvent> all(List<RecordedEvent> events,
+      String name) {
+    final List<RecordedEvent> matches = new ArrayList<>();
+    for (final RecordedEvent event : events) {
+      if (event.getEventType().getName().equals(EVENT_PREFIX + name)) {
+        matches.add(event);
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * A class loader that cannot load the JFR API, and that defines the
+   * classes of this provider itself so that their static initializers
+   * run again.
+   */
+  private static class JfrHidingClassLoader extends ClassLoader {
+
+    private final String packagePrefix =
+        Snmp4jEvents.class.getPackage().getName() + ".";
+
+    JfrHidingClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve)
+        throws ClassNotFoundException {
+      if (name.startsWith("jdk.jfr.")) {
+        throw new ClassNotFoundException(name);
+      }
+      if (!name.startsWith(packagePrefix)) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> c = findLoadedClass(name);
+        if (c == null) {
+          final byte[] bytes = readClass(name);
+          c = defineClass(name, bytes, 0, bytes.length);
+        }
+        if (resolve) {
+          resolveClass(c);
+        }
+        return c;
+      }
+    }
+
+    private byte[] readClass(String name) throws ClassNotFoundException {
+      try (InputStream in = getParent().getResourceAsStream(
+          name.replace('.', '/') + ".class")) {
+        if (in == null) throw new ClassNotFoundException(name);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[4096];
+        int count;
+        while ((count = in.read(buf)) != -1) {
+          out.write(buf, 0, count);
+        }
+        return out.toByteArray();
+      }
+      catch (IOException ex) {
+        throw new ClassNotFoundException(name, ex);
+      }
+    }
+
+  }
+
+}
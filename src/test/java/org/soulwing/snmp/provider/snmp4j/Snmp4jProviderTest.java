@@ -0,0 +1,98 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpFactory;
+import org.soulwing.snmp.SnmpFactoryConfig;
+import org.soulwing.snmp.metrics.OperationType;
+import org.soulwing.snmp.metrics.TargetMetrics;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for contexts created by {@link Snmp4jProvider} on
+ * behalf of a factory.
+ *
+ * @author Carl Harris
+ */
+public class Snmp4jProviderTest {
+
+  private static final String SYS_NAME = "1.3.6.1.2.1.1.5.0";
+
+  private AgentSimulator simulator;
+  private SnmpFactory factory;
+  private SimpleSnmpV2cTarget target;
+
+  @Before
+  public void setUp() throws Exception {
+    simulator = new AgentSimulator();
+    target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(simulator.addAgent(new SimulatedAgent(
+        AgentData.load(getClass().getClassLoader()
+            .getResource("simulator/linux-host.snmprec")))));
+    target.setCommunity("public");
+    factory = SnmpFactory.newInstance(Executors.defaultThreadFactory(),
+        new SnmpFactoryConfig());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    factory.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testContextUsesFactoryMetrics() throws Exception {
+    final SnmpContext context = factory.newContext(target,
+        new SimpleSnmpTargetConfig(), MibFactory.getInstance().newMib());
+    try {
+      context.get(SYS_NAME).get();
+    }
+    finally {
+      context.close();
+    }
+
+    final String name = "127.0.0.1:" + target.getPort();
+    final TargetMetrics metrics = factory.getMetrics().forTarget(name);
+    assertThat(metrics.get(OperationType.GET).getResponses(),
+        is(equalTo(1L)));
+    assertThat(SnmpFactory.getInstance().getMetrics().forTarget(name),
+        is(not(sameInstance(metrics))));
+    assertThat(SnmpFactory.getInstance().getMetrics().forTarget(name)
+        .get(OperationType.GET).getResponses(), is(equalTo(0L)));
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.SnmpTable;
+
+/**
+ * Unit tests for {@link Snmp4jTable}.
+ *
+ * @author Carl Harris
+ */
+public class Snmp4jTableTest {
+
+  private static final OID IF_DESCR = new OID("1.3.6.1.2.1.2.2.1.2");
+  private static final OID IF_IN_OCTETS = new OID("1.3.6.1.2.1.2.2.1.10");
+
+  private Snmp4jTable table;
+
+  @Before
+  public void setUp() throws Exception {
+    table = new Snmp4jTable(new OID[] { IF_DESCR, IF_IN_OCTETS },
+        new String[] { "ifDescr", "ifInOctets" }, null);
+  }
+
+  @Test
+  public void testAddRows() throws Exception {
+    for (int i = 1; i <= 40; i++) {
+      assertThat(table.addRow(row(
+          cell(IF_DESCR, i, new OctetString("eth" + i)),
+          cell(IF_IN_OCTETS, i, new Counter32(1000L * i)))), is(true));
+    }
+    table.complete();
+
+    assertThat(table.getRowCount(), is(equalTo(40)));
+    assertThat(table.getColumnIndex("ifInOctets"), is(equalTo(1)));
+    assertThat(table.getColumnIndex(IF_DESCR.toDottedString()),
+        is(equalTo(0)));
+    assertThat(table.getColumnType(0), is(SnmpTable.ColumnType.BYTES));
+    assertThat(table.getColumnType(1), is(SnmpTable.ColumnType.LONG));
+    assertThat(table.getLongColumn(1).length, is(equalTo(40)));
+    assertThat(table.getLong(39, 1), is(equalTo(40000L)));
+    assertThat(new String(table.getBytes(2, 0)), is(equalTo("eth3")));
+    assertThat(table.getIndexString(2), is(equalTo("3")));
+  }
+
+  @Test
+  public void testAbsentCells() throws Exception {
+    assertThat(table.addRow(row(
+        cell(IF_DESCR, 1, Null.noSuchInstance),
+        cell(IF_IN_OCTETS, 1, new Counter64(-1L)))), is(true));
+    assertThat(table.addRow(row(
+        cell(IF_DESCR, 2, new OctetString("eth2")),
+        cell(IF_IN_OCTETS, 3, new Counter64(3L)))), is(true));
+    table.complete();
+
+    assertThat(table.isPresent(0, 0), is(false));
+    assertThat(table.getLong(0, 1), is(equalTo(-1L)));
+    assertThat(table.getIndex(1), is(equalTo(new int[] { 2 })));
+    assertThat(table.isPresent(1, 0), is(true));
+    assertThat(table.isPresent(1, 1), is(false));
+    assertThat(table.getLong(1, 1), is(equalTo(0L)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testWrongColumnType() throws Exception {
+    table.addRow(row(
+        cell(IF_DESCR, 1, new OctetString("eth1")),
+        cell(IF_IN_OCTETS, 1, new Counter32(1))));
+    table.complete();
+    table.getLongColumn(0);
+  }
+
+  @Test
+  public void testEmptyColumn() throws Exception {
+    table.addRow(row(
+        cell(IF_DESCR, 1, new OctetString("eth1")),
+        cell(IF_IN_OCTETS, 1, Null.noSuchObject)));
+    table.complete();
+    assertThat(table.getColumnType(1), is(nullValue()));
+    assertThat(table.getLongColumn(1).length, is(equalTo(1)));
+  }
+
+  @Test
+  public void testMissingCell() throws Exception {
+    assertThat(table.addRow(row(null,
+        cell(IF_IN_OCTETS, 1, new Counter32(1)))), is(true));
+    assertThat(table.addRow(row(null, null)), is(false));
+    table.complete();
+    assertThat(table.getRowCount(), is(equalTo(1)));
+    assertThat(table.isPresent(0, 0), is(false));
+    assertThat(table.getLong(0, 1), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testIndexesWithoutVarbindFactory() throws Exception {
+    table.addRow(row(
+        cell(IF_DESCR, 1, new OctetString("eth1")),
+        cell(IF_IN_OCTETS, 1, new Counter32(1))));
+    table.complete();
+    assertThat(table.getColumnName(0), is(equalTo(IF_DESCR.toDottedString())));
+    assertThat(table.getIndexes(0).length, is(equalTo(0)));
+  }
+
+  private static VariableBinding[] row(VariableBinding... cells) {
+    return cells;
+  }
+
+  private static VariableBinding cell(OID column, int index,
+      Variable value) {
+    return new VariableBinding(new OID(column.getValue(), new int[] { index }),
+        value);
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.SMIConstants;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.soulwing.snmp.IndexDescriptor;
+import org.soulwing.snmp.IndexExtractor;
+import org.soulwing.snmp.Mib;
+import org.soulwing.snmp.Oid;
+import org.soulwing.snmp.Varbind;
+
+/**
+ * Unit tests for {@link Snmp4jVarbind}.
+ *
+ * @author Carl Harris
+ */
+public class Snmp4jVarbindTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Mib mib;
+
+  @Mock
+  private IndexExtractor indexExtractor;
+
+  @Mock
+  private IndexDescriptor indexDescriptor;
+
+  private SimpleVarbindFactory factory;
+
+  @Before
+  public void setUp() throws Exception {
+    factory = new SimpleVarbindFactory(mib);
+  }
+
+  @Test
+  public void testUnsignedAccessors() throws Exception {
+    assertThat(varbind(new Counter32(0xfffffffeL)).asUnsignedInt(),
+        is(equalTo(0xfffffffeL)));
+    assertThat(varbind(new Integer32(-1)).asUnsignedInt(),
+        is(equalTo(0xffffffffL)));
+    assertThat(varbind(new Counter64(-2L)).asUnsignedLong(),
+        is(equalTo(-2L)));
+    assertThat(varbind(new Counter32(7)).asUnsignedLong(), is(equalTo(7L)));
+  }
+
+  @Test
+  public void testCopyBytes() throws Exception {
+    final byte[] buffer = new byte[8];
+    final Varbind octets = varbind(new OctetString("abc"));
+    assertThat(octets.getLength(), is(equalTo(3)));
+    assertThat(octets.copyBytes(buffer, 2), is(equalTo(3)));
+    assertThat(new String(buffer, 2, 3, "US-ASCII"), is(equalTo("abc")));
+    assertThat(varbind(new IpAddress("10.0.0.1")).copyBytes(buffer, 0),
+        is(equalTo(4)));
+    assertThat(buffer[0], is(equalTo((byte) 10)));
+  }
+
+  @Test
+  public void testCopyOid() throws Exception {
+    final int[] buffer = new int[4];
+    final Varbind oid = varbind(new OID("1.3.6"));
+    assertThat(oid.getLength(), is(equalTo(3)));
+    assertThat(oid.copyOid(buffer, 1), is(equalTo(3)));
+    assertThat(buffer, is(equalTo(new int[] { 0, 1, 3, 6 })));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCopyBytesWhenNotOctetString() throws Exception {
+    varbind(new Integer32(1)).copyBytes(new byte[4], 0);
+  }
+
+  @Test
+  public void testEquals() throws Exception {
+    assertThat(varbind(new OctetString("abc")),
+        is(equalTo(varbind(new OctetString("abc")))));
+    assertThat(varbind(new OctetString("abc")).hashCode(),
+        is(equalTo(varbind(new OctetString("abc")).hashCode())));
+    assertThat(varbind(new OID("1.3.6")), is(equalTo(varbind(new OID("1.3.6")))));
+    assertThat(varbind(new Integer32(42)), is(equalTo(varbind(new Counter32(42)))));
+    assertThat(varbind(new OctetString("abc")),
+        is(not(equalTo(varbind(new OctetString("abd"))))));
+    assertThat(varbind(new Integer32(42)),
+        is(not(equalTo(varbind(new OctetString("42"))))));
+  }
+
+  @Test
+  public void testIndexesExtractedOnce() throws Exception {
+    final Oid ifDescr = Oid.parse("1.3.6.1.2.1.2.2.1.2");
+    final Oid instance = ifDescr.append(Oid.valueOf(3));
+    context.checking(new Expectations() {
+      {
+        oneOf(mib).oidToInstanceName(instance);
+        will(returnValue("ifDescr.3"));
+        oneOf(mib).syntaxForObject(instance);
+        will(returnValue(SMIConstants.SYNTAX_OCTET_STRING));
+        oneOf(mib).newIndexExtractor(ifDescr);
+        will(returnValue(indexExtractor));
+        oneOf(indexExtractor).extractIndexes(instance);
+        will(returnValue(new IndexDescriptor[] { indexDescriptor }));
+        allowing(indexDescriptor).getOid();
+        will(returnValue("1.3.6.1.2.1.2.2.1.1"));
+        allowing(indexDescriptor).getSyntax();
+        will(returnValue(SMIConstants.SYNTAX_INTEGER));
+        allowing(indexDescriptor).getEncoded();
+        will(returnValue(new int[] { 3 }));
+        allowing(indexDescriptor).isImplied();
+        will(returnValue(true));
+      }
+    });
+
+    final Varbind vb = factory.newVarbind(new VariableBinding(
+        new OID(instance.toArray()), new OctetString("eth0")));
+    final Varbind[] indexes = vb.getIndexes();
+    assertThat(indexes.length, is(equalTo(1)));
+    assertThat(indexes[0].asInt(), is(equalTo(3)));
+    assertThat(vb.getIndexes()[0], is(sameInstance(indexes[0])));
+  }
+
+  private Varbind varbind(Variable variable) {
+    return factory.newVarbind(
+        new VariableBinding(new OID("1.3.6.1.4.1.99999.1.0"), variable));
+  }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.Variable;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpTable;
+import org.soulwing.snmp.SnmpWalker;
+import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.WalkCheckpoint;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for walks of sparse tables.
+ *
+ * @author Carl Harris
+ */
+public class SparseWalkTest {
+
+  private static final String COLUMN_1 = "1.3.6.1.4.1.99999.1.1.1";
+  private static final String COLUMN_2 = "1.3.6.1.4.1.99999.1.1.2";
+  private static final String COLUMN_3 = "1.3.6.1.4.1.99999.1.1.3";
+  private static final String TRAILER = "1.3.6.1.4.1.99999.2.0";
+  private static final int ROWS = 50;
+  private static final int COLUMN_2_ROWS = 10;
+
+  private final Snmp4jProvider provider = new Snmp4jProvider();
+
+  private AgentSimulator simulator;
+  private SimulatedAgent agent;
+  private SnmpContext context;
+
+  @Before
+  public void setUp() throws Exception {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    for (int i = 1; i <= ROWS; i++) {
+      instances.put(new OID(COLUMN_1 + "." + i), new Integer32(i));
+      if (i <= COLUMN_2_ROWS) {
+        instances.put(new OID(COLUMN_2 + "." + i), new Integer32(-i));
+      }
+      if (i % 2 != 0) {
+        instances.put(new OID(COLUMN_3 + "." + i), new Integer32(1000 + i));
+      }
+    }
+    instances.put(new OID(TRAILER), new Integer32(0));
+    simulator = new AgentSimulator();
+    agent = new SimulatedAgent(new AgentData(instances));
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(simulator.addAgent(agent));
+    target.setCommunity("public");
+    final SimpleSnmpTargetConfig config = new SimpleSnmpTargetConfig();
+    config.setWalkMaxRepetitions(10);
+    context = provider.newContext(target, config,
+        MibFactory.getInstance().newMib());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.close();
+    provider.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testWalk() throws Exception {
+    final SnmpWalker<VarbindCollection> walker =
+        context.walk(COLUMN_1, COLUMN_2, COLUMN_3);
+    int expected = 1;
+    VarbindCollection row = walker.next().get();
+    while (row != null) {
+      int i = 0;
+      assertThat(row.get(i++).asInt(), is(equalTo(expected)));
+      if (expected <= COLUMN_2_ROWS) {
+        assertThat(row.get(i++).asInt(), is(equalTo(-expected)));
+      }
+      if (expected % 2 != 0) {
+        assertThat(row.get(i++).asInt(), is(equalTo(1000 + expected)));
+      }
+      assertThat(row.size(), is(equalTo(i)));
+      expected++;
+      row = walker.next().get();
+    }
+    assertThat(expected, is(equalTo(ROWS + 1)));
+    // once the second column is retired, each request covers 10 rows
+    assertThat(agent.getRequests(), is(equalTo(6L)));
+    assertThat(walker.getCheckpoint(), is(equalTo(null)));
+  }
+
+  @Test
+  public void testCheckpointOmitsRetiredColumn() throws Exception {
+    final SnmpWalker<VarbindCollection> walker =
+        context.walk(COLUMN_1, COLUMN_2, COLUMN_3);
+    final int stop = 2 * COLUMN_2_ROWS;
+    for (int i = 1; i <= stop; i++) {
+      assertThat(walker.next().get(), is(notNullValue()));
+    }
+    final WalkCheckpoint checkpoint = walker.getCheckpoint();
+    assertThat(checkpoint.getNextOids().get(1), is(equalTo(COLUMN_3)));
+
+    final long requests = agent.getRequests();
+    final long varbinds = agent.getRequestedVarbinds();
+    final SnmpWalker<VarbindCollection> continued = context.walk(checkpoint);
+    int expected = stop + 1;
+    VarbindCollection row = continued.next().get();
+    // the first request asks only for the first and third columns
+    assertThat(agent.getRequests() - requests, is(equalTo(1L)));
+    assertThat(agent.getRequestedVarbinds() - varbinds, is(equalTo(2L)));
+    while (row != null) {
+      assertThat(row.get(0).asInt(), is(equalTo(expected)));
+      assertThat(row.size(), is(equalTo(expected % 2 != 0 ? 2 : 1)));
+      expected++;
+      row = continued.next().get();
+    }
+    assertThat(expected, is(equalTo(ROWS + 1)));
+  }
+
+  @Test
+  public void testTable() throws Exception {
+    final SnmpTable table =
+        context.getTable(COLUMN_1, COLUMN_2, COLUMN_3).get();
+    assertThat(table.getRowCount(), is(equalTo(ROWS)));
+    for (int row = 0; row < ROWS; row++) {
+      final int index = row + 1;
+      assertThat(table.getIndexString(row), is(equalTo("" + index)));
+      assertThat(table.getLong(row, 0), is(equalTo((long) index)));
+      assertThat(table.isPresent(row, 1), is(index <= COLUMN_2_ROWS));
+      assertThat(table.isPresent(row, 2), is(index % 2 != 0));
+    }
+  }
+
+}
@@ -21,6 +21,7 @@ package org.soulwing.snmp.provider.snmp4j;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -113,6 +114,31 @@ public class TimeoutTest {
     }
   }
 
+  @Test
+  public void testSynchronousTimeoutWithOperationDeadline()
+      throws Exception {
+    DatagramSocket socket = newTargetSocket();
+    try {
+      final int attempts = 3;
+      final SimpleSnmpTargetConfig config = newConfig(attempts - 1, TIMEOUT);
+      config.setOperationTimeout(TIMEOUT + TIMEOUT / 2);
+      SnmpContext context = provider.newContext(newTarget(socket), config, mib);
+      final long start = System.currentTimeMillis();
+      try {
+        context.get("sysDescr.0").get();
+        fail("expected TimeoutException");
+      }
+      catch (TimeoutException ex) {
+        final long elapsed = System.currentTimeMillis() - start;
+        assertThat(elapsed, is(greaterThanOrEqualTo(config.getOperationTimeout())));
+        assertThat(elapsed, is(lessThan(attempts * TIMEOUT)));
+      }
+    }
+    finally {
+      socket.close();
+    }
+  }
+
   @Test
   public void testAsynchronousTimeoutMultipleTargets()
       throws Exception {
@@ -0,0 +1,160 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Variable;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpCallback;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpEvent;
+import org.soulwing.snmp.WalkCell;
+import org.soulwing.snmp.WalkVisitor;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for {@link VisitTableOperation}.
+ *
+ * @author Carl Harris
+ */
+public class VisitTableTest {
+
+  private static final String NAME_COLUMN = "1.3.6.1.4.1.99999.1.1.1";
+  private static final String COUNTER_COLUMN = "1.3.6.1.4.1.99999.1.1.2";
+  private static final int ROWS = 45;
+
+  private final Snmp4jProvider provider = new Snmp4jProvider();
+
+  private AgentSimulator simulator;
+  private SnmpContext context;
+
+  @Before
+  public void setUp() throws Exception {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    for (int i = 1; i <= ROWS; i++) {
+      instances.put(new OID(NAME_COLUMN + "." + i + ".7"),
+          new OctetString("port" + i));
+      instances.put(new OID(COUNTER_COLUMN + "." + i + ".7"),
+          new Counter64(i * 1000L));
+    }
+    simulator = new AgentSimulator();
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(simulator.addAgent(
+        new SimulatedAgent(new AgentData(instances))));
+    target.setCommunity("public");
+    final SimpleSnmpTargetConfig config = new SimpleSnmpTargetConfig();
+    config.setWalkMaxRepetitions(10);
+    context = provider.newContext(target, config,
+        MibFactory.getInstance().newMib());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.close();
+    provider.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testVisitTable() throws Exception {
+    final CheckingVisitor visitor = new CheckingVisitor(Integer.MAX_VALUE);
+    assertThat(context.visitTable(visitor, NAME_COLUMN, COUNTER_COLUMN).get(),
+        is(equalTo((long) ROWS)));
+    assertThat(visitor.cells, is(equalTo(2 * ROWS)));
+  }
+
+  @Test
+  public void testVisitorEndsWalk() throws Exception {
+    final CheckingVisitor visitor = new CheckingVisitor(12);
+    assertThat(context.visitTable(visitor, NAME_COLUMN, COUNTER_COLUMN).get(),
+        is(equalTo(12L)));
+    assertThat(visitor.cells, is(equalTo(24)));
+  }
+
+  @Test
+  public void testAsyncVisitTable() throws Exception {
+    final CheckingVisitor visitor = new CheckingVisitor(Integer.MAX_VALUE);
+    final CountDownLatch latch = new CountDownLatch(1);
+    final AtomicReference<SnmpEvent<Long>> result = new AtomicReference<>();
+    context.asyncVisitTable(new SnmpCallback<Long>() {
+      @Override
+      public void onSnmpResponse(SnmpEvent<Long> event) {
+        result.set(event);
+        latch.countDown();
+      }
+    }, visitor, NAME_COLUMN, COUNTER_COLUMN);
+    assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+    assertThat(result.get().getResponse().get(), is(equalTo((long) ROWS)));
+    assertThat(visitor.cells, is(equalTo(2 * ROWS)));
+  }
+
+  /**
+   * A visitor that checks each cell and ends the walk after a given
+   * number of rows.
+   */
+  private static class CheckingVisitor implements WalkVisitor {
+
+    private final int maxRows;
+    private int cells;
+
+    CheckingVisitor(int maxRows) {
+      this.maxRows = maxRows;
+    }
+
+    @Override
+    public boolean visitCell(WalkCell cell) {
+      final int expected = cell.getRow() + 1;
+      assertThat(cell.getColumn(), is(equalTo(cells % 2)));
+      assertThat(cell.getIndexLength(), is(equalTo(2)));
+      assertThat(cell.getIndex(0), is(equalTo(expected)));
+      assertThat(cell.getIndexString(), is(equalTo(expected + ".7")));
+      if (cell.getColumn() == 0) {
+        assertThat(new String(cell.getBytes()),
+            is(equalTo("port" + expected)));
+      }
+      else {
+        assertThat(cell.asLong(), is(equalTo(expected * 1000L)));
+      }
+      cells++;
+      return expected < maxRows;
+    }
+
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.Variable;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpWalker;
+import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.WalkOptions;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for walks bounded by {@link WalkOptions}.
+ *
+ * @author Carl Harris
+ */
+public class WalkOptionsTest {
+
+  private static final String COLUMN_1 = "1.3.6.1.4.1.99999.1.1.1";
+  private static final String COLUMN_2 = "1.3.6.1.4.1.99999.1.1.2";
+  private static final int ROWS = 100;
+
+  private final Snmp4jProvider provider = new Snmp4jProvider();
+
+  private AgentSimulator simulator;
+  private SimulatedAgent agent;
+  private SnmpContext context;
+
+  @Before
+  public void setUp() throws Exception {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    for (int i = 1; i <= ROWS; i++) {
+      instances.put(new OID(COLUMN_1 + "." + i), new Integer32(i));
+      instances.put(new OID(COLUMN_2 + "." + i), new Integer32(-i));
+    }
+    simulator = new AgentSimulator();
+    agent = new SimulatedAgent(new AgentData(instances));
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(simulator.addAgent(agent));
+    target.setCommunity("public");
+    final SimpleSnmpTargetConfig config = new SimpleSnmpTargetConfig();
+    config.setWalkMaxRepetitions(10);
+    context = provider.newContext(target, config,
+        MibFactory.getInstance().newMib());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.close();
+    provider.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testMaxRows() throws Exception {
+    final WalkOptions options = new WalkOptions();
+    options.setMaxRows(25);
+    final SnmpWalker<VarbindCollection> walker =
+        context.walk(options, COLUMN_1, COLUMN_2);
+    assertThat(walkRows(walker, 1), is(equalTo(26)));
+    // the final request asks for only the 5 remaining rows
+    assertThat(agent.getRequests(), is(equalTo(3L)));
+
+    assertThat(walkRows(context.walk(walker.getCheckpoint()), 26),
+        is(equalTo(ROWS + 1)));
+  }
+
+  @Test
+  public void testStartAndEndIndex() throws Exception {
+    final WalkOptions options = new WalkOptions();
+    options.setStartIndex("10");
+    options.setEndIndex("30");
+    assertThat(walkRows(context.walk(options, COLUMN_1, COLUMN_2), 11),
+        is(equalTo(31)));
+    // the row at the end index ends the walk without another request
+    assertThat(agent.getRequests(), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testEndIndexBetweenRows() throws Exception {
+    final WalkOptions options = new WalkOptions();
+    options.setEndIndex("14.1");
+    assertThat(walkRows(context.walk(options, COLUMN_1, COLUMN_2), 1),
+        is(equalTo(15)));
+    assertThat(agent.getRequests(), is(equalTo(2L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidIndex() throws Exception {
+    new WalkOptions().setStartIndex("ifIndex.1");
+  }
+
+  private static int walkRows(SnmpWalker<VarbindCollection> walker,
+      int expected) {
+    VarbindCollection row = walker.next().get();
+    while (row != null) {
+      assertThat(row.get(0).asInt(), is(equalTo(expected)));
+      assertThat(row.get(1).asInt(), is(equalTo(-expected)));
+      expected++;
+      row = walker.next().get();
+    }
+    return expected;
+  }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.provider.snmp4j;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.PDU;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.Variable;
+import org.soulwing.snmp.MibFactory;
+import org.soulwing.snmp.SimpleSnmpTargetConfig;
+import org.soulwing.snmp.SimpleSnmpV2cTarget;
+import org.soulwing.snmp.SnmpContext;
+import org.soulwing.snmp.SnmpException;
+import org.soulwing.snmp.SnmpWalker;
+import org.soulwing.snmp.TimeoutException;
+import org.soulwing.snmp.VarbindCollection;
+import org.soulwing.snmp.WalkCheckpoint;
+import org.soulwing.snmp.simulator.AgentData;
+import org.soulwing.snmp.simulator.AgentSimulator;
+import org.soulwing.snmp.simulator.SimulatedAgent;
+
+/**
+ * Integration tests for resumable walks and walk checkpoints.
+ *
+ * @author Carl Harris
+ */
+public class WalkResumeTest {
+
+  private static final String COLUMN_1 = "1.3.6.1.4.1.99999.1.1.1";
+  private static final String COLUMN_2 = "1.3.6.1.4.1.99999.1.1.2";
+  private static final int ROWS = 200;
+
+  private final Snmp4jProvider provider = new Snmp4jProvider();
+
+  private AgentSimulator simulator;
+  private SimulatedAgent agent;
+  private SimpleSnmpTargetConfig config;
+  private SnmpContext context;
+
+  @Before
+  public void setUp() throws Exception {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    for (int i = 1; i <= ROWS; i++) {
+      instances.put(new OID(COLUMN_1 + "." + i), new Integer32(i));
+      instances.put(new OID(COLUMN_2 + "." + i), new Integer32(-i));
+    }
+    simulator = new AgentSimulator();
+    agent = new SimulatedAgent(new AgentData(instances));
+    final SimpleSnmpV2cTarget target = new SimpleSnmpV2cTarget();
+    target.setAddress("127.0.0.1");
+    target.setPort(simulator.addAgent(agent));
+    target.setCommunity("public");
+    config = new SimpleSnmpTargetConfig();
+    config.setRetries(0);
+    config.setTimeout(100);
+    config.setWalkMaxRepetitions(10);
+    context = provider.newContext(target, config,
+        MibFactory.getInstance().newMib());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    context.close();
+    provider.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testWalkResumesAfterLostResponses() throws Exception {
+    agent.setLossRate(0.2);
+    config.setWalkMaxResumes(50);
+    final SnmpWalker<VarbindCollection> walker =
+        context.walk(COLUMN_1, COLUMN_2);
+    assertThat(walkRows(walker, 1), is(equalTo(ROWS + 1)));
+    assertThat(walker.getCheckpoint(), is(nullValue()));
+    assertThat(agent.getDropped(), is(greaterThan(0L)));
+  }
+
+  @Test
+  public void testWalkFailsWhenResumesExhausted() throws Exception {
+    agent.setLossRate(1.0);
+    config.setWalkMaxResumes(2);
+    try {
+      context.walk(COLUMN_1, COLUMN_2).next().get();
+      fail("expected TimeoutException");
+    }
+    catch (TimeoutException ex) {
+      assertThat(agent.getRequests(), is(equalTo(3L)));
+    }
+  }
+
+  @Test
+  public void testWalkFailsImmediatelyOnErrorStatus() throws Exception {
+    agent.setErrorStatus(PDU.genErr);
+    config.setWalkMaxResumes(5);
+    try {
+      context.walk(COLUMN_1, COLUMN_2).next().get();
+      fail("expected SnmpException");
+    }
+    catch (TimeoutException ex) {
+      fail("expected an error status rather than a timeout");
+    }
+    catch (SnmpException ex) {
+      assertThat(agent.getRequests(), is(equalTo(1L)));
+    }
+  }
+
+  @Test
+  public void testWalkContinuesFromCheckpoint() throws Exception {
+    final SnmpWalker<VarbindCollection> walker =
+        context.walk(COLUMN_1, COLUMN_2);
+    final int stop = 15;
+    for (int i = 1; i <= stop; i++) {
+      assertThat(walker.next().get(), is(notNullValue()));
+    }
+
+    final WalkCheckpoint checkpoint = walker.getCheckpoint();
+    assertThat(checkpoint.getNextOids().get(0),
+        is(equalTo(COLUMN_1 + "." + stop)));
+    assertThat(checkpoint.getNextOids().get(1),
+        is(equalTo(COLUMN_2 + "." + stop)));
+
+    final WalkCheckpoint copy = new WalkCheckpoint(
+        checkpoint.getNonRepeaters(), checkpoint.getRepeaters(),
+        checkpoint.getNextOids());
+    assertThat(walkRows(context.walk(copy), stop + 1), is(equalTo(ROWS + 1)));
+  }
+
+  private static int walkRows(SnmpWalker<VarbindCollection> walker,
+      int expected) {
+    VarbindCollection row = walker.next().get();
+    while (row != null) {
+      assertThat(row.get(0).asInt(), is(equalTo(expected)));
+      assertThat(row.get(1).asInt(), is(equalTo(-expected)));
+      expected++;
+      row = walker.next().get();
+    }
+    return expected;
+  }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.simulator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.IpAddress;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Opaque;
+import org.snmp4j.smi.TimeTicks;
+import org.snmp4j.smi.Variable;
+
+/**
+ * An immutable, lexicographically ordered set of object instances served by
+ * a {@link SimulatedAgent}.
+ * <p>
+ * Instances are usually loaded from a dump of a real agent, in either the
+ * {@code snmprec} format used by snmpsim ({@code oid|tag|value}) or the
+ * output of {@code snmpwalk -On}.
+ *
+ * @author Carl Harris
+ */
+public final class AgentData {
+
+  private static final Pattern WALK_PATTERN =
+      Pattern.compile("^(\\.?(?:iso)?[0-9.]+)\\s+=\\s+(?:([A-Za-z0-9-]+):\\s*)?(.*)$");
+
+  private static final Pattern NUMBER_PATTERN = Pattern.compile("-?[0-9]+");
+
+  private final OID[] oids;
+  private final Variable[] values;
+
+  /**
+   * Constructs a new instance.
+   * @param instances map of instance OID to value
+   */
+  public AgentData(SortedMap<OID, Variable> instances) {
+    this.oids = new OID[instances.size()];
+    this.values = new Variable[instances.size()];
+    int i = 0;
+    for (Map.Entry<OID, Variable> entry : instances.entrySet()) {
+      oids[i] = entry.getKey();
+      values[i] = entry.getValue();
+      i++;
+    }
+  }
+
+  /**
+   * Loads agent data from a resource.
+   * <p>
+   * A resource whose name ends with {@code .snmprec} is read in snmprec
+   * format; any other resource is read as {@code snmpwalk} output.
+   * @param url URL of the resource
+   * @return agent data
+   * @throws IOException
+   */
+  public static AgentData load(URL url) throws IOException {
+    try (InputStream inputStream = url.openStream()) {
+      final Reader reader =
+          new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+      return url.getPath().endsWith(".snmprec") ?
+          fromSnmprec(reader) : fromSnmpwalk(reader);
+    }
+  }
+
+  /**
+   * Reads agent data in snmprec format.
+   * @param reader the source reader
+   * @return agent data
+   * @throws IOException
+   */
+  public static AgentData fromSnmprec(Reader reader) throws IOException {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    final BufferedReader lines = new BufferedReader(reader);
+    String line = lines.readLine();
+    int lineNumber = 1;
+    while (line != null) {
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        final String[] fields = line.split("\\|", 3);
+        if (fields.length != 3) {
+          throw new IOException("line " + lineNumber
+              + ": expected oid|tag|value");
+        }
+        try {
+          instances.put(new OID(fields[0]),
+              snmprecValue(fields[1], fields[2]));
+        }
+        catch (RuntimeException ex) {
+          throw new IOException("line " + lineNumber + ": " + ex, ex);
+        }
+      }
+      line = lines.readLine();
+      lineNumber++;
+    }
+    return new AgentData(instances);
+  }
+
+  private static Variable snmprecValue(String tag, String value) {
+    final boolean hex = tag.endsWith("x");
+    final int type = Integer.parseInt(hex ?
+        tag.substring(0, tag.length() - 1) : tag);
+    switch (type) {
+      case 2:
+        return new Integer32(Integer.parseInt(value));
+      case 4:
+        return hex ? OctetString.fromHexStringPairs(value)
+            : new OctetString(value);
+      case 5:
+        return new Null();
+      case 6:
+        return new OID(value);
+      case 64:
+        return hex ? new IpAddress(OctetString.fromHexStringPairs(value)
+            .getValue()) : new IpAddress(value);
+      case 65:
+        return new Counter32(Long.parseLong(value));
+      case 66:
+        return new Gauge32(Long.parseLong(value));
+      case 67:
+        return new TimeTicks(Long.parseLong(value));
+      case 68:
+        return new Opaque(OctetString.fromHexStringPairs(value).getValue());
+      case 70:
+        return new Counter64(Long.parseUnsignedLong(value));
+      default:
+        throw new IllegalArgumentException("unsupported tag: " + tag);
+    }
+  }
+
+  /**
+   * Reads agent data produced by {@code snmpwalk -On}.
+   * <p>
+   * Lines that are not of the form {@code oid = TYPE: value} continue the
+   * value of the preceding line (as for multi-line strings); lines of the
+   * form {@code oid = No Such ...} or {@code ... No more variables ...}
+   * are ignored.
+   * @param reader the source reader
+   * @return agent data
+   * @throws IOException
+   */
+  public static AgentData fromSnmpwalk(Reader reader) throws IOException {
+    final SortedMap<OID, Variable> instances = new TreeMap<>();
+    final BufferedReader lines = new BufferedReader(reader);
+    String oid = null;
+    String type = null;
+    StringBuilder value = null;
+    String line = lines.readLine();
+    while (line != null) {
+      final Matcher matcher = WALK_PATTERN.matcher(line);
+      if (matcher.matches()) {
+        if (oid != null) {
+          putWalkValue(instances, oid, type, value.toString());
+        }
+        oid = matcher.group(1);
+        type = matcher.group(2);
+        value = new StringBuilder(matcher.group(3));
+      }
+      else if (value != null) {
+        value.append('\n').append(line);
+      }
+      line = lines.readLine();
+    }
+    if (oid != null) {
+      putWalkValue(instances, oid, type, value.toString());
+    }
+    return new AgentData(instances);
+  }
+
+  private static void putWalkValue(SortedMap<OID, Variable> instances,
+      String oid, String type, String value) throws IOException {
+    if (value.startsWith("No Such") || value.startsWith("No more")) return;
+    if (oid.startsWith(".")) {
+      oid = oid.substring(1);
+    }
+    if (oid.startsWith("iso")) {
+      oid = "1" + oid.substring(3);
+    }
+    try {
+      instances.put(new OID(oid), walkValue(type, value));
+    }
+    catch (RuntimeException ex) {
+      throw new IOException(oid + ": " + ex, ex);
+    }
+  }
+
+  private static Variable walkValue(String type, String value) {
+    if (type == null) {
+      return new OctetString(unquote(value));
+    }
+    switch (type) {
+      case "INTEGER":
+        return new Integer32(Integer.parseInt(number(value)));
+      case "STRING":
+        return new OctetString(unquote(value));
+      case "Hex-STRING":
+        return OctetString.fromHexStringPairs(value.replaceAll("\\s", ""));
+      case "OID":
+        return new OID(value.startsWith(".") ? value.substring(1) : value);
+      case "IpAddress":
+        return new IpAddress(value);
+      case "Counter32":
+        return new Counter32(Long.parseLong(number(value)));
+      case "Gauge32":
+        return new Gauge32(Long.parseLong(number(value)));
+      case "Timeticks":
+        return new TimeTicks(Long.parseLong(number(value)));
+      case "Counter64":
+        return new Counter64(Long.parseUnsignedLong(number(value)));
+      case "Opaque":
+        return new Opaque(OctetString.fromHexStringPairs(
+            value.replaceAll("\\s", "")).getValue());
+      default:
+        throw new IllegalArgumentException("unsupported type: " + type);
+    }
+  }
+
+  /**
+   * Extracts the number from values such as {@code up(1)} and
+   * {@code (12345) 0:02:03.45}.
+   */
+  private static String number(String value) {
+    final int start = value.indexOf('(');
+    final String candidate = start != -1 ?
+        value.substring(start + 1, value.indexOf(')', start)) : value.trim();
+    final Matcher matcher = NUMBER_PATTERN.matcher(candidate);
+    if (!matcher.find()) {
+      throw new IllegalArgumentException("not a number: " + value);
+    }
+    return matcher.group();
+  }
+
+  private static String unquote(String value) {
+    if (value.length() >= 2 && value.startsWith("\"")
+        && value.endsWith("\"")) {
+      return value.substring(1, value.length() - 1);
+    }
+    return value;
+  }
+
+  /**
+   * Gets the number of instances.
+   * @return instance count
+   */
+  public int size() {
+    return oids.length;
+  }
+
+  /**
+   * Gets the OID of the instance at a given position.
+   * @param index position in lexicographic order
+   * @return OID
+   */
+  public OID getOid(int index) {
+    return oids[index];
+  }
+
+  /**
+   * Gets the value of the instance at a given position.
+   * @param index position in lexicographic order
+   * @return value
+   */
+  public Variable getValue(int index) {
+    return values[index];
+  }
+
+  /**
+   * Finds the position of an instance.
+   * @param oid instance OID
+   * @return position of the instance or -1 if there is no such instance
+   */
+  public int indexOf(OID oid) {
+    final int index = Arrays.binarySearch(oids, oid);
+    return index >= 0 ? index : -1;
+  }
+
+  /**
+   * Finds the position of the instance that lexicographically follows an
+   * OID.
+   * @param oid the subject OID
+   * @return position of the successor or {@link #size()} if there is no
+   *    successor
+   */
+  public int indexAfter(OID oid) {
+    final int index = Arrays.binarySearch(oids, oid);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+}
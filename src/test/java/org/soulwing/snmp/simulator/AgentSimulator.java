@@ -0,0 +1,271 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.simulator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageDispatcher;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.CounterSupport;
+import org.snmp4j.mp.MPv1;
+import org.snmp4j.mp.MPv2c;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.security.SecurityModel;
+import org.snmp4j.security.SecurityModels;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * An in-process fleet of {@link SimulatedAgent} objects listening on
+ * loopback UDP ports.
+ * <p>
+ * Each port may be shared by any number of agents, distinguished by
+ * community string (or by user name for SNMPv3 requests).  Since each port
+ * is serviced by its own listener thread, a large fleet is best simulated
+ * using a few ports with many communities each.
+ * <p>
+ * SNMPv3 users must be registered using {@link #addUser addUser}; the
+ * simulator keeps its own user-based security model, separate from the
+ * global one used by SNMP4J clients in the same JVM.
+ * <pre>
+ * AgentSimulator simulator = new AgentSimulator();
+ * SimulatedAgent agent = new SimulatedAgent(AgentData.load(url));
+ * agent.setLatency(20);
+ * agent.setLossRate(0.01);
+ * int port = simulator.addAgent(agent);
+ * ...
+ * simulator.close();
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public class AgentSimulator implements Closeable, CommandResponder {
+
+  /**
+   * Prefix of the names of all threads started by a simulator.
+   */
+  public static final String THREAD_NAME_PREFIX = "AgentSimulator-";
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(AgentSimulator.class);
+
+  private final ConcurrentMap<Integer, ConcurrentMap<String, SimulatedAgent>>
+      ports = new ConcurrentHashMap<>();
+
+  private final AtomicInteger portCount = new AtomicInteger();
+
+  private final Snmp snmp;
+  private final USM usm;
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Constructs a new instance using two threads to send delayed responses.
+   * @throws IOException
+   */
+  public AgentSimulator() throws IOException {
+    this(2);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param threads number of threads used to send delayed responses
+   * @throws IOException
+   */
+  public AgentSimulator(int threads) throws IOException {
+    final MessageDispatcher dispatcher = new MessageDispatcherImpl();
+    dispatcher.addMessageProcessingModel(new MPv1());
+    dispatcher.addMessageProcessingModel(new MPv2c());
+    final SecurityProtocols securityProtocols =
+        SecurityProtocols.getInstance().addDefaultProtocols();
+    final OctetString engineId = new OctetString(MPv3.createLocalEngineID(
+        new OctetString("AgentSimulator" + System.identityHashCode(this))));
+    this.usm = new USM(securityProtocols, engineId, 0);
+    dispatcher.addMessageProcessingModel(new MPv3(engineId.getValue(), null,
+        securityProtocols,
+        SecurityModels.getCollection(new SecurityModel[] { usm }),
+        CounterSupport.getInstance()));
+    this.snmp = new Snmp(dispatcher);
+    this.snmp.addCommandResponder(this);
+    this.scheduler = Executors.newScheduledThreadPool(threads,
+        new SimulatorThreadFactory());
+  }
+
+  /**
+   * Opens a new loopback port on which agents can be added.
+   * @return the port number
+   * @throws IOException
+   */
+  public int listen() throws IOException {
+    final DefaultUdpTransportMapping transportMapping =
+        new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+    transportMapping.setThreadName(
+        THREAD_NAME_PREFIX + "Port-" + portCount.incrementAndGet());
+    snmp.addTransportMapping(transportMapping);
+    transportMapping.listen();
+    final int port = transportMapping.getListenAddress().getPort();
+    ports.put(port, new ConcurrentHashMap<String, SimulatedAgent>());
+    return port;
+  }
+
+  /**
+   * Adds an agent on a new loopback port.
+   * @param agent the agent to add
+   * @return the port number on which the agent is listening
+   * @throws IOException
+   */
+  public int addAgent(SimulatedAgent agent) throws IOException {
+    final int port = listen();
+    addAgent(port, agent);
+    return port;
+  }
+
+  /**
+   * Adds an agent on a port previously opened using {@link #listen()}.
+   * @param port the port number
+   * @param agent the agent to add
+   * @throws IllegalArgumentException if the port was not opened by this
+   *    simulator or if another agent on the port has the same community
+   */
+  public void addAgent(int port, SimulatedAgent agent) {
+    final Map<String, SimulatedAgent> agents = ports.get(port);
+    if (agents == null) {
+      throw new IllegalArgumentException("port " + port + " is not open");
+    }
+    if (agents.put(agent.getCommunity(), agent) != null) {
+      throw new IllegalArgumentException("community "
+          + agent.getCommunity() + " is already in use on port " + port);
+    }
+  }
+
+  /**
+   * Adds an SNMPv3 user.
+   * <p>
+   * Requests from the user are answered by the agent whose
+   * {@link SimulatedAgent#setCommunity(String) community} is the user name.
+   * @param name user name
+   * @param authProtocol authentication protocol (e.g. {@code AuthSHA.ID})
+   *    or {@code null} for none
+   * @param authPassphrase authentication passphrase or {@code null}
+   * @param privProtocol privacy protocol (e.g. {@code PrivAES128.ID})
+   *    or {@code null} for none
+   * @param privPassphrase privacy passphrase or {@code null}
+   */
+  public void addUser(String name, OID authProtocol, String authPassphrase,
+      OID privProtocol, String privPassphrase) {
+    usm.addUser(new UsmUser(new OctetString(name), authProtocol,
+        authPassphrase != null ? new OctetString(authPassphrase) : null,
+        privProtocol,
+        privPassphrase != null ? new OctetString(privPassphrase) : null));
+  }
+
+  @Override
+  public void processPdu(final CommandResponderEvent event) {
+    final SimulatedAgent agent = findAgent(event);
+    if (agent == null) return;
+    event.setProcessed(true);
+    if (!agent.accept(event.getPDU())) return;
+
+    final PDU response = agent.respond(event.getPDU(),
+        event.getMessageProcessingModel() == MPv1.ID,
+        event.getMaxSizeResponsePDU());
+
+    final long delay = agent.nextDelay();
+    if (delay <= 0) {
+      sendResponse(event, response);
+      return;
+    }
+    scheduler.schedule(new Runnable() {
+      @Override
+      public void run() {
+        sendResponse(event, response);
+      }
+    }, delay, TimeUnit.MILLISECONDS);
+  }
+
+  private SimulatedAgent findAgent(CommandResponderEvent event) {
+    final UdpAddress address =
+        (UdpAddress) event.getTransportMapping().getListenAddress();
+    final Map<String, SimulatedAgent> agents = ports.get(address.getPort());
+    if (agents == null || event.getSecurityName() == null) return null;
+    return agents.get(
+        new String(event.getSecurityName(), StandardCharsets.UTF_8));
+  }
+
+  private void sendResponse(CommandResponderEvent event, PDU response) {
+    try {
+      event.getMessageDispatcher().returnResponsePdu(
+          event.getMessageProcessingModel(), event.getSecurityModel(),
+          event.getSecurityName(), event.getSecurityLevel(), response,
+          event.getMaxSizeResponsePDU(), event.getStateReference(),
+          new StatusInformation());
+    }
+    catch (MessageException ex) {
+      logger.warn("failed to send response: {}", ex.toString());
+    }
+  }
+
+  /**
+   * Closes all ports and stops sending responses.
+   * @throws IOException
+   */
+  @Override
+  public void close() throws IOException {
+    scheduler.shutdownNow();
+    snmp.close();
+    ports.clear();
+  }
+
+  private static class SimulatorThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+      final Thread thread =
+          new Thread(r, THREAD_NAME_PREFIX + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+
+  }
+
+}
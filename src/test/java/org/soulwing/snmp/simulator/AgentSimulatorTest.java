@@ -0,0 +1,298 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.simulator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.MessageDispatcherImpl;
+import org.snmp4j.PDU;
+import org.snmp4j.ScopedPDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.UserTarget;
+import org.snmp4j.mp.CounterSupport;
+import org.snmp4j.mp.MPv3;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.security.AuthSHA;
+import org.snmp4j.security.PrivAES128;
+import org.snmp4j.security.SecurityLevel;
+import org.snmp4j.security.SecurityModel;
+import org.snmp4j.security.SecurityModels;
+import org.snmp4j.security.SecurityProtocols;
+import org.snmp4j.security.USM;
+import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+/**
+ * Unit tests for {@link AgentSimulator} and {@link SimulatedAgent}.
+ *
+ * @author Carl Harris
+ */
+public class AgentSimulatorTest {
+
+  private static final OID SYS_NAME = new OID("1.3.6.1.2.1.1.5.0");
+  private static final OID IF_DESCR = new OID("1.3.6.1.2.1.2.2.1.2");
+  private static final OID IF_TYPE = new OID("1.3.6.1.2.1.2.2.1.3");
+
+  private AgentData data;
+  private AgentSimulator simulator;
+  private Snmp client;
+
+  @Before
+  public void setUp() throws Exception {
+    data = AgentData.load(getClass().getClassLoader()
+        .getResource("simulator/linux-host.snmprec"));
+    simulator = new AgentSimulator();
+    client = new Snmp(new DefaultUdpTransportMapping());
+    client.listen();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    client.close();
+    simulator.close();
+  }
+
+  @Test
+  public void testLoadSnmprec() throws Exception {
+    assertThat(data.size(), is(equalTo(68)));
+    assertThat(data.getValue(data.indexOf(SYS_NAME)),
+        is(equalTo((Object) new OctetString("router1"))));
+    assertThat(data.getValue(data.indexOf(
+        new OID("1.3.6.1.2.1.2.2.1.6.2"))),
+        is(equalTo((Object) OctetString.fromHexString("00:1b:54:c2:01:2f"))));
+  }
+
+  @Test
+  public void testLoadSnmpwalk() throws Exception {
+    final AgentData data = AgentData.load(getClass().getClassLoader()
+        .getResource("simulator/linux-host.walk"));
+    assertThat(data.size(), is(equalTo(24)));
+    assertThat(data.getValue(data.indexOf(new OID("1.3.6.1.2.1.1.6.0"))),
+        is(equalTo((Object) new OctetString("Rack 12,\nRow C"))));
+    assertThat(data.getValue(data.indexOf(
+        new OID("1.3.6.1.2.1.2.2.1.3.1"))).toInt(), is(equalTo(24)));
+    assertThat(data.getValue(data.indexOf(new OID("1.3.6.1.2.1.1.3.0")))
+        .toLong(), is(equalTo(123456789L)));
+    assertThat(data.getValue(data.indexOf(
+        new OID("1.3.6.1.2.1.31.1.1.1.6.2"))),
+        is(equalTo((Object) new Counter64(
+            Long.parseUnsignedLong("18446744073709551000")))));
+    assertThat(data.indexOf(new OID("1.3.6.1.2.1.31.1.1.1.6.3")),
+        is(equalTo(-1)));
+  }
+
+  @Test
+  public void testGetAndGetNext() throws Exception {
+    final int port = simulator.addAgent(new SimulatedAgent(data));
+    final PDU get = request(PDU.GET, SYS_NAME, new OID("1.3.6.1.2.1.1.99.0"));
+    final PDU getResponse = send(get, port, "public");
+    assertThat(getResponse.get(0).getVariable().toString(),
+        is(equalTo("router1")));
+    assertThat(getResponse.get(1).getVariable(),
+        is(equalTo((Object) Null.noSuchObject)));
+
+    final PDU getNext = request(PDU.GETNEXT, IF_DESCR);
+    final PDU getNextResponse = send(getNext, port, "public");
+    assertThat(getNextResponse.get(0).getOid(),
+        is(equalTo(new OID("1.3.6.1.2.1.2.2.1.2.1"))));
+    assertThat(getNextResponse.get(0).getVariable().toString(),
+        is(equalTo("lo")));
+  }
+
+  @Test
+  public void testCommunitySelectsAgent() throws Exception {
+    final int port = simulator.listen();
+    final SimulatedAgent router = new SimulatedAgent(data);
+    router.setCommunity("router");
+    final SimulatedAgent empty = new SimulatedAgent(
+        new AgentData(new TreeMap<OID, Variable>()));
+    empty.setCommunity("empty");
+    simulator.addAgent(port, router);
+    simulator.addAgent(port, empty);
+
+    final PDU request = request(PDU.GET, SYS_NAME);
+    assertThat(send(request, port, "router").get(0).getVariable().toString(),
+        is(equalTo("router1")));
+    assertThat(send(request, port, "empty").get(0).getVariable(),
+        is(equalTo((Object) Null.noSuchObject)));
+    assertThat(send(request, port, "unknown"), is(nullValue()));
+    assertThat(router.getRequests(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testGetBulkCapsRepetitions() throws Exception {
+    final SimulatedAgent agent = new SimulatedAgent(data);
+    agent.setMaxRepetitions(2);
+    final PDU request = request(PDU.GETBULK, SYS_NAME, IF_DESCR, IF_TYPE);
+    request.setNonRepeaters(1);
+    request.setMaxRepetitions(10);
+    final PDU response = agent.respond(request, false, 0);
+    assertThat(response.size(), is(equalTo(1 + 2 * 2)));
+    assertThat(response.get(0).getOid(),
+        is(equalTo(new OID("1.3.6.1.2.1.1.6.0"))));
+    assertThat(response.get(3).getOid(),
+        is(equalTo(new OID("1.3.6.1.2.1.2.2.1.2.2"))));
+  }
+
+  @Test
+  public void testGetBulkStopsAtEndOfMibView() throws Exception {
+    final SimulatedAgent agent = new SimulatedAgent(data);
+    final PDU request = request(PDU.GETBULK,
+        new OID("1.3.6.1.2.1.31.1.1.1.18"));
+    request.setMaxRepetitions(10);
+    final PDU response = agent.respond(request, false, 0);
+    assertThat(response.size(), is(equalTo(5)));
+    assertThat(response.get(4).getVariable(),
+        is(equalTo((Object) Null.endOfMibView)));
+  }
+
+  @Test
+  public void testOversizedResponses() throws Exception {
+    final SimulatedAgent agent = new SimulatedAgent(data);
+    agent.setMaxPduSize(200);
+    final PDU bulk = request(PDU.GETBULK, IF_DESCR);
+    bulk.setMaxRepetitions(50);
+    final PDU truncated = agent.respond(bulk, false, 0);
+    assertThat(truncated.getErrorStatus(), is(equalTo(PDU.noError)));
+    assertThat(truncated.getBERLength(), is(lessThanOrEqualTo(200)));
+    assertThat(truncated.size(), is(greaterThanOrEqualTo(1)));
+
+    agent.setTruncateBulk(false);
+    assertThat(agent.respond(bulk, false, 0).getErrorStatus(),
+        is(equalTo(PDU.tooBig)));
+
+    agent.setMaxPduSize(40);
+    final PDU get = request(PDU.GET,
+        new OID("1.3.6.1.2.1.1.1.0"), new OID("1.3.6.1.2.1.1.4.0"));
+    final PDU tooBig = agent.respond(get, false, 0);
+    assertThat(tooBig.getErrorStatus(), is(equalTo(PDU.tooBig)));
+    assertThat(tooBig.size(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testV1Errors() throws Exception {
+    final SimulatedAgent agent = new SimulatedAgent(data);
+    final PDU request = request(PDU.GET, SYS_NAME, new OID("1.3.6.1.9.9"));
+    final PDU response = agent.respond(request, true, 0);
+    assertThat(response.getErrorStatus(), is(equalTo(PDU.noSuchName)));
+    assertThat(response.getErrorIndex(), is(equalTo(2)));
+    assertThat(response.size(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testLossAndLatency() throws Exception {
+    final SimulatedAgent agent = new SimulatedAgent(data);
+    agent.setLossRate(1.0);
+    final int port = simulator.addAgent(agent);
+    assertThat(send(request(PDU.GET, SYS_NAME), port, "public"),
+        is(nullValue()));
+    assertThat(agent.getDropped(), is(equalTo(1L)));
+
+    agent.setLossRate(0);
+    agent.setLatency(100);
+    final long startedAt = System.currentTimeMillis();
+    assertThat(send(request(PDU.GET, SYS_NAME), port, "public"),
+        is(notNullValue()));
+    assertThat(System.currentTimeMillis() - startedAt,
+        is(greaterThanOrEqualTo(100L)));
+  }
+
+  @Test
+  public void testV3User() throws Exception {
+    final SimulatedAgent agent = new SimulatedAgent(data);
+    agent.setCommunity("operator");
+    final int port = simulator.addAgent(agent);
+    simulator.addUser("operator", AuthSHA.ID, "authPassphrase",
+        PrivAES128.ID, "privPassphrase");
+
+    // a private security model keeps the global one untouched
+    final OctetString engineId = new OctetString(MPv3.createLocalEngineID(
+        new OctetString("AgentSimulatorTest")));
+    final USM usm = new USM(SecurityProtocols.getInstance(), engineId, 0);
+    usm.addUser(new UsmUser(new OctetString("operator"), AuthSHA.ID,
+        new OctetString("authPassphrase"), PrivAES128.ID,
+        new OctetString("privPassphrase")));
+    final MessageDispatcherImpl dispatcher = new MessageDispatcherImpl();
+    dispatcher.addMessageProcessingModel(new MPv3(engineId.getValue(), null,
+        SecurityProtocols.getInstance(),
+        SecurityModels.getCollection(new SecurityModel[] { usm }),
+        CounterSupport.getInstance()));
+    final Snmp v3Client = new Snmp(dispatcher, new DefaultUdpTransportMapping());
+    v3Client.listen();
+    try {
+      final UserTarget target = new UserTarget();
+      target.setAddress(new UdpAddress("127.0.0.1/" + port));
+      target.setVersion(SnmpConstants.version3);
+      target.setSecurityName(new OctetString("operator"));
+      target.setSecurityLevel(SecurityLevel.AUTH_PRIV);
+      target.setTimeout(500);
+      target.setRetries(0);
+      final ScopedPDU request = new ScopedPDU();
+      request.setType(PDU.GET);
+      request.add(new VariableBinding(SYS_NAME));
+      final PDU response = v3Client.send(request, target).getResponse();
+      assertThat(response, is(notNullValue()));
+      assertThat(response.get(0).getVariable().toString(),
+          is(equalTo("router1")));
+    }
+    finally {
+      v3Client.close();
+    }
+  }
+
+  private static PDU request(int type, OID... oids) {
+    final PDU request = new PDU();
+    request.setType(type);
+    for (OID oid : oids) {
+      request.add(new VariableBinding(oid));
+    }
+    return request;
+  }
+
+  private PDU send(PDU request, int port, String community)
+      throws IOException {
+    final CommunityTarget target = new CommunityTarget(
+        new UdpAddress("127.0.0.1/" + port), new OctetString(community));
+    target.setVersion(SnmpConstants.version2c);
+    target.setTimeout(500);
+    target.setRetries(0);
+    return client.send((PDU) request.clone(), target).getResponse();
+  }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * File created on Oct 19, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.snmp.simulator;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.snmp4j.PDU;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * A simulated agent that serves the instances of an {@link AgentData}
+ * object through an {@link AgentSimulator}.
+ * <p>
+ * The behavior of the agent can be degraded to resemble a slow, lossy, or
+ * constrained device: responses can be delayed by a fixed latency plus
+ * random jitter, requests can be dropped at random, the number of
+ * repetitions returned for a GETBULK request can be capped, and the size
+ * of responses can be limited.
+ *
+ * @author Carl Harris
+ */
+public class SimulatedAgent {
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder varbinds = new LongAdder();
+
+  private final AgentData data;
+
+  private String community = "public";
+  private long latency;
+  private long latencyJitter;
+  private double lossRate;
+  private int maxRepetitions;
+  private int maxPduSize;
+  private boolean truncateBulk = true;
+  private int errorStatus;
+
+  /**
+   * Constructs a new instance.
+   * @param data the instances to be served by the agent
+   */
+  public SimulatedAgent(AgentData data) {
+    this.data = data;
+  }
+
+  /**
+   * Gets the instances served by this agent.
+   * @return agent data
+   */
+  public AgentData getData() {
+    return data;
+  }
+
+  /**
+   * Gets the community string that selects this agent.
+   * @return community string
+   */
+  public String getCommunity() {
+    return community;
+  }
+
+  /**
+   * Sets the community string that selects this agent.
+   * <p>
+   * Agents that share a port are distinguished by community; requests
+   * using a community that matches no agent are silently ignored.  For
+   * SNMPv3 requests, the community is matched against the user name.
+   * @param community the community string to set
+   */
+  public void setCommunity(String community) {
+    this.community = community;
+  }
+
+  /**
+   * Gets the minimum delay before a response is sent.
+   * @return latency in milliseconds
+   */
+  public long getLatency() {
+    return latency;
+  }
+
+  /**
+   * Sets the minimum delay before a response is sent.
+   * @param latency the latency to set (in milliseconds)
+   */
+  public void setLatency(long latency) {
+    this.latency = latency;
+  }
+
+  /**
+   * Gets the upper bound of the random delay added to the latency.
+   * @return jitter in milliseconds
+   */
+  public long getLatencyJitter() {
+    return latencyJitter;
+  }
+
+  /**
+   * Sets the upper bound of the random delay added to the latency.
+   * @param latencyJitter the jitter to set (in milliseconds)
+   */
+  public void setLatencyJitter(long latencyJitter) {
+    this.latencyJitter = latencyJitter;
+  }
+
+  /**
+   * Gets the probability that a request is dropped without a response.
+   * @return loss rate
+   */
+  public double getLossRate() {
+    return lossRate;
+  }
+
+  /**
+   * Sets the probability that a request is dropped without a response.
+   * @param lossRate the loss rate to set (0 to 1)
+   */
+  public void setLossRate(double lossRate) {
+    this.lossRate = lossRate;
+  }
+
+  /**
+   * Gets the maximum number of repetitions returned for a GETBULK request.
+   * @return repetition cap or zero if unlimited
+   */
+  public int getMaxRepetitions() {
+    return maxRepetitions;
+  }
+
+  /**
+   * Sets the maximum number of repetitions returned for a GETBULK request.
+   * @param maxRepetitions the repetition cap to set (zero for unlimited)
+   */
+  public void setMaxRepetitions(int maxRepetitions) {
+    this.maxRepetitions = maxRepetitions;
+  }
+
+  /**
+   * Gets the maximum encoded size of a response PDU.
+   * @return size limit in bytes or zero if limited only by the request
+   */
+  public int getMaxPduSize() {
+    return maxPduSize;
+  }
+
+  /**
+   * Sets the maximum encoded size of a response PDU.
+   * <p>
+   * A GET or GETNEXT response that exceeds this size is replaced by a
+   * {@code tooBig} error.  A GETBULK response is truncated to fit unless
+   * {@link #setTruncateBulk(boolean) truncateBulk} is {@code false}.
+   * @param maxPduSize the size limit to set (zero for none)
+   */
+  public void setMaxPduSize(int maxPduSize) {
+    this.maxPduSize = maxPduSize;
+  }
+
+  /**
+   * Gets a flag indicating whether an oversized GETBULK response is
+   * truncated to fit.
+   * @return flag state
+   */
+  public boolean isTruncateBulk() {
+    return truncateBulk;
+  }
+
+  /**
+   * Sets a flag indicating whether an oversized GETBULK response is
+   * truncated to fit (as required by RFC 3416) rather than being replaced
+   * by a {@code tooBig} error (as some devices do).
+   * @param truncateBulk the flag state to set
+   */
+  public void setTruncateBulk(boolean truncateBulk) {
+    this.truncateBulk = truncateBulk;
+  }
+
+  /**
+   * Gets the error status given in response to every request.
+   * @return error status ({@link PDU#noError} if requests are answered
+   *    normally)
+   */
+  public int getErrorStatus() {
+    return errorStatus;
+  }
+
+  /**
+   * Sets the error status given in response to every request.
+   * @param errorStatus the error status to set (e.g. {@link PDU#genErr})
+   */
+  public void setErrorStatus(int errorStatus) {
+    this.errorStatus = errorStatus;
+  }
+
+  /**
+   * Gets the number of requests received by this agent.
+   * @return request count
+   */
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  /**
+   * Gets the number of variable bindings in the requests received by this
+   * agent.
+   * @return variable binding count
+   */
+  public long getRequestedVarbinds() {
+    return varbinds.sum();
+  }
+
+  /**
+   * Gets the number of requests dropped by this agent.
+   * @return dropped request count
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Records the receipt of a request and decides whether it should be
+   * dropped.
+   * @param request the request PDU
+   * @return {@code true} if the request should be answered
+   */
+  boolean accept(PDU request) {
+    requests.increment();
+    varbinds.add(request.size());
+    if (lossRate > 0 && ThreadLocalRandom.current().nextDouble() < lossRate) {
+      dropped.increment();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Chooses the delay for a response.
+   * @return delay in milliseconds
+   */
+  long nextDelay() {
+    if (latencyJitter <= 0) return latency;
+    return latency + ThreadLocalRandom.current().nextLong(latencyJitter + 1);
+  }
+
+  /**
+   * Creates the response to a request.
+   * @param request the request PDU
+   * @param v1 {@code true} if the request was received using SNMPv1
+   * @param maxSize maximum size of the response PDU allowed by the
+   *    requester (zero if unknown)
+   * @return response PDU
+   */
+  public PDU respond(PDU request, boolean v1, int maxSize) {
+    // cloning preserves the context of a scoped PDU
+    final PDU response = (PDU) request.clone();
+    response.setType(PDU.RESPONSE);
+    // for GETBULK these fields hold the non-repeaters and max-repetitions
+    response.setErrorStatus(PDU.noError);
+    response.setErrorIndex(0);
+    response.setVariableBindings(Collections.<VariableBinding>emptyList());
+    if (errorStatus != PDU.noError) {
+      response.setVariableBindings(request.getVariableBindings());
+      setError(response, errorStatus, 0);
+      return response;
+    }
+    switch (request.getType()) {
+      case PDU.GET:
+        get(request, response, v1);
+        break;
+      case PDU.GETNEXT:
+        getNext(request, response, v1);
+        break;
+      case PDU.GETBULK:
+        getBulk(request, response);
+        break;
+      default:
+        response.setVariableBindings(request.getVariableBindings());
+        response.setErrorStatus(v1 ? PDU.noSuchName : PDU.notWritable);
+        response.setErrorIndex(1);
+        return response;
+    }
+    if (response.getErrorStatus() != PDU.noError) {
+      response.setVariableBindings(request.getVariableBindings());
+      return response;
+    }
+    final int limit = sizeLimit(maxSize);
+    if (response.getBERLength() > limit) {
+      if (request.getType() == PDU.GETBULK && truncateBulk) {
+        truncate(response, request.getNonRepeaters(), limit);
+      }
+      else {
+        response.setVariableBindings(
+            Collections.<VariableBinding>emptyList());
+        response.setErrorStatus(PDU.tooBig);
+      }
+    }
+    return response;
+  }
+
+  private void get(PDU request, PDU response, boolean v1) {
+    for (int i = 0; i < request.size(); i++) {
+      final OID oid = request.get(i).getOid();
+      final int index = data.indexOf(oid);
+      if (index != -1) {
+        response.add(new VariableBinding(oid, data.getValue(index)));
+      }
+      else if (v1) {
+        setError(response, PDU.noSuchName, i);
+        return;
+      }
+      else {
+        response.add(new VariableBinding(oid, Null.noSuchObject));
+      }
+    }
+  }
+
+  private void getNext(PDU request, PDU response, boolean v1) {
+    for (int i = 0; i < request.size(); i++) {
+      final OID oid = request.get(i).getOid();
+      if (!addNext(response, oid) && v1) {
+        setError(response, PDU.noSuchName, i);
+        return;
+      }
+    }
+  }
+
+  private void getBulk(PDU request, PDU response) {
+    final int nonRepeaters = Math.max(0,
+        Math.min(request.getNonRepeaters(), request.size()));
+    final int repeaters = request.size() - nonRepeaters;
+    int repetitions = Math.max(0, request.getMaxRepetitions());
+    if (maxRepetitions > 0) {
+      repetitions = Math.min(repetitions, maxRepetitions);
+    }
+    for (int i = 0; i < nonRepeaters; i++) {
+      addNext(response, request.get(i).getOid());
+    }
+    if (repeaters == 0) return;
+    final OID[] cursors = new OID[repeaters];
+    for (int i = 0; i < repeaters; i++) {
+      cursors[i] = request.get(nonRepeaters + i).getOid();
+    }
+    for (int r = 0; r < repetitions; r++) {
+      boolean more = false;
+      for (int i = 0; i < repeaters; i++) {
+        if (addNext(response, cursors[i])) {
+          cursors[i] = response.get(response.size() - 1).getOid();
+          more = true;
+        }
+      }
+      if (!more) break;
+    }
+  }
+
+  /**
+   * Adds the successor of an OID (or {@code endOfMibView}) to a response.
+   * @return {@code true} if a successor was found
+   */
+  private boolean addNext(PDU response, OID oid) {
+    final int index = data.indexAfter(oid);
+    if (index < data.size()) {
+      response.add(new VariableBinding(data.getOid(index),
+          data.getValue(index)));
+      return true;
+    }
+    response.add(new VariableBinding(oid, Null.endOfMibView));
+    return false;
+  }
+
+  private static void setError(PDU response, int errorStatus, int index) {
+    response.setErrorStatus(errorStatus);
+    response.setErrorIndex(index + 1);
+  }
+
+  private int sizeLimit(int maxSize) {
+    int limit = maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+    if (maxPduSize > 0) {
+      limit = Math.min(limit, maxPduSize);
+    }
+    return limit;
+  }
+
+  private static void truncate(PDU response, int nonRepeaters, int limit) {
+    int size = response.getBERLength();
+    while (size > limit && response.size() > nonRepeaters) {
+      final VariableBinding last = response.get(response.size() - 1);
+      response.trim();
+      size -= last.getBERLength();
+      if (size <= limit) {
+        // account for any change in the encoding of lengths
+        size = response.getBERLength();
+      }
+    }
+  }
+
+}